@@ -0,0 +1,53 @@
+package team13.tetris.game.ai;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team13.tetris.game.model.Tetromino;
+
+// 봇 한 수 결정 시간: 중반 보드 256개를 돌아가며 사용
+// - onePly: 현재 조각 배치 생성 + 놓기 + 평가만
+// - twoPly: 시간 제한 없는 Bot.choose (다음 조각까지 탐색)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BotBenchmark {
+    private static final int POSITIONS = 256; // 2의 거듭제곱 (인덱스를 마스크로 돌림)
+
+    private BotPosition[] positions;
+    private Bot bot;
+    private int index = 0;
+
+    @Setup
+    public void setUp() {
+        positions = BotPosition.generate(POSITIONS);
+        bot = new Bot(Heuristic.DEFAULT, 0);
+    }
+
+    private BotPosition nextPosition() {
+        return positions[index++ & (POSITIONS - 1)];
+    }
+
+    @Benchmark
+    public double onePly() {
+        BotPosition p = nextPosition();
+        BitBoard board = p.board();
+        Tetromino piece = p.current();
+        double sum = 0;
+        List<Move> moves = MoveGenerator.generate(board, piece, p.spawnX(), 0);
+        for (Move move : moves) {
+            BitBoard after = board.place(move.view(), move.x(), move.y());
+            sum += Heuristic.DEFAULT.evaluate(after, after.getLinesCleared());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Move twoPly() {
+        BotPosition p = nextPosition();
+        return bot.choose(p.board(), p.current(), p.spawnX(), 0, p.next());
+    }
+}
@@ -0,0 +1,44 @@
+package team13.tetris.game.ai;
+
+import java.util.Random;
+import team13.tetris.game.model.Tetromino;
+
+// 벤치마크용 봇 탐색 위치 (중반 보드 + 현재/다음 조각, 고정 시드라서 실행마다 같은 위치)
+record BotPosition(BitBoard board, Tetromino current, Tetromino next) {
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+    private static final long SEED = 13L;
+
+    int spawnX() {
+        return MoveGenerator.spawnX(board, current);
+    }
+
+    static BotPosition[] generate(int count) {
+        Random random = new Random(SEED);
+        Tetromino.Kind[] kinds = Tetromino.Kind.values();
+        BotPosition[] positions = new BotPosition[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] =
+                    new BotPosition(
+                            midGameBoard(random),
+                            Tetromino.of(kinds[random.nextInt(7)]),
+                            Tetromino.of(kinds[random.nextInt(7)]));
+        }
+        return positions;
+    }
+
+    // 아래 4~10줄을 줄마다 구멍 1~2개만 남기고 채운 보드 (윗면은 들쭉날쭉)
+    private static BitBoard midGameBoard(Random random) {
+        long full = (1L << WIDTH) - 1;
+        long[] rows = new long[HEIGHT];
+        int filled = 4 + random.nextInt(7);
+        for (int y = HEIGHT - filled; y < HEIGHT; y++) {
+            long row = full & ~(1L << random.nextInt(WIDTH));
+            if (random.nextBoolean()) row &= ~(1L << random.nextInt(WIDTH));
+            rows[y] = row;
+        }
+        // 맨 윗줄은 열마다 절반쯤만 남김
+        rows[HEIGHT - filled] &= random.nextLong();
+        return BitBoard.of(WIDTH, rows);
+    }
+}
@@ -0,0 +1,48 @@
+package team13.tetris.game.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// ParallelBot 코어 수 확장성: 스레드 수별 풀에서 마감 없는 탐색 한 번 (캐시 없음)
+// 중반 보드 32개를 돌아가며 사용, 스레드 수에 관계없이 고르는 수는 같음 (ParallelBotTest)
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBotBenchmark {
+    private static final int POSITIONS = 32; // 2의 거듭제곱 (인덱스를 마스크로 돌림)
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    @Param({"3"})
+    public int depth;
+
+    private BotPosition[] positions;
+    private ForkJoinPool pool;
+    private ParallelBot bot;
+    private int index = 0;
+
+    @Setup
+    public void setUp() {
+        positions = BotPosition.generate(POSITIONS);
+        pool = new ForkJoinPool(threads);
+        bot = new ParallelBot(Heuristic.DEFAULT, pool, depth);
+    }
+
+    @TearDown
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Move choose() {
+        BotPosition p = positions[index++ & (POSITIONS - 1)];
+        return bot.choose(p.board(), p.current(), p.spawnX(), 0, p.next(), Long.MAX_VALUE);
+    }
+}
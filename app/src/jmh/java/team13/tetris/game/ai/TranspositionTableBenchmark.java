@@ -0,0 +1,91 @@
+package team13.tetris.game.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import team13.tetris.data.ScoreBoard.ScoreEntry.Mode;
+import team13.tetris.game.model.Tetromino;
+import team13.tetris.game.sim.Placement;
+import team13.tetris.game.sim.SelfPlaySimulator;
+
+// 트랜스포지션 테이블 크기별 3수 ParallelBot 수당 탐색 시간 (tableSize 0은 캐시 없음)
+// 준비 단계에서 헤드리스 게임 한 판을 캐시 없이 두며 매 수의 위치를 기록하고, 측정은 그 수들을
+// 순서대로 다시 탐색함 (캐시가 있어도 고르는 수는 같으므로 실제 게임과 같은 위치 순서)
+// 테이블은 게임 처음으로 돌아갈 때마다 비우므로 앞 수에서 채운 값만 다음 수에서 다시 씀
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranspositionTableBenchmark {
+    private static final int PIECES = 300;
+    private static final long SEED = 13L;
+    private static final int DEPTH = 3;
+
+    @Param({"0", "1024", "4096", "16384", "65536"})
+    public int tableSize;
+
+    private record Turn(BitBoard board, Tetromino current, int px, int py, Tetromino next) {}
+
+    private Turn[] turns;
+    private ForkJoinPool pool;
+    private TranspositionTable table;
+    private ParallelBot bot;
+    private int index = 0;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(1);
+        turns = recordGame(new ParallelBot(Heuristic.DEFAULT, pool, DEPTH));
+        table = (tableSize > 0) ? new TranspositionTable(tableSize) : null;
+        bot = new ParallelBot(Heuristic.DEFAULT, pool, DEPTH, table);
+    }
+
+    @TearDown
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static Turn[] recordGame(ParallelBot recorder) {
+        List<Turn> recorded = new ArrayList<>();
+        SelfPlaySimulator simulator =
+                new SelfPlaySimulator(
+                        seed ->
+                                core -> {
+                                    Turn turn =
+                                            new Turn(
+                                                    BitBoard.of(core.getBoard()),
+                                                    core.getCurrent(),
+                                                    core.getPieceX(),
+                                                    core.getPieceY(),
+                                                    core.getNext());
+                                    recorded.add(turn);
+                                    Move move = choose(recorder, turn);
+                                    return (move != null)
+                                            ? new Placement(move.rotations(), move.x())
+                                            : new Placement(0, core.getPieceX());
+                                },
+                        PIECES,
+                        SelfPlaySimulator.DEFAULT_THINK_NANOS,
+                        null);
+        simulator.playGame(Mode.NORMAL, SEED);
+        return recorded.toArray(new Turn[0]);
+    }
+
+    private static Move choose(ParallelBot bot, Turn turn) {
+        return bot.choose(
+                turn.board(), turn.current(), turn.px(), turn.py(), turn.next(), Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Move move() {
+        if (index == turns.length) index = 0;
+        if (index == 0 && table != null) table.clear();
+        return choose(bot, turns[index++]);
+    }
+}
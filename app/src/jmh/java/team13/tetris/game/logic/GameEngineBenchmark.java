@@ -0,0 +1,74 @@
+package team13.tetris.game.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.BoardFixture;
+import team13.tetris.game.model.Tetromino;
+
+// GameEngine.hardDrop 벤치마크 (바닥까지 이동 + 고정 + 줄 검사 + 다음 조각 생성)
+// 하드 드롭은 보드를 바꾸므로 호출마다 새 게임을 시작하고 보드를 다시 채움
+// 자동 하강은 멈춰 두고, FX 툴킷 없이 벤치마크 스레드에서 바로 코어를 진행함
+@State(Scope.Thread)
+public class GameEngineBenchmark {
+    private static final long SEED = 13L;
+
+    @Param({"EMPTY", "HALF", "GARBAGE"})
+    public BoardFixture fixture;
+
+    private Board board;
+    private GameEngine engine;
+
+    private static class NoOpListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {}
+
+        @Override
+        public void onLinesCleared(int lines) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+
+    @Setup(Level.Trial)
+    public void createEngine() {
+        board = new Board(BoardFixture.WIDTH, BoardFixture.HEIGHT);
+        engine =
+                new GameEngine(
+                        board, new NoOpListener(), ScoreBoard.ScoreEntry.Mode.NORMAL, SEED);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetGame() {
+        engine.startNewGame();
+        engine.stopAutoDrop();
+        fixture.fill(board); // 조각은 고정되기 전까지 보드에 없으므로 채워도 겹치지 않음
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public int hardDrop() {
+        engine.hardDrop();
+        return engine.getScore(); // 낙하 거리만큼 점수가 오르므로 결과로 돌려줌
+    }
+}
@@ -0,0 +1,68 @@
+package team13.tetris.game.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.BoardFixture;
+import team13.tetris.game.model.Tetromino;
+
+// 착지 없는 게임 틱 벤치마크: 좌우 이동 + 고스트 계산 (gc.alloc.rate.norm이 0에 가까워야 함)
+// 왼쪽으로 갔다가 돌아오므로 블록 위치와 보드가 바뀌지 않아 Trial마다 한 번만 준비함
+@State(Scope.Thread)
+public class GameEngineTickBenchmark {
+    private static final long SEED = 13L;
+
+    @Param({"EMPTY", "HALF", "GARBAGE"})
+    public BoardFixture fixture;
+
+    private GameEngine engine;
+
+    private static class NoOpListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {}
+
+        @Override
+        public void onLinesCleared(int lines) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+
+    @Setup
+    public void setUp() {
+        Board board = new Board(BoardFixture.WIDTH, BoardFixture.HEIGHT);
+        engine =
+                new GameEngine(
+                        board, new NoOpListener(), ScoreBoard.ScoreEntry.Mode.NORMAL, SEED);
+        engine.startNewGame();
+        engine.stopAutoDrop();
+        fixture.fill(board);
+    }
+
+    @TearDown
+    public void shutdown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public int moveAndGhost() {
+        engine.moveLeft();
+        engine.moveRight();
+        return engine.getGhostY();
+    }
+}
@@ -0,0 +1,52 @@
+package team13.tetris.game.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Board 읽기 경로 벤치마크: fits, snapshot (보드 상태를 바꾸지 않으므로 Trial마다 한 번만 준비)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    @Param({"EMPTY", "HALF", "GARBAGE"})
+    public BoardFixture fixture;
+
+    private Board board;
+    private Tetromino.ShapeView spawnView;
+    private Tetromino.ShapeView[] tViews;
+
+    @Setup
+    public void setUp() {
+        board = fixture.create();
+        spawnView = new Tetromino(Tetromino.Kind.T).getShapeView();
+        tViews = new Tetromino.ShapeView[4];
+        for (int r = 0; r < 4; r++) tViews[r] = Tetromino.Kind.T.getView(r);
+    }
+
+    // 스폰 위치 검사 한 번 (이동/회전 입력마다 호출되는 경우)
+    @Benchmark
+    public boolean fitsAtSpawn() {
+        return board.fits(spawnView, 3, 0);
+    }
+
+    // 모든 회전 x 모든 열에서 바닥까지 떨어뜨리기 (고스트 계산/배치 탐색과 같은 패턴)
+    @Benchmark
+    public int fitsDropSweep() {
+        int landed = 0;
+        for (Tetromino.ShapeView view : tViews) {
+            for (int px = -2; px < BoardFixture.WIDTH; px++) {
+                if (!board.fits(view, px, 0)) continue;
+                int py = 0;
+                while (board.fits(view, px, py + 1)) py++;
+                landed += py;
+            }
+        }
+        return landed;
+    }
+
+    @Benchmark
+    public int[][] snapshot() {
+        return board.snapshot();
+    }
+}
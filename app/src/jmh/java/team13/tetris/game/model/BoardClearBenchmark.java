@@ -0,0 +1,45 @@
+package team13.tetris.game.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Board.clearFullLines 벤치마크
+// 줄 삭제는 보드를 바꾸므로 호출마다(Level.Invocation) 보드를 되돌림
+// - clearNone: 가득 찬 줄 없이 검사만 하는 경우 (조각이 고정될 때 대부분)
+// - clearFour: 맨 아래 4줄을 채워 두고 한 번에 지우는 경우 (테트리스)
+@State(Scope.Thread)
+public class BoardClearBenchmark {
+    @Param({"EMPTY", "HALF", "GARBAGE"})
+    public BoardFixture fixture;
+
+    private Board board;
+    private Board fullBoard;
+
+    @Setup(Level.Trial)
+    public void createBoards() {
+        board = fixture.create();
+        fullBoard = fixture.create();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetFullBoard() {
+        fixture.fill(fullBoard);
+        for (int y = BoardFixture.HEIGHT - 4; y < BoardFixture.HEIGHT; y++) {
+            fullBoard.fillLineWith(y, 1);
+        }
+    }
+
+    @Benchmark
+    public int clearNone() {
+        return board.clearFullLines();
+    }
+
+    @Benchmark
+    public int clearFour() {
+        return fullBoard.clearFullLines();
+    }
+}
@@ -0,0 +1,53 @@
+package team13.tetris.game.model;
+
+import java.util.Random;
+
+// 벤치마크용 보드 상태 (10x20, 고정 시드라서 실행마다 같은 보드)
+// - EMPTY: 빈 보드
+// - HALF: 아래 절반이 울퉁불퉁하게 쌓인 보드 (가득 찬 줄 없음)
+// - GARBAGE: 대전 공격 줄(회색 1000, 구멍 한 칸)이 16줄 쌓인 보드
+public enum BoardFixture {
+    EMPTY,
+    HALF,
+    GARBAGE;
+
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 20;
+    private static final int GARBAGE_VALUE = 1000; // 공격 줄의 회색 블록
+    private static final long SEED = 13L;
+
+    public Board create() {
+        Board board = new Board(WIDTH, HEIGHT);
+        fill(board);
+        return board;
+    }
+
+    // 보드를 이 상태로 되돌림 (측정하지 않는 @Setup에서 호출)
+    public void fill(Board board) {
+        board.clear();
+        Random random = new Random(SEED);
+        switch (this) {
+            case EMPTY:
+                break;
+            case HALF:
+                for (int y = HEIGHT / 2; y < HEIGHT; y++) {
+                    // 줄마다 1~3칸을 비워서 가득 찬 줄이 생기지 않게 함
+                    int holes = 1 + random.nextInt(3);
+                    boolean[] empty = new boolean[WIDTH];
+                    for (int i = 0; i < holes; i++) empty[random.nextInt(WIDTH)] = true;
+                    for (int x = 0; x < WIDTH; x++) {
+                        if (!empty[x]) board.setCell(x, y, 1 + random.nextInt(7));
+                    }
+                }
+                break;
+            case GARBAGE:
+                for (int y = HEIGHT - 16; y < HEIGHT; y++) {
+                    int hole = random.nextInt(WIDTH);
+                    for (int x = 0; x < WIDTH; x++) {
+                        if (x != hole) board.setCell(x, y, GARBAGE_VALUE);
+                    }
+                }
+                break;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package team13.tetris.game.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Tetromino.rotateClockwise 벤치마크 (일반 미노 7종, 아이템 미노)
+@State(Scope.Thread)
+public class TetrominoBenchmark {
+    private static final Tetromino.Kind[] STANDARD = {
+        Tetromino.Kind.I,
+        Tetromino.Kind.O,
+        Tetromino.Kind.T,
+        Tetromino.Kind.S,
+        Tetromino.Kind.Z,
+        Tetromino.Kind.J,
+        Tetromino.Kind.L
+    };
+
+    private Tetromino[] pieces;
+    private Tetromino lineClearItem;
+    private Tetromino copyItem;
+
+    @Setup
+    public void setUp() {
+        pieces = new Tetromino[STANDARD.length];
+        for (int i = 0; i < STANDARD.length; i++) pieces[i] = new Tetromino(STANDARD[i]);
+        lineClearItem = Tetromino.lineClearItem(Tetromino.Kind.T, 0, 1);
+        copyItem = Tetromino.item(Tetromino.Kind.L, 0, Tetromino.ItemType.COPY, 2);
+    }
+
+    // 7종을 한 번씩 회전 (결과는 연산 7번 합계)
+    @Benchmark
+    public void rotateStandard(Blackhole bh) {
+        for (Tetromino piece : pieces) bh.consume(piece.rotateClockwise());
+    }
+
+    // 아이템 미노는 회전 후 표시 블록 위치를 다시 계산함
+    @Benchmark
+    public Tetromino rotateLineClearItem() {
+        return lineClearItem.rotateClockwise();
+    }
+
+    @Benchmark
+    public Tetromino rotateCopyItem() {
+        return copyItem.rotateClockwise();
+    }
+}
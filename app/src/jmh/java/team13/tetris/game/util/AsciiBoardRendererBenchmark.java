@@ -0,0 +1,31 @@
+package team13.tetris.game.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.BoardFixture;
+import team13.tetris.game.model.Tetromino;
+
+// AsciiBoardRenderer.render 벤치마크 (스폰 위치의 T 조각과 함께 전체 보드 문자열 생성)
+@State(Scope.Thread)
+public class AsciiBoardRendererBenchmark {
+    @Param({"EMPTY", "HALF", "GARBAGE"})
+    public BoardFixture fixture;
+
+    private Board board;
+    private Tetromino current;
+
+    @Setup
+    public void setUp() {
+        board = fixture.create();
+        current = new Tetromino(Tetromino.Kind.T);
+    }
+
+    @Benchmark
+    public String render() {
+        return AsciiBoardRenderer.render(board, current, 3, 0);
+    }
+}
@@ -29,7 +29,7 @@ public class App extends Application {
                     // 설정 저장
                     settings.setColorBlindMode(manager.isColorBlindMode());
                     settings.setWindowSize(getCurrentWindowSize(primaryStage, manager));
-                    SettingsRepository.save(settings);
+                    SettingsRepository.saveAsync(settings); // cleanup()에서 쓰기를 마침
 
                     manager.cleanup();
                 });
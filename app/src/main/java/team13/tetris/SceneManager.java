@@ -7,7 +7,9 @@ import javafx.scene.input.KeyEvent;
 import javafx.stage.Stage;
 import team13.tetris.config.Settings;
 import team13.tetris.config.SettingsRepository;
+import team13.tetris.data.PersistenceService;
 import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.ai.BotPlayer;
 import team13.tetris.game.controller.CompositeGameStateListener;
 import team13.tetris.game.controller.GameSceneController;
 import team13.tetris.game.controller.NetworkGameController;
@@ -21,6 +23,7 @@ import team13.tetris.scenes.GameScene;
 import team13.tetris.scenes.HostOrJoinScene;
 import team13.tetris.scenes.KeySettingsScene;
 import team13.tetris.scenes.MainMenuScene;
+import team13.tetris.scenes.PatternImages;
 import team13.tetris.scenes.ScoreboardScene;
 import team13.tetris.scenes.SettingsScene;
 
@@ -85,6 +88,12 @@ public class SceneManager {
     }
 
     public void showNetworkLobby(Settings settings, boolean isHost, String serverIP) {
+        showNetworkLobby(settings, isHost, serverIP, null);
+    }
+
+    // roomId: RoomServer에 접속할 때 참가할 방 (null이나 빈 문자열이면 자동 매칭)
+    public void showNetworkLobby(
+            Settings settings, boolean isHost, String serverIP, String roomId) {
         // "SMALL" 크기일 때만 창 크기를 10% 늘림
         if ("SMALL".equals(settings.getWindowSize())) {
             // 현재 창 크기 저장 (다른 특수 크기 모드가 아닐 때만)
@@ -98,7 +107,7 @@ public class SceneManager {
         // windowSizeClass는 의도적으로 변경하지 않음 (UI 요소 크기 유지를 위해)
 
         NetworkGameController controller =
-                new NetworkGameController(this, settings, isHost, serverIP);
+                new NetworkGameController(this, settings, isHost, serverIP, roomId);
         controller.initializeLobby();
     }
 
@@ -156,8 +165,14 @@ public class SceneManager {
 
     // 2P 대전 모드 (타이머 모드, 아이템 모드 옵션)
     public void show2PGame(Settings settings, boolean timerMode, boolean itemMode) {
+        show2PGame(settings, timerMode, itemMode, false);
+    }
+
+    // cpuPlayer2가 true면 Player 2를 봇이 조작
+    public void show2PGame(
+            Settings settings, boolean timerMode, boolean itemMode, boolean cpuPlayer2) {
         applyVersusWindowSize(settings);
-        showVersusGame(settings, timerMode, itemMode);
+        showVersusGame(settings, timerMode, itemMode, cpuPlayer2);
     }
 
     public void applyVersusWindowSize(Settings settings) {
@@ -189,13 +204,14 @@ public class SceneManager {
 
         // SceneManager의 windowSizeClass 업데이트 (대전 모드용)
         switch (settings.getWindowSize()) {
-            case "SMALL" -> windowSizeClass = "window-small";
-            case "LARGE" -> windowSizeClass = "window-large";
-            default -> windowSizeClass = "window-medium";
+            case "SMALL" -> setWindowSizeClass("window-small");
+            case "LARGE" -> setWindowSizeClass("window-large");
+            default -> setWindowSizeClass("window-medium");
         }
     }
 
-    private void showVersusGame(Settings settings, boolean timerMode, boolean itemMode) {
+    private void showVersusGame(
+            Settings settings, boolean timerMode, boolean itemMode, boolean cpuPlayer2) {
         // Player 1 설정 (아이템 모드 여부에 따라 Mode 설정)
         Board board1 = new Board(10, 20);
         CompositeGameStateListener composite1 = new CompositeGameStateListener();
@@ -223,6 +239,7 @@ public class SceneManager {
         team13.tetris.game.controller.VersusGameController versusController =
                 new team13.tetris.game.controller.VersusGameController(
                         versusScene, this, settings, engine1, engine2, timerMode, itemMode);
+        if (cpuPlayer2) versusController.setPlayer2Bot(new BotPlayer(engine2));
 
         composite1.add(versusController.getPlayer1Listener());
         composite2.add(versusController.getPlayer2Listener());
@@ -320,7 +337,8 @@ public class SceneManager {
 
     public void exitWithSave(Settings settings) {
         settings.setColorBlindMode(isColorBlindMode());
-        SettingsRepository.save(settings);
+        SettingsRepository.saveAsync(settings);
+        PersistenceService.shared().shutdown(); // 대기 중인 점수/설정 쓰기를 마친 뒤 종료
         javafx.application.Platform.exit(); // JavaFX 애플리케이션 스레드 종료
         stage.close();
         System.exit(0); // JVM 강제 종료
@@ -348,16 +366,23 @@ public class SceneManager {
         stage.setHeight(height);
 
         if (width <= 400) {
-            windowSizeClass = "window-small";
+            setWindowSizeClass("window-small");
         } else if (width <= 600) {
-            windowSizeClass = "window-medium";
+            setWindowSizeClass("window-medium");
         } else {
-            windowSizeClass = "window-large";
+            setWindowSizeClass("window-large");
         }
 
         if (stage.getScene() != null) applyWindowSizeClass(stage.getScene());
     }
 
+    // 창 크기 단계가 바뀌면 셀 크기도 바뀌므로 이전 크기로 만든 패턴 이미지를 버림
+    private void setWindowSizeClass(String sizeClass) {
+        if (sizeClass.equals(windowSizeClass)) return;
+        windowSizeClass = sizeClass;
+        PatternImages.invalidate();
+    }
+
     private void applyStylesheet(Scene scene) {
         scene.getStylesheets().clear();
 
@@ -417,6 +442,7 @@ public class SceneManager {
 
     // 애플리케이션 종료 시 모든 리소스 정리
     public void cleanup() {
+        PersistenceService.shared().shutdown();
         javafx.application.Platform.exit(); // JavaFX 애플리케이션 스레드 종료
         System.exit(0);
     }
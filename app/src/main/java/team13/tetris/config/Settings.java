@@ -3,6 +3,8 @@ package team13.tetris.config;
 public class Settings {
     private boolean colorBlindMode = false;
     private String windowSize = "MEDIUM";
+    // 보드 렌더러: NODE(셀마다 CellView 노드) 또는 CANVAS(패널마다 캔버스 하나)
+    private String renderMode = "NODE";
     private String keyLeft = "A";
     private String keyRight = "D";
     private String keyDown = "S";
@@ -35,6 +37,18 @@ public class Settings {
         this.windowSize = windowSize;
     }
 
+    public String getRenderMode() {
+        return renderMode;
+    }
+
+    public void setRenderMode(String renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    public boolean isCanvasRenderer() {
+        return "CANVAS".equals(renderMode);
+    }
+
     public String getKeyLeft() {
         return keyLeft;
     }
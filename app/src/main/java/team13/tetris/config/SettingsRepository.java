@@ -3,22 +3,41 @@ package team13.tetris.config;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import team13.tetris.data.PersistenceService;
 
 public class SettingsRepository {
     private static final String FILE_PATH = "settings.json";
 
+    // 호출한 스레드에서 바로 저장 (임시 파일 + rename)
     public static void save(Settings settings) {
-        try (FileWriter writer = new FileWriter(FILE_PATH)) {
-            new Gson().toJson(settings, writer);
-            System.out.println("[SettingsRepository] Saved to " + FILE_PATH);
+        try {
+            write(serialize(settings));
         } catch (IOException e) {
             System.err.println("[SettingsRepository] Save failed: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    // 저장 스레드에서 저장, 아직 쓰지 않은 이전 저장은 이번 내용으로 합쳐짐
+    // 설정 객체는 FX 스레드에서 바뀌므로 직렬화는 호출 시점에 여기서 함
+    public static void saveAsync(Settings settings) {
+        byte[] data = serialize(settings);
+        PersistenceService.shared().submit(FILE_PATH, () -> write(data));
+    }
+
+    private static byte[] serialize(Settings settings) {
+        // FileWriter 기본 인코딩으로 쓰던 기존 파일과 같게 유지
+        return new Gson().toJson(settings).getBytes(Charset.defaultCharset());
+    }
+
+    private static void write(byte[] data) throws IOException {
+        PersistenceService.writeAtomically(Path.of(FILE_PATH), data);
+        System.out.println("[SettingsRepository] Saved to " + FILE_PATH);
+    }
+
     public static Settings load() {
         try (FileReader reader = new FileReader(FILE_PATH)) {
             return new Gson().fromJson(reader, Settings.class);
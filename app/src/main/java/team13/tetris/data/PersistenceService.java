@@ -0,0 +1,254 @@
+package team13.tetris.data;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 파일 쓰기를 FX 스레드 대신 처리하는 백그라운드 저장 서비스 (프로세스 전체에서 공유)
+// 점수 파일 압축/초기화와 설정 저장처럼 오래 걸릴 수 있는 쓰기를 큐에 넣고 전용 스레드 하나가 순서대로 씀
+// - 같은 키(파일/저장소)의 쓰기가 아직 대기 중이면 새 쓰기로 바꿔 한 번만 씀 (큐 위치는 유지)
+// - 큐가 가득 차면 자리가 날 때까지 호출한 쪽이 기다림
+// - 종료 시 shutdown()으로 남은 쓰기를 모두 마친 뒤 끝냄
+public final class PersistenceService {
+    static final int DEFAULT_CAPACITY = 64;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+    private static final PersistenceService SHARED =
+            new PersistenceService(DEFAULT_CAPACITY, "PersistenceService");
+
+    // 한 번의 파일 쓰기
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private final int capacity;
+    private final String threadName;
+    // 대기 중인 쓰기 (키별로 하나, 넣은 순서대로) - 모든 상태는 this로 보호
+    private final Map<Object, Write> pending = new LinkedHashMap<>();
+    private Thread worker;
+    private boolean busy = false;
+    private boolean closed = false;
+
+    // 통계
+    private long submitCount = 0;
+    private long coalescedCount = 0;
+    private long writeCount = 0;
+    private long failedCount = 0;
+    private long totalWriteNanos = 0;
+    private long lastWriteNanos = 0;
+    private long maxWriteNanos = 0;
+    private int maxQueueDepth = 0;
+
+    PersistenceService(int capacity, String threadName) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+        this.capacity = capacity;
+        this.threadName = threadName;
+    }
+
+    public static PersistenceService shared() {
+        return SHARED;
+    }
+
+    // key의 쓰기를 예약 (아무 스레드에서나 호출 가능)
+    // 같은 key가 아직 대기 중이면 합쳐지고 false 반환
+    public boolean submit(Object key, Write write) {
+        synchronized (this) {
+            submitCount++;
+            if (!closed) {
+                if (pending.containsKey(key)) {
+                    pending.put(key, write);
+                    coalescedCount++;
+                    return false;
+                }
+                while (pending.size() >= capacity && !closed) {
+                    if (!await()) break;
+                }
+            }
+            if (!closed) {
+                pending.put(key, write);
+                maxQueueDepth = Math.max(maxQueueDepth, pending.size());
+                ensureWorker();
+                notifyAll();
+                return true;
+            }
+        }
+        // 종료된 뒤의 쓰기는 호출한 스레드에서 바로 씀
+        runWrite(write);
+        return true;
+    }
+
+    // 대기 중인 쓰기를 모두 마칠 때까지 기다림, 시간 안에 끝나면 true
+    public synchronized boolean flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!pending.isEmpty() || busy) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 남은 쓰기를 마치고 서비스를 닫음 (이후 쓰기는 호출한 스레드에서 바로 씀)
+    public boolean shutdown() {
+        boolean flushed = flush(SHUTDOWN_TIMEOUT_MILLIS);
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        if (!flushed) System.err.println("[PersistenceService] Pending writes not finished");
+        return flushed;
+    }
+
+    // 임시 파일에 쓰고 디스크에 반영한 뒤 원자적으로 교체
+    // 중간에 꺼져도 이전 파일이나 새 파일 중 하나는 온전히 남음
+    public static void writeAtomically(Path file, byte[] data) throws IOException {
+        Path temp = tempFileFor(file);
+        try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+            out.write(data);
+            out.getFD().sync();
+        }
+        moveAtomically(temp, file);
+    }
+
+    static Path tempFileFor(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void ensureWorker() {
+        if (worker != null) return;
+        worker = new Thread(this::drain, threadName);
+        worker.setDaemon(true); // 종료 시 남은 쓰기는 shutdown()이 기다림
+        worker.start();
+    }
+
+    private void drain() {
+        while (true) {
+            Write write;
+            synchronized (this) {
+                while (pending.isEmpty() && !closed) {
+                    if (!await()) {
+                        worker = null;
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    worker = null;
+                    return;
+                }
+                Iterator<Write> it = pending.values().iterator();
+                write = it.next();
+                it.remove();
+                busy = true;
+                notifyAll(); // 큐에 자리가 났음을 알림
+            }
+            runWrite(write);
+            synchronized (this) {
+                busy = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void runWrite(Write write) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            write.run();
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            System.err.println("[PersistenceService] Write failed: " + e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            writeCount++;
+            if (failed) failedCount++;
+            totalWriteNanos += elapsed;
+            lastWriteNanos = elapsed;
+            if (elapsed > maxWriteNanos) maxWriteNanos = elapsed;
+        }
+    }
+
+    private boolean await() {
+        try {
+            wait();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 대기 중인 쓰기 수 (쓰는 중인 것은 제외)
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    public synchronized int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    // 예약 요청 수 (합쳐진 요청 포함)
+    public synchronized long getSubmitCount() {
+        return submitCount;
+    }
+
+    // 같은 키가 대기 중이라 합쳐진 요청 수
+    public synchronized long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    // 실제로 실행한 쓰기 수 (실패 포함)
+    public synchronized long getWriteCount() {
+        return writeCount;
+    }
+
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+
+    public synchronized long getLastWriteNanos() {
+        return lastWriteNanos;
+    }
+
+    public synchronized long getMaxWriteNanos() {
+        return maxWriteNanos;
+    }
+
+    public synchronized double getAverageWriteNanos() {
+        return writeCount == 0 ? 0 : (double) totalWriteNanos / writeCount;
+    }
+
+    public synchronized void resetStats() {
+        submitCount = 0;
+        coalescedCount = 0;
+        writeCount = 0;
+        failedCount = 0;
+        totalWriteNanos = 0;
+        lastWriteNanos = 0;
+        maxWriteNanos = 0;
+        maxQueueDepth = pending.size();
+    }
+}
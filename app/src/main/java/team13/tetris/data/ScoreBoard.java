@@ -1,8 +1,5 @@
 package team13.tetris.data;
 
-import java.io.*;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 public class ScoreBoard {
@@ -44,101 +41,67 @@ public class ScoreBoard {
         }
     }
 
-    private List<ScoreEntry> scores;
     private static final String DEFAULT_SCORE_FILE = "scores.txt";
-    private String scoreFile;
+    private final ScoreStore store;
     private ScoreEntry lastAddedEntry;
+    private ScoreStore.Rank lastAddedRank;
 
     public ScoreBoard() {
         this(DEFAULT_SCORE_FILE);
     }
 
     public ScoreBoard(String scoreFilePath) {
-        this.scores = new ArrayList<>();
-        this.scoreFile = scoreFilePath;
-        loadScores();
+        this.store = new ScoreStore(scoreFilePath);
     }
 
+    // 모드별 정렬 구조에 넣고 점수 파일에는 한 줄만 덧붙임
     public void addScore(String name, int score, ScoreEntry.Mode mode) {
         ScoreEntry entry = new ScoreEntry(name, score, mode);
-        scores.add(entry);
+        lastAddedRank = store.add(entry);
         lastAddedEntry = entry;
-        scores.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed());
-        saveScores();
     }
 
     public void resetScores() {
-        scores.clear();
+        store.clear();
         lastAddedEntry = null;
-        saveScores();
+        lastAddedRank = null;
     }
 
+    // 점수 파일을 정렬된 전체 내용으로 다시 씀 (임시 파일 + rename, 저장 스레드에서 처리)
     public void saveScores() {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(scoreFile))) {
-            for (ScoreEntry entry : scores)
-                writer.println(
-                        entry.getName() + "," + entry.getScore() + "," + entry.getMode().name());
-        } catch (IOException e) {
-            System.err.println("Error saving scores: " + e.getMessage());
-        }
+        store.compact();
     }
 
     public void loadScores() {
-        File file = new File(scoreFile);
-
-        if (!file.exists()) return;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                String name = parts[0];
-                int score = Integer.parseInt(parts[1]);
-                ScoreEntry.Mode mode = ScoreEntry.Mode.valueOf(parts[2]);
-
-                scores.add(new ScoreEntry(name, score, mode));
-            }
-
-            scores.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed());
-            lastAddedEntry = null;
-        } catch (IOException | RuntimeException e) {
-            System.err.println("Error loading scores: " + e.getMessage());
-        }
+        store.reload();
+        lastAddedEntry = null;
+        lastAddedRank = null;
     }
 
     public List<ScoreEntry> getScores() {
-        return new ArrayList<>(scores);
+        store.refresh();
+        return store.all();
     }
 
     public List<ScoreEntry> getScoresByMode(ScoreEntry.Mode mode) {
-        List<ScoreEntry> filteredScores = new ArrayList<>();
-
-        for (ScoreEntry entry : scores) {
-            if (entry.getMode() == mode) {
-                filteredScores.add(entry);
-            }
-        }
-
-        filteredScores.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed());
+        store.refresh();
+        return store.byMode(mode);
+    }
 
-        return filteredScores;
+    // 한 모드의 상위 점수를 offset번째부터 최대 limit개 (스냅샷에서는 필요한 레코드만 읽음)
+    public List<ScoreEntry> getTopScores(ScoreEntry.Mode mode, int offset, int limit) {
+        store.refresh();
+        return store.page(mode, Math.max(offset, 0), Math.max(limit, 0));
     }
 
     public List<ScoreEntry> getGameScores() {
-        List<ScoreEntry> gameScores = new ArrayList<>();
-
-        for (ScoreEntry entry : scores) gameScores.add(entry);
-
-        gameScores.sort(Comparator.comparingInt(ScoreEntry::getScore).reversed());
-
-        return gameScores;
+        return getScores();
     }
 
     public int getLastAddedIndex() {
         if (lastAddedEntry == null) return -1;
 
-        return scores.indexOf(lastAddedEntry);
+        return store.indexOf(lastAddedRank, lastAddedEntry.getMode());
     }
 
     public ScoreEntry getLastAddedEntry() {
@@ -0,0 +1,190 @@
+package team13.tetris.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import team13.tetris.data.ScoreBoard.ScoreEntry;
+
+// 압축된 점수의 이진 스냅샷 파일 (FileChannel.map으로 매핑해서 필요한 레코드만 읽음)
+// 헤더: MAGIC, VERSION, generation, nextSeq, 모드 수, 모드별 [시작 레코드 번호, 레코드 수]
+// 레코드(고정 80바이트): score(int), seq(long), 이름 길이(short), 이름(UTF-16 최대 32자), 패딩
+// 레코드는 모드 순서대로 모여 있고, 모드 안에서는 점수 내림차순(같은 점수는 seq 오름차순)
+// 그래서 한 모드의 상위 N개는 파일 전체를 읽지 않고 그 모드 구간의 앞부분만 읽으면 됨
+final class ScoreFile {
+    static final int MAGIC = 0x54534346; // "TSCF"
+    static final int VERSION = 1;
+    static final int NAME_CHARS = 32; // 게임 오버 화면의 이름 입력은 25자로 제한됨
+    static final int RECORD_SIZE = 80;
+    private static final ScoreEntry.Mode[] MODES = ScoreEntry.Mode.values();
+    static final int HEADER_SIZE = 32 + MODES.length * 8;
+
+    private static final int SCORE_OFFSET = 0;
+    private static final int SEQ_OFFSET = 4;
+    private static final int NAME_LENGTH_OFFSET = 12;
+    private static final int NAME_OFFSET = 14;
+
+    // 스냅샷이 없는 상태 (모든 모드가 비어 있음)
+    static final ScoreFile EMPTY =
+            new ScoreFile(
+                    ByteBuffer.allocate(0), 0, 0, new int[MODES.length], new int[MODES.length]);
+
+    private final ByteBuffer buffer;
+    private final long generation;
+    private final long nextSeq;
+    private final int[] start;
+    private final int[] count;
+
+    private ScoreFile(ByteBuffer buffer, long generation, long nextSeq, int[] start, int[] count) {
+        this.buffer = buffer;
+        this.generation = generation;
+        this.nextSeq = nextSeq;
+        this.start = start;
+        this.count = count;
+    }
+
+    // 파일을 읽기 전용으로 매핑 (매핑은 채널을 닫아도 유지됨), 형식이 맞지 않으면 IOException
+    static ScoreFile open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) throw new IOException("Truncated score file");
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported score file: " + path);
+        }
+        if (buffer.getInt(24) != MODES.length) {
+            throw new IOException("Score file mode count mismatch: " + path);
+        }
+        int[] start = new int[MODES.length];
+        int[] count = new int[MODES.length];
+        long records = (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        for (int m = 0; m < MODES.length; m++) {
+            start[m] = buffer.getInt(32 + m * 8);
+            count[m] = buffer.getInt(36 + m * 8);
+            if (start[m] < 0 || count[m] < 0 || (long) start[m] + count[m] > records) {
+                throw new IOException("Corrupted score file index: " + path);
+            }
+        }
+        return new ScoreFile(buffer, buffer.getLong(8), buffer.getLong(16), start, count);
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    // 이 스냅샷 다음에 추가되는 점수가 받을 seq
+    long nextSeq() {
+        return nextSeq;
+    }
+
+    int count(ScoreEntry.Mode mode) {
+        return count[mode.ordinal()];
+    }
+
+    int total() {
+        int total = 0;
+        for (int c : count) total += c;
+        return total;
+    }
+
+    int score(ScoreEntry.Mode mode, int index) {
+        return buffer.getInt(position(mode, index) + SCORE_OFFSET);
+    }
+
+    long seq(ScoreEntry.Mode mode, int index) {
+        return buffer.getLong(position(mode, index) + SEQ_OFFSET);
+    }
+
+    // 레코드 하나를 ScoreEntry로 읽음 (이름은 여기서만 디코딩)
+    ScoreEntry entry(ScoreEntry.Mode mode, int index) {
+        int pos = position(mode, index);
+        int length = Math.min(buffer.getShort(pos + NAME_LENGTH_OFFSET), NAME_CHARS);
+        char[] name = new char[Math.max(length, 0)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = buffer.getChar(pos + NAME_OFFSET + i * 2);
+        }
+        return new ScoreEntry(new String(name), buffer.getInt(pos + SCORE_OFFSET), mode);
+    }
+
+    // rank보다 앞에 오는 레코드 수 (이진 탐색)
+    int countBefore(ScoreEntry.Mode mode, ScoreStore.Rank rank) {
+        int lo = 0;
+        int hi = count(mode);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ScoreStore.Rank.compare(score(mode, mid), seq(mode, mid), rank) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    boolean contains(ScoreEntry.Mode mode, ScoreStore.Rank rank) {
+        int index = countBefore(mode, rank);
+        return index < count(mode)
+                && score(mode, index) == rank.score()
+                && seq(mode, index) == rank.seq();
+    }
+
+    private int position(ScoreEntry.Mode mode, int index) {
+        return HEADER_SIZE + (start[mode.ordinal()] + index) * RECORD_SIZE;
+    }
+
+    // 스냅샷 파일 쓰기: 헤더에 모드별 레코드 수를 먼저 쓰고, 모드 순서대로 정렬된 레코드를 받음
+    static final class Writer implements AutoCloseable {
+        private final FileOutputStream file;
+        private final DataOutputStream out;
+        private final byte[] record = new byte[RECORD_SIZE];
+        private final byte[] padding = new byte[RECORD_SIZE - NAME_OFFSET - NAME_CHARS * 2];
+
+        Writer(Path path, long generation, long nextSeq, int[] counts) throws IOException {
+            this.file = new FileOutputStream(path.toFile());
+            this.out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+            out.writeLong(nextSeq);
+            out.writeInt(MODES.length);
+            out.writeInt(0);
+            int start = 0;
+            for (int m = 0; m < MODES.length; m++) {
+                out.writeInt(start);
+                out.writeInt(counts[m]);
+                start += counts[m];
+            }
+        }
+
+        void write(int score, long seq, String name) throws IOException {
+            int length = Math.min(name.length(), NAME_CHARS);
+            out.writeInt(score);
+            out.writeLong(seq);
+            out.writeShort(length);
+            for (int i = 0; i < NAME_CHARS; i++) out.writeChar(i < length ? name.charAt(i) : 0);
+            out.write(padding);
+        }
+
+        // 기존 스냅샷의 레코드는 디코딩하지 않고 바이트 그대로 복사
+        void copy(ScoreFile source, ScoreEntry.Mode mode, int index) throws IOException {
+            source.buffer.get(source.position(mode, index), record, 0, RECORD_SIZE);
+            out.write(record, 0, RECORD_SIZE);
+        }
+
+        // 디스크에 반영 (rename 전에 호출)
+        void sync() throws IOException {
+            out.flush();
+            file.getFD().sync();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,670 @@
+package team13.tetris.data;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import team13.tetris.data.ScoreBoard.ScoreEntry;
+
+// ScoreBoard의 저장 엔진
+// - 스냅샷: 압축된 점수는 이진 파일(<이름>.<세대>.dat, ScoreFile)에 모드별로 정렬해 두고 매핑해서 읽음
+//   불러올 때 텍스트를 파싱하지 않고, 한 모드의 상위 N개는 그 모드 구간의 앞부분만 읽음
+// - 로그: 점수 파일(name,score,MODE 줄)은 마지막 압축 이후 추가된 점수만 담는 추가 전용 로그
+//   첫 줄 "#gen=N"이 어느 스냅샷에 이어지는지 나타냄 (없으면 스냅샷 없이 로그가 전부인 이전 형식)
+// - 메모리: 로그의 점수만 모드별 스킵 리스트(점수 내림차순, 같은 점수는 먼저 들어온 순)에 두고
+//   조회할 때 스냅샷 구간과 병합
+// - 압축: 로그가 일정 이상 쌓이면 스냅샷과 로그를 병합한 새 스냅샷을 쓰고,
+//   로그는 그 뒤에 추가된 줄만 남긴 새 로그로 교체 (둘 다 임시 파일 + rename)
+//   새 로그로 바뀌기 전에 꺼지면 이전 스냅샷과 로그가 그대로 쓰임
+// - 한 줄 덧붙이기는 호출한 스레드에서 바로 쓰고,
+//   압축/초기화는 PersistenceService에 맡겨 FX 스레드를 막지 않음
+final class ScoreStore {
+    // 마지막 압축 이후 이만큼(또는 전체 점수 수의 절반) 덧붙이면 압축
+    static final int COMPACT_MIN_APPENDS = 1000;
+    private static final String GENERATION_PREFIX = "#gen=";
+
+    // 같은 파일을 쓰는 저장소끼리 공유하는 잠금 (덧붙이기와 압축 교체가 섞이지 않도록)
+    private static final Map<Path, Object> FILE_LOCKS = new ConcurrentHashMap<>();
+
+    // 기존 점수 파일(PrintWriter 기본 인코딩)과 호환
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    // 정렬 키: 점수 내림차순, 같은 점수는 seq 오름차순(먼저 추가된 것이 앞)
+    // seq는 스냅샷에 함께 저장되므로 압축 후에도 같은 점수를 가리킴
+    record Rank(int score, long seq) implements Comparable<Rank> {
+        @Override
+        public int compareTo(Rank other) {
+            return -compare(other.score, other.seq, this);
+        }
+
+        static int compare(int score, long seq, Rank other) {
+            if (score != other.score) return Integer.compare(other.score, score);
+            return Long.compare(seq, other.seq);
+        }
+    }
+
+    private final Path file;
+    private final Path tempFile;
+    private final Path dir;
+    private final String snapshotBase;
+    private final Object lock;
+    private final PersistenceService persistence;
+    private final Map<ScoreEntry.Mode, ConcurrentSkipListMap<Rank, ScoreEntry>> byMode =
+            new EnumMap<>(ScoreEntry.Mode.class);
+
+    // 아래 필드는 lock으로 보호
+    private ScoreFile snapshot = ScoreFile.EMPTY;
+    // 로그 첫 줄이 가리키는 스냅샷 세대 (0이면 스냅샷 없음)
+    private long logGeneration = 0;
+    private long nextSeq = 0;
+    private int logCount = 0;
+    // 메모리에 반영된 로그 파일 길이 (다른 인스턴스가 덧붙인 부분을 찾는 데 씀)
+    // 초기화 후 압축이 끝나기 전까지는 버린 이전 내용의 길이도 포함
+    private long knownLength = 0;
+    private int appendsSinceCompaction = 0;
+    // 잠금을 쥔 채로 저장 큐에 넣지 않도록(큐가 가득 차면 기다리므로) 잠금을 푼 뒤 예약할 압축
+    private boolean compactRequested = false;
+    // 로그가 가리키는 스냅샷을 열지 못함: 그 점수 없이 압축하면 새 세대에서 빠지고 원래 스냅샷은
+    // 지워지므로, 다시 읽어 열릴 때까지 압축과 스냅샷 삭제를 하지 않음 (초기화는 예외)
+    private boolean snapshotUnreadable = false;
+    // 초기화 후 아직 압축하지 않음 (버리기로 한 스냅샷은 열 수 없어도 됨)
+    private boolean clearPending = false;
+    // 로그가 개행 없이 끝남: 예약한 압축이 정리하기 전에 덧붙이면 앞에 개행을 먼저 씀
+    private boolean tornTail = false;
+
+    ScoreStore(String path) {
+        this(path, PersistenceService.shared());
+    }
+
+    ScoreStore(String path, PersistenceService persistence) {
+        this.file = Path.of(path);
+        this.tempFile = PersistenceService.tempFileFor(file);
+        Path parent = file.toAbsolutePath().getParent();
+        this.dir = parent;
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.snapshotBase = dot > 0 ? name.substring(0, dot) : name;
+        this.lock =
+                FILE_LOCKS.computeIfAbsent(file.toAbsolutePath().normalize(), p -> new Object());
+        this.persistence = persistence;
+        for (ScoreEntry.Mode mode : ScoreEntry.Mode.values()) {
+            byMode.put(mode, new ConcurrentSkipListMap<>());
+        }
+        reload();
+    }
+
+    // 파일에서 전부 다시 읽음
+    // 생성자(FX 스레드)에서도 불리므로 대기 중인 압축을 기다리지 않고 지금 파일을 읽음
+    // 압축이 로그를 교체하면 다음 refresh가 세대가 바뀐 것을 보고 다시 읽음
+    // 이전 형식의 파일도 스냅샷으로 옮기는 압축을 저장 스레드에 예약만 하고,
+    // 그 전까지는 방금 파싱한 메모리 내용으로 조회함
+    void reload() {
+        synchronized (lock) {
+            reloadLocked();
+        }
+        compactIfRequested();
+    }
+
+    private void reloadLocked() {
+        clearMemory();
+        snapshot = ScoreFile.EMPTY;
+        snapshotUnreadable = false;
+        tornTail = false;
+        logGeneration = 0;
+        nextSeq = 0;
+        knownLength = 0;
+        if (!Files.exists(file)) return;
+
+        try {
+            if (readFrom(0)) {
+                // 추가 도중 종료되어 마지막 줄에 개행이 없거나(다음 줄이 붙어 버리지 않도록)
+                // 세대 줄이 없는 이전 형식의 파일(다음부터 스냅샷으로 읽도록)이면 압축
+                compactRequested = true;
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading scores: " + e.getMessage());
+        }
+    }
+
+    // 같은 파일을 쓰는 다른 인스턴스의 변경을 반영
+    // 로그가 늘어났으면 늘어난 부분만 읽고, 줄었거나 다른 스냅샷으로 바뀌었으면 전부 다시 읽음
+    void refresh() {
+        synchronized (lock) {
+            refreshLocked();
+        }
+        compactIfRequested();
+    }
+
+    private void refreshLocked() {
+        try {
+            if (!Files.exists(file)) {
+                if (knownLength > 0 || snapshot != ScoreFile.EMPTY) reloadLocked();
+                return;
+            }
+            long length = Files.size(file);
+            if (length < knownLength || readGeneration() != logGeneration) {
+                reloadLocked();
+            } else if (length > knownLength) {
+                readFrom(knownLength);
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading scores: " + e.getMessage());
+        }
+    }
+
+    Rank add(ScoreEntry entry) {
+        Rank rank;
+        synchronized (lock) {
+            refreshLocked();
+            rank = insert(entry);
+            try {
+                append(entry);
+            } catch (IOException e) {
+                System.err.println("Error saving scores: " + e.getMessage());
+            }
+            if (++appendsSinceCompaction >= Math.max(COMPACT_MIN_APPENDS, size() / 2)) {
+                compactRequested = true;
+            }
+        }
+        compactIfRequested();
+        return rank;
+    }
+
+    // 파일은 대기 중인 압축이 비움 (그 전까지 knownLength는 이전 내용 길이 그대로)
+    void clear() {
+        synchronized (lock) {
+            clearMemory();
+            snapshot = ScoreFile.EMPTY;
+            clearPending = true;
+        }
+        compact();
+    }
+
+    // 압축 예약, 이미 대기 중이면 합쳐짐 (내용은 실행 시점의 메모리에서 만듦)
+    void compact() {
+        persistence.submit(this, this::compactNow);
+    }
+
+    private void compactIfRequested() {
+        boolean requested;
+        synchronized (lock) {
+            requested = compactRequested;
+            compactRequested = false;
+        }
+        if (requested) compact();
+    }
+
+    // 스냅샷과 로그 점수를 병합한 새 스냅샷을 쓰고 로그를 교체 (저장 스레드)
+    // 스냅샷을 쓰는 동안에는 잠금을 풀어 두고, 그 사이 로그에 덧붙은 줄은 새 로그로 옮김
+    void compactNow() throws IOException {
+        ScoreFile base;
+        List<List<Map.Entry<Rank, ScoreEntry>>> delta = new ArrayList<>();
+        long snapshotLength;
+        long snapshotLogGeneration;
+        long snapshotSeq;
+        long generation;
+        synchronized (lock) {
+            refreshLocked();
+            if (snapshotUnreadable && !clearPending) {
+                System.err.println(
+                        "Skipping score compaction: "
+                                + snapshotFile(logGeneration)
+                                + " could not be read");
+                compactRequested = false;
+                appendsSinceCompaction = 0; // 다음 압축 시도는 다시 일정 수를 덧붙인 뒤에
+                return;
+            }
+            base = snapshot;
+            for (ConcurrentSkipListMap<Rank, ScoreEntry> entries : byMode.values()) {
+                delta.add(new ArrayList<>(entries.entrySet()));
+            }
+            snapshotLength = knownLength;
+            snapshotLogGeneration = logGeneration;
+            snapshotSeq = nextSeq;
+            generation = nextGeneration();
+        }
+
+        Path snapshotFile = snapshotFile(generation);
+        Path snapshotTemp = PersistenceService.tempFileFor(snapshotFile);
+        writeSnapshot(snapshotTemp, generation, snapshotSeq, base, delta);
+
+        synchronized (lock) {
+            long length = Files.exists(file) ? Files.size(file) : 0;
+            if (length < snapshotLength || readGeneration() != snapshotLogGeneration) {
+                // 그 사이 다른 인스턴스가 로그를 교체함, 그 내용을 읽고 이번 압축은 버림
+                Files.deleteIfExists(snapshotTemp);
+                reloadLocked();
+                compactRequested = false;
+                return;
+            }
+
+            // 새 로그: 세대 줄 + 스냅샷 이후 덧붙은 줄
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+                String header = GENERATION_PREFIX + generation + System.lineSeparator();
+                out.write(header.getBytes(CHARSET));
+                if (length > snapshotLength) copyTail(snapshotLength, out.getChannel());
+                out.getFD().sync(); // rename 전에 내용이 디스크에 있어야 교체가 의미 있음
+            }
+            // 스냅샷을 먼저 교체하고 로그를 교체 (로그가 바뀌기 전까지는 이전 세대를 씀)
+            PersistenceService.moveAtomically(snapshotTemp, snapshotFile);
+            PersistenceService.moveAtomically(tempFile, file);
+            deleteSnapshotsExcept(generation);
+
+            reloadLocked();
+            appendsSinceCompaction = 0;
+            compactRequested = false; // 방금 압축했으므로 다시 읽으며 요청한 정리도 끝남
+            clearPending = false;
+        }
+    }
+
+    private static void writeSnapshot(
+            Path target,
+            long generation,
+            long nextSeq,
+            ScoreFile base,
+            List<List<Map.Entry<Rank, ScoreEntry>>> delta)
+            throws IOException {
+        ScoreEntry.Mode[] modes = ScoreEntry.Mode.values();
+        int[] counts = new int[modes.length];
+        for (ScoreEntry.Mode mode : modes) {
+            counts[mode.ordinal()] = base.count(mode) + delta.get(mode.ordinal()).size();
+        }
+        try (ScoreFile.Writer writer = new ScoreFile.Writer(target, generation, nextSeq, counts)) {
+            for (ScoreEntry.Mode mode : modes) {
+                Cursor cursor = new Cursor(base, mode, delta.get(mode.ordinal()).iterator());
+                while (cursor.hasNext()) {
+                    if (cursor.inSnapshot()) {
+                        writer.copy(base, mode, cursor.snapshotIndex());
+                    } else {
+                        writer.write(cursor.score(), cursor.seq(), cursor.entry().getName());
+                    }
+                    cursor.advance();
+                }
+            }
+            writer.sync();
+        }
+    }
+
+    // 전체 점수 (점수 내림차순): 모드별 정렬 구조를 병합
+    List<ScoreEntry> all() {
+        synchronized (lock) {
+            List<ScoreEntry> result = new ArrayList<>(size());
+            List<Cursor> cursors = new ArrayList<>();
+            for (ScoreEntry.Mode mode : ScoreEntry.Mode.values()) {
+                Cursor cursor = cursor(mode);
+                if (cursor.hasNext()) cursors.add(cursor);
+            }
+            while (!cursors.isEmpty()) {
+                int best = 0;
+                for (int i = 1; i < cursors.size(); i++) {
+                    if (cursors.get(i).compareTo(cursors.get(best)) < 0) best = i;
+                }
+                Cursor cursor = cursors.get(best);
+                result.add(cursor.entry());
+                cursor.advance();
+                if (!cursor.hasNext()) cursors.remove(best);
+            }
+            return result;
+        }
+    }
+
+    List<ScoreEntry> byMode(ScoreEntry.Mode mode) {
+        return page(mode, 0, Integer.MAX_VALUE);
+    }
+
+    // 한 모드의 offset번째부터 최대 limit개 (점수 내림차순)
+    // 스냅샷에서는 앞의 offset개를 건너뛸 때 점수와 seq만 비교하고 이름은 돌려줄 레코드만 읽음
+    List<ScoreEntry> page(ScoreEntry.Mode mode, int offset, int limit) {
+        synchronized (lock) {
+            int total = snapshot.count(mode) + byMode.get(mode).size();
+            int size = Math.max(0, Math.min(limit, total - offset));
+            List<ScoreEntry> result = new ArrayList<>(size);
+            Cursor cursor = cursor(mode);
+            for (int i = 0; i < offset && cursor.hasNext(); i++) cursor.advance();
+            while (result.size() < size && cursor.hasNext()) {
+                result.add(cursor.entry());
+                cursor.advance();
+            }
+            return result;
+        }
+    }
+
+    // 전체 점수 목록에서의 위치 (없으면 -1)
+    int indexOf(Rank rank, ScoreEntry.Mode mode) {
+        synchronized (lock) {
+            if (!byMode.get(mode).containsKey(rank) && !snapshot.contains(mode, rank)) return -1;
+            int index = 0;
+            for (ScoreEntry.Mode m : ScoreEntry.Mode.values()) {
+                index += snapshot.countBefore(m, rank) + byMode.get(m).headMap(rank).size();
+            }
+            return index;
+        }
+    }
+
+    int size() {
+        synchronized (lock) {
+            return snapshot.total() + logCount;
+        }
+    }
+
+    private Cursor cursor(ScoreEntry.Mode mode) {
+        return new Cursor(snapshot, mode, byMode.get(mode).entrySet().iterator());
+    }
+
+    private void clearMemory() {
+        for (ConcurrentSkipListMap<Rank, ScoreEntry> entries : byMode.values()) entries.clear();
+        logCount = 0;
+        appendsSinceCompaction = 0;
+    }
+
+    private Rank insert(ScoreEntry entry) {
+        Rank rank = new Rank(entry.getScore(), nextSeq++);
+        byMode.get(entry.getMode()).put(rank, entry);
+        logCount++;
+        return rank;
+    }
+
+    private void append(ScoreEntry entry) throws IOException {
+        String text = format(entry) + System.lineSeparator();
+        if (tornTail) text = System.lineSeparator() + text;
+        byte[] line = text.getBytes(CHARSET);
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)) {
+            // 한 줄을 한 번의 write로 씀 (줄 중간에서 다른 줄과 섞이지 않도록)
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) channel.write(buffer);
+            knownLength = channel.size();
+        }
+        tornTail = false;
+    }
+
+    private Path snapshotFile(long generation) {
+        return dir.resolve(snapshotBase + "." + generation + ".dat");
+    }
+
+    // 디스크에 있는 스냅샷들의 세대 (이름이 <이름>.<세대>.dat 형식인 파일)
+    private List<Long> snapshotGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        if (dir == null || !Files.isDirectory(dir)) return generations;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.dat")) {
+            String prefix = snapshotBase + ".";
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (!name.startsWith(prefix)) continue;
+                String middle = name.substring(prefix.length(), name.length() - ".dat".length());
+                try {
+                    generations.add(Long.parseLong(middle));
+                } catch (NumberFormatException e) {
+                    // 다른 파일
+                }
+            }
+        }
+        return generations;
+    }
+
+    // 남아 있는 어떤 스냅샷과도 겹치지 않는 새 세대
+    private long nextGeneration() throws IOException {
+        long max = logGeneration;
+        for (long generation : snapshotGenerations()) max = Math.max(max, generation);
+        return max + 1;
+    }
+
+    // 지금 로그가 가리키지 않는 스냅샷은 지움 (다른 프로세스가 매핑 중이라 못 지우면 다음 압축 때 다시 시도)
+    private void deleteSnapshotsExcept(long keep) {
+        try {
+            for (long generation : snapshotGenerations()) {
+                if (generation == keep) continue;
+                try {
+                    Files.deleteIfExists(snapshotFile(generation));
+                } catch (IOException e) {
+                    // 다음 압축 때 다시 시도
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error cleaning up score snapshots: " + e.getMessage());
+        }
+    }
+
+    // 로그 첫 줄의 스냅샷 세대 (없으면 0)
+    private long readGeneration() throws IOException {
+        if (!Files.exists(file)) return 0;
+        byte[] head = new byte[64];
+        int read;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            read = Math.max(channel.read(ByteBuffer.wrap(head)), 0);
+        }
+        return parseGeneration(head, read);
+    }
+
+    private static long parseGeneration(byte[] bytes, int length) {
+        int end = 0;
+        while (end < length && bytes[end] != '\n') end++;
+        if (end == length) return 0;
+        String line = new String(bytes, 0, end, CHARSET).trim();
+        if (!line.startsWith(GENERATION_PREFIX)) return 0;
+        try {
+            return Long.parseLong(line.substring(GENERATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // 로그 파일의 offset 이후 내용을 target 끝에 그대로 복사
+    private void copyTail(long offset, FileChannel target) throws IOException {
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = source.size();
+            long position = offset;
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    // offset부터 끝까지 읽어 메모리에 추가
+    // 처음부터 읽을 때 압축이 필요하면(마지막 줄에 개행이 없거나 세대 줄이 없는 이전 형식) true
+    private boolean readFrom(long offset) throws IOException {
+        byte[] bytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            bytes = new byte[(int) (channel.size() - offset)];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            channel.position(offset);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {}
+        }
+
+        int start = 0;
+        if (offset == 0) {
+            logGeneration = parseGeneration(bytes, bytes.length);
+            if (logGeneration > 0) {
+                openSnapshot();
+                nextSeq = snapshot.nextSeq();
+                while (bytes[start] != '\n') start++; // 세대 줄 건너뜀
+                start++;
+            }
+        }
+
+        List<ScoreEntry> entries = new ArrayList<>();
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] != '\n') continue;
+            readLine(bytes, start, i, entries);
+            start = i + 1;
+        }
+        knownLength = offset + start;
+
+        // 개행 없는 마지막 줄: 처음 읽을 때만 받아들이고, 다른 인스턴스가 쓰는 중일 수 있는 경우는 다음으로 미룸
+        boolean torn = start < bytes.length;
+        if (torn && offset == 0) {
+            readLine(bytes, start, bytes.length, entries);
+            knownLength = bytes.length;
+            tornTail = true;
+        } else if (offset > 0 && bytes.length > 0) {
+            tornTail = false; // 다른 인스턴스가 개행부터 덧붙임
+        }
+        insertAll(entries);
+        boolean legacy = offset == 0 && logGeneration == 0 && !entries.isEmpty();
+        return offset == 0 && (torn || legacy);
+    }
+
+    // 로그가 가리키는 스냅샷을 매핑, 없거나 손상됐거나 다른 세대면 빈 스냅샷으로 읽고 압축을 막음
+    private void openSnapshot() {
+        Path path = snapshotFile(logGeneration);
+        try {
+            ScoreFile opened = ScoreFile.open(path);
+            if (opened.generation() != logGeneration) {
+                throw new IOException("Score snapshot generation mismatch: " + path);
+            }
+            snapshot = opened;
+        } catch (IOException e) {
+            System.err.println("Error loading score snapshot: " + e.getMessage());
+            snapshot = ScoreFile.EMPTY;
+            snapshotUnreadable = true;
+        }
+    }
+
+    private static void readLine(byte[] bytes, int start, int end, List<ScoreEntry> entries) {
+        if (end > start && bytes[end - 1] == '\r') end--;
+        if (end == start) return;
+        String line = new String(bytes, start, end - start, CHARSET);
+        ScoreEntry entry = parse(line);
+        if (entry == null) {
+            System.err.println("Skipping corrupted score line: " + line);
+            return;
+        }
+        entries.add(entry);
+    }
+
+    // 파일 순서대로 seq를 매긴 뒤 모드별로 정렬해서 넣음
+    // 스킵 리스트는 무작위 순서로 넣을 때보다 정렬된 순서로 넣을 때 훨씬 빠름
+    private void insertAll(List<ScoreEntry> entries) {
+        Map<ScoreEntry.Mode, List<Map.Entry<Rank, ScoreEntry>>> sorted =
+                new EnumMap<>(ScoreEntry.Mode.class);
+        for (ScoreEntry entry : entries) {
+            sorted.computeIfAbsent(entry.getMode(), m -> new ArrayList<>())
+                    .add(Map.entry(new Rank(entry.getScore(), nextSeq++), entry));
+        }
+        for (Map.Entry<ScoreEntry.Mode, List<Map.Entry<Rank, ScoreEntry>>> mode :
+                sorted.entrySet()) {
+            List<Map.Entry<Rank, ScoreEntry>> list = mode.getValue();
+            list.sort(Map.Entry.comparingByKey());
+            ConcurrentSkipListMap<Rank, ScoreEntry> target = byMode.get(mode.getKey());
+            for (Map.Entry<Rank, ScoreEntry> e : list) target.put(e.getKey(), e.getValue());
+        }
+        logCount += entries.size();
+    }
+
+    static String format(ScoreEntry entry) {
+        // 이름의 개행은 줄 구분을 깨뜨리므로 공백으로 바꿈
+        String name = entry.getName().replace('\n', ' ').replace('\r', ' ');
+        return name + "," + entry.getScore() + "," + entry.getMode().name();
+    }
+
+    // name,score,MODE (이름에 쉼표가 있어도 뒤의 두 필드로 구분), 형식이 틀리면 null
+    static ScoreEntry parse(String line) {
+        int modeSep = line.lastIndexOf(',');
+        if (modeSep <= 0) return null;
+        int scoreSep = line.lastIndexOf(',', modeSep - 1);
+        if (scoreSep < 0) return null;
+        try {
+            int score = Integer.parseInt(line.substring(scoreSep + 1, modeSep).trim());
+            ScoreEntry.Mode mode = ScoreEntry.Mode.valueOf(line.substring(modeSep + 1).trim());
+            return new ScoreEntry(line.substring(0, scoreSep), score, mode);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 한 모드의 스냅샷 구간과 로그 점수를 순위 순으로 함께 훑는 커서
+    // 현재 위치의 점수/seq와 어느 쪽에서 왔는지는 advance할 때 한 번만 계산
+    private static final class Cursor implements Comparable<Cursor> {
+        private final ScoreFile snapshot;
+        private final ScoreEntry.Mode mode;
+        private final int snapshotCount;
+        private final Iterator<Map.Entry<Rank, ScoreEntry>> logIterator;
+        private int snapshotIndex = 0;
+        private Map.Entry<Rank, ScoreEntry> logHead;
+        private boolean inSnapshot;
+        private int score;
+        private long seq;
+
+        Cursor(
+                ScoreFile snapshot,
+                ScoreEntry.Mode mode,
+                Iterator<Map.Entry<Rank, ScoreEntry>> logIterator) {
+            this.snapshot = snapshot;
+            this.mode = mode;
+            this.snapshotCount = snapshot.count(mode);
+            this.logIterator = logIterator;
+            this.logHead = logIterator.hasNext() ? logIterator.next() : null;
+            locate();
+        }
+
+        boolean hasNext() {
+            return snapshotIndex < snapshotCount || logHead != null;
+        }
+
+        // 현재 점수가 스냅샷 레코드인지 (스냅샷 점수는 같은 점수의 로그 점수보다 먼저 추가됨)
+        boolean inSnapshot() {
+            return inSnapshot;
+        }
+
+        int snapshotIndex() {
+            return snapshotIndex;
+        }
+
+        int score() {
+            return score;
+        }
+
+        long seq() {
+            return seq;
+        }
+
+        ScoreEntry entry() {
+            return inSnapshot ? snapshot.entry(mode, snapshotIndex) : logHead.getValue();
+        }
+
+        void advance() {
+            if (inSnapshot) {
+                snapshotIndex++;
+            } else {
+                logHead = logIterator.hasNext() ? logIterator.next() : null;
+            }
+            locate();
+        }
+
+        private void locate() {
+            if (snapshotIndex < snapshotCount) {
+                score = snapshot.score(mode, snapshotIndex);
+                seq = snapshot.seq(mode, snapshotIndex);
+                inSnapshot = logHead == null || Rank.compare(score, seq, logHead.getKey()) < 0;
+                if (inSnapshot) return;
+            }
+            inSnapshot = false;
+            if (logHead != null) {
+                score = logHead.getKey().score();
+                seq = logHead.getKey().seq();
+            }
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            if (score != other.score) return Integer.compare(other.score, score);
+            return Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package team13.tetris.game;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 프로세스 전체에서 공유하는 게임 스케줄러
+// 라인 클리어 지연, 자동 하강, 서버 카운트다운, 타이머 모드 시계 등을
+// 작업마다 새 스레드(java.util.Timer)나 새 executor를 만들지 않고 하나의 풀에서 실행함
+// 각 소유자(엔진, 컨트롤러, 서버)는 newHandle()로 받은 Handle을 통해 자신의 작업만 일괄 취소함
+public final class GameScheduler {
+    private static final int SHARED_THREADS = 2;
+    private static final GameScheduler SHARED = new GameScheduler(SHARED_THREADS, "GameScheduler");
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    public GameScheduler(int threads, String threadName) {
+        if (threads <= 0) throw new IllegalArgumentException("threads must be > 0");
+        AtomicInteger seq = new AtomicInteger();
+        ThreadFactory factory =
+                r -> {
+                    Thread t = new Thread(r, threadName + "-" + seq.incrementAndGet());
+                    t.setDaemon(true); // 스케줄러 스레드가 JVM 종료를 막지 않도록
+                    return t;
+                };
+        this.executor = new ScheduledThreadPoolExecutor(threads, factory);
+        // 취소된 작업은 즉시 큐에서 제거 (pause/resume 반복 시 큐가 쌓이지 않도록)
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+    }
+
+    // 공유 스케줄러 인스턴스
+    public static GameScheduler shared() {
+        return SHARED;
+    }
+
+    // 작업 그룹 핸들 생성 (소유자마다 하나씩)
+    public Handle newHandle() {
+        return new Handle();
+    }
+
+    // 큐에 대기 중인(취소되지 않은) 작업 수
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getPoolSize() {
+        return executor.getPoolSize();
+    }
+
+    // 공유 인스턴스가 아닌 경우에만 사용 (테스트 등)
+    public void shutdown() {
+        if (this == SHARED) throw new IllegalStateException("shared scheduler cannot be shut down");
+        executor.shutdownNow();
+    }
+
+    // 예외가 풀 스레드로 전파되어 주기 작업이 조용히 중단되지 않도록 감쌈
+    private static Runnable guard(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                System.err.println("Scheduled task error: " + t.getMessage());
+                t.printStackTrace();
+            }
+        };
+    }
+
+    // 한 소유자가 예약한 작업들의 묶음
+    // cancelAll()은 이 핸들로 예약된 작업만 취소하며 공유 풀에는 영향을 주지 않음
+    public final class Handle {
+        private final Set<ScheduledFuture<?>> futures = ConcurrentHashMap.newKeySet();
+
+        private Handle() {}
+
+        // delay 후 한 번 실행
+        public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+            return track(executor.schedule(guard(task), delay, unit));
+        }
+
+        // initialDelay 후 period 간격으로 반복 실행
+        public ScheduledFuture<?> scheduleAtFixedRate(
+                Runnable task, long initialDelay, long period, TimeUnit unit) {
+            return track(executor.scheduleAtFixedRate(guard(task), initialDelay, period, unit));
+        }
+
+        // 이 핸들로 예약된 모든 작업 취소
+        public void cancelAll() {
+            for (ScheduledFuture<?> f : futures) f.cancel(false);
+            futures.clear();
+        }
+
+        // 아직 완료/취소되지 않은 작업 수
+        public int getPendingCount() {
+            futures.removeIf(ScheduledFuture::isDone);
+            return futures.size();
+        }
+
+        private ScheduledFuture<?> track(ScheduledFuture<?> future) {
+            futures.removeIf(ScheduledFuture::isDone); // 완료된 단발 작업 정리
+            futures.add(future);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package team13.tetris.game.ai;
+
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 봇 탐색용 보드 점유 상태 (행별 비트마스크만 가진 불변 객체)
+// Board.getRowMask로 한 번 복사해 두고, 조각을 놓으면 새 BitBoard를 만들어 반환함 (원본은 그대로)
+// 그래서 여러 후보를 탐색할 때 되돌리기가 필요 없고 스레드 간에 그대로 공유할 수 있음
+// 점유 칸의 Zobrist 키(트랜스포지션 테이블용)도 함께 들고 다님
+public final class BitBoard {
+    private final int width;
+    private final int height;
+    private final long fullRowMask;
+    private final long[] rows;
+    private final int linesCleared; // 이 상태를 만든 배치가 지운 줄 수
+    private final long hash;
+
+    private BitBoard(int width, int height, long[] rows, int linesCleared, long hash) {
+        this.width = width;
+        this.height = height;
+        this.fullRowMask = (width == Long.SIZE) ? -1L : (1L << width) - 1;
+        this.rows = rows;
+        this.linesCleared = linesCleared;
+        this.hash = hash;
+    }
+
+    private static long hashOf(long[] rows) {
+        long hash = 0L;
+        for (int y = 0; y < rows.length; y++) hash ^= Zobrist.row(y, rows[y]);
+        return hash;
+    }
+
+    public static BitBoard of(Board board) {
+        long[] rows = new long[board.getHeight()];
+        for (int y = 0; y < rows.length; y++) rows[y] = board.getRowMask(y);
+        return new BitBoard(board.getWidth(), board.getHeight(), rows, 0, hashOf(rows));
+    }
+
+    // rows[y]의 x번째 비트 = (x, y) 점유 (테스트/벤치마크용)
+    public static BitBoard of(int width, long[] rows) {
+        if (width <= 0 || width > Board.MAX_WIDTH) {
+            throw new IllegalArgumentException("Invalid width: " + width);
+        }
+        long[] copy = rows.clone();
+        return new BitBoard(width, copy.length, copy, 0, hashOf(copy));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public long getRow(int y) {
+        return (y >= 0 && y < height) ? rows[y] : fullRowMask;
+    }
+
+    public long getFullRowMask() {
+        return fullRowMask;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    // 점유 상태의 Zobrist 키 (점유가 같으면 만든 순서와 관계없이 같음)
+    public long getHash() {
+        return hash;
+    }
+
+    // Board.fits와 같은 판정 (벽, 바닥, 기존 블록과 겹치면 false)
+    public boolean fits(Tetromino.ShapeView view, int px, int py) {
+        for (int r = view.getMinRow(); r <= view.getMaxRow(); r++) {
+            long pieceRow = view.getRowMask(r);
+            if (pieceRow == 0L) continue;
+            int y = py + r;
+            if (y < 0 || y >= height) return false;
+            long shifted = shift(pieceRow, px);
+            if (shifted == -1L || (shifted & rows[y]) != 0) return false;
+        }
+        return true;
+    }
+
+    // pieceRow를 px만큼 옮긴 마스크, 벽 밖으로 나가면 -1 (조각 행은 64칸을 다 채울 수 없음)
+    private long shift(long pieceRow, int px) {
+        long shifted;
+        if (px >= 0) {
+            if (px >= Long.SIZE) return -1L;
+            shifted = pieceRow << px;
+            if ((shifted >>> px) != pieceRow) return -1L;
+        } else {
+            int n = -px;
+            if (n >= Long.SIZE || (pieceRow & ((1L << n) - 1)) != 0) return -1L;
+            shifted = pieceRow >>> n;
+        }
+        return ((shifted & ~fullRowMask) != 0) ? -1L : shifted;
+    }
+
+    // (px, py)에 조각을 놓고 가득 찬 줄을 지운 새 보드 (fits가 true인 위치여야 함)
+    public BitBoard place(Tetromino.ShapeView view, int px, int py) {
+        long[] next = rows.clone();
+        long placedHash = hash;
+        for (int r = view.getMinRow(); r <= view.getMaxRow(); r++) {
+            long pieceRow = view.getRowMask(r);
+            if (pieceRow == 0L) continue;
+            long shifted = shift(pieceRow, px);
+            next[py + r] |= shifted;
+            placedHash ^= Zobrist.row(py + r, shifted);
+        }
+
+        // 아래에서부터 가득 찬 줄을 건너뛰며 압축
+        int write = height - 1;
+        for (int y = height - 1; y >= 0; y--) {
+            if (next[y] != fullRowMask) next[write--] = next[y];
+        }
+        int cleared = write + 1;
+        if (cleared == 0) return new BitBoard(width, height, next, 0, placedHash);
+        for (int y = write; y >= 0; y--) next[y] = 0L;
+        return new BitBoard(width, height, next, cleared, hashOf(next)); // 줄이 내려오면 다시 계산
+    }
+
+    // 조각을 (px, py)에서 더 내려갈 수 없을 때까지 떨어뜨린 y
+    public int dropY(Tetromino.ShapeView view, int px, int py) {
+        int y = py;
+        while (fits(view, px, y + 1)) y++;
+        return y;
+    }
+}
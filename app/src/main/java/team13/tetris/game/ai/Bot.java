@@ -0,0 +1,112 @@
+package team13.tetris.game.ai;
+
+import java.util.Arrays;
+import java.util.List;
+import team13.tetris.game.model.Tetromino;
+
+// 배치 탐색 봇: 현재 조각의 모든 배치를 평가하고, 시간이 남으면 다음 조각까지 두 수를 봄
+// 1) 현재 조각의 배치를 한 수 점수로 평가해 가장 좋은 것을 기본 답으로 둠
+// 2) 한 수 점수가 높은 순서로 후보마다 다음 조각의 모든 배치를 평가 (두 수 점수 = 그중 최댓값)
+//    시간 예산을 넘기면 거기서 멈추고, 두 수까지 본 후보 중 가장 좋은 것을 고름
+// 시간 예산이 0 이하면 제한 없이 끝까지 탐색함 (같은 입력이면 항상 같은 답)
+// 트랜스포지션 테이블이 있으면 (보드, 다음 조각)의 최고 점수를 저장해 두고 다음 수에서도 다시 씀
+public class Bot {
+    public static final long DEFAULT_BUDGET_NANOS = 10_000_000L; // 10ms
+
+    private final Heuristic heuristic;
+    private final long budgetNanos;
+    private final TranspositionTable table; // null이면 캐시 없음
+    private long evaluatedCount = 0; // 평가한 배치 수 (벤치마크/진단용)
+
+    public Bot() {
+        this(Heuristic.DEFAULT, DEFAULT_BUDGET_NANOS, new TranspositionTable());
+    }
+
+    public Bot(Heuristic heuristic, long budgetNanos) {
+        this(heuristic, budgetNanos, null);
+    }
+
+    public Bot(Heuristic heuristic, long budgetNanos, TranspositionTable table) {
+        this.heuristic = heuristic;
+        this.budgetNanos = budgetNanos;
+        this.table = table;
+    }
+
+    // 현재 조각(current, 위치 px/py)을 놓을 배치, 놓을 곳이 없으면 null
+    public Move choose(BitBoard board, Tetromino current, int px, int py, Tetromino next) {
+        long deadline = (budgetNanos > 0) ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        List<Move> moves = MoveGenerator.generate(board, current, px, py);
+        if (moves.isEmpty()) return null;
+
+        int n = moves.size();
+        BitBoard[] after = new BitBoard[n];
+        double[] oneStep = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Move move = moves.get(i);
+            after[i] = board.place(move.view(), move.x(), move.y());
+            oneStep[i] = heuristic.evaluate(after[i], after[i].getLinesCleared());
+            order[i] = i;
+        }
+        evaluatedCount += n;
+        // 한 수 점수 내림차순 (같으면 생성 순서), 시간이 모자라도 유망한 후보부터 두 수를 봄
+        Arrays.sort(order, (a, b) -> Double.compare(oneStep[b], oneStep[a]));
+
+        Move best = moves.get(order[0]);
+        if (next == null) return best;
+
+        double bestTwoStep = Double.NEGATIVE_INFINITY;
+        Move bestTwoStepMove = null;
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && System.nanoTime() >= deadline) break; // 적어도 한 후보는 두 수까지 봄
+            int idx = order[i];
+            double value =
+                    heuristic.getLines() * after[idx].getLinesCleared()
+                            + bestFollowUp(after[idx], next);
+            if (value > bestTwoStep) {
+                bestTwoStep = value;
+                bestTwoStepMove = moves.get(idx);
+            }
+        }
+        return (bestTwoStepMove != null) ? bestTwoStepMove : best;
+    }
+
+    // board에 다음 조각을 스폰 위치에서 놓을 때의 최고 점수 (놓을 수 없으면 -무한대 = 게임오버)
+    // board까지 지운 줄 점수는 빼고 계산함 (그래야 지나온 경로와 관계없이 같은 키에 같은 값)
+    private double bestFollowUp(BitBoard board, Tetromino next) {
+        boolean useTable = table != null && Zobrist.cacheable(next);
+        long key = 0L;
+        if (useTable) {
+            key = board.getHash() ^ Zobrist.piece(0, next);
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) return cached;
+        }
+
+        List<Move> moves =
+                MoveGenerator.generate(board, next, MoveGenerator.spawnX(board, next), 0);
+        double best = Double.NEGATIVE_INFINITY;
+        for (Move move : moves) {
+            BitBoard after = board.place(move.view(), move.x(), move.y());
+            best = Math.max(best, heuristic.evaluate(after, after.getLinesCleared()));
+        }
+        evaluatedCount += moves.size();
+        if (useTable) table.put(key, best);
+        return best;
+    }
+
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    public long getEvaluatedCount() {
+        return evaluatedCount;
+    }
+}
@@ -0,0 +1,141 @@
+package team13.tetris.game.ai;
+
+import java.util.concurrent.ForkJoinTask;
+import team13.tetris.game.logic.GameEngine;
+import team13.tetris.game.model.Tetromino;
+
+// GameEngine을 키 입력 대신 조작하는 봇 플레이어 (대전 CPU, 네트워크 테스트용 상대)
+// 컨트롤러의 입력 타이머에서 step()을 주기적으로 부르면 한 번에 정해진 수만큼만 입력을 넣음
+// - 새 조각이 보이면 Bot으로 배치를 정하고, 회전 -> 좌우 이동 -> 하드 드롭 순서로 실행
+// - 자동 하강으로 조각이 먼저 고정되는 등 예상과 다른 조각이 보이면 다시 계산
+// ParallelBot을 쓰면 탐색을 풀에 넘기고 결과가 나올 때까지 step()은 입력 없이 돌아감 (FX 스레드를 막지 않음)
+// 엔진 이벤트와 같은 FX 스레드에서 호출해야 함
+public class BotPlayer {
+    public static final long STEP_MILLIS = 50; // 대전 입력 타이머 간격과 같음
+    // 조각이 한 칸 떨어지기 전에 움직이기 시작하도록 하강 간격의 이 비율 안에 탐색을 끝냄
+    static final double DEADLINE_FRACTION = 0.5;
+    // -Dtetris.bot.parallel=true면 기본 생성자가 여러 수 앞을 보는 병렬 탐색을 씀
+    private static final boolean PARALLEL = Boolean.getBoolean("tetris.bot.parallel");
+
+    private final GameEngine engine;
+    private final Bot bot; // 동기 탐색 (parallel을 쓰면 null)
+    private final ParallelBot parallel;
+    private final int actionsPerStep;
+
+    private Move plan;
+    private int rotationsLeft;
+    private Tetromino planned; // 마지막으로 확인한 조각 (회전하면 객체가 바뀌므로 매번 갱신)
+    private ForkJoinTask<Move> pending; // 진행 중인 병렬 탐색 (planned 조각 기준)
+
+    public BotPlayer(GameEngine engine) {
+        this(engine, PARALLEL ? null : new Bot(), PARALLEL ? new ParallelBot() : null, 1);
+    }
+
+    public BotPlayer(GameEngine engine, Bot bot, int actionsPerStep) {
+        this(engine, bot, null, actionsPerStep);
+    }
+
+    public BotPlayer(GameEngine engine, ParallelBot parallel, int actionsPerStep) {
+        this(engine, null, parallel, actionsPerStep);
+    }
+
+    private BotPlayer(GameEngine engine, Bot bot, ParallelBot parallel, int actionsPerStep) {
+        if (actionsPerStep <= 0) throw new IllegalArgumentException("actionsPerStep must be > 0");
+        this.engine = engine;
+        this.bot = bot;
+        this.parallel = parallel;
+        this.actionsPerStep = actionsPerStep;
+    }
+
+    public void step() {
+        for (int i = 0; i < actionsPerStep; i++) {
+            if (!act()) return;
+        }
+    }
+
+    // 입력 하나를 넣음, 할 일이 없으면 false
+    private boolean act() {
+        Tetromino current = engine.getCurrent();
+        if (current == null) {
+            plan = null; // 줄 삭제 중이거나 게임 오버
+            cancelPending();
+            return false;
+        }
+        if (plan == null || current != planned) {
+            plan = (parallel != null) ? pollParallel(current) : chooseNow(current);
+            if (plan == null) return false;
+            rotationsLeft = plan.rotations();
+            planned = current;
+        }
+
+        if (rotationsLeft > 0) {
+            engine.rotateCW();
+            rotationsLeft--;
+            planned = engine.getCurrent();
+            return true;
+        }
+
+        int x = engine.getPieceX();
+        if (x != plan.x()) {
+            if (x < plan.x()) engine.moveRight();
+            else engine.moveLeft();
+            if (engine.getPieceX() != x) {
+                planned = engine.getCurrent();
+                return true;
+            }
+            // 막혔으면 지금 자리에 놓음
+        }
+
+        engine.hardDrop();
+        plan = null;
+        planned = null;
+        return true;
+    }
+
+    private Move chooseNow(Tetromino current) {
+        return bot.choose(
+                BitBoard.of(engine.getBoard()),
+                current,
+                engine.getPieceX(),
+                engine.getPieceY(),
+                engine.getNext());
+    }
+
+    // 탐색을 시작하거나 끝난 결과를 가져옴, 아직이면 null
+    // 기다리는 동안 자동 하강으로 조각이 내려가도 좌우 이동이 막히면 그 자리에 놓으므로 계속 진행됨
+    private Move pollParallel(Tetromino current) {
+        if (pending != null && current != planned) cancelPending(); // 다른 조각의 탐색
+        if (pending == null) {
+            long budget = (long) (engine.getDropIntervalSeconds() * 1e9 * DEADLINE_FRACTION);
+            pending =
+                    parallel.submit(
+                            BitBoard.of(engine.getBoard()),
+                            current,
+                            engine.getPieceX(),
+                            engine.getPieceY(),
+                            engine.getNext(),
+                            System.nanoTime() + budget);
+            planned = current;
+            return null;
+        }
+        if (!pending.isDone()) return null;
+        Move move = pending.join();
+        pending = null;
+        return move;
+    }
+
+    private void cancelPending() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    public Bot getBot() {
+        return bot;
+    }
+
+    public ParallelBot getParallelBot() {
+        return parallel;
+    }
+}
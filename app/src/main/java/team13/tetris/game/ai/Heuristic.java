@@ -0,0 +1,67 @@
+package team13.tetris.game.ai;
+
+// 배치 후 보드를 점수로 평가하는 가중 휴리스틱 (클수록 좋음)
+// score = aggregateHeight * 높이 합 + holes * 구멍 수 + bumpiness * 이웃 열 높이 차 합 + lines * 지운 줄
+// 구멍: 같은 열에서 위에 블록이 있는 빈 칸
+public final class Heuristic {
+    // 널리 쓰이는 유전 알고리즘 튜닝 가중치 (10x20 보드 기준)
+    public static final Heuristic DEFAULT = new Heuristic(-0.510066, -0.35663, -0.184483, 0.760666);
+
+    private final double aggregateHeight;
+    private final double holes;
+    private final double bumpiness;
+    private final double lines;
+
+    public Heuristic(double aggregateHeight, double holes, double bumpiness, double lines) {
+        this.aggregateHeight = aggregateHeight;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+        this.lines = lines;
+    }
+
+    // 보드와 지금까지 지운 줄 수로 평가
+    public double evaluate(BitBoard board, int linesCleared) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int[] heights = new int[width];
+        long seen = 0L; // 위에서부터 한 번이라도 블록이 나온 열
+        int holeCount = 0;
+        for (int y = 0; y < height; y++) {
+            long row = board.getRow(y);
+            long fresh = row & ~seen;
+            while (fresh != 0L) {
+                heights[Long.numberOfTrailingZeros(fresh)] = height - y;
+                fresh &= fresh - 1;
+            }
+            holeCount += Long.bitCount(seen & ~row);
+            seen |= row;
+        }
+
+        int total = 0;
+        int bumps = 0;
+        for (int c = 0; c < width; c++) {
+            total += heights[c];
+            if (c > 0) bumps += Math.abs(heights[c] - heights[c - 1]);
+        }
+        return aggregateHeight * total
+                + holes * holeCount
+                + bumpiness * bumps
+                + lines * linesCleared;
+    }
+
+    public double getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public double getHoles() {
+        return holes;
+    }
+
+    public double getBumpiness() {
+        return bumpiness;
+    }
+
+    public double getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,7 @@
+package team13.tetris.game.ai;
+
+import team13.tetris.game.model.Tetromino;
+
+// 조각 하나의 최종 배치
+// rotations: 현재 방향에서 시계 방향 회전 횟수, (x, y): 하드 드롭 후 위치, view: 회전 후 모양
+public record Move(int rotations, int x, int y, Tetromino.ShapeView view) {}
@@ -0,0 +1,82 @@
+package team13.tetris.game.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import team13.tetris.game.model.Tetromino;
+
+// 현재 위치에서 닿을 수 있는 모든 (회전, x) 최종 배치를 나열
+// 실제 입력과 같은 순서로 따라감: 회전(GameCore.rotateCW와 같은 벽 차기) -> 좌우 이동 -> 하드 드롭
+// - 회전마다 그 높이에서 막히기 전까지 좌우로 갈 수 있는 x 구간만 후보로 씀
+// - 모양이 같은 회전(O의 4방향, I/S/Z의 2방향)은 처음 나온 것만 남김
+public final class MoveGenerator {
+    // GameCore.rotateCW의 벽 차기 순서
+    private static final int[][] KICKS = {{0, 0}, {-1, 0}, {1, 0}, {-2, 0}, {2, 0}, {0, -1}};
+
+    private MoveGenerator() {}
+
+    public static List<Move> generate(BitBoard board, Tetromino piece, int px, int py) {
+        List<Move> moves = new ArrayList<>(48);
+        if (piece == null || !board.fits(piece.getShapeView(), px, py)) return moves;
+
+        boolean rotatable = !(piece.isItemPiece() && piece.getKind() == Tetromino.Kind.WEIGHT);
+        int rotations = rotatable ? 4 : 1;
+        long[][] seenShapes = new long[rotations][];
+
+        Tetromino current = piece;
+        int x = px;
+        int y = py;
+        for (int r = 0; r < rotations; r++) {
+            if (r > 0) {
+                Tetromino rotated = current.rotateClockwise();
+                int[] kicked = kick(board, rotated.getShapeView(), x, y);
+                if (kicked == null) break; // 더 돌릴 수 없으면 이후 회전도 닿을 수 없음
+                current = rotated;
+                x = kicked[0];
+                y = kicked[1];
+            }
+
+            Tetromino.ShapeView view = current.getShapeView();
+            long[] shape = normalized(view);
+            if (isDuplicate(seenShapes, r, shape)) continue;
+            seenShapes[r] = shape;
+
+            int left = x;
+            while (board.fits(view, left - 1, y)) left--;
+            int right = x;
+            while (board.fits(view, right + 1, y)) right++;
+            for (int tx = left; tx <= right; tx++) {
+                moves.add(new Move(r, tx, board.dropY(view, tx, y), view));
+            }
+        }
+        return moves;
+    }
+
+    // 조각이 새로 나올 때의 위치 (GameCore.spawnNext와 같음)
+    public static int spawnX(BitBoard board, Tetromino piece) {
+        return (board.getWidth() - piece.getWidth()) / 2;
+    }
+
+    private static int[] kick(BitBoard board, Tetromino.ShapeView view, int x, int y) {
+        for (int[] off : KICKS) {
+            if (board.fits(view, x + off[0], y + off[1])) return new int[] {x + off[0], y + off[1]};
+        }
+        return null;
+    }
+
+    // 바운딩 박스 왼쪽 위에 맞춘 행 마스크 (같은 모양이면 같은 배열)
+    private static long[] normalized(Tetromino.ShapeView view) {
+        long[] shape = new long[view.getBoxHeight()];
+        for (int r = 0; r < shape.length; r++) {
+            shape[r] = view.getRowMask(view.getMinRow() + r) >>> view.getMinCol();
+        }
+        return shape;
+    }
+
+    private static boolean isDuplicate(long[][] seen, int count, long[] shape) {
+        for (int i = 0; i < count; i++) {
+            if (seen[i] != null && Arrays.equals(seen[i], shape)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,286 @@
+package team13.tetris.game.ai;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import team13.tetris.game.model.Tetromino;
+
+// 여러 수 앞을 보는 봇 탐색을 ForkJoinPool에 나눠 실행
+// - 1수: 현재 조각, 2수: 다음 조각, 3수: 그다음 조각은 모르므로 7종류의 최고 점수 평균 (기댓값)
+// - 현재 조각 후보들을 반씩 나눠 fork하고, 3수 탐색이면 후보 하나 안의 다음 조각 배치도 다시 나눔
+// - BitBoard는 불변이라 작업끼리 보드를 공유해도 되고 되돌리기가 필요 없음 (copy-on-write)
+// 결과는 후보별 배열 칸에만 쓰고 마지막에 한 스레드가 고르므로, 마감 전에 끝나면 스레드 수와
+// 실행 순서에 관계없이 Bot과 같은 규칙(점수가 같으면 한 수 점수가 높은 후보)으로 같은 답을 냄
+// 마감(System.nanoTime 기준)을 넘기면 끝까지 본 후보 중에서 고르고, 하나도 없으면 한 수 최선을 씀
+// 트랜스포지션 테이블에는 (보드, 놓을 조각[, 셋째 조각 평균]) 값을 넣어 두므로, 다음 수 탐색에서
+// 이번에 3수째로 본 보드와 조각을 2수째로 다시 만나면 그대로 꺼내 씀
+public class ParallelBot {
+    public static final int DEFAULT_DEPTH = 3;
+
+    // 셋째 조각 후보 (일반 블록 7종, 일반 블록 Tetromino는 불변이라 스레드끼리 공유함)
+    private static final Tetromino[] PREVIEW = {
+        Tetromino.of(Tetromino.Kind.I),
+        Tetromino.of(Tetromino.Kind.O),
+        Tetromino.of(Tetromino.Kind.T),
+        Tetromino.of(Tetromino.Kind.S),
+        Tetromino.of(Tetromino.Kind.Z),
+        Tetromino.of(Tetromino.Kind.J),
+        Tetromino.of(Tetromino.Kind.L)
+    };
+
+    // 끝까지 보지 못한 후보 표시 (실제 점수는 NaN이 나오지 않음)
+    private static final double UNFINISHED = Double.NaN;
+
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+    private final int depth;
+    private final TranspositionTable table; // null이면 캐시 없음
+    private final LongAdder evaluatedCount = new LongAdder();
+
+    public ParallelBot() {
+        this(Heuristic.DEFAULT, ForkJoinPool.commonPool(), DEFAULT_DEPTH, new TranspositionTable());
+    }
+
+    public ParallelBot(Heuristic heuristic, ForkJoinPool pool, int depth) {
+        this(heuristic, pool, depth, null);
+    }
+
+    public ParallelBot(
+            Heuristic heuristic, ForkJoinPool pool, int depth, TranspositionTable table) {
+        if (depth < 1 || depth > 3) throw new IllegalArgumentException("depth must be 1..3");
+        this.heuristic = heuristic;
+        this.pool = pool;
+        this.depth = depth;
+        this.table = table;
+    }
+
+    // 탐색이 끝날 때까지 기다림 (deadlineNanos가 Long.MAX_VALUE면 제한 없음)
+    public Move choose(
+            BitBoard board,
+            Tetromino current,
+            int px,
+            int py,
+            Tetromino next,
+            long deadlineNanos) {
+        return pool.invoke(new Search(board, current, px, py, next, deadlineNanos));
+    }
+
+    // 풀에서 탐색을 시작하고 바로 반환 (FX 스레드에서 기다리지 않고 isDone으로 확인할 때)
+    public ForkJoinTask<Move> submit(
+            BitBoard board,
+            Tetromino current,
+            int px,
+            int py,
+            Tetromino next,
+            long deadlineNanos) {
+        return pool.submit(new Search(board, current, px, py, next, deadlineNanos));
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    public long getEvaluatedCount() {
+        return evaluatedCount.sum();
+    }
+
+    private final class Search extends RecursiveTask<Move> {
+        private final BitBoard board;
+        private final Tetromino current;
+        private final int px;
+        private final int py;
+        private final Tetromino next;
+        private final long deadline;
+
+        Search(BitBoard board, Tetromino current, int px, int py, Tetromino next, long deadline) {
+            this.board = board;
+            this.current = current;
+            this.px = px;
+            this.py = py;
+            this.next = next;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Move compute() {
+            List<Move> moves = MoveGenerator.generate(board, current, px, py);
+            if (moves.isEmpty()) return null;
+
+            int n = moves.size();
+            BitBoard[] after = new BitBoard[n];
+            double[] oneStep = new double[n];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                Move move = moves.get(i);
+                after[i] = board.place(move.view(), move.x(), move.y());
+                oneStep[i] = heuristic.evaluate(after[i], after[i].getLinesCleared());
+                order[i] = i;
+            }
+            evaluatedCount.add(n);
+            // Bot과 같은 순서: 한 수 점수 내림차순, 같으면 생성 순서
+            Arrays.sort(order, (a, b) -> Double.compare(oneStep[b], oneStep[a]));
+            if (depth == 1 || next == null) return moves.get(order[0]);
+
+            BitBoard[] ranked = new BitBoard[n];
+            for (int i = 0; i < n; i++) ranked[i] = after[order[i]];
+            double[] values = new double[n];
+            new Candidates(ranked, next, deadline, values, 0, n).invoke();
+
+            int best = -1;
+            for (int i = 0; i < n; i++) {
+                if (Double.isNaN(values[i])) continue;
+                if (best < 0 || values[i] > values[best]) best = i;
+            }
+            return moves.get(order[(best >= 0) ? best : 0]);
+        }
+    }
+
+    // 현재 조각 후보 [lo, hi)의 점수를 values에 채움
+    private final class Candidates extends RecursiveAction {
+        private final BitBoard[] boards;
+        private final Tetromino next;
+        private final long deadline;
+        private final double[] values;
+        private final int lo;
+        private final int hi;
+
+        Candidates(
+                BitBoard[] boards,
+                Tetromino next,
+                long deadline,
+                double[] values,
+                int lo,
+                int hi) {
+            this.boards = boards;
+            this.next = next;
+            this.deadline = deadline;
+            this.values = values;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(
+                        new Candidates(boards, next, deadline, values, lo, mid),
+                        new Candidates(boards, next, deadline, values, mid, hi));
+                return;
+            }
+            BitBoard board = boards[lo];
+            double value =
+                    (depth == 2)
+                            ? bestPlacement(board, next, deadline)
+                            : expectedFollowUp(board, next, deadline);
+            values[lo] =
+                    Double.isNaN(value)
+                            ? UNFINISHED
+                            : heuristic.getLines() * board.getLinesCleared() + value;
+        }
+    }
+
+    // board에 next를 놓고 셋째 조각(7종 평균)까지 본 최고 점수, board까지 지운 줄 점수는 뺌
+    private double expectedFollowUp(BitBoard board, Tetromino next, long deadline) {
+        boolean useTable = table != null && Zobrist.cacheable(next);
+        long key = 0L;
+        if (useTable) {
+            key = board.getHash() ^ Zobrist.piece(0, next) ^ Zobrist.PREVIEW_AVERAGE;
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) return cached;
+        }
+        if (System.nanoTime() >= deadline) return UNFINISHED;
+
+        List<Move> moves =
+                MoveGenerator.generate(board, next, MoveGenerator.spawnX(board, next), 0);
+        if (moves.isEmpty()) return Double.NEGATIVE_INFINITY;
+        double value = new FollowUps(board, moves, deadline, 0, moves.size()).invoke();
+        if (useTable && !Double.isNaN(value)) table.put(key, value);
+        return value;
+    }
+
+    // 다음 조각 배치 [lo, hi) 각각에 대해 셋째 조각 기댓값을 구하고 그중 최댓값 (하나라도 못 끝내면 NaN)
+    private final class FollowUps extends RecursiveTask<Double> {
+        private static final int THRESHOLD = 4;
+
+        private final BitBoard board;
+        private final List<Move> moves;
+        private final long deadline;
+        private final int lo;
+        private final int hi;
+
+        FollowUps(BitBoard board, List<Move> moves, long deadline, int lo, int hi) {
+            this.board = board;
+            this.moves = moves;
+            this.deadline = deadline;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Double compute() {
+            if (hi - lo > THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                FollowUps right = new FollowUps(board, moves, deadline, mid, hi);
+                right.fork();
+                double left = new FollowUps(board, moves, deadline, lo, mid).compute();
+                return combine(left, right.join());
+            }
+            double best = Double.NEGATIVE_INFINITY;
+            for (int i = lo; i < hi; i++) {
+                Move move = moves.get(i);
+                BitBoard after = board.place(move.view(), move.x(), move.y());
+                double sum = 0;
+                for (Tetromino piece : PREVIEW) {
+                    double value = bestPlacement(after, piece, deadline);
+                    if (Double.isNaN(value)) return UNFINISHED;
+                    sum += value;
+                }
+                double lines = heuristic.getLines() * after.getLinesCleared();
+                best = Math.max(best, lines + sum / PREVIEW.length);
+            }
+            evaluatedCount.add(hi - lo);
+            return best;
+        }
+
+        private double combine(double a, double b) {
+            return (Double.isNaN(a) || Double.isNaN(b)) ? UNFINISHED : Math.max(a, b);
+        }
+    }
+
+    // board에 piece를 스폰 위치에서 놓을 때의 최고 점수 (놓을 수 없으면 -무한대, 마감이면 NaN)
+    // board까지 지운 줄 점수는 빼고 계산함 (Bot.bestFollowUp과 같은 값이라 같은 키를 씀)
+    private double bestPlacement(BitBoard board, Tetromino piece, long deadline) {
+        boolean useTable = table != null && Zobrist.cacheable(piece);
+        long key = 0L;
+        if (useTable) {
+            key = board.getHash() ^ Zobrist.piece(0, piece);
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) return cached;
+        }
+        if (System.nanoTime() >= deadline) return UNFINISHED;
+
+        List<Move> moves =
+                MoveGenerator.generate(board, piece, MoveGenerator.spawnX(board, piece), 0);
+        double best = Double.NEGATIVE_INFINITY;
+        for (Move move : moves) {
+            BitBoard after = board.place(move.view(), move.x(), move.y());
+            best = Math.max(best, heuristic.evaluate(after, after.getLinesCleared()));
+        }
+        evaluatedCount.add(moves.size());
+        if (useTable) table.put(key, best);
+        return best;
+    }
+}
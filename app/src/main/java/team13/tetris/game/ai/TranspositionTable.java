@@ -0,0 +1,155 @@
+package team13.tetris.game.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// 봇 탐색 결과 캐시: 64비트 Zobrist 키 -> 평가값
+// 크기가 정해진 4-way 세트 연관 구조이고, 세트가 차면 CLOCK 방식으로 교체함
+// - 조회에 성공하면 참조 비트를 켜고, 교체할 때는 바늘을 돌리며 참조 비트가 꺼진 칸을 고름 (지나간 칸은 끔)
+// - 여러 ForkJoin 작업이 함께 쓰므로 세트 묶음마다 잠금을 둠 (키와 값이 따로 갱신되지 않게)
+// 값은 키가 같으면 항상 같은 순수 계산 결과만 넣으므로, 교체 순서가 달라도 탐색 결과는 바뀌지 않음
+public final class TranspositionTable {
+    // 4K 항목(약 72KB)이면 L2 캐시에 들어가 더 큰 테이블보다 빠름 (TranspositionTableBenchmark 기준)
+    public static final int DEFAULT_CAPACITY = 1 << 12;
+    private static final int WAYS = 4;
+    private static final int STRIPES = 64;
+
+    private final long[] keys;
+    private final double[] values;
+    private final boolean[] used;
+    private final boolean[] referenced;
+    private final byte[] hands; // 세트마다 다음에 볼 칸 (0..WAYS-1)
+    private final int setMask;
+    private final Object[] locks = new Object[STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TranspositionTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // capacity는 WAYS 이상의 2의 거듭제곱으로 올림
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) slots <<= 1;
+        slots = Math.max(WAYS, slots);
+        keys = new long[slots];
+        values = new double[slots];
+        used = new boolean[slots];
+        referenced = new boolean[slots];
+        hands = new byte[slots / WAYS];
+        setMask = slots / WAYS - 1;
+        for (int i = 0; i < STRIPES; i++) locks[i] = new Object();
+    }
+
+    // 키의 값, 없으면 NaN
+    public double get(long key) {
+        int set = setOf(key);
+        int base = set * WAYS;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            for (int i = base; i < base + WAYS; i++) {
+                if (used[i] && keys[i] == key) {
+                    referenced[i] = true;
+                    hits.increment();
+                    return values[i];
+                }
+            }
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    public void put(long key, double value) {
+        int set = setOf(key);
+        int base = set * WAYS;
+        synchronized (locks[set & (STRIPES - 1)]) {
+            int empty = -1;
+            for (int i = base; i < base + WAYS; i++) {
+                if (used[i] && keys[i] == key) {
+                    values[i] = value;
+                    referenced[i] = true;
+                    return;
+                }
+                if (!used[i] && empty < 0) empty = i;
+            }
+            int slot = (empty >= 0) ? empty : evict(set);
+            keys[slot] = key;
+            values[slot] = value;
+            used[slot] = true;
+            referenced[slot] = false; // 새 항목은 한 번 더 조회되어야 보호됨
+        }
+    }
+
+    // 세트에서 바늘을 돌려 참조 비트가 꺼진 칸을 찾음 (잠금을 잡은 상태에서 호출)
+    private int evict(int set) {
+        int base = set * WAYS;
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) % WAYS;
+        }
+        hands[set] = (byte) ((hand + 1) % WAYS);
+        evictions.increment();
+        return base + hand;
+    }
+
+    private int setOf(long key) {
+        return (int) (key ^ (key >>> 32)) & setMask;
+    }
+
+    // 모든 항목과 카운터를 지움
+    public void clear() {
+        int sets = setMask + 1;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int set = stripe; set < sets; set += STRIPES) {
+                    Arrays.fill(used, set * WAYS, set * WAYS + WAYS, false);
+                    Arrays.fill(referenced, set * WAYS, set * WAYS + WAYS, false);
+                    hands[set] = 0;
+                }
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    // 지금 들어 있는 항목 수
+    public int size() {
+        int count = 0;
+        int sets = setMask + 1;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int set = stripe; set < sets; set += STRIPES) {
+                    for (int i = set * WAYS; i < set * WAYS + WAYS; i++) if (used[i]) count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long h = getHitCount();
+        long total = h + getMissCount();
+        return (total == 0) ? 0.0 : (double) h / total;
+    }
+}
@@ -0,0 +1,58 @@
+package team13.tetris.game.ai;
+
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 봇 탐색용 Zobrist 키 (고정 시드라 실행마다 같은 값)
+// - 칸 키: 점유된 칸 (x, y)마다 하나, 보드 키 = 점유 칸 키의 XOR (BitBoard가 놓을 때마다 갱신)
+// - 조각 키: 슬롯(0 = 놓을 조각, 1 = 그다음 조각)과 종류/회전마다 하나
+// 트랜스포지션 테이블 키 = 보드 키 ^ 조각 키들
+final class Zobrist {
+    private static final int TABLE_ROWS = 64; // 이보다 아래 행은 그때그때 계산
+    private static final long CELL_SEED = 0x5EED_7E72_15C0_FFEEL;
+    private static final long PIECE_SEED = 0x0DDB_A115_7E72_13A5L;
+    private static final long[] CELLS = new long[TABLE_ROWS * Board.MAX_WIDTH];
+
+    // 그다음 조각을 모를 때 (7종 평균으로 평가한 값) 슬롯 1에 넣는 키
+    static final long PREVIEW_AVERAGE = mix(PIECE_SEED - 1);
+
+    static {
+        for (int i = 0; i < CELLS.length; i++) CELLS[i] = mix(CELL_SEED + i);
+    }
+
+    private Zobrist() {}
+
+    static long cell(int x, int y) {
+        int index = y * Board.MAX_WIDTH + x;
+        return (y < TABLE_ROWS) ? CELLS[index] : mix(CELL_SEED + index);
+    }
+
+    // y행의 점유 마스크 row에 해당하는 칸 키의 XOR
+    static long row(int y, long row) {
+        long hash = 0L;
+        while (row != 0L) {
+            hash ^= cell(Long.numberOfTrailingZeros(row), y);
+            row &= row - 1;
+        }
+        return hash;
+    }
+
+    // 모양이 종류와 회전만으로 정해지는 조각만 캐시 키로 씀 (아이템/raw shape 조각은 제외)
+    static boolean cacheable(Tetromino piece) {
+        return piece != null && piece.getKind() != null && !piece.isItemPiece();
+    }
+
+    // slot 자리의 조각 키, piece가 null이면 0 (cacheable인 조각이어야 함)
+    static long piece(int slot, Tetromino piece) {
+        if (piece == null) return 0L;
+        int kind = piece.getKind().ordinal();
+        return mix(PIECE_SEED + slot * 256L + kind * 4L + piece.getRotationIndex());
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
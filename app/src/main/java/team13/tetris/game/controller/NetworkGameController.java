@@ -3,8 +3,8 @@ package team13.tetris.game.controller;
 import java.io.IOException;
 import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -24,9 +24,12 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import team13.tetris.SceneManager;
 import team13.tetris.config.Settings;
+import team13.tetris.game.GameScheduler;
+import team13.tetris.game.ai.BotPlayer;
 import team13.tetris.game.logic.GameEngine;
 import team13.tetris.game.model.Board;
 import team13.tetris.game.model.Tetromino;
+import team13.tetris.network.NetworkThreads;
 import team13.tetris.network.client.TetrisClient;
 import team13.tetris.network.listener.ClientMessageListener;
 import team13.tetris.network.listener.ServerMessageListener;
@@ -36,10 +39,14 @@ import team13.tetris.scenes.NetworkGameScene;
 import team13.tetris.scenes.NetworkLobbyScene;
 
 public class NetworkGameController implements ClientMessageListener, ServerMessageListener {
+    private static final int DEFAULT_PORT = 12345;
+
     private final SceneManager manager;
     private final Settings settings;
     private final boolean isHost;
     private final String serverIP;
+    private final String roomId; // RoomServer에서 참가할 방 (null이면 자동 매칭)
+    private final int serverPort;
 
     // 네트워크
     private TetrisServer server; // 호스트인 경우만 사용
@@ -53,6 +60,11 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
 
     // 게임 엔진 (내 화면만 제어)
     private GameEngine myEngine;
+    // 보드 상태 델타 인코딩 (내 보드 → 상대, 상대 보드 복원)
+    private BoardUpdateEncoder boardEncoder;
+    private final BoardUpdateDecoder boardDecoder = new BoardUpdateDecoder();
+    // GAME_START로 받은 조각 생성 시드 (양쪽이 같은 조각 순서를 사용)
+    private volatile long gameSeed = ThreadLocalRandom.current().nextLong();
 
     // 상태 플래그
     private boolean gameStarted = false;
@@ -67,8 +79,13 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
     private Timeline countdownTimeline;
     private final IntegerProperty countdownSeconds = new SimpleIntegerProperty();
 
-    // 타이머 모드
-    private ScheduledExecutorService timerExecutor;
+    // -Dtetris.bot=true면 내 쪽을 봇이 조작 (실제 상대 없이 네트워크 대전을 시험할 때)
+    private static final boolean BOT_ENABLED = Boolean.getBoolean("tetris.bot");
+    private Timeline botTimeline;
+
+    // 타이머 모드 시계와 네트워크 안정성 체크는 공유 게임 스케줄러에서 실행
+    private final GameScheduler.Handle scheduledTasks = GameScheduler.shared().newHandle();
+    private volatile ScheduledFuture<?> timerFuture;
     private int remainingSeconds = 120;
 
     // 내 incoming 공격 큐 (내가 받은 공격이 여기 저장됨)
@@ -79,17 +96,38 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
 
     // 네트워크 안정성 관리
     private volatile long lastMessageReceivedTime = 0;
-    private ScheduledExecutorService networkCheckExecutor;
+    private volatile ScheduledFuture<?> networkCheckFuture;
     private static final long LAG_THRESHOLD_MS = 2000; // 2초 이상 지연되면 랙 상태
     private static final long DISCONNECT_THRESHOLD_MS = 10000; // 10초 이상 지연되면 끊김
     private volatile boolean isLagging = false;
 
     public NetworkGameController(
             SceneManager manager, Settings settings, boolean isHost, String serverIP) {
+        this(manager, settings, isHost, serverIP, null);
+    }
+
+    public NetworkGameController(
+            SceneManager manager,
+            Settings settings,
+            boolean isHost,
+            String serverIP,
+            String roomId) {
+        this(manager, settings, isHost, serverIP, roomId, DEFAULT_PORT);
+    }
+
+    NetworkGameController(
+            SceneManager manager,
+            Settings settings,
+            boolean isHost,
+            String serverIP,
+            String roomId,
+            int serverPort) {
         this.manager = manager;
         this.settings = settings;
         this.isHost = isHost;
         this.serverIP = serverIP;
+        this.roomId = (roomId == null || roomId.isBlank()) ? null : roomId.trim();
+        this.serverPort = serverPort;
     }
 
     // 로비 초기화 및 네트워크 연결
@@ -114,7 +152,6 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
             }
         } else {
             // 클라이언트로 연결
-            myPlayerId = "Client";
             connectToServer();
         }
 
@@ -127,41 +164,54 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         manager.changeScene(lobbyScene.getScene());
     }
 
+    // 접속할 클라이언트 생성
+    // RoomServer는 서버 전체에서 같은 플레이어 ID를 거절하므로 클라이언트마다 임의의 ID를 씀
+    TetrisClient createClient() {
+        myPlayerId = String.format("Client-%08x", ThreadLocalRandom.current().nextInt());
+        TetrisClient newClient = new TetrisClient(myPlayerId, serverIP, serverPort);
+        newClient.setRoomId(roomId);
+        newClient.setMessageListener(this);
+        return newClient;
+    }
+
     // 클라이언트에서 서버로 접속
     private void connectToServer() {
-        client = new TetrisClient(myPlayerId, serverIP);
-        client.setMessageListener(this);
+        client = createClient();
 
         Platform.runLater(
                 () -> {
                     lobbyScene.setStatusText("Connecting...");
                 });
 
-        new Thread(
-                        () -> {
-                            if (client.connect()) {
-                                // 연결 성공 시 IP 주소 저장
-                                settings.setRecentIP(serverIP);
-
-                                Platform.runLater(
-                                        () -> {
-                                            lobbyScene.setStatusText(
-                                                    "Connected to server!\nBoth players must be ready to start the game.");
-                                        });
-                            } else {
-                                Platform.runLater(
-                                        () -> {
-                                            Alert alert = new Alert(AlertType.ERROR);
-                                            alert.setTitle("Connection Failed");
-                                            alert.setHeaderText("Could not connect to the server.");
-                                            alert.setContentText(
-                                                    "Please check the IP address and make sure the host is ready.");
-                                            alert.showAndWait();
-                                            manager.showHostOrJoin(settings);
-                                        });
-                            }
-                        })
-                .start();
+        // 블로킹 접속 시도는 선택된 네트워크 스레드 모드(플랫폼/가상)에서 실행
+        NetworkThreads.start(
+                "tetris-connect",
+                () -> {
+                    if (client.connect()) {
+                        // 연결 성공 시 IP 주소 저장
+                        settings.setRecentIP(serverIP);
+
+                        Platform.runLater(
+                                () -> {
+                                    String room = (roomId != null) ? "\nRoom: " + roomId : "";
+                                    lobbyScene.setStatusText(
+                                            "Connected to server!"
+                                                    + room
+                                                    + "\nBoth players must be ready to start the game.");
+                                });
+                    } else {
+                        Platform.runLater(
+                                () -> {
+                                    Alert alert = new Alert(AlertType.ERROR);
+                                    alert.setTitle("Connection Failed");
+                                    alert.setHeaderText("Could not connect to the server.");
+                                    alert.setContentText(
+                                            "Please check the IP address and make sure the host is ready.");
+                                    alert.showAndWait();
+                                    manager.showHostOrJoin(settings);
+                                });
+                    }
+                });
     }
 
     // 준비 버튼 클릭 처리
@@ -206,6 +256,8 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         gameStarted = true;
         paused = false;
         lobbyScene = null;
+        boardEncoder = new BoardUpdateEncoder(myPlayerId);
+        boardDecoder.reset();
 
         // 게임 리스너 생성
         GameStateListener listener =
@@ -276,7 +328,7 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         } else {
             mode = team13.tetris.data.ScoreBoard.ScoreEntry.Mode.NORMAL;
         }
-        myEngine = new GameEngine(myBoard, listener, mode);
+        myEngine = new GameEngine(myBoard, listener, mode, gameSeed);
 
         // 게임 화면 생성
         gameScene =
@@ -300,26 +352,56 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         // 게임 시작
         myEngine.startNewGame();
         gameScene.updateLocalGrid();
+        if (BOT_ENABLED) startBot();
 
         // 네트워크 안정성 체크 시작
         startNetworkStabilityCheck();
     }
 
+    // FX 스레드 타임라인에서 봇 입력을 넣음, 게임이 끝나면 스스로 멈춤
+    private void startBot() {
+        if (botTimeline != null) botTimeline.stop();
+        BotPlayer bot = new BotPlayer(myEngine);
+        GameEngine engine = myEngine;
+        botTimeline =
+                new Timeline(
+                        new KeyFrame(
+                                Duration.millis(BotPlayer.STEP_MILLIS),
+                                e -> {
+                                    if (!gameStarted || myEngine != engine) {
+                                        botTimeline.stop();
+                                    } else if (!paused) {
+                                        bot.step();
+                                    }
+                                }));
+        botTimeline.setCycleCount(Timeline.INDEFINITE);
+        botTimeline.play();
+    }
+
     private void startTimer() {
-        timerExecutor = Executors.newSingleThreadScheduledExecutor();
-        timerExecutor.scheduleAtFixedRate(
-                () -> {
-                    remainingSeconds--;
-                    gameScene.updateTimer(remainingSeconds);
+        stopTimer();
+        timerFuture =
+                scheduledTasks.scheduleAtFixedRate(
+                        () -> {
+                            remainingSeconds--;
+                            gameScene.updateTimer(remainingSeconds);
 
-                    if (remainingSeconds <= 0) {
-                        timerExecutor.shutdown();
-                        Platform.runLater(() -> handleLocalGameOver("Time's Up!"));
-                    }
-                },
-                1,
-                1,
-                TimeUnit.SECONDS);
+                            if (remainingSeconds <= 0) {
+                                stopTimer();
+                                Platform.runLater(() -> handleLocalGameOver("Time's Up!"));
+                            }
+                        },
+                        1,
+                        1,
+                        TimeUnit.SECONDS);
+    }
+
+    private void stopTimer() {
+        ScheduledFuture<?> future = timerFuture;
+        if (future != null) {
+            future.cancel(false);
+            timerFuture = null;
+        }
     }
 
     // 키 입력 처리
@@ -354,7 +436,7 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
 
     // 내 보드 상태 전송
     private void sendMyBoardState() {
-        if (myEngine == null || !gameStarted) return;
+        if (myEngine == null || !gameStarted || boardEncoder == null) return;
 
         // P2P에서는 보드 상태 + 현재/다음 블록 + incoming blocks 전송
         int[][] boardState = myEngine.getBoard().snapshot();
@@ -410,44 +492,35 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         // 내 incoming 블록 큐를 전송 (상대방 화면에서 "내가 받을 공격" 표시용)
         Queue<int[][]> incomingBlocks = new LinkedList<>(myIncomingBlocks);
 
+        // 직전 프레임과 비교해 바뀐 부분만 전송 (블록 이동만 있으면 PIECE, 변화가 없으면 생략)
+        BoardUpdateMessage.Snapshot state =
+                new BoardUpdateMessage.Snapshot(
+                        boardState,
+                        pieceX,
+                        pieceY,
+                        pieceType,
+                        pieceRotation,
+                        pieceIsItem,
+                        pieceItemType,
+                        pieceItemBlockIndex,
+                        nextPieceType,
+                        nextIsItem,
+                        nextItemType,
+                        nextItemBlockIndex,
+                        score,
+                        lines,
+                        0); // level 사용 안 함
+        BoardUpdateMessage boardMsg = boardEncoder.encode(state, incomingBlocks);
+        if (boardMsg == null) return;
+
+        boolean sent = false;
         if (isHost && server != null) {
-            server.sendHostBoardUpdate(
-                    boardState,
-                    pieceX,
-                    pieceY,
-                    pieceType,
-                    pieceRotation,
-                    pieceIsItem,
-                    pieceItemType,
-                    pieceItemBlockIndex,
-                    nextPieceType,
-                    nextIsItem,
-                    nextItemType,
-                    nextItemBlockIndex,
-                    incomingBlocks,
-                    score,
-                    lines,
-                    0 // level 사용 안 함
-                    );
+            sent = server.sendHostBoardUpdate(boardMsg);
         } else if (!isHost && client != null) {
-            client.sendBoardUpdate(
-                    boardState,
-                    pieceX,
-                    pieceY,
-                    pieceType,
-                    pieceRotation,
-                    pieceIsItem,
-                    pieceItemType,
-                    pieceItemBlockIndex,
-                    nextPieceType,
-                    nextIsItem,
-                    nextItemType,
-                    nextItemBlockIndex,
-                    incomingBlocks,
-                    score,
-                    lines,
-                    0);
+            sent = client.sendBoardUpdate(boardMsg);
         }
+        // 상대가 이 프레임을 받지 못했으므로 다음에는 전체 보드를 보냄
+        if (!sent) boardEncoder.forceKeyframe();
     }
 
     // 내가 줄을 지웠을 때 상대에게 전송 (더 이상 사용 안 함 - sendAttackPattern 사용)
@@ -508,13 +581,9 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         if (myEngine != null) {
             myEngine.stopAutoDrop();
         }
-        if (timerMode && timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
+        stopTimer();
         // 네트워크 지연 체크 일시 중지
-        if (networkCheckExecutor != null && !networkCheckExecutor.isShutdown()) {
-            networkCheckExecutor.shutdownNow();
-        }
+        stopNetworkStabilityCheck();
         // 내가 퍼즈를 건 경우 전체 메뉴, 아니면 단순 안내
         if (pauseInitiatedByMe) {
             showPauseWindow();
@@ -580,9 +649,7 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         if (myEngine != null) {
             myEngine.stopAutoDrop();
         }
-        if (timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
+        stopTimer();
 
         // 네트워크로 GAME_OVER 알림
         if (isHost && server != null) {
@@ -623,9 +690,7 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         if (myEngine != null) {
             myEngine.stopAutoDrop();
         }
-        if (timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
+        stopTimer();
 
         // 호스트인 경우 서버 상태도 리셋
         if (isHost && server != null) {
@@ -657,45 +722,54 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         lastMessageReceivedTime = System.currentTimeMillis();
         isLagging = false;
 
-        networkCheckExecutor = Executors.newSingleThreadScheduledExecutor();
-        networkCheckExecutor.scheduleAtFixedRate(
-                () -> {
-                    if (!gameStarted) return;
-
-                    long currentTime = System.currentTimeMillis();
-                    long timeSinceLastMessage = currentTime - lastMessageReceivedTime;
-
-                    if (timeSinceLastMessage >= DISCONNECT_THRESHOLD_MS) {
-                        // 10초 이상 메시지 없음 - 연결 끊김 처리
-                        Platform.runLater(this::handleMessageTimeout);
-                        networkCheckExecutor.shutdown();
-                    } else if (timeSinceLastMessage >= LAG_THRESHOLD_MS) {
-                        // 2초 이상 메시지 없음 - 랙 상태
-                        if (!isLagging) {
-                            isLagging = true;
-                            Platform.runLater(
-                                    () -> {
-                                        if (gameScene != null) {
-                                            gameScene.setNetworkLagStatus(true);
-                                        }
-                                    });
-                        }
-                    } else {
-                        // 정상 상태
-                        if (isLagging) {
-                            isLagging = false;
-                            Platform.runLater(
-                                    () -> {
-                                        if (gameScene != null) {
-                                            gameScene.setNetworkLagStatus(false);
-                                        }
-                                    });
-                        }
-                    }
-                },
-                0,
-                500,
-                TimeUnit.MILLISECONDS); // 0.5초마다 체크
+        stopNetworkStabilityCheck();
+        networkCheckFuture =
+                scheduledTasks.scheduleAtFixedRate(
+                        () -> {
+                            if (!gameStarted) return;
+
+                            long currentTime = System.currentTimeMillis();
+                            long timeSinceLastMessage = currentTime - lastMessageReceivedTime;
+
+                            if (timeSinceLastMessage >= DISCONNECT_THRESHOLD_MS) {
+                                // 10초 이상 메시지 없음 - 연결 끊김 처리
+                                Platform.runLater(this::handleMessageTimeout);
+                                stopNetworkStabilityCheck();
+                            } else if (timeSinceLastMessage >= LAG_THRESHOLD_MS) {
+                                // 2초 이상 메시지 없음 - 랙 상태
+                                if (!isLagging) {
+                                    isLagging = true;
+                                    Platform.runLater(
+                                            () -> {
+                                                if (gameScene != null) {
+                                                    gameScene.setNetworkLagStatus(true);
+                                                }
+                                            });
+                                }
+                            } else {
+                                // 정상 상태
+                                if (isLagging) {
+                                    isLagging = false;
+                                    Platform.runLater(
+                                            () -> {
+                                                if (gameScene != null) {
+                                                    gameScene.setNetworkLagStatus(false);
+                                                }
+                                            });
+                                }
+                            }
+                        },
+                        0,
+                        500,
+                        TimeUnit.MILLISECONDS); // 0.5초마다 체크
+    }
+
+    private void stopNetworkStabilityCheck() {
+        ScheduledFuture<?> future = networkCheckFuture;
+        if (future != null) {
+            future.cancel(false);
+            networkCheckFuture = null;
+        }
     }
 
     // 메시지 수신 지연 (네트워크 연결 끊김 처리)
@@ -707,12 +781,8 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
             myEngine.stopAutoDrop();
             myEngine = null;
         }
-        if (timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
-        if (networkCheckExecutor != null && !networkCheckExecutor.isShutdown()) {
-            networkCheckExecutor.shutdownNow();
-        }
+        stopTimer();
+        stopNetworkStabilityCheck();
         paused = false;
         gameScene = null;
 
@@ -784,6 +854,12 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         }
     }
 
+    @Override
+    public void onGameStart(long seed) {
+        gameSeed = seed;
+        onGameStart();
+    }
+
     @Override
     public void onGameStart() {
         // 서버에서 GAME_START 방송 → 클라이언트/호스트 모두 여기로 옴
@@ -836,8 +912,15 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
     }
 
     @Override
-    public void onBoardUpdate(BoardUpdateMessage boardUpdate) {
-        if (gameScene == null) {
+    public void onBoardUpdate(BoardUpdateMessage message) {
+        if (gameScene == null || message == null) {
+            return;
+        }
+
+        // 델타/블록 이동 메시지를 누적해 전체 상태로 복원 (기준 프레임이 없으면 키프레임까지 대기)
+        BoardUpdateMessage boardUpdate = boardDecoder.decode(message);
+        if (boardUpdate == null) {
+            updateLastMessageTime();
             return;
         }
 
@@ -980,9 +1063,9 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
 
         if (isGravityOrSplitClear) {
             // 중력/스플릿 블록: 각 줄마다 랜덤한 한 칸을 빈 공간으로
-            java.util.Random random = new java.util.Random();
+            // 공격한 쪽 엔진의 시드 기반 난수를 사용해 재현 가능하게 유지
             for (int r = 0; r < lines; r++) {
-                int randomCol = random.nextInt(width); // 0 ~ width-1 랜덤 선택
+                int randomCol = engine.nextRandomInt(width); // 0 ~ width-1 랜덤 선택
                 pattern[r][randomCol] = 0; // 빈 공간
             }
         } else {
@@ -1205,9 +1288,8 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
         if (myEngine != null) {
             myEngine.stopAutoDrop();
         }
-        if (timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
+        stopTimer();
+        stopNetworkStabilityCheck();
 
         if (isHost) {
             if (server != null && server.isRunning()) {
@@ -1232,9 +1314,7 @@ public class NetworkGameController implements ClientMessageListener, ServerMessa
             myEngine = null;
         }
 
-        if (timerExecutor != null && !timerExecutor.isShutdown()) {
-            timerExecutor.shutdownNow();
-        }
+        stopTimer();
 
         gameScene = null;
 
@@ -4,6 +4,8 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.geometry.Pos;
@@ -17,6 +19,8 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import team13.tetris.SceneManager;
 import team13.tetris.config.Settings;
+import team13.tetris.game.GameScheduler;
+import team13.tetris.game.ai.BotPlayer;
 import team13.tetris.game.logic.GameEngine;
 import team13.tetris.game.model.Board;
 import team13.tetris.game.model.Tetromino;
@@ -42,6 +46,9 @@ public class VersusGameController {
     private static final long INPUT_DELAY_MS = 50; // 50ms (반복 간격)
     private static final long INITIAL_DELAY_MS = 500; // 500ms (첫 반복까지 지연)
 
+    // Player 2를 CPU가 조작할 때의 봇 (null이면 키보드 입력)
+    private BotPlayer player2Bot;
+
     private final Player1Listener player1Listener;
     private final Player2Listener player2Listener;
 
@@ -60,7 +67,8 @@ public class VersusGameController {
     // 타이머 모드 변수
     private final boolean timerMode;
     private final boolean itemMode;
-    private java.util.concurrent.ScheduledExecutorService timerExecutor;
+    private final GameScheduler.Handle scheduledTasks = GameScheduler.shared().newHandle();
+    private volatile ScheduledFuture<?> timerFuture;
     private int remainingSeconds = 120; // 2분 = 120초
 
     public VersusGameController(
@@ -89,6 +97,13 @@ public class VersusGameController {
         if (timerMode) startTimer();
     }
 
+    // Player 2의 키 입력을 봇으로 대체 (입력 타이머마다 한 번씩 조작)
+    public void setPlayer2Bot(BotPlayer bot) {
+        this.player2Bot = bot;
+        player2PressedKeys.clear();
+        player2KeyPressTime.clear();
+    }
+
     private void pause() {
         if (!paused && !gameOver1 && !gameOver2) {
             paused = true;
@@ -101,8 +116,7 @@ public class VersusGameController {
             engine2.stopAutoDrop();
 
             // 타이머 모드인 경우 타이머 일시정지
-            if (timerMode && timerExecutor != null && !timerExecutor.isShutdown())
-                timerExecutor.shutdown();
+            if (timerMode) stopTimer();
 
             showPauseWindow();
         }
@@ -263,7 +277,9 @@ public class VersusGameController {
         }
 
         // Player 2 입력 처리
-        if (!gameOver2) {
+        if (!gameOver2 && player2Bot != null) {
+            player2Bot.step();
+        } else if (!gameOver2) {
             // Player 2 키들을 KeyCode로 변환하여 확인
             try {
                 KeyCode leftKey2 = KeyCode.valueOf(settings.getKeyLeftP2());
@@ -314,22 +330,32 @@ public class VersusGameController {
         return true;
     }
 
+    // 타이머 모드 시계는 공유 게임 스케줄러에서 1초마다 실행
     private void startTimer() {
-        timerExecutor = java.util.concurrent.Executors.newSingleThreadScheduledExecutor();
-        timerExecutor.scheduleAtFixedRate(
-                () -> {
-                    remainingSeconds--;
-                    gameScene.updateTimer(remainingSeconds);
+        stopTimer();
+        timerFuture =
+                scheduledTasks.scheduleAtFixedRate(
+                        () -> {
+                            remainingSeconds--;
+                            gameScene.updateTimer(remainingSeconds);
+
+                            if (remainingSeconds <= 0) {
+                                // 시간 종료 - 점수가 높은 사람이 승리
+                                stopTimer();
+                                checkTimeUp();
+                            }
+                        },
+                        1,
+                        1,
+                        TimeUnit.SECONDS);
+    }
 
-                    if (remainingSeconds <= 0) {
-                        // 시간 종료 - 점수가 높은 사람이 승리
-                        timerExecutor.shutdown();
-                        checkTimeUp();
-                    }
-                },
-                1,
-                1,
-                java.util.concurrent.TimeUnit.SECONDS);
+    private void stopTimer() {
+        ScheduledFuture<?> future = timerFuture;
+        if (future != null) {
+            future.cancel(false);
+            timerFuture = null;
+        }
     }
 
     private void checkTimeUp() {
@@ -410,12 +436,13 @@ public class VersusGameController {
             }
         }
 
-        // Player 2 keys
-        if (keyString.equals(settings.getKeyLeftP2())
-                || keyString.equals(settings.getKeyRightP2())
-                || keyString.equals(settings.getKeyDownP2())
-                || keyString.equals(settings.getKeyRotateP2())
-                || keyString.equals(settings.getKeyDropP2())) {
+        // Player 2 keys (CPU가 조작 중이면 무시)
+        if (player2Bot == null
+                && (keyString.equals(settings.getKeyLeftP2())
+                        || keyString.equals(settings.getKeyRightP2())
+                        || keyString.equals(settings.getKeyDownP2())
+                        || keyString.equals(settings.getKeyRotateP2())
+                        || keyString.equals(settings.getKeyDropP2()))) {
 
             // 첫 입력인 경우 즉시 처리하고 시간 기록
             if (!player2PressedKeys.contains(code)) {
@@ -579,9 +606,9 @@ public class VersusGameController {
 
         if (isGravityOrSplitClear) {
             // 중력/스플릿 블록: 각 줄마다 랜덤한 한 칸을 빈 공간으로
-            java.util.Random random = new java.util.Random();
+            // 공격한 쪽 엔진의 시드 기반 난수를 사용해 재현 가능하게 유지
             for (int r = 0; r < lines; r++) {
-                int randomCol = random.nextInt(width); // 0 ~ width-1 랜덤 선택
+                int randomCol = engine.nextRandomInt(width); // 0 ~ width-1 랜덤 선택
                 pattern[r][randomCol] = 0; // 빈 공간
             }
         } else {
@@ -694,8 +721,7 @@ public class VersusGameController {
 
     private void checkWinner() {
         // 타이머가 있으면 정지
-        if (timerMode && timerExecutor != null && !timerExecutor.isShutdown())
-            timerExecutor.shutdown();
+        if (timerMode) stopTimer();
 
         if (gameOver1 && !gameOver2) {
             // Player 2 승리
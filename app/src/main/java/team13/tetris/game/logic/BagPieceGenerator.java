@@ -0,0 +1,46 @@
+package team13.tetris.game.logic;
+
+import java.util.SplittableRandom;
+import team13.tetris.game.model.Tetromino;
+
+// 7-bag 생성기: 일곱 종류를 한 봉지에 넣고 섞어서 하나씩 꺼내며, 봉지가 비면 다시 섞습니다.
+// 같은 조각이 너무 오래 나오지 않거나 연달아 몰리는 일이 없습니다.
+// 난이도 가중치는 적용되지 않습니다.
+public class BagPieceGenerator implements PieceGenerator {
+    private final long seed;
+    private final SplittableRandom pieces;
+    private final SplittableRandom extras;
+    private final Tetromino.Kind[] bag = WeightedPieceGenerator.KINDS.clone();
+    private int index = bag.length; // 처음 호출 시 섞도록 빈 봉지로 시작
+
+    public BagPieceGenerator(long seed) {
+        this.seed = seed;
+        this.pieces = new SplittableRandom(seed);
+        this.extras = pieces.split();
+    }
+
+    @Override
+    public Tetromino.Kind nextKind() {
+        if (index == bag.length) {
+            // Fisher-Yates 셔플
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = pieces.nextInt(i + 1);
+                Tetromino.Kind tmp = bag[i];
+                bag[i] = bag[j];
+                bag[j] = tmp;
+            }
+            index = 0;
+        }
+        return bag[index++];
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return extras.nextInt(bound);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,21 @@
+package team13.tetris.game.logic;
+
+import team13.tetris.game.model.Tetromino;
+
+// 조각 순서를 만드는 시드 기반 생성기입니다.
+// 같은 시드로 만든 생성기는 항상 같은 조각 순서를 내므로
+// 리플레이나 네트워크 양쪽이 같은 순서를 공유할 때 사용합니다.
+// 조각 순서와 그 외 난수(아이템 선택, 공격 줄 구멍 등)는 서로 다른 스트림을 쓰기 때문에
+// 부가 난수를 몇 번 뽑든 조각 순서는 바뀌지 않습니다.
+// 한 게임 코어 안에서만 쓰도록 만든 것이라 스레드 안전하지 않습니다.
+public interface PieceGenerator {
+
+    // 다음 조각 종류 (I, O, T, S, Z, J, L 중 하나)
+    Tetromino.Kind nextKind();
+
+    // 조각 순서와 독립된 부가 난수 [0, bound)
+    int nextInt(int bound);
+
+    // 생성기를 만든 시드
+    long getSeed();
+}
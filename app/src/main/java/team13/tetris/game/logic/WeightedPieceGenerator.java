@@ -0,0 +1,65 @@
+package team13.tetris.game.logic;
+
+import java.util.SplittableRandom;
+import team13.tetris.game.model.Tetromino;
+
+// Roulette Wheel Selection으로 가중치에 비례해 조각을 뽑는 생성기입니다.
+// 가중치 배열 순서는 [I, O, T, S, Z, J, L]이며 누적합은 생성 시 한 번만 계산합니다.
+// SplittableRandom은 락이나 CAS 없이 동작하므로 java.util.Random보다 가볍습니다.
+public class WeightedPieceGenerator implements PieceGenerator {
+    static final Tetromino.Kind[] KINDS = {
+        Tetromino.Kind.I,
+        Tetromino.Kind.O,
+        Tetromino.Kind.T,
+        Tetromino.Kind.S,
+        Tetromino.Kind.Z,
+        Tetromino.Kind.J,
+        Tetromino.Kind.L
+    };
+
+    private final long seed;
+    private final SplittableRandom pieces;
+    private final SplittableRandom extras;
+    private final int[] cumulative;
+    private final int totalWeight;
+
+    public WeightedPieceGenerator(int[] weights, long seed) {
+        if (weights.length != KINDS.length) {
+            throw new IllegalArgumentException("weights must have " + KINDS.length + " entries");
+        }
+        this.seed = seed;
+        this.pieces = new SplittableRandom(seed);
+        this.extras = pieces.split();
+        this.cumulative = new int[weights.length];
+
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("negative weight: " + weights[i]);
+            }
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        if (sum <= 0) throw new IllegalArgumentException("total weight must be positive");
+        this.totalWeight = sum;
+    }
+
+    @Override
+    public Tetromino.Kind nextKind() {
+        int randomValue = pieces.nextInt(totalWeight);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (randomValue < cumulative[i]) return KINDS[i];
+        }
+        return KINDS[0]; // 도달하지 않음
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return extras.nextInt(bound);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
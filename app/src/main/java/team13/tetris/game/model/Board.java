@@ -1,16 +1,33 @@
 package team13.tetris.game.model;
 
+// 비트보드 기반 보드
+// - rows[y]: y행의 점유 비트마스크 (x번째 비트 = x열이 비어있지 않음)
+// - cells[y][x]: 색상/아이템 값 평면 (0 = 빈 칸, -1 = 플래시 마커, 100~599 = 아이템 블록)
+// fits와 가득 찬 줄 검사는 rows만 보고 처리하므로 셀 단위 순회가 필요 없음
+// - hash: 셀 값의 64비트 Zobrist 해시 (빈 칸이 아닌 (x, y, 값)마다 고정 키를 XOR)
+//   셀을 쓸 때마다 바뀐 칸만 갱신하므로 snapshot() 전체를 해싱하지 않아도 됨
+//   (네트워크 재동기화 확인, 봇 캐시, 리플레이 검증용 지문)
 public class Board {
+    // long 비트마스크 한 개로 표현 가능한 최대 너비
+    public static final int MAX_WIDTH = Long.SIZE;
+    private static final long HASH_SEED = 0x7E72_15B0_A4D1_3A5EL;
+
     private final int width;
     private final int height;
     private final int[][] cells;
+    private final long[] rows;
+    private final long fullRowMask;
+    private long hash = 0L; // 빈 보드는 0
     private final Object lock = new Object();
 
     public Board(int width, int height) {
         if (width <= 0 || height <= 0) throw new IllegalArgumentException("Invalid board size");
+        if (width > MAX_WIDTH) throw new IllegalArgumentException("Board too wide: " + width);
         this.width = width;
         this.height = height;
         this.cells = new int[height][width];
+        this.rows = new long[height];
+        this.fullRowMask = (width == MAX_WIDTH) ? -1L : (1L << width) - 1;
     }
 
     public int getWidth() {
@@ -31,92 +48,164 @@ public class Board {
     public boolean isOccupied(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) return true;
         synchronized (lock) {
-            return cells[y][x] != 0;
+            return (rows[y] & (1L << x)) != 0;
         }
     }
 
     public void setCell(int x, int y, int value) {
         if (x < 0 || x >= width || y < 0 || y >= height) return;
         synchronized (lock) {
-            cells[y][x] = value;
+            writeCell(x, y, value);
+        }
+    }
+
+    // y행의 점유 비트마스크 (x번째 비트 = x열), 범위를 벗어나면 꽉 찬 행으로 간주
+    public long getRowMask(int y) {
+        if (y < 0 || y >= height) return fullRowMask;
+        synchronized (lock) {
+            return rows[y];
+        }
+    }
+
+    // 모든 열이 채워진 행의 비트마스크
+    public long getFullRowMask() {
+        return fullRowMask;
+    }
+
+    // 현재 셀 값의 Zobrist 해시 (셀 값이 같은 보드끼리는 항상 같음, computeHash와 같은 값)
+    public long getHash() {
+        synchronized (lock) {
+            return hash;
+        }
+    }
+
+    // cells[y][x] 값 배열(snapshot() 형식)의 해시를 처음부터 계산 (받은 보드와 비교할 때)
+    public static long computeHash(int[][] cells) {
+        long h = 0L;
+        for (int y = 0; y < cells.length; y++) h ^= rowHash(cells[y], y);
+        return h;
+    }
+
+    // (x, y)에 value가 있을 때의 키, 빈 칸은 0 (SplitMix64 마무리 함수로 섞음)
+    private static long cellKey(int x, int y, int value) {
+        if (value == 0) return 0L;
+        long z = HASH_SEED + (((long) y * MAX_WIDTH + x) << 32) + (value & 0xFFFF_FFFFL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // row가 y행에 있을 때 빈 칸이 아닌 셀 키의 XOR
+    private static long rowHash(int[] row, int y) {
+        long h = 0L;
+        for (int x = 0; x < row.length; x++) h ^= cellKey(x, y, row[x]);
+        return h;
+    }
+
+    // 락을 잡은 상태에서 점유 비트로 채워진 칸만 돌며 전체 해시를 계산
+    private long occupiedHash() {
+        long h = 0L;
+        for (int y = 0; y < height; y++) {
+            long bits = rows[y];
+            while (bits != 0L) {
+                int x = Long.numberOfTrailingZeros(bits);
+                h ^= cellKey(x, y, cells[y][x]);
+                bits &= bits - 1;
+            }
         }
+        return h;
     }
 
     public void clear() {
         synchronized (lock) {
             for (int r = 0; r < height; r++) {
-                for (int c = 0; c < width; c++) {
-                    cells[r][c] = 0;
-                }
+                java.util.Arrays.fill(cells[r], 0);
+                rows[r] = 0L;
             }
+            hash = 0L;
         }
     }
 
+    // 락을 잡은 상태에서 셀 값과 점유 비트, 해시를 함께 갱신
+    private void writeCell(int x, int y, int value) {
+        int old = cells[y][x];
+        if (old == value) return;
+        hash ^= cellKey(x, y, old) ^ cellKey(x, y, value);
+        cells[y][x] = value;
+        if (value != 0) rows[y] |= 1L << x;
+        else rows[y] &= ~(1L << x);
+    }
+
     public void placePiece(int[][] shape, int px, int py, int value) {
+        placePiece(Tetromino.ShapeView.of(shape), px, py, value);
+    }
+
+    public void placePiece(Tetromino.ShapeView view, int px, int py, int value) {
         synchronized (lock) {
-            for (int r = 0; r < shape.length; r++) {
-                for (int c = 0; c < shape[r].length; c++) {
-                    if (shape[r][c] != 0) {
-                        int x = px + c;
-                        int y = py + r;
-                        if (x >= 0 && x < width && y >= 0 && y < height) cells[y][x] = value;
-                    }
-                }
+            for (int i = 0; i < view.getCellCount(); i++) {
+                int x = px + view.getCellCol(i);
+                int y = py + view.getCellRow(i);
+                if (x >= 0 && x < width && y >= 0 && y < height) writeCell(x, y, value);
             }
         }
     }
 
     public void placeItemPiece(
             int[][] shape, int px, int py, int value, int itemBlockIndex, String itemType) {
+        placeItemPiece(Tetromino.ShapeView.of(shape), px, py, value, itemBlockIndex, itemType);
+    }
+
+    // 블록 셀은 행 우선 순서로 순회하므로 blockCount는 Tetromino의 아이템 blockIndex와 일치함
+    public void placeItemPiece(
+            Tetromino.ShapeView view,
+            int px,
+            int py,
+            int value,
+            int itemBlockIndex,
+            String itemType) {
         synchronized (lock) {
-            int blockCount = 0;
-            for (int r = 0; r < shape.length; r++) {
-                for (int c = 0; c < shape[r].length; c++) {
-                    if (shape[r][c] != 0) {
-                        int x = px + c;
-                        int y = py + r;
-                        if (x >= 0 && x < width && y >= 0 && y < height) {
-                            int itemValue;
-                            // COPY와 LINE_CLEAR는 특정 블록만 아이템 블록으로 설정
-                            if ((itemType.equals("COPY") || itemType.equals("LINE_CLEAR"))
-                                    && blockCount == itemBlockIndex) {
-                                switch (itemType) {
-                                    case "COPY":
-                                        itemValue = 100 + value; // COPY: 100번대
-                                        break;
-                                    case "LINE_CLEAR":
-                                        itemValue = 200 + value; // LINE_CLEAR: 200번대
-                                        break;
-                                    default:
-                                        itemValue = 100 + value; // 기본값
-                                        break;
-                                }
-                            } else if (itemType.equals("WEIGHT")
-                                    || itemType.equals("GRAVITY")
-                                    || itemType.equals("SPLIT")) {
-                                // WEIGHT, GRAVITY, SPLIT은 모든 블록이 아이템 블록
-                                switch (itemType) {
-                                    case "WEIGHT":
-                                        itemValue = 300 + value; // WEIGHT: 300번대
-                                        break;
-                                    case "GRAVITY":
-                                        itemValue = 400 + value; // GRAVITY: 400번대
-                                        break;
-                                    case "SPLIT":
-                                        itemValue = 500 + value; // SPLIT: 500번대
-                                        break;
-                                    default:
-                                        itemValue = value; // 기본값
-                                        break;
-                                }
-                            } else {
-                                // COPY/LINE_CLEAR의 일반 블록 또는 기타
-                                itemValue = value;
-                            }
-                            cells[y][x] = itemValue;
+            for (int blockCount = 0; blockCount < view.getCellCount(); blockCount++) {
+                int x = px + view.getCellCol(blockCount);
+                int y = py + view.getCellRow(blockCount);
+                if (x >= 0 && x < width && y >= 0 && y < height) {
+                    int itemValue;
+                    // COPY와 LINE_CLEAR는 특정 블록만 아이템 블록으로 설정
+                    if ((itemType.equals("COPY") || itemType.equals("LINE_CLEAR"))
+                            && blockCount == itemBlockIndex) {
+                        switch (itemType) {
+                            case "COPY":
+                                itemValue = 100 + value; // COPY: 100번대
+                                break;
+                            case "LINE_CLEAR":
+                                itemValue = 200 + value; // LINE_CLEAR: 200번대
+                                break;
+                            default:
+                                itemValue = 100 + value; // 기본값
+                                break;
                         }
-                        blockCount++;
+                    } else if (itemType.equals("WEIGHT")
+                            || itemType.equals("GRAVITY")
+                            || itemType.equals("SPLIT")) {
+                        // WEIGHT, GRAVITY, SPLIT은 모든 블록이 아이템 블록
+                        switch (itemType) {
+                            case "WEIGHT":
+                                itemValue = 300 + value; // WEIGHT: 300번대
+                                break;
+                            case "GRAVITY":
+                                itemValue = 400 + value; // GRAVITY: 400번대
+                                break;
+                            case "SPLIT":
+                                itemValue = 500 + value; // SPLIT: 500번대
+                                break;
+                            default:
+                                itemValue = value; // 기본값
+                                break;
+                        }
+                    } else {
+                        // COPY/LINE_CLEAR의 일반 블록 또는 기타
+                        itemValue = value;
                     }
+                    writeCell(x, y, itemValue);
                 }
             }
         }
@@ -130,32 +219,63 @@ public class Board {
     public boolean fits(int[][] shape, int px, int py) {
         synchronized (lock) {
             for (int r = 0; r < shape.length; r++) {
+                long pieceRow = 0L;
                 for (int c = 0; c < shape[r].length; c++) {
                     if (shape[r][c] != 0) {
-                        int x = px + c;
-                        int y = py + r;
-                        if (x < 0 || x >= width || y < 0 || y >= height) return false;
-                        if (cells[y][x] != 0) return false;
+                        // 64열을 넘는 블록은 어떤 보드에도 들어갈 수 없음
+                        if (c >= MAX_WIDTH) return false;
+                        pieceRow |= 1L << c;
                     }
                 }
+                if (!rowFits(pieceRow, px, py + r)) return false;
+            }
+            return true;
+        }
+    }
+
+    // 미리 계산된 행 비트마스크(pieceRows[r]의 c번째 비트 = shape[r][c])로 배치 가능 여부 검사
+    // 행마다 시프트 한 번과 AND 한 번으로 충돌을 판정함
+    public boolean fits(long[] pieceRows, int px, int py) {
+        synchronized (lock) {
+            for (int r = 0; r < pieceRows.length; r++) {
+                if (!rowFits(pieceRows[r], px, py + r)) return false;
             }
             return true;
         }
     }
 
+    // 미리 계산된 모양 뷰로 배치 가능 여부 검사 (Tetromino.getShapeView())
+    public boolean fits(Tetromino.ShapeView view, int px, int py) {
+        if (view.oversized) return false;
+        return fits(view.rowMasks, px, py);
+    }
+
+    // 블록 한 행(pieceRow)을 x 오프셋 px로 옮겨 y행에 놓을 수 있는지 검사
+    private boolean rowFits(long pieceRow, int px, int y) {
+        if (pieceRow == 0L) return true;
+        if (y < 0 || y >= height) return false;
+
+        long shifted;
+        if (px >= 0) {
+            if (px >= MAX_WIDTH) return false;
+            shifted = pieceRow << px;
+            if ((shifted >>> px) != pieceRow) return false; // 64번째 비트 밖으로 밀려남
+        } else {
+            int n = -px;
+            if (n >= MAX_WIDTH) return false;
+            if ((pieceRow & ((1L << n) - 1)) != 0) return false; // 왼쪽 벽 밖
+            shifted = pieceRow >>> n;
+        }
+        if ((shifted & ~fullRowMask) != 0) return false; // 오른쪽 벽 밖
+        return (shifted & rows[y]) == 0;
+    }
+
     // 현재 보드에서 가득 찬 모든 행의 인덱스를 찾아 반환
     public java.util.List<Integer> getFullLineIndices() {
         synchronized (lock) {
             java.util.List<Integer> fullLines = new java.util.ArrayList<>();
             for (int r = height - 1; r >= 0; r--) {
-                boolean full = true;
-                for (int c = 0; c < width; c++) {
-                    if (cells[r][c] == 0) {
-                        full = false;
-                        break;
-                    }
-                }
-                if (full) fullLines.add(r);
+                if (rows[r] == fullRowMask) fullLines.add(r);
             }
             return fullLines;
         }
@@ -165,7 +285,10 @@ public class Board {
     public void fillLineWith(int row, int value) {
         synchronized (lock) {
             if (row < 0 || row >= height) return;
-            for (int c = 0; c < width; c++) cells[row][c] = value;
+            hash ^= rowHash(cells[row], row);
+            java.util.Arrays.fill(cells[row], value);
+            rows[row] = (value != 0) ? fullRowMask : 0L;
+            hash ^= rowHash(cells[row], row);
         }
     }
 
@@ -186,48 +309,33 @@ public class Board {
             int cleared = 0;
 
             for (int r = height - 1; r >= 0; r--) {
-                boolean full = true;
-                boolean hasItemBlock = false;
-
-                // 범위 체크
-                if (r < 0 || r >= height) continue;
-
-                // 행을 먼저 복사해서 안전하게 처리
-                int[] currentRow = new int[width];
-                try {
-                    System.arraycopy(cells[r], 0, currentRow, 0, width);
-                } catch (Exception e) {
-                    continue;
-                }
+                if (rows[r] != fullRowMask) continue;
 
+                // 아이템 블록 감지 (100-599: COPY, LINE_CLEAR, WEIGHT, GRAVITY, SPLIT)
+                boolean hasItemBlock = false;
                 for (int c = 0; c < width; c++) {
-                    if (c < 0 || c >= width) continue;
-
-                    if (currentRow[c] == 0) {
-                        full = false;
+                    if (cells[r][c] >= 100 && cells[r][c] < 600) {
+                        hasItemBlock = true;
                         break;
                     }
-                    // 아이템 블록 감지 (100-599: COPY, LINE_CLEAR, WEIGHT, GRAVITY, SPLIT)
-                    if (currentRow[c] >= 100 && currentRow[c] < 600) hasItemBlock = true;
                 }
 
-                if (full) {
-                    // 아이템 블록이 있으면 콜백 호출
-                    if (hasItemBlock && itemCallback != null) itemCallback.run();
+                // 아이템 블록이 있으면 콜백 호출
+                if (hasItemBlock && itemCallback != null) itemCallback.run();
 
-                    // shift everything above down
-                    for (int rr = r; rr > 0; rr--) {
-                        if (rr - 1 >= 0 && rr < height) {
-                            for (int c = 0; c < width; c++) cells[rr][c] = cells[rr - 1][c];
-                        }
-                    }
-                    // clear top row
-                    for (int c = 0; c < width; c++) cells[0][c] = 0;
+                // shift everything above down (행 배열 참조만 회전시키고 제거된 행은 맨 위에서 재사용)
+                int[] removed = cells[r];
+                System.arraycopy(cells, 0, cells, 1, r);
+                System.arraycopy(rows, 0, rows, 1, r);
+                java.util.Arrays.fill(removed, 0);
+                cells[0] = removed;
+                rows[0] = 0L;
 
-                    cleared++;
-                    r++; // recheck same row index as lines moved down
-                }
+                cleared++;
+                r++; // recheck same row index as lines moved down
             }
+            // 지운 행 위쪽은 모든 칸의 y가 바뀌므로 채워진 칸의 키를 한 번에 다시 계산
+            if (cleared > 0) hash = occupiedHash();
             return cleared;
         }
     }
@@ -256,15 +364,16 @@ public class Board {
     public void applyGravity() {
         synchronized (lock) {
             for (int col = 0; col < width; col++) {
+                long bit = 1L << col;
                 // 각 열에 대해 아래서부터 빈 공간을 찾아 블록을 떨어뜨림
                 int writePos = height - 1; // 쓰기 위치 (아래서부터)
 
                 for (int row = height - 1; row >= 0; row--) {
-                    if (cells[row][col] != 0) {
+                    if ((rows[row] & bit) != 0) {
                         // 블록이 있으면 writePos로 이동
                         if (row != writePos) {
-                            cells[writePos][col] = cells[row][col];
-                            cells[row][col] = 0;
+                            writeCell(col, writePos, cells[row][col]);
+                            writeCell(col, row, 0);
                         }
                         writePos--;
                     }
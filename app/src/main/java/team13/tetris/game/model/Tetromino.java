@@ -138,12 +138,15 @@ public class Tetromino {
                 "tetris-split-text");
 
         private final int[][][] rotations;
+        private final ShapeView[] views; // 회전별로 한 번만 계산해 두는 읽기 전용 뷰
         private final int id;
         private final String blockStyleClass; // 도형/영역용 CSS 클래스명
         private final String textStyleClass; // 텍스트(Label 등)용 CSS 클래스명
 
         Kind(int[][][] rotations, int id, String blockStyleClass, String textStyleClass) {
             this.rotations = rotations;
+            this.views = new ShapeView[rotations.length];
+            for (int i = 0; i < rotations.length; i++) views[i] = ShapeView.of(rotations[i]);
             this.id = id;
             this.blockStyleClass = blockStyleClass;
             this.textStyleClass = textStyleClass;
@@ -153,6 +156,11 @@ public class Tetromino {
             return rotations[idx % rotations.length];
         }
 
+        // 회전 인덱스에 해당하는 미리 계산된 모양 뷰 (복사 없음)
+        public ShapeView getView(int idx) {
+            return views[idx % views.length];
+        }
+
         public int getId() {
             return id;
         }
@@ -166,9 +174,120 @@ public class Tetromino {
         }
     }
 
+    // 모양 행렬의 읽기 전용 뷰
+    // 블록 셀 좌표 목록(행 우선 순서 = 아이템 blockIndex 순서), 바운딩 박스, 행별 비트마스크를
+    // 생성 시 한 번만 계산하므로 fits/렌더링 루프에서 int[][] 복사가 일어나지 않음
+    public static final class ShapeView {
+        private final int rows; // 모양 행렬의 행 수 (getHeight)
+        private final int cols; // 모양 행렬의 열 수 (getWidth)
+        private final int[] cellRows;
+        private final int[] cellCols;
+        final long[] rowMasks; // rowMasks[r]의 c번째 비트 = shape[r][c] (Board.fits용)
+        final boolean oversized; // 64열을 넘는 블록이 있어 비트마스크로 표현 불가
+        private final int minRow, maxRow, minCol, maxCol;
+
+        private ShapeView(int[][] shape) {
+            this.rows = shape.length;
+            this.cols = (shape.length > 0) ? shape[0].length : 0;
+            this.rowMasks = new long[shape.length];
+
+            int count = 0;
+            for (int[] row : shape) for (int v : row) if (v != 0) count++;
+            this.cellRows = new int[count];
+            this.cellCols = new int[count];
+
+            int idx = 0;
+            int mnR = Integer.MAX_VALUE, mxR = -1, mnC = Integer.MAX_VALUE, mxC = -1;
+            boolean tooWide = false;
+            for (int r = 0; r < shape.length; r++) {
+                for (int c = 0; c < shape[r].length; c++) {
+                    if (shape[r][c] == 0) continue;
+                    cellRows[idx] = r;
+                    cellCols[idx] = c;
+                    idx++;
+                    if (c < Long.SIZE) rowMasks[r] |= 1L << c;
+                    else tooWide = true;
+                    mnR = Math.min(mnR, r);
+                    mxR = Math.max(mxR, r);
+                    mnC = Math.min(mnC, c);
+                    mxC = Math.max(mxC, c);
+                }
+            }
+            this.oversized = tooWide;
+            // 블록이 하나도 없으면 바운딩 박스는 비어 있음 (min > max)
+            this.minRow = (count > 0) ? mnR : 0;
+            this.maxRow = mxR;
+            this.minCol = (count > 0) ? mnC : 0;
+            this.maxCol = mxC;
+        }
+
+        static ShapeView of(int[][] shape) {
+            return new ShapeView(shape);
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getCols() {
+            return cols;
+        }
+
+        // 블록 셀 개수
+        public int getCellCount() {
+            return cellRows.length;
+        }
+
+        // i번째 블록 셀의 행 오프셋 (행 우선 순서)
+        public int getCellRow(int i) {
+            return cellRows[i];
+        }
+
+        // i번째 블록 셀의 열 오프셋 (행 우선 순서)
+        public int getCellCol(int i) {
+            return cellCols[i];
+        }
+
+        public boolean isFilled(int r, int c) {
+            if (r < 0 || r >= rows || c < 0 || c >= Long.SIZE) return false;
+            return (rowMasks[r] & (1L << c)) != 0;
+        }
+
+        // r행의 비트마스크 (c번째 비트 = c열에 블록 있음)
+        public long getRowMask(int r) {
+            return (r >= 0 && r < rows) ? rowMasks[r] : 0L;
+        }
+
+        public int getMinRow() {
+            return minRow;
+        }
+
+        public int getMaxRow() {
+            return maxRow;
+        }
+
+        public int getMinCol() {
+            return minCol;
+        }
+
+        public int getMaxCol() {
+            return maxCol;
+        }
+
+        // 실제 블록이 차지하는 높이/너비 (미리보기 중앙 정렬용)
+        public int getBoxHeight() {
+            return maxRow - minRow + 1;
+        }
+
+        public int getBoxWidth() {
+            return maxCol - minCol + 1;
+        }
+    }
+
     private final Kind kind; // raw shape로 생성되면 null
     private final int rotation; // kind != null일 때의 회전 인덱스 (0~3)
     private final int[][] shape; // raw shape용 저장소
+    private final ShapeView view; // 현재 회전 상태의 모양 뷰
     private final int id; // 고유 id (1~7)
 
     // 아이템 관련 필드
@@ -201,6 +320,7 @@ public class Tetromino {
         this.kind = kind;
         this.rotation = rotation % 4;
         this.shape = null;
+        this.view = kind.getView(this.rotation);
         this.id = kind.getId();
         this.isItemPiece = isItemPiece;
         this.itemType = itemType;
@@ -286,6 +406,7 @@ public class Tetromino {
         this.shape = new int[shape.length][];
         for (int i = 0; i < shape.length; i++)
             this.shape[i] = Arrays.copyOf(shape[i], shape[i].length);
+        this.view = ShapeView.of(this.shape);
 
         // 아이템 관련은 전부 미사용
         this.isItemPiece = false;
@@ -345,12 +466,17 @@ public class Tetromino {
         return copy;
     }
 
+    // 복사 없이 현재 모양을 읽기 위한 뷰 (게임 루프/렌더링에서는 getShape() 대신 사용)
+    public ShapeView getShapeView() {
+        return view;
+    }
+
     public int getHeight() {
-        return getShape().length;
+        return view.getRows();
     }
 
     public int getWidth() {
-        return getShape()[0].length;
+        return view.getCols();
     }
 
     public Tetromino rotateClockwise() {
@@ -547,15 +673,10 @@ public class Tetromino {
     // 현재 미노의 블록 위치들을 반환 (아이템 효과 처리용)
     // return 값: 블록이 있는 위치들의 배열 [행, 열]
     public int[][] getBlockPositions() {
-        int[][] currentShape = getShape();
-        java.util.List<int[]> positions = new java.util.ArrayList<>();
-
-        for (int r = 0; r < currentShape.length; r++) {
-            for (int c = 0; c < currentShape[r].length; c++) {
-                if (currentShape[r][c] != 0) positions.add(new int[] {r, c});
-            }
+        int[][] positions = new int[view.getCellCount()][];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new int[] {view.getCellRow(i), view.getCellCol(i)};
         }
-
-        return positions.toArray(new int[positions.size()][]);
+        return positions;
     }
 }
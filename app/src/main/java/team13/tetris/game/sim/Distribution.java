@@ -0,0 +1,98 @@
+package team13.tetris.game.sim;
+
+import java.util.Arrays;
+
+// 0 이상 정수 값의 고정 폭 히스토그램 (합계, 최소, 최대는 정확하게 유지)
+// 게임 결과를 모두 저장하지 않고도 분위수를 낼 수 있고, 병렬 작업의 부분 결과를 merge로 합칠 수 있음
+// 분위수는 해당 구간의 아래 경계값이므로 오차는 구간 폭 이하
+public final class Distribution {
+    private final long bucketWidth;
+    private long[] counts = new long[16];
+    private long count = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public Distribution(long bucketWidth) {
+        if (bucketWidth <= 0) throw new IllegalArgumentException("bucketWidth must be > 0");
+        this.bucketWidth = bucketWidth;
+    }
+
+    public void add(long value) {
+        if (value < 0) throw new IllegalArgumentException("negative value: " + value);
+        int bucket = (int) Math.min(value / bucketWidth, Integer.MAX_VALUE - 8);
+        ensureBuckets(bucket + 1);
+        counts[bucket]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(Distribution other) {
+        if (other.bucketWidth != bucketWidth) {
+            throw new IllegalArgumentException("bucket width mismatch");
+        }
+        ensureBuckets(other.counts.length);
+        for (int i = 0; i < other.counts.length; i++) counts[i] += other.counts[i];
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    private void ensureBuckets(int size) {
+        if (size > counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(size, counts.length * 2));
+        }
+    }
+
+    // q(0~1) 분위수: 값을 정렬했을 때 q 위치의 값이 들어 있는 구간의 아래 경계 (최소/최대로 제한)
+    public long percentile(double q) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(q * count);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.max(min, Math.min(max, i * bucketWidth));
+        }
+        return max;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    // 구간 개수 (마지막으로 값이 들어간 구간까지)
+    public int getBucketCount() {
+        int last = counts.length - 1;
+        while (last >= 0 && counts[last] == 0) last--;
+        return last + 1;
+    }
+
+    // i번째 구간 [i * bucketWidth, (i + 1) * bucketWidth)의 값 개수
+    public long getBucket(int i) {
+        return (i >= 0 && i < counts.length) ? counts[i] : 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+}
@@ -0,0 +1,22 @@
+package team13.tetris.game.sim;
+
+import team13.tetris.data.ScoreBoard;
+
+// 셀프 플레이 한 판의 결과
+// - survivalNanos: 게임 시간 (생각 시간 + 줄 삭제 플래시 포함)
+// - clears[n]: n줄을 한 번에 지운 횟수 (1~4, 5줄 이상은 4에 합산)
+// - garbageLines: 대전에서 상대 공격으로 올라온 줄 수 (혼자 하는 모드는 0)
+// - capped: 게임오버 없이 끝남 (조각 수 한도, 타이머 모드 시간 종료, 대전 상대가 먼저 게임오버)
+// VERSUS/TIMER는 2인 대전 한 판의 1P 기록
+public record GameResult(
+        ScoreBoard.ScoreEntry.Mode mode,
+        long seed,
+        long survivalNanos,
+        int score,
+        int lines,
+        int pieces,
+        int itemPieces,
+        int garbageLines,
+        int[] clears,
+        double speedFactor,
+        boolean capped) {}
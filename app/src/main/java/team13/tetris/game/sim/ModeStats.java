@@ -0,0 +1,95 @@
+package team13.tetris.game.sim;
+
+import team13.tetris.data.ScoreBoard;
+
+// 한 모드의 셀프 플레이 결과 집계 (병렬 작업마다 하나씩 만들고 merge로 합침)
+public final class ModeStats {
+    private final ScoreBoard.ScoreEntry.Mode mode;
+    private long games = 0;
+    private long capped = 0;
+    private long itemPieces = 0;
+    private final long[] clears = new long[5]; // clears[n]: n줄 동시 삭제 횟수
+    private final Distribution survivalMillis = new Distribution(1000);
+    private final Distribution score = new Distribution(100);
+    private final Distribution lines = new Distribution(1);
+    private final Distribution pieces = new Distribution(10);
+    private final Distribution garbageLines = new Distribution(1);
+    private final Distribution speedTenths = new Distribution(1); // 마지막 속도 배율 x10
+
+    public ModeStats(ScoreBoard.ScoreEntry.Mode mode) {
+        this.mode = mode;
+    }
+
+    public void add(GameResult result) {
+        games++;
+        if (result.capped()) capped++;
+        itemPieces += result.itemPieces();
+        for (int n = 1; n < clears.length; n++) clears[n] += result.clears()[n];
+        survivalMillis.add(result.survivalNanos() / 1_000_000);
+        score.add(Math.max(0, result.score()));
+        lines.add(result.lines());
+        pieces.add(result.pieces());
+        garbageLines.add(result.garbageLines());
+        speedTenths.add(Math.round(result.speedFactor() * 10));
+    }
+
+    public void merge(ModeStats other) {
+        if (other.mode != mode) throw new IllegalArgumentException("mode mismatch");
+        games += other.games;
+        capped += other.capped;
+        itemPieces += other.itemPieces;
+        for (int n = 1; n < clears.length; n++) clears[n] += other.clears[n];
+        survivalMillis.merge(other.survivalMillis);
+        score.merge(other.score);
+        lines.merge(other.lines);
+        pieces.merge(other.pieces);
+        garbageLines.merge(other.garbageLines);
+        speedTenths.merge(other.speedTenths);
+    }
+
+    public ScoreBoard.ScoreEntry.Mode getMode() {
+        return mode;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getCapped() {
+        return capped;
+    }
+
+    public long getItemPieces() {
+        return itemPieces;
+    }
+
+    // n(1~4)줄을 한 번에 지운 횟수
+    public long getClears(int n) {
+        return (n >= 1 && n < clears.length) ? clears[n] : 0;
+    }
+
+    public Distribution getSurvivalMillis() {
+        return survivalMillis;
+    }
+
+    public Distribution getScore() {
+        return score;
+    }
+
+    public Distribution getLines() {
+        return lines;
+    }
+
+    public Distribution getPieces() {
+        return pieces;
+    }
+
+    // 대전에서 받은 공격 줄 수
+    public Distribution getGarbageLines() {
+        return garbageLines;
+    }
+
+    public Distribution getSpeedTenths() {
+        return speedTenths;
+    }
+}
@@ -0,0 +1,4 @@
+package team13.tetris.game.sim;
+
+// 조각을 놓을 목표: 스폰 상태에서 시계 방향 회전 횟수(0~3)와 목표 x 위치
+public record Placement(int rotations, int x) {}
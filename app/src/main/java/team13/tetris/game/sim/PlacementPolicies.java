@@ -0,0 +1,108 @@
+package team13.tetris.game.sim;
+
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import team13.tetris.game.ai.BitBoard;
+import team13.tetris.game.ai.Bot;
+import team13.tetris.game.ai.Heuristic;
+import team13.tetris.game.ai.Move;
+import team13.tetris.game.logic.GameCore;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 기본 배치 정책 모음 (게임 시드 -> 정책 팩토리 형태)
+// - random: 회전과 x를 무작위로 고름 (가장 약한 기준선)
+// - greedy: 새 구멍을 가장 적게 만들고, 그다음으로 가장 낮게 떨어지는 위치를 고름
+// - bot: 대전 CPU와 같은 휴리스틱 봇 (시간 제한 없이 두 수까지 탐색해 시드마다 결과가 같음)
+public final class PlacementPolicies {
+    private PlacementPolicies() {}
+
+    public static LongFunction<PlacementPolicy> byName(String name) {
+        switch (name) {
+            case "random":
+                return PlacementPolicies::random;
+            case "greedy":
+                return seed -> greedy();
+            case "bot":
+                return seed -> bot(new Bot(Heuristic.DEFAULT, 0));
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+
+    public static PlacementPolicy random(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return core -> {
+            int width = core.getBoard().getWidth();
+            return new Placement(random.nextInt(4), random.nextInt(width + 2) - 2);
+        };
+    }
+
+    public static PlacementPolicy greedy() {
+        return PlacementPolicies::chooseGreedy;
+    }
+
+    public static PlacementPolicy bot(Bot bot) {
+        return core -> {
+            Move move =
+                    bot.choose(
+                            BitBoard.of(core.getBoard()),
+                            core.getCurrent(),
+                            core.getPieceX(),
+                            core.getPieceY(),
+                            core.getNext());
+            return (move != null)
+                    ? new Placement(move.rotations(), move.x())
+                    : new Placement(0, core.getPieceX());
+        };
+    }
+
+    private static Placement chooseGreedy(GameCore core) {
+        Board board = core.getBoard();
+        Tetromino piece = core.getCurrent();
+        int startY = core.getPieceY();
+        int maxRotations = piece.canRotate() ? 4 : 1;
+
+        Placement best = new Placement(0, core.getPieceX());
+        int bestHoles = Integer.MAX_VALUE;
+        int bestBottom = Integer.MIN_VALUE;
+        for (int r = 0; r < maxRotations; r++) {
+            Tetromino.ShapeView view = piece.getShapeView();
+            for (int x = -view.getMinCol(); x + view.getMaxCol() < board.getWidth(); x++) {
+                if (!board.fits(view, x, startY)) continue;
+                int y = startY;
+                while (board.fits(view, x, y + 1)) y++;
+
+                int holes = holesUnder(board, view, x, y);
+                int bottom = y + view.getMaxRow();
+                if (holes < bestHoles || (holes == bestHoles && bottom > bestBottom)) {
+                    bestHoles = holes;
+                    bestBottom = bottom;
+                    best = new Placement(r, x);
+                }
+            }
+            piece = piece.rotateClockwise();
+        }
+        return best;
+    }
+
+    // (x, y)에 놓았을 때 조각 바로 아래에 덮이는 빈 칸 수
+    private static int holesUnder(Board board, Tetromino.ShapeView view, int x, int y) {
+        int holes = 0;
+        for (int c = view.getMinCol(); c <= view.getMaxCol(); c++) {
+            int lowest = -1;
+            for (int r = view.getMaxRow(); r >= view.getMinRow(); r--) {
+                if (view.isFilled(r, c)) {
+                    lowest = r;
+                    break;
+                }
+            }
+            if (lowest < 0) continue;
+            for (int by = y + lowest + 1; by < board.getHeight(); by++) {
+                if (board.isOccupied(x + c, by)) break;
+                holes++;
+            }
+        }
+        return holes;
+    }
+}
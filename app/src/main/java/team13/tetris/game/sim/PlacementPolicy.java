@@ -0,0 +1,10 @@
+package team13.tetris.game.sim;
+
+import team13.tetris.game.logic.GameCore;
+
+// 셀프 플레이에서 현재 조각을 어디에 놓을지 정하는 정책
+// 게임 하나에 인스턴스 하나를 쓰므로 상태를 가져도 되지만, 코어를 직접 조작하면 안 됨
+@FunctionalInterface
+public interface PlacementPolicy {
+    Placement choose(GameCore core);
+}
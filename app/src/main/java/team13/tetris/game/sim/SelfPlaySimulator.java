@@ -0,0 +1,429 @@
+package team13.tetris.game.sim;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.logic.GameCore;
+import team13.tetris.game.logic.WeightedPieceGenerator;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 헤드리스 셀프 플레이 시뮬레이터 (난이도 가중치, 속도 곡선, 아이템 빈도 튜닝용)
+// GameCore를 가상 시간으로 진행하므로 JavaFX 없이 실제 시간보다 훨씬 빠르게 게임을 돌림
+// - 조각마다 정책이 목표 위치를 고르고, thinkNanos 동안 중력이 작용한 뒤 회전/이동/하드 드롭
+//   (속도가 빨라지면 생각하는 동안 조각이 더 내려오거나 그대로 고정되므로 속도 곡선이 결과에 반영됨)
+// - 줄 삭제 시 GameSceneController처럼 updateSpeedForLinesCleared로 속도를 올림
+// - VERSUS/TIMER는 실제 게임처럼 2인 대전으로 돌림 (공격 줄, 공유 속도, 타이머 모드 2분 제한)
+//   같은 정책끼리 겨룬 1P 기록을 모으므로 혼자 하는 모드와 직접 비교하는 값은 아님
+// - 게임들은 ForkJoinPool에서 나눠 돌리고, 게임 i의 시드는 (기준 시드, 모드, i)로만 정해지므로
+//   스레드 수와 관계없이 같은 결과가 나옴
+public final class SelfPlaySimulator {
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 20;
+    public static final int DEFAULT_MAX_PIECES = 5000;
+    // 사람이 조각 하나를 보고 놓기까지 걸리는 시간 근사
+    public static final long DEFAULT_THINK_NANOS = 300_000_000L;
+    // 타이머 모드 대전 시간 (VersusGameController와 같은 2분)
+    public static final long TIMER_LIMIT_NANOS = 120_000_000_000L;
+    private static final int BATCH_GAMES = 16; // 작업 하나가 직접 돌리는 게임 수
+
+    private final LongFunction<PlacementPolicy> policies;
+    private final int maxPieces;
+    private final long thinkNanos;
+    private final int[] weights; // null이면 모드 기본 가중치
+
+    public SelfPlaySimulator(LongFunction<PlacementPolicy> policies) {
+        this(policies, DEFAULT_MAX_PIECES, DEFAULT_THINK_NANOS, null);
+    }
+
+    // weights: [I, O, T, S, Z, J, L] 조각 가중치 (튜닝 후보), null이면 모드 기본값
+    public SelfPlaySimulator(
+            LongFunction<PlacementPolicy> policies, int maxPieces, long thinkNanos, int[] weights) {
+        if (maxPieces <= 0) throw new IllegalArgumentException("maxPieces must be > 0");
+        if (thinkNanos < 0) throw new IllegalArgumentException("thinkNanos must be >= 0");
+        this.policies = policies;
+        this.maxPieces = maxPieces;
+        this.thinkNanos = thinkNanos;
+        this.weights = (weights != null) ? weights.clone() : null;
+    }
+
+    // 모드마다 games판씩 돌림 (Mode 선언 순서대로 반환)
+    public List<ModeStats> runAll(int games, long seed, ForkJoinPool pool) {
+        List<ModeStats> results = new ArrayList<>();
+        for (ScoreBoard.ScoreEntry.Mode mode : ScoreBoard.ScoreEntry.Mode.values()) {
+            results.add(run(mode, games, seed, pool));
+        }
+        return results;
+    }
+
+    public ModeStats run(ScoreBoard.ScoreEntry.Mode mode, int games, long seed, ForkJoinPool pool) {
+        if (games < 0) throw new IllegalArgumentException("games must be >= 0");
+        return pool.invoke(new Batch(mode, seed, 0, games));
+    }
+
+    // 게임 구간 [from, to)를 반으로 나눠 돌리고 결과를 합침 (나누는 모양이 고정이라 합치는 순서도 고정)
+    private final class Batch extends RecursiveTask<ModeStats> {
+        private final ScoreBoard.ScoreEntry.Mode mode;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        Batch(ScoreBoard.ScoreEntry.Mode mode, long seed, int from, int to) {
+            this.mode = mode;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ModeStats compute() {
+            if (to - from <= BATCH_GAMES) {
+                ModeStats stats = new ModeStats(mode);
+                for (int i = from; i < to; i++) stats.add(playGame(mode, gameSeed(seed, mode, i)));
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(mode, seed, from, mid);
+            left.fork();
+            ModeStats right = new Batch(mode, seed, mid, to).compute();
+            ModeStats result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+
+    // (기준 시드, 모드, 게임 번호)를 섞어 게임 시드를 만듦
+    static long gameSeed(long seed, ScoreBoard.ScoreEntry.Mode mode, long index) {
+        return mix(seed + 0x9E3779B97F4A7C15L * (index * 8 + mode.ordinal() + 1));
+    }
+
+    // 대전 모드 2P의 시드 (1P 게임 시드에서만 정해짐)
+    static long opponentSeed(long seed) {
+        return mix(seed ^ 0x2545F4914F6CDD1DL);
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 한 판을 게임오버(또는 조각 수 한도)까지 진행, 대전 모드는 2인 대전 한 판의 1P 기록
+    public GameResult playGame(ScoreBoard.ScoreEntry.Mode mode, long seed) {
+        if (mode == ScoreBoard.ScoreEntry.Mode.VERSUS || mode == ScoreBoard.ScoreEntry.Mode.TIMER) {
+            return playMatch(mode, seed);
+        }
+        Player player = new Player(mode, seed, null);
+        player.core.startNewGame();
+        while (!player.isDone(Long.MAX_VALUE)) player.step(Long.MAX_VALUE);
+        return player.result(mode, seed);
+    }
+
+    // 1P와 2P가 같은 정책으로 겨룸 (타이머 모드는 가상 시간 2분에서 끝남)
+    // 시계가 뒤처진 쪽의 조각을 먼저 진행하므로 공격은 조각 단위로만 순서가 맞음
+    private GameResult playMatch(ScoreBoard.ScoreEntry.Mode mode, long seed) {
+        long limit =
+                (mode == ScoreBoard.ScoreEntry.Mode.TIMER) ? TIMER_LIMIT_NANOS : Long.MAX_VALUE;
+        Match match = new Match();
+        Player first = new Player(mode, seed, match);
+        Player second = new Player(mode, opponentSeed(seed), match);
+        match.join(first.recorder, second.recorder);
+
+        first.core.startNewGame();
+        second.core.startNewGame();
+        // 한 사람이라도 게임오버거나 뒤처진 쪽이 더 진행할 수 없으면 대전 끝
+        while (!first.core.isGameOver() && !second.core.isGameOver()) {
+            Player next = (second.nanos < first.nanos) ? second : first;
+            if (next.isDone(limit)) break;
+            next.step(limit);
+        }
+        return first.result(mode, seed);
+    }
+
+    // 한 사람의 코어, 정책, 가상 시계
+    private final class Player {
+        final Recorder recorder;
+        final GameCore core;
+        final PlacementPolicy policy;
+        long nanos = 0;
+        boolean stuck = false; // 다음 이벤트가 없음
+
+        Player(ScoreBoard.ScoreEntry.Mode mode, long seed, Match match) {
+            Board board = new Board(WIDTH, HEIGHT);
+            recorder = new Recorder(match);
+            core =
+                    (weights != null)
+                            ? new GameCore(
+                                    board,
+                                    recorder,
+                                    mode,
+                                    new WeightedPieceGenerator(weights, seed))
+                            : new GameCore(board, recorder, mode, seed);
+            recorder.core = core;
+            policy = policies.apply(seed);
+        }
+
+        boolean isDone(long limitNanos) {
+            return stuck
+                    || core.isGameOver()
+                    || recorder.pieces >= maxPieces
+                    || nanos >= limitNanos;
+        }
+
+        // 조각 하나를 놓거나 줄 삭제 플래시를 기다림 (시계는 limitNanos를 넘지 않음)
+        void step(long limitNanos) {
+            if (core.getCurrent() == null) {
+                // 줄 삭제 플래시가 끝나야 다음 조각이 나옴
+                long wait = core.getNanosUntilNextEvent();
+                if (wait == Long.MAX_VALUE) {
+                    stuck = true;
+                    return;
+                }
+                advance(Math.min(wait, limitNanos - nanos));
+                return;
+            }
+
+            int spawned = recorder.pieces;
+            Placement target = policy.choose(core);
+            if (thinkNanos > 0) {
+                advance(Math.min(thinkNanos, limitNanos - nanos));
+                // 생각하는 동안 중력으로 고정됐으면 다음 조각으로, 시간이 다 됐으면 놓지 못함
+                if (recorder.pieces != spawned || core.getCurrent() == null) return;
+                if (nanos >= limitNanos) return;
+            }
+            execute(core, target);
+        }
+
+        private void advance(long delta) {
+            core.tick(delta);
+            nanos += delta;
+        }
+
+        GameResult result(ScoreBoard.ScoreEntry.Mode mode, long seed) {
+            return new GameResult(
+                    mode,
+                    seed,
+                    nanos,
+                    core.getScore(),
+                    recorder.lines,
+                    recorder.pieces,
+                    recorder.itemPieces,
+                    recorder.garbageLines,
+                    recorder.clears,
+                    core.getGameTimer().getSpeedFactor(),
+                    !core.isGameOver());
+        }
+    }
+
+    // 회전 -> 좌우 이동 -> 하드 드롭 (막히면 그 자리에 놓음)
+    private static void execute(GameCore core, Placement target) {
+        for (int i = 0; i < target.rotations(); i++) core.apply(GameCore.Command.ROTATE_CW);
+        GameCore.Command move =
+                (target.x() > core.getPieceX())
+                        ? GameCore.Command.MOVE_RIGHT
+                        : GameCore.Command.MOVE_LEFT;
+        while (core.getPieceX() != target.x()) {
+            if (!core.apply(move)) break;
+        }
+        core.apply(GameCore.Command.HARD_DROP);
+    }
+
+    // 대전 규칙 (VersusGameController와 같음)
+    // - 2줄 이상 지우면 지운 줄 모양의 회색 줄을 상대 큐에 넣고 (최대 10줄), 상대 다음 조각이 나올 때 올림
+    // - 두 사람이 지운 줄 합계 20줄마다 두 사람 모두 속도 증가
+    private static final class Match {
+        private static final int SPEED_UP_LINES = 20;
+        private static final int MAX_INCOMING_LINES = 10;
+        private static final int GARBAGE_CELL = 1000;
+
+        private Recorder first;
+        private Recorder second;
+        private int totalLines = 0;
+        private int lastSpeedLevel = 0;
+
+        void join(Recorder first, Recorder second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        void onLinesCleared(Recorder from, int cleared) {
+            totalLines += cleared;
+            int speedLevel = totalLines / SPEED_UP_LINES;
+            if (speedLevel > lastSpeedLevel) {
+                first.core.getGameTimer().increaseSpeed();
+                second.core.getGameTimer().increaseSpeed();
+                double interval = first.core.getDropIntervalSeconds();
+                first.core.setDropIntervalSeconds(interval);
+                second.core.setDropIntervalSeconds(interval);
+                lastSpeedLevel = speedLevel;
+            }
+            if (cleared >= 2) {
+                Recorder to = (from == first) ? second : first;
+                queueAttack(to.incoming, attackPattern(cleared, from.core));
+            }
+        }
+
+        // 지운 줄마다 마지막 블록이 있던 칸만 비움 (중력/스플릿 블록이면 줄마다 무작위 한 칸)
+        private static int[][] attackPattern(int lines, GameCore core) {
+            int width = core.getBoard().getWidth();
+            int[][] pattern = new int[lines][width];
+            for (int[] row : pattern) Arrays.fill(row, GARBAGE_CELL);
+
+            if (core.isLastClearByGravityOrSplit()) {
+                for (int r = 0; r < lines; r++) pattern[r][core.nextRandomInt(width)] = 0;
+                return pattern;
+            }
+            List<Integer> cleared = core.getClearedLineIndices();
+            if (cleared == null) return pattern;
+            for (int[] cell : core.getLastLockedCells()) {
+                int row = cleared.indexOf(cell[1]);
+                if (row >= 0 && row < lines) pattern[row][cell[0]] = 0;
+            }
+            return pattern;
+        }
+
+        // 큐에 최대 10줄까지만 넣고 넘치는 아래쪽 줄은 버림
+        private static void queueAttack(Deque<int[][]> queue, int[][] pattern) {
+            int queued = 0;
+            for (int[][] p : queue) queued += p.length;
+            if (queued >= MAX_INCOMING_LINES) return;
+            int allowed = Math.min(pattern.length, MAX_INCOMING_LINES - queued);
+            queue.add((allowed == pattern.length) ? pattern : Arrays.copyOf(pattern, allowed));
+        }
+
+        // 보드를 pattern 줄 수만큼 올리고 맨 아래에 pattern을 채움
+        static void raise(Board board, int[][] pattern) {
+            int width = board.getWidth();
+            int height = board.getHeight();
+            int lines = pattern.length;
+            for (int y = 0; y < height - lines; y++) {
+                for (int x = 0; x < width; x++) board.setCell(x, y, board.getCell(x, y + lines));
+            }
+            for (int i = 0; i < lines; i++) {
+                for (int x = 0; x < width; x++) board.setCell(x, height - lines + i, pattern[i][x]);
+            }
+        }
+    }
+
+    // 코어 이벤트를 세는 리스너
+    // 혼자 하는 게임은 GameSceneController처럼 속도를 올리고, 대전은 Match 규칙을 따름
+    private static final class Recorder implements GameStateListener {
+        private final Match match; // null이면 혼자 하는 게임
+        final Deque<int[][]> incoming = new ArrayDeque<>();
+        GameCore core;
+        int pieces = 0;
+        int itemPieces = 0;
+        int lines = 0;
+        int garbageLines = 0;
+        final int[] clears = new int[5];
+
+        Recorder(Match match) {
+            this.match = match;
+        }
+
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {
+            pieces++;
+            if (tetromino.isItemPiece()) itemPieces++;
+            // 조각이 나올 때 쌓인 공격을 먼저 들어온 것부터 모두 올림
+            while (!incoming.isEmpty()) {
+                int[][] pattern = incoming.poll();
+                Match.raise(core.getBoard(), pattern);
+                garbageLines += pattern.length;
+            }
+        }
+
+        @Override
+        public void onLinesCleared(int cleared) {
+            lines += cleared;
+            clears[Math.min(cleared, 4)]++;
+            if (match != null) {
+                match.onLinesCleared(this, cleared);
+            } else {
+                core.updateSpeedForLinesCleared(cleared, lines);
+            }
+        }
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+
+    // 사용법: [모드별 게임 수] [정책 random|greedy] [결과 파일 .json|.csv] [시드] [스레드 수]
+    //        [조각 가중치 I,O,T,S,Z,J,L]
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        String policy = args.length > 1 ? args[1] : "greedy";
+        Path out = Path.of(args.length > 2 ? args[2] : "selfplay.json");
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 13L;
+        int threads =
+                args.length > 4
+                        ? Integer.parseInt(args[4])
+                        : Runtime.getRuntime().availableProcessors();
+        int[] weights = args.length > 5 ? parseWeights(args[5]) : null;
+
+        SelfPlaySimulator simulator =
+                new SelfPlaySimulator(
+                        PlacementPolicies.byName(policy),
+                        DEFAULT_MAX_PIECES,
+                        DEFAULT_THINK_NANOS,
+                        weights);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        List<ModeStats> results;
+        try {
+            results = simulator.runAll(games, seed, pool);
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        for (ModeStats stats : results) {
+            System.out.printf(
+                    "%-6s games=%d survival p50=%.1fs score p50=%d lines mean=%.1f"
+                            + " garbage mean=%.1f capped=%d%n",
+                    stats.getMode(),
+                    stats.getGames(),
+                    stats.getSurvivalMillis().percentile(0.5) / 1000.0,
+                    stats.getScore().percentile(0.5),
+                    stats.getLines().mean(),
+                    stats.getGarbageLines().mean(),
+                    stats.getCapped());
+        }
+        long total = (long) games * results.size();
+        System.out.printf(
+                "%d games on %d threads in %d ms (%.0f games/s)%n",
+                total, threads, elapsedMillis, total * 1000.0 / Math.max(1, elapsedMillis));
+
+        SimulationReport.write(
+                out,
+                new SimulationReport.Header(policy, seed, games, threads, elapsedMillis, weights),
+                results);
+        System.out.println("Results written to " + out.toAbsolutePath());
+    }
+
+    private static int[] parseWeights(String text) {
+        String[] parts = text.split(",");
+        int[] weights = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) weights[i] = Integer.parseInt(parts[i].trim());
+        return weights;
+    }
+}
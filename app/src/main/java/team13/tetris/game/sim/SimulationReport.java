@@ -0,0 +1,130 @@
+package team13.tetris.game.sim;
+
+import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 셀프 플레이 결과 파일 쓰기 (확장자가 .csv면 모드별 한 줄 요약, 그 외는 히스토그램까지 포함한 JSON)
+public final class SimulationReport {
+    private static final double[] QUANTILES = {0.1, 0.5, 0.9, 0.99};
+    private static final String[] QUANTILE_NAMES = {"p10", "p50", "p90", "p99"};
+
+    // 실행 조건 (weights가 null이면 모드 기본 가중치)
+    public record Header(
+            String policy,
+            long seed,
+            int gamesPerMode,
+            int threads,
+            long elapsedMillis,
+            int[] weights) {}
+
+    private SimulationReport() {}
+
+    public static void write(Path path, Header header, List<ModeStats> results)
+            throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        String content =
+                path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")
+                        ? toCsv(results)
+                        : toJson(header, results);
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+
+    public static String toJson(Header header, List<ModeStats> results) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("policy", header.policy());
+        root.put("seed", header.seed());
+        root.put("gamesPerMode", header.gamesPerMode());
+        root.put("threads", header.threads());
+        root.put("elapsedMillis", header.elapsedMillis());
+        if (header.weights() != null) root.put("weights", header.weights());
+
+        List<Object> modes = new ArrayList<>();
+        for (ModeStats stats : results) {
+            Map<String, Object> mode = new LinkedHashMap<>();
+            mode.put("mode", stats.getMode().name());
+            mode.put("games", stats.getGames());
+            mode.put("capped", stats.getCapped());
+            mode.put("itemPieces", stats.getItemPieces());
+            Map<String, Object> clears = new LinkedHashMap<>();
+            clears.put("single", stats.getClears(1));
+            clears.put("double", stats.getClears(2));
+            clears.put("triple", stats.getClears(3));
+            clears.put("tetris", stats.getClears(4));
+            mode.put("clears", clears);
+            mode.put("survivalMillis", describe(stats.getSurvivalMillis()));
+            mode.put("score", describe(stats.getScore()));
+            mode.put("lines", describe(stats.getLines()));
+            mode.put("pieces", describe(stats.getPieces()));
+            mode.put("garbageLines", describe(stats.getGarbageLines()));
+            mode.put("speedFactorTenths", describe(stats.getSpeedTenths()));
+            modes.add(mode);
+        }
+        root.put("modes", modes);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    // 요약 통계와 비어 있지 않은 구간의 {아래 경계: 개수}
+    private static Map<String, Object> describe(Distribution d) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mean", d.mean());
+        out.put("min", d.getMin());
+        for (int i = 0; i < QUANTILES.length; i++) {
+            out.put(QUANTILE_NAMES[i], d.percentile(QUANTILES[i]));
+        }
+        out.put("max", d.getMax());
+        out.put("bucketWidth", d.getBucketWidth());
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < d.getBucketCount(); i++) {
+            if (d.getBucket(i) == 0) continue;
+            histogram.put(Long.toString(i * d.getBucketWidth()), d.getBucket(i));
+        }
+        out.put("histogram", histogram);
+        return out;
+    }
+
+    public static String toCsv(List<ModeStats> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("mode,games,capped,item_pieces,singles,doubles,triples,tetrises");
+        String[] columns = {"survival_ms", "score", "lines", "pieces", "garbage_lines"};
+        for (String metric : columns) {
+            sb.append(',').append(metric).append("_mean");
+            for (String q : QUANTILE_NAMES) sb.append(',').append(metric).append('_').append(q);
+            sb.append(',').append(metric).append("_max");
+        }
+        sb.append('\n');
+
+        for (ModeStats stats : results) {
+            sb.append(stats.getMode().name())
+                    .append(',')
+                    .append(stats.getGames())
+                    .append(',')
+                    .append(stats.getCapped())
+                    .append(',')
+                    .append(stats.getItemPieces());
+            for (int n = 1; n <= 4; n++) sb.append(',').append(stats.getClears(n));
+            Distribution[] metrics = {
+                stats.getSurvivalMillis(),
+                stats.getScore(),
+                stats.getLines(),
+                stats.getPieces(),
+                stats.getGarbageLines()
+            };
+            for (Distribution d : metrics) {
+                sb.append(',').append(String.format(Locale.ROOT, "%.2f", d.mean()));
+                for (double q : QUANTILES) sb.append(',').append(d.percentile(q));
+                sb.append(',').append(d.getMax());
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -24,15 +24,8 @@ public final class AsciiBoardRenderer {
                 boolean occupied = board.getCell(c, r) != 0;
                 // check current piece
                 if (!occupied && current != null) {
-                    int[][] shape = current.getShape();
-                    int sr = r - py;
-                    int sc = c - px;
-
-                    if (sr >= 0
-                            && sr < shape.length
-                            && sc >= 0
-                            && sc < shape[0].length
-                            && shape[sr][sc] != 0) occupied = true;
+                    Tetromino.ShapeView shape = current.getShapeView();
+                    if (shape.isFilled(r - py, c - px)) occupied = true;
                 }
 
                 sb.append(occupied ? '■' : ' ');
@@ -65,21 +58,15 @@ public final class AsciiBoardRenderer {
         }
 
         if (piece != null) {
-            int[][] shape = piece.getShape();
-            int h = shape.length;
-            int w = shape[0].length;
-            int offR = Math.max(0, (size - h) / 2);
-            int offC = Math.max(0, (size - w) / 2);
-
-            for (int r = 0; r < h; r++) {
-                for (int c = 0; c < w; c++) {
-                    if (shape[r][c] != 0) {
-                        int rr = offR + r;
-                        int cc = offC + c;
-
-                        if (rr >= 0 && rr < size && cc >= 0 && cc < size) grid[rr][cc] = '■';
-                    }
-                }
+            Tetromino.ShapeView shape = piece.getShapeView();
+            int offR = Math.max(0, (size - shape.getRows()) / 2);
+            int offC = Math.max(0, (size - shape.getCols()) / 2);
+
+            for (int i = 0; i < shape.getCellCount(); i++) {
+                int rr = offR + shape.getCellRow(i);
+                int cc = offC + shape.getCellCol(i);
+
+                if (rr >= 0 && rr < size && cc >= 0 && cc < size) grid[rr][cc] = '■';
             }
         }
 
@@ -0,0 +1,114 @@
+package team13.tetris.network;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 네트워크 블로킹 I/O(accept 루프, 클라이언트별 수신 루프, 접속 시도)를 실행할 스레드 종류를 고릅니다.
+// - PLATFORM: 기존과 같은 OS 스레드 (기본값)
+// - VIRTUAL: JDK 21 이상에서 실행하면 가상 스레드, 블로킹 소켓 하나당 OS 스레드를 쓰지 않음
+// 빌드 대상이 Java 17이라 가상 스레드 API는 실행 중인 JDK에서 리플렉션으로 찾고,
+// 없으면 경고 후 PLATFORM으로 동작합니다.
+// 시작 시 -Dtetris.network.threads=virtual 로 선택 (gradle: ./gradlew run -PnetworkThreads=virtual,
+// 이때 run 태스크는 JDK 21 런처로 실행됨). 실제로 고른 모드는 시작 시 로그로 남김
+public final class NetworkThreads {
+    public static final String MODE_PROPERTY = "tetris.network.threads";
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private static final Method NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+    private static volatile Mode mode = parseMode(System.getProperty(MODE_PROPERTY));
+
+    static {
+        // 모드를 지정해 실행했을 때만 남김 (기본 실행은 조용히)
+        if (System.getProperty(MODE_PROPERTY) != null) logMode();
+    }
+
+    private NetworkThreads() {}
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    // 이후 만들어지는 서버/클라이언트부터 적용 (이미 실행 중인 executor는 바뀌지 않음)
+    public static void setMode(Mode newMode) {
+        if (newMode == Mode.VIRTUAL && !isVirtualAvailable()) {
+            System.err.println("Virtual threads require JDK 21+, using platform threads");
+            newMode = Mode.PLATFORM;
+        }
+        mode = newMode;
+        logMode();
+    }
+
+    public static boolean isVirtualAvailable() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    // 작업마다 스레드가 필요한 executor (서버 accept 루프 + 클라이언트 핸들러)
+    public static ExecutorService newPerTaskExecutor(String name) {
+        if (mode == Mode.VIRTUAL) return newVirtualExecutor();
+        return Executors.newCachedThreadPool(platformFactory(name));
+    }
+
+    // 작업을 하나씩 실행하는 executor (클라이언트 수신 루프)
+    // 가상 모드에서는 스레드를 재사용할 이유가 없으므로 작업마다 가상 스레드를 만듦
+    public static ExecutorService newSingleTaskExecutor(String name) {
+        if (mode == Mode.VIRTUAL) return newVirtualExecutor();
+        return Executors.newSingleThreadExecutor(platformFactory(name));
+    }
+
+    // 일회성 블로킹 작업 실행 (접속 시도 등)
+    public static void start(String name, Runnable task) {
+        if (mode == Mode.VIRTUAL) {
+            ExecutorService executor = newVirtualExecutor();
+            executor.execute(task);
+            executor.shutdown(); // 실행 중인 작업은 끝까지 진행됨
+            return;
+        }
+        platformFactory(name).newThread(task).start();
+    }
+
+    private static ThreadFactory platformFactory(String name) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> new Thread(r, name + "-" + seq.incrementAndGet());
+    }
+
+    private static ExecutorService newVirtualExecutor() {
+        try {
+            return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create virtual thread executor", e);
+        }
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static void logMode() {
+        System.out.println(
+                "Network threads: "
+                        + mode.name().toLowerCase()
+                        + " (Java "
+                        + Runtime.version().feature()
+                        + ")");
+    }
+
+    private static Mode parseMode(String value) {
+        if (value == null || !value.trim().equalsIgnoreCase("virtual")) return Mode.PLATFORM;
+        if (NEW_VIRTUAL_EXECUTOR == null) {
+            System.err.println("Virtual threads require JDK 21+, using platform threads");
+            return Mode.PLATFORM;
+        }
+        return Mode.VIRTUAL;
+    }
+}
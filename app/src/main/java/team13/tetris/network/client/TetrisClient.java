@@ -3,6 +3,7 @@ package team13.tetris.network.client;
 import java.io.*;
 import java.net.*;
 import java.util.concurrent.*;
+import team13.tetris.network.NetworkThreads;
 import team13.tetris.network.listener.ClientMessageListener;
 import team13.tetris.network.protocol.*;
 
@@ -13,10 +14,12 @@ public class TetrisClient {
     private final String serverHost;
     private final int serverPort;
     private final String playerId;
+    private volatile String roomId; // RoomServer에 접속할 때 참가할 방 (null이면 자동 매칭)
 
     private Socket socket;
-    private ObjectInputStream input;
-    private ObjectOutputStream output;
+    private InputStream input;
+    private OutputStream output;
+    private MessageChannel channel; // 연결 시 협상한 전송 방식 (바이너리 또는 Java 직렬화)
     private ExecutorService messageHandler;
     private Future<?> messageLoopFuture; // messageLoop 작업 추적용
 
@@ -29,7 +32,7 @@ public class TetrisClient {
         this.playerId = playerId;
         this.serverHost = serverHost;
         this.serverPort = serverPort;
-        this.messageHandler = Executors.newSingleThreadExecutor();
+        this.messageHandler = NetworkThreads.newSingleTaskExecutor("tetris-client");
     }
 
     public TetrisClient(String playerId, String serverHost) {
@@ -41,33 +44,38 @@ public class TetrisClient {
         this.messageListener = listener;
     }
 
+    // RoomServer의 특정 방에 참가하도록 설정 (connect 전에 호출)
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
     // 서버에 접속
     public boolean connect() {
         try {
             System.out.println("Connecting to server " + serverHost);
 
-            // 서버에 소켓 연결 (10초 타임아웃)
-            socket = new Socket();
-            socket.connect(new InetSocketAddress(serverHost, serverPort), 10000);
-
-            // 입출력 스트림 설정
-            output = new ObjectOutputStream(socket.getOutputStream());
-            output.flush();
-            input = new ObjectInputStream(socket.getInputStream());
+            // 서버에 소켓 연결 후 전송 방식 협상 (바이너리 코덱 우선)
+            openSocket();
+            try {
+                channel = ChannelNegotiator.client(input, output);
+            } catch (ChannelNegotiator.LegacyPeerException e) {
+                // 이전 버전 서버: 새 연결에서 Java 직렬화 사용
+                closeQuietly();
+                openSocket();
+                channel = new ObjectMessageChannel(input, output);
+            }
+            System.out.println("Wire format: " + channel.getFormat());
 
-            // 연결 요청 메시지 전송
+            // 연결 요청 메시지 전송 (직접 전송, sendMessage를 사용하지 않음)
             ConnectionMessage connectionRequest =
-                    ConnectionMessage.createConnectionRequest(playerId, playerId);
-
-            // 직접 전송 (sendMessage를 사용하지 않음)
-            synchronized (output) {
-                output.writeObject(connectionRequest);
-                output.flush();
-            }
+                    roomId != null
+                            ? ConnectionMessage.createRoomJoinRequest(playerId, roomId)
+                            : ConnectionMessage.createConnectionRequest(playerId, playerId);
+            channel.send(connectionRequest);
             System.out.println("Sending connection request...");
 
             // 연결 응답 대기
-            Object response = input.readObject();
+            NetworkMessage response = channel.receive();
             if (!(response instanceof ConnectionMessage msg)) {
                 notifyError("Invalid connection response");
                 return false;
@@ -99,13 +107,28 @@ public class TetrisClient {
         }
     }
 
+    // 서버에 소켓 연결 (10초 타임아웃)
+    private void openSocket() throws IOException {
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(serverHost, serverPort), 10000);
+        output = new BufferedOutputStream(socket.getOutputStream());
+        input = new BufferedInputStream(socket.getInputStream());
+    }
+
+    private void closeQuietly() {
+        try {
+            socket.close();
+        } catch (IOException ignore) {
+        }
+    }
+
     // 메시지 수신 루프
     private void messageLoop() {
         while (isConnected && !socket.isClosed()) {
             try {
-                Object obj = input.readObject();
+                NetworkMessage message = channel.receive();
 
-                if (obj instanceof NetworkMessage message) {
+                if (message != null) {
                     handleReceivedMessage(message);
                 }
             } catch (IOException e) {
@@ -151,7 +174,11 @@ public class TetrisClient {
 
             case GAME_START -> {
                 gameStarted = true;
-                messageListener.onGameStart();
+                if (message instanceof ConnectionMessage connMsg) {
+                    messageListener.onGameStart(connMsg.getSeed());
+                } else {
+                    messageListener.onGameStart();
+                }
             }
 
             case COUNTDOWN_START -> {
@@ -215,10 +242,7 @@ public class TetrisClient {
         }
 
         try {
-            synchronized (output) {
-                output.writeObject(message);
-                output.flush();
-            }
+            channel.send(message);
             return true;
 
         } catch (IOException e) {
@@ -280,6 +304,15 @@ public class TetrisClient {
         return sendMessage(boardMsg);
     }
 
+    // 인코더가 만든 보드 메시지(FULL/DELTA/PIECE) 전송
+    public boolean sendBoardUpdate(BoardUpdateMessage boardMsg) {
+        if (!gameStarted) {
+            return false;
+        }
+
+        return sendMessage(boardMsg);
+    }
+
     // 공격 전송
     public boolean sendAttack(String targetPlayerId, int clearedLines) {
         if (!gameStarted) {
@@ -326,7 +359,7 @@ public class TetrisClient {
             messageLoopFuture.cancel(true); // 인터럽트 발생
         }
 
-        // 2. 스트림 및 소켓 정리 (readObject() 블로킹 해제)
+        // 2. 스트림 및 소켓 정리 (receive() 블로킹 해제)
         try {
             if (input != null) input.close();
         } catch (IOException ignore) {
@@ -20,6 +20,11 @@ public interface ServerMessageListener {
     // 게임이 시작되었을 때 호출
     void onGameStart();
 
+    // 게임이 시작되었을 때 호출 (양쪽이 공유하는 조각 생성 시드 포함)
+    default void onGameStart(long seed) {
+        onGameStart();
+    }
+
     // 카운트다운이 시작되었을 때 호출
     void onCountdownStart();
 
@@ -0,0 +1,489 @@
+package team13.tetris.network.protocol;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+
+// NetworkMessage용 바이너리 인코더/디코더입니다.
+// 프레임 구조: [varint 길이][1바이트 MessageType 태그][본문]
+// 본문은 varint(음수가 될 수 있는 값은 zigzag)와 UTF-8 문자열로만 이루어지며,
+// 클래스 정보나 임의 객체를 읽지 않으므로 Java 직렬화처럼 역직렬화 공격 경로가 없습니다.
+// 태그는 MessageType의 ordinal이므로 새 타입은 항상 열거형 끝에 추가해야 합니다.
+// 형식이 바뀌면 VERSION을 올리고 연결 시 ChannelNegotiator가 양쪽이 아는 버전을 고릅니다.
+public final class BinaryCodec {
+    public static final int VERSION = 1;
+    public static final int MAX_FRAME_BYTES = 1 << 20; // 비정상 길이로 큰 배열을 만들지 않도록 제한
+
+    private static final MessageType[] TYPES = MessageType.values();
+
+    private BinaryCodec() {}
+
+    // 메시지를 프레임 본문(길이 제외)으로 인코딩
+    public static byte[] encode(NetworkMessage message) {
+        Writer w = new Writer(64);
+        w.byte1(message.getType().ordinal());
+        w.string(message.getSenderId());
+        w.varlong(message.getTimestamp());
+
+        if (message instanceof ConnectionMessage m) {
+            w.string(m.getMessage());
+            w.string(m.getTargetPlayerId());
+            w.zigzagLong(m.getSeed());
+        } else if (message instanceof BoardUpdateMessage m) {
+            writeBoardUpdate(w, m);
+        } else if (message instanceof AttackMessage m) {
+            w.varint(m.getSourceLines());
+            w.varint(m.getAttackLines());
+            w.grid(m.getAttackPattern());
+        } else if (message instanceof GameModeMessage m) {
+            w.enumValue(m.getGameMode());
+        } else if (message instanceof SystemMessage m) {
+            w.string(m.getMessage());
+            w.enumValue(m.getLevel());
+        } else {
+            throw new IllegalArgumentException("Unsupported message: " + message.getClass());
+        }
+        return w.toByteArray();
+    }
+
+    // 프레임 본문을 메시지로 디코딩, 형식이 맞지 않으면 IOException
+    public static NetworkMessage decode(byte[] data) throws IOException {
+        Reader r = new Reader(data);
+        try {
+            int tag = r.byte1();
+            if (tag >= TYPES.length) throw new IOException("Unknown message tag: " + tag);
+            MessageType type = TYPES[tag];
+            String senderId = r.string();
+            long timestamp = r.varlong();
+
+            NetworkMessage message =
+                    switch (type) {
+                        case CONNECTION_REQUEST,
+                                CONNECTION_ACCEPTED,
+                                CONNECTION_REJECTED,
+                                DISCONNECT,
+                                PLAYER_READY,
+                                PLAYER_UNREADY,
+                                GAME_START,
+                                COUNTDOWN_START,
+                                PAUSE,
+                                RESUME,
+                                GAME_OVER -> new ConnectionMessage(
+                                type, senderId, r.string(), r.string(), r.zigzagLong());
+                        case BOARD_UPDATE -> readBoardUpdate(r, senderId);
+                        case ATTACK_SENT -> new AttackMessage(
+                                senderId, r.varint(), r.varint(), r.grid());
+                        case GAME_MODE_SELECTED -> new GameModeMessage(
+                                senderId, r.enumValue(GameModeMessage.GameMode.values()));
+                        case ERROR -> new SystemMessage(
+                                senderId,
+                                r.string(),
+                                r.enumValue(SystemMessage.SystemLevel.values()));
+                    };
+            if (r.remaining() != 0) throw new IOException("Trailing bytes in frame");
+            message.setTimestamp(timestamp);
+            return message;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // 생성자 검증 실패나 잘린 프레임은 모두 손상된 프레임으로 취급
+            throw new IOException("Malformed frame: " + e.getMessage(), e);
+        }
+    }
+
+    // [varint 길이][본문] 형태로 기록 (flush는 호출한 쪽에서)
+    public static void writeFrame(OutputStream out, NetworkMessage message) throws IOException {
+        byte[] body = encode(message);
+        Writer header = new Writer(5);
+        header.varint(body.length);
+        out.write(header.buf, 0, header.size);
+        out.write(body);
+    }
+
+    // 프레임 하나를 읽어 디코딩, 프레임 경계에서 스트림이 끝나면 EOFException
+    public static NetworkMessage readFrame(InputStream in) throws IOException {
+        int length = readLength(in);
+        byte[] body = in.readNBytes(length);
+        if (body.length != length) throw new EOFException("Truncated frame");
+        return decode(body);
+    }
+
+    // 논블로킹 전송용: [varint 길이][본문]을 하나의 버퍼로 만듦 (읽기 위치는 0)
+    // 같은 메시지를 여러 연결로 보낼 때는 한 번만 인코딩하고 duplicate()로 나눠 씀
+    public static ByteBuffer encodeFrame(NetworkMessage message) {
+        byte[] body = encode(message);
+        Writer frame = new Writer(body.length + 5);
+        frame.varint(body.length);
+        frame.bytes(body);
+        return ByteBuffer.wrap(frame.buf, 0, frame.size);
+    }
+
+    // 논블로킹 수신용: 버퍼에 프레임 하나가 다 모였으면 읽어서 디코딩하고,
+    // 아직 덜 왔으면 위치를 바꾸지 않고 null 반환
+    public static NetworkMessage readFrame(ByteBuffer buf) throws IOException {
+        int start = buf.position();
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!buf.hasRemaining()) {
+                buf.position(start);
+                return null;
+            }
+            int b = buf.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0 || value > MAX_FRAME_BYTES) {
+                    throw new IOException("Frame too large: " + value);
+                }
+                if (buf.remaining() < value) {
+                    buf.position(start);
+                    return null;
+                }
+                byte[] body = new byte[value];
+                buf.get(body);
+                return decode(body);
+            }
+        }
+        throw new IOException("Malformed frame length");
+    }
+
+    private static int readLength(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Stream closed");
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0 || value > MAX_FRAME_BYTES) {
+                    throw new IOException("Frame too large: " + value);
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed frame length");
+    }
+
+    private static void writeBoardUpdate(Writer w, BoardUpdateMessage m) {
+        w.byte1(m.getEncoding().ordinal());
+        w.varint(m.getSequence());
+        w.zigzag(m.getBaseSequence());
+        w.zigzag(m.getCurrentPieceX());
+        w.zigzag(m.getCurrentPieceY());
+        w.varint(m.getCurrentPieceRotation());
+        if (m.getEncoding() == BoardUpdateMessage.Encoding.PIECE) return; // 위치/회전만
+
+        if (m.getEncoding() == BoardUpdateMessage.Encoding.FULL) {
+            w.grid(m.getBoardState());
+        } else {
+            int[] rows = m.getChangedRows();
+            int[][] data = m.getChangedRowData();
+            w.varint(rows.length);
+            for (int i = 0; i < rows.length; i++) {
+                w.varint(rows[i]);
+                w.row(data[i]);
+            }
+        }
+        w.zigzag(m.getCurrentPieceType());
+        w.bool(m.getCurrentPieceIsItem());
+        w.string(m.getCurrentPieceItemType());
+        w.zigzag(m.getCurrentPieceItemBlockIndex());
+        w.zigzag(m.getNextPieceType());
+        w.bool(m.getNextPieceIsItem());
+        w.string(m.getNextPieceItemType());
+        w.zigzag(m.getNextPieceItemBlockIndex());
+        if (m.hasIncomingBlocks()) {
+            Queue<int[][]> blocks = m.getIncomingBlocks();
+            w.varint(blocks.size() + 1);
+            for (int[][] block : blocks) w.grid(block);
+        } else {
+            w.varint(0); // 변경 없음
+        }
+        w.zigzag(m.getScore());
+        w.zigzag(m.getLinesCleared());
+        w.zigzag(m.getLevel());
+    }
+
+    private static BoardUpdateMessage readBoardUpdate(Reader r, String senderId)
+            throws IOException {
+        int encodingIndex = r.byte1();
+        BoardUpdateMessage.Encoding[] encodings = BoardUpdateMessage.Encoding.values();
+        if (encodingIndex >= encodings.length) throw new IOException("Unknown board encoding");
+        BoardUpdateMessage.Encoding encoding = encodings[encodingIndex];
+        int sequence = r.varint();
+        int baseSequence = r.zigzag();
+        int pieceX = r.zigzag();
+        int pieceY = r.zigzag();
+        int rotation = r.varint();
+        if (encoding == BoardUpdateMessage.Encoding.PIECE) {
+            return BoardUpdateMessage.pieceMoved(
+                    senderId, sequence, baseSequence, pieceX, pieceY, rotation);
+        }
+
+        int[][] board = null;
+        int[] rows = null;
+        int[][] rowData = null;
+        if (encoding == BoardUpdateMessage.Encoding.FULL) {
+            board = r.grid();
+        } else {
+            int count = r.count();
+            rows = new int[count];
+            rowData = new int[count][];
+            for (int i = 0; i < count; i++) {
+                rows[i] = r.varint();
+                rowData[i] = r.row();
+            }
+        }
+        int pieceType = r.zigzag();
+        boolean pieceIsItem = r.bool();
+        String pieceItemType = r.string();
+        int pieceItemBlockIndex = r.zigzag();
+        int nextType = r.zigzag();
+        boolean nextIsItem = r.bool();
+        String nextItemType = r.string();
+        int nextItemBlockIndex = r.zigzag();
+        Queue<int[][]> incoming = null;
+        int blocks = r.optionalCount();
+        if (blocks >= 0) {
+            incoming = new LinkedList<>();
+            for (int i = 0; i < blocks; i++) incoming.add(r.grid());
+        }
+        int score = r.zigzag();
+        int lines = r.zigzag();
+        int level = r.zigzag();
+
+        return new BoardUpdateMessage(
+                senderId,
+                encoding,
+                sequence,
+                baseSequence,
+                rows,
+                rowData,
+                board,
+                pieceX,
+                pieceY,
+                pieceType,
+                rotation,
+                pieceIsItem,
+                pieceItemType,
+                pieceItemBlockIndex,
+                nextType,
+                nextIsItem,
+                nextItemType,
+                nextItemBlockIndex,
+                encoding == BoardUpdateMessage.Encoding.FULL && incoming == null
+                        ? new LinkedList<>()
+                        : incoming,
+                score,
+                lines,
+                level);
+    }
+
+    // 크기가 늘어나는 바이트 버퍼
+    private static final class Writer {
+        private byte[] buf;
+        private int size;
+
+        Writer(int capacity) {
+            buf = new byte[capacity];
+        }
+
+        void byte1(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void bool(boolean v) {
+            byte1(v ? 1 : 0);
+        }
+
+        void varint(int v) {
+            varlong(v & 0xFFFFFFFFL);
+        }
+
+        void varlong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void zigzag(int v) {
+            varint((v << 1) ^ (v >> 31));
+        }
+
+        void zigzagLong(long v) {
+            varlong((v << 1) ^ (v >> 63));
+        }
+
+        // 0 = null, 그 외 (바이트 길이 + 1)
+        void string(String s) {
+            if (s == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1);
+            bytes(bytes);
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        // 0 = null, 그 외 (순서 + 1)
+        void enumValue(Enum<?> e) {
+            varint(e == null ? 0 : e.ordinal() + 1);
+        }
+
+        // 0 = null, 그 외 (줄 수 + 1) 뒤에 각 줄
+        void grid(int[][] grid) {
+            if (grid == null) {
+                varint(0);
+                return;
+            }
+            varint(grid.length + 1);
+            for (int[] row : grid) row(row);
+        }
+
+        // 0 = null, 그 외 (칸 수 + 1)
+        // 63칸 이하면 비어 있지 않은 칸의 비트마스크 뒤에 그 칸의 값만 기록 (빈 칸은 0바이트)
+        void row(int[] row) {
+            if (row == null) {
+                varint(0);
+                return;
+            }
+            varint(row.length + 1);
+            if (row.length <= 63) {
+                long mask = 0;
+                for (int c = 0; c < row.length; c++) if (row[c] != 0) mask |= 1L << c;
+                varlong(mask);
+                for (int c = 0; c < row.length; c++) if (row[c] != 0) zigzag(row[c]);
+            } else {
+                for (int value : row) zigzag(value);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+    }
+
+    // 프레임 본문 읽기, 범위를 넘으면 IndexOutOfBoundsException → 손상된 프레임
+    private static final class Reader {
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int remaining() {
+            return buf.length - pos;
+        }
+
+        int byte1() {
+            if (pos >= buf.length) throw new IndexOutOfBoundsException("truncated");
+            return buf[pos++] & 0xFF;
+        }
+
+        boolean bool() {
+            return byte1() != 0;
+        }
+
+        int varint() throws IOException {
+            long v = varlong();
+            // 상위 32비트가 하나라도 있으면 거부 (10바이트 varlong이 음수 long이 되는 경우 포함)
+            if ((v >>> 32) != 0) throw new IOException("varint overflow");
+            return (int) v;
+        }
+
+        long varlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = byte1();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("varlong overflow");
+        }
+
+        int zigzag() throws IOException {
+            int v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        long zigzagLong() throws IOException {
+            long v = varlong();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        // 요소마다 최소 1바이트이므로 남은 바이트보다 큰 개수는 손상된 값
+        int count() throws IOException {
+            return checkCount(varint());
+        }
+
+        // 0 = null(-1 반환), 그 외 (개수 + 1)
+        int optionalCount() throws IOException {
+            int n = varint();
+            return n == 0 ? -1 : checkCount(n - 1);
+        }
+
+        private int checkCount(int n) throws IOException {
+            if (n < 0 || n > remaining()) throw new IOException("Bad element count: " + n);
+            return n;
+        }
+
+        String string() throws IOException {
+            int len = optionalCount();
+            if (len < 0) return null;
+            String s = new String(buf, pos, len, StandardCharsets.UTF_8);
+            pos += len;
+            return s;
+        }
+
+        <E extends Enum<E>> E enumValue(E[] values) throws IOException {
+            int n = varint();
+            if (n == 0) return null;
+            if (n > values.length) throw new IOException("Unknown enum value: " + (n - 1));
+            return values[n - 1];
+        }
+
+        int[][] grid() throws IOException {
+            int n = optionalCount();
+            if (n < 0) return null;
+            int[][] grid = new int[n][];
+            for (int r = 0; r < grid.length; r++) grid[r] = row();
+            return grid;
+        }
+
+        int[] row() throws IOException {
+            int n = varint();
+            if (n == 0) return null;
+            int length = n - 1;
+            int[] row;
+            if (length <= 63) {
+                row = new int[length];
+                long mask = varlong();
+                if (length < 63 && (mask >>> length) != 0) throw new IOException("Bad row mask");
+                for (int c = 0; c < length; c++) if ((mask & (1L << c)) != 0) row[c] = zigzag();
+            } else {
+                row = new int[checkCount(length)];
+                for (int c = 0; c < length; c++) row[c] = zigzag();
+            }
+            return row;
+        }
+    }
+}
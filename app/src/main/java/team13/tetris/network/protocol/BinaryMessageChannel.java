@@ -0,0 +1,55 @@
+package team13.tetris.network.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.locks.ReentrantLock;
+
+// BinaryCodec 프레임으로 메시지를 주고받는 전송 (스트림은 버퍼링된 것을 넘겨야 함)
+public class BinaryMessageChannel implements MessageChannel {
+    private final InputStream input;
+    private final OutputStream output;
+    // synchronized 대신 락을 써서 가상 스레드가 블로킹 쓰기 중에 캐리어 스레드를 붙잡지 않도록 함
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final int version;
+
+    public BinaryMessageChannel(InputStream in, OutputStream out, int version) {
+        this.input = in;
+        this.output = out;
+        this.version = version;
+    }
+
+    @Override
+    public void send(NetworkMessage message) throws IOException {
+        sendLock.lock();
+        try {
+            BinaryCodec.writeFrame(output, message);
+            output.flush();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public NetworkMessage receive() throws IOException {
+        return BinaryCodec.readFrame(input);
+    }
+
+    @Override
+    public String getFormat() {
+        return "binary-v" + version;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            input.close();
+        } finally {
+            output.close();
+        }
+    }
+}
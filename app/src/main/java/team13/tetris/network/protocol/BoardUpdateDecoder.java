@@ -0,0 +1,98 @@
+package team13.tetris.network.protocol;
+
+import java.util.LinkedList;
+import java.util.Queue;
+
+// 받는 쪽에서 FULL/DELTA/PIECE 메시지를 누적해 상대 보드의 전체 상태를 복원합니다.
+// decode()는 항상 완전한 상태를 담은 FULL 형태의 메시지를 돌려주므로
+// 화면 갱신 코드는 인코딩 방식을 몰라도 됩니다.
+// 기준 프레임이 맞지 않는 델타(중간 메시지 유실, 키프레임 전 수신)는 버리고
+// 다음 키프레임이 올 때까지 null을 반환합니다.
+public class BoardUpdateDecoder {
+    private BoardUpdateMessage current; // 마지막으로 복원한 전체 상태
+    private int[][] board;
+    private Queue<int[][]> incoming = new LinkedList<>();
+    private int lastSequence = -1;
+
+    public synchronized BoardUpdateMessage decode(BoardUpdateMessage msg) {
+        switch (msg.getEncoding()) {
+            case FULL -> {
+                board = msg.getBoardState();
+                incoming = msg.getIncomingBlocks();
+                current = msg;
+                lastSequence = msg.getSequence();
+                return msg;
+            }
+            case DELTA -> {
+                if (!accepts(msg)) return null;
+                int[] rows = msg.getChangedRows();
+                int[][] data = msg.getChangedRowData();
+                for (int i = 0; i < rows.length; i++) {
+                    if (rows[i] >= 0 && rows[i] < board.length) board[rows[i]] = data[i];
+                }
+                if (msg.hasIncomingBlocks()) incoming = msg.getIncomingBlocks();
+                current =
+                        rebuild(
+                                msg,
+                                msg.getCurrentPieceX(),
+                                msg.getCurrentPieceY(),
+                                msg.getCurrentPieceRotation());
+                lastSequence = msg.getSequence();
+                return current;
+            }
+            case PIECE -> {
+                if (!accepts(msg)) return null;
+                current =
+                        rebuild(
+                                current,
+                                msg.getCurrentPieceX(),
+                                msg.getCurrentPieceY(),
+                                msg.getCurrentPieceRotation());
+                lastSequence = msg.getSequence();
+                return current;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    // 새 게임을 시작할 때 이전 상태를 버림
+    public synchronized void reset() {
+        current = null;
+        board = null;
+        incoming = new LinkedList<>();
+        lastSequence = -1;
+    }
+
+    public synchronized int getLastSequence() {
+        return lastSequence;
+    }
+
+    private boolean accepts(BoardUpdateMessage msg) {
+        return board != null && msg.getBaseSequence() == lastSequence;
+    }
+
+    // 복원된 보드와 큐에 source의 블록/점수 정보를 합친 전체 상태 메시지
+    private BoardUpdateMessage rebuild(
+            BoardUpdateMessage source, int pieceX, int pieceY, int pieceRotation) {
+        return new BoardUpdateMessage(
+                source.getPlayerId(),
+                board,
+                pieceX,
+                pieceY,
+                source.getCurrentPieceType(),
+                pieceRotation,
+                source.getCurrentPieceIsItem(),
+                source.getCurrentPieceItemType(),
+                source.getCurrentPieceItemBlockIndex(),
+                source.getNextPieceType(),
+                source.getNextPieceIsItem(),
+                source.getNextPieceItemType(),
+                source.getNextPieceItemBlockIndex(),
+                incoming,
+                source.getScore(),
+                source.getLinesCleared(),
+                source.getLevel());
+    }
+}
@@ -0,0 +1,148 @@
+package team13.tetris.network.protocol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+// 보내는 쪽 보드 상태를 직전 프레임과 비교해 가장 작은 BoardUpdateMessage로 만듭니다.
+// - 보드가 바뀌었거나 블록 종류/점수 등이 바뀌면 DELTA (바뀐 줄만)
+// - 현재 블록 위치/회전만 바뀌면 PIECE
+// - 아무것도 바뀌지 않았으면 null (보낼 필요 없음)
+// - KEYFRAME_INTERVAL 프레임마다, 또는 forceKeyframe() 이후에는 FULL
+// TCP는 순서와 도착을 보장하므로 마지막으로 보낸 프레임을 상대가 받은 기준 프레임으로 봅니다.
+// 전송에 실패했다면 forceKeyframe()으로 다음 프레임을 키프레임으로 보내야 합니다.
+public class BoardUpdateEncoder {
+    public static final int KEYFRAME_INTERVAL = 60;
+
+    private final String playerId;
+    private int sequence = 0;
+    private int framesSinceKeyframe = 0;
+    private boolean keyframeRequested = true;
+
+    private BoardUpdateMessage.Snapshot last;
+    private Queue<int[][]> lastIncoming;
+
+    public BoardUpdateEncoder(String playerId) {
+        this.playerId = playerId;
+    }
+
+    // 다음 encode()가 키프레임을 만들도록 함 (게임 시작, 전송 실패, 재개 후 등)
+    public void forceKeyframe() {
+        keyframeRequested = true;
+    }
+
+    public BoardUpdateMessage encode(
+            BoardUpdateMessage.Snapshot state, Queue<int[][]> incomingBlocks) {
+        if (keyframeRequested || last == null || framesSinceKeyframe + 1 >= KEYFRAME_INTERVAL) {
+            return emitKeyframe(state, incomingBlocks);
+        }
+
+        int[][] board = state.board;
+        if (board.length != last.board.length) return emitKeyframe(state, incomingBlocks);
+
+        List<Integer> rows = new ArrayList<>();
+        for (int r = 0; r < board.length; r++) {
+            if (!Arrays.equals(board[r], last.board[r])) rows.add(r);
+        }
+        boolean incomingChanged = !sameBlocks(incomingBlocks, lastIncoming);
+
+        BoardUpdateMessage msg;
+        if (rows.isEmpty() && !incomingChanged && state.sameExceptBoardAndPosition(last)) {
+            if (state.samePosition(last)) return null; // 변경 없음
+            msg =
+                    BoardUpdateMessage.pieceMoved(
+                            playerId,
+                            sequence + 1,
+                            sequence,
+                            state.pieceX,
+                            state.pieceY,
+                            state.pieceRotation);
+        } else {
+            int[] changedRows = new int[rows.size()];
+            int[][] changedRowData = new int[rows.size()][];
+            for (int i = 0; i < changedRows.length; i++) {
+                changedRows[i] = rows.get(i);
+                changedRowData[i] = board[changedRows[i]];
+            }
+            msg =
+                    BoardUpdateMessage.delta(
+                            playerId,
+                            sequence + 1,
+                            sequence,
+                            changedRows,
+                            changedRowData,
+                            state,
+                            incomingChanged ? incomingBlocks : null);
+        }
+
+        sequence++;
+        framesSinceKeyframe++;
+        remember(state, incomingBlocks);
+        return msg;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    private BoardUpdateMessage emitKeyframe(
+            BoardUpdateMessage.Snapshot state, Queue<int[][]> incomingBlocks) {
+        sequence++;
+        framesSinceKeyframe = 0;
+        keyframeRequested = false;
+        remember(state, incomingBlocks);
+        return BoardUpdateMessage.keyframe(playerId, sequence, state, incomingBlocks);
+    }
+
+    // 호출한 쪽이 배열을 다시 쓰더라도 비교 기준이 바뀌지 않도록 복사해 둠
+    private void remember(BoardUpdateMessage.Snapshot state, Queue<int[][]> incomingBlocks) {
+        int[][] board = new int[state.board.length][];
+        for (int r = 0; r < board.length; r++) board[r] = state.board[r].clone();
+        last =
+                new BoardUpdateMessage.Snapshot(
+                        board,
+                        state.pieceX,
+                        state.pieceY,
+                        state.pieceType,
+                        state.pieceRotation,
+                        state.pieceIsItem,
+                        state.pieceItemType,
+                        state.pieceItemBlockIndex,
+                        state.nextPieceType,
+                        state.nextIsItem,
+                        state.nextItemType,
+                        state.nextItemBlockIndex,
+                        state.score,
+                        state.lines,
+                        state.level);
+
+        lastIncoming = new LinkedList<>();
+        if (incomingBlocks != null) {
+            for (int[][] block : incomingBlocks) lastIncoming.add(copy(block));
+        }
+    }
+
+    private static boolean sameBlocks(Queue<int[][]> a, Queue<int[][]> b) {
+        int sizeA = a != null ? a.size() : 0;
+        int sizeB = b != null ? b.size() : 0;
+        if (sizeA != sizeB) return false;
+        if (sizeA == 0) return true;
+
+        Iterator<int[][]> ia = a.iterator();
+        Iterator<int[][]> ib = b.iterator();
+        while (ia.hasNext()) {
+            if (!Arrays.deepEquals(ia.next(), ib.next())) return false;
+        }
+        return true;
+    }
+
+    private static int[][] copy(int[][] src) {
+        if (src == null) return null;
+        int[][] dst = new int[src.length][];
+        for (int i = 0; i < src.length; i++) dst[i] = src[i] != null ? src[i].clone() : null;
+        return dst;
+    }
+}
@@ -1,13 +1,31 @@
 package team13.tetris.network.protocol;
 
 import java.util.LinkedList;
+import java.util.Objects;
 import java.util.Queue;
 
 // 게임 보드 상태를 전송하는 메시지 (다음 블록, incoming blocks 포함)
+// 키 입력마다 전체 보드를 보내지 않도록 세 가지 인코딩을 가집니다.
+// - FULL: 전체 보드를 담은 키프레임 (재동기화 기준)
+// - DELTA: 직전 프레임(baseSequence) 대비 바뀐 줄만 담음, incoming 큐는 바뀐 경우에만 포함
+// - PIECE: 보드는 그대로이고 현재 블록 위치/회전만 바뀐 경우
+// 만드는 쪽은 BoardUpdateEncoder, 받는 쪽은 BoardUpdateDecoder로 전체 상태를 복원합니다.
 public class BoardUpdateMessage extends NetworkMessage {
     private static final long serialVersionUID = 1L;
 
-    private final int[][] boardState; // 게임 보드 상태 (2D 배열)
+    public enum Encoding {
+        FULL,
+        DELTA,
+        PIECE
+    }
+
+    private final Encoding encoding;
+    private final int sequence; // 보낸 쪽 프레임 번호
+    private final int baseSequence; // DELTA/PIECE가 기준으로 삼는 프레임 번호 (FULL은 -1)
+    private final int[] changedRows; // DELTA: 바뀐 줄 인덱스
+    private final int[][] changedRowData; // DELTA: 바뀐 줄 내용 (changedRows와 같은 순서)
+
+    private final int[][] boardState; // 게임 보드 상태 (2D 배열, FULL에만 포함)
     private final int currentPieceX; // 현재 블록 X 좌표
     private final int currentPieceY; // 현재 블록 Y 좌표
     private final int currentPieceType; // 현재 블록 타입 (T, I, O, S, Z, J, L)
@@ -19,7 +37,7 @@ public class BoardUpdateMessage extends NetworkMessage {
     private final boolean nextPieceIsItem; // 다음 블록이 아이템인지 여부
     private final String nextPieceItemType; // 다음 블록의 아이템 타입
     private final int nextPieceItemBlockIndex; // 다음 블록의 아이템 인덱스
-    private final Queue<int[][]> incomingBlocks; // 공격받을 블록 미리보기
+    private final Queue<int[][]> incomingBlocks; // 공격받을 블록 미리보기 (null이면 변경 없음)
     private final int score; // 현재 점수
     private final int linesCleared; // 삭제한 줄 수
     private final int level; // 현재 레벨
@@ -43,8 +61,62 @@ public class BoardUpdateMessage extends NetworkMessage {
             int score,
             int lines,
             int level) {
+        this(
+                playerId,
+                Encoding.FULL,
+                0,
+                -1,
+                null,
+                null,
+                board,
+                pieceX,
+                pieceY,
+                pieceType,
+                pieceRotation,
+                pieceIsItem,
+                pieceItemType,
+                pieceItemBlockIndex,
+                nextPieceType,
+                nextIsItem,
+                nextItemType,
+                nextItemBlockIndex,
+                incomingBlocks != null ? incomingBlocks : new LinkedList<>(),
+                score,
+                lines,
+                level);
+    }
+
+    // 모든 필드를 그대로 받는 생성자 (팩토리 메서드와 BinaryCodec에서 사용)
+    BoardUpdateMessage(
+            String playerId,
+            Encoding encoding,
+            int sequence,
+            int baseSequence,
+            int[] changedRows,
+            int[][] changedRowData,
+            int[][] board,
+            int pieceX,
+            int pieceY,
+            int pieceType,
+            int pieceRotation,
+            boolean pieceIsItem,
+            String pieceItemType,
+            int pieceItemBlockIndex,
+            int nextPieceType,
+            boolean nextIsItem,
+            String nextItemType,
+            int nextItemBlockIndex,
+            Queue<int[][]> incomingBlocks,
+            int score,
+            int lines,
+            int level) {
         super(MessageType.BOARD_UPDATE, playerId);
 
+        this.encoding = encoding;
+        this.sequence = sequence;
+        this.baseSequence = baseSequence;
+        this.changedRows = changedRows;
+        this.changedRowData = changedRowData;
         this.boardState = deepCopyBoard(board);
         this.currentPieceX = pieceX;
         this.currentPieceY = pieceY;
@@ -57,15 +129,109 @@ public class BoardUpdateMessage extends NetworkMessage {
         this.nextPieceIsItem = nextIsItem;
         this.nextPieceItemType = nextItemType;
         this.nextPieceItemBlockIndex = nextItemBlockIndex;
-        this.incomingBlocks =
-                incomingBlocks != null ? new LinkedList<>(incomingBlocks) : new LinkedList<>();
+        this.incomingBlocks = incomingBlocks != null ? new LinkedList<>(incomingBlocks) : null;
         this.score = score;
         this.linesCleared = lines;
         this.level = level;
     }
 
+    // 전체 보드를 담은 키프레임
+    public static BoardUpdateMessage keyframe(
+            String playerId, int sequence, Snapshot state, Queue<int[][]> incomingBlocks) {
+        return new BoardUpdateMessage(
+                playerId,
+                Encoding.FULL,
+                sequence,
+                -1,
+                null,
+                null,
+                state.board,
+                state.pieceX,
+                state.pieceY,
+                state.pieceType,
+                state.pieceRotation,
+                state.pieceIsItem,
+                state.pieceItemType,
+                state.pieceItemBlockIndex,
+                state.nextPieceType,
+                state.nextIsItem,
+                state.nextItemType,
+                state.nextItemBlockIndex,
+                incomingBlocks != null ? incomingBlocks : new LinkedList<>(),
+                state.score,
+                state.lines,
+                state.level);
+    }
+
+    // 바뀐 줄만 담은 델타 (incomingBlocks가 null이면 큐는 그대로)
+    public static BoardUpdateMessage delta(
+            String playerId,
+            int sequence,
+            int baseSequence,
+            int[] changedRows,
+            int[][] changedRowData,
+            Snapshot state,
+            Queue<int[][]> incomingBlocks) {
+        return new BoardUpdateMessage(
+                playerId,
+                Encoding.DELTA,
+                sequence,
+                baseSequence,
+                changedRows.clone(),
+                deepCopyBoard(changedRowData),
+                null,
+                state.pieceX,
+                state.pieceY,
+                state.pieceType,
+                state.pieceRotation,
+                state.pieceIsItem,
+                state.pieceItemType,
+                state.pieceItemBlockIndex,
+                state.nextPieceType,
+                state.nextIsItem,
+                state.nextItemType,
+                state.nextItemBlockIndex,
+                incomingBlocks,
+                state.score,
+                state.lines,
+                state.level);
+    }
+
+    // 현재 블록 이동/회전만 있을 때 보내는 작은 메시지
+    public static BoardUpdateMessage pieceMoved(
+            String playerId,
+            int sequence,
+            int baseSequence,
+            int pieceX,
+            int pieceY,
+            int pieceRotation) {
+        return new BoardUpdateMessage(
+                playerId,
+                Encoding.PIECE,
+                sequence,
+                baseSequence,
+                null,
+                null,
+                null,
+                pieceX,
+                pieceY,
+                -1,
+                pieceRotation,
+                false,
+                null,
+                -1,
+                -1,
+                false,
+                null,
+                -1,
+                null,
+                0,
+                0,
+                0);
+    }
+
     // 2차원 배열을 깊은 복사합니다.
-    private int[][] deepCopyBoard(int[][] original) {
+    private static int[][] deepCopyBoard(int[][] original) {
         if (original == null) {
             return null;
         }
@@ -79,6 +245,33 @@ public class BoardUpdateMessage extends NetworkMessage {
         return copy;
     }
 
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    public boolean isKeyframe() {
+        return encoding == Encoding.FULL;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getBaseSequence() {
+        return baseSequence;
+    }
+
+    // DELTA: 바뀐 줄 인덱스 (그 외에는 빈 배열)
+    public int[] getChangedRows() {
+        return changedRows != null ? changedRows.clone() : new int[0];
+    }
+
+    // DELTA: 바뀐 줄 내용 (그 외에는 빈 배열)
+    public int[][] getChangedRowData() {
+        return changedRowData != null ? deepCopyBoard(changedRowData) : new int[0][];
+    }
+
+    // FULL이 아니면 null
     public int[][] getBoardState() {
         return deepCopyBoard(boardState); // 외부에서 수정하지 못하도록 복사본 반환
     }
@@ -127,8 +320,13 @@ public class BoardUpdateMessage extends NetworkMessage {
         return nextPieceItemBlockIndex;
     }
 
+    // DELTA/PIECE에서 큐가 바뀌지 않았으면 false
+    public boolean hasIncomingBlocks() {
+        return incomingBlocks != null;
+    }
+
     public Queue<int[][]> getIncomingBlocks() {
-        return new LinkedList<>(incomingBlocks);
+        return incomingBlocks != null ? new LinkedList<>(incomingBlocks) : new LinkedList<>();
     }
 
     public int getScore() {
@@ -153,6 +351,10 @@ public class BoardUpdateMessage extends NetworkMessage {
                 + "playerId='"
                 + getSenderId()
                 + '\''
+                + ", encoding="
+                + encoding
+                + ", sequence="
+                + sequence
                 + ", currentPiece=("
                 + currentPieceX
                 + ","
@@ -165,7 +367,7 @@ public class BoardUpdateMessage extends NetworkMessage {
                 + ", nextPieceType="
                 + nextPieceType
                 + ", incomingBlocksCount="
-                + incomingBlocks.size()
+                + (incomingBlocks != null ? incomingBlocks.size() : -1)
                 + ", score="
                 + score
                 + ", linesCleared="
@@ -179,4 +381,75 @@ public class BoardUpdateMessage extends NetworkMessage {
                 + "ms"
                 + '}';
     }
+
+    // 보내는 쪽의 한 프레임 상태 (인코더가 직전 프레임과 비교할 때 사용)
+    public static final class Snapshot {
+        final int[][] board;
+        final int pieceX;
+        final int pieceY;
+        final int pieceType;
+        final int pieceRotation;
+        final boolean pieceIsItem;
+        final String pieceItemType;
+        final int pieceItemBlockIndex;
+        final int nextPieceType;
+        final boolean nextIsItem;
+        final String nextItemType;
+        final int nextItemBlockIndex;
+        final int score;
+        final int lines;
+        final int level;
+
+        public Snapshot(
+                int[][] board,
+                int pieceX,
+                int pieceY,
+                int pieceType,
+                int pieceRotation,
+                boolean pieceIsItem,
+                String pieceItemType,
+                int pieceItemBlockIndex,
+                int nextPieceType,
+                boolean nextIsItem,
+                String nextItemType,
+                int nextItemBlockIndex,
+                int score,
+                int lines,
+                int level) {
+            this.board = board;
+            this.pieceX = pieceX;
+            this.pieceY = pieceY;
+            this.pieceType = pieceType;
+            this.pieceRotation = pieceRotation;
+            this.pieceIsItem = pieceIsItem;
+            this.pieceItemType = pieceItemType;
+            this.pieceItemBlockIndex = pieceItemBlockIndex;
+            this.nextPieceType = nextPieceType;
+            this.nextIsItem = nextIsItem;
+            this.nextItemType = nextItemType;
+            this.nextItemBlockIndex = nextItemBlockIndex;
+            this.score = score;
+            this.lines = lines;
+            this.level = level;
+        }
+
+        // 보드와 현재 블록 위치/회전을 뺀 나머지가 같은지
+        boolean sameExceptBoardAndPosition(Snapshot o) {
+            return pieceType == o.pieceType
+                    && pieceIsItem == o.pieceIsItem
+                    && Objects.equals(pieceItemType, o.pieceItemType)
+                    && pieceItemBlockIndex == o.pieceItemBlockIndex
+                    && nextPieceType == o.nextPieceType
+                    && nextIsItem == o.nextIsItem
+                    && Objects.equals(nextItemType, o.nextItemType)
+                    && nextItemBlockIndex == o.nextItemBlockIndex
+                    && score == o.score
+                    && lines == o.lines
+                    && level == o.level;
+        }
+
+        boolean samePosition(Snapshot o) {
+            return pieceX == o.pieceX && pieceY == o.pieceY && pieceRotation == o.pieceRotation;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package team13.tetris.network.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 연결 직후 CONNECTION_REQUEST 전에 전송 방식을 정합니다.
+// - 클라이언트: 매직 4바이트 + 지원하는 최고 코덱 버전을 보냄
+// - 새 서버: 매직을 보면 같은 매직 + 양쪽이 아는 버전으로 응답하고 바이너리 코덱 사용
+// - 이전 클라이언트: 첫 바이트가 Java 직렬화 헤더(0xACED)이므로 서버는 직렬화로 처리
+// - 이전 서버: 접속 즉시 직렬화 헤더를 보내므로 클라이언트는 LegacyPeerException을 받고
+//   새 소켓으로 직렬화 전송을 사용해 다시 접속해야 함
+public final class ChannelNegotiator {
+    private static final byte[] MAGIC = {'T', 'T', 'R', 'S'};
+    private static final int SERIAL_MAGIC_0 = 0xAC;
+    private static final int SERIAL_MAGIC_1 = 0xED;
+
+    private ChannelNegotiator() {}
+
+    // 상대가 바이너리 코덱을 모르는 이전 버전 서버일 때
+    public static class LegacyPeerException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public LegacyPeerException() {
+            super("Peer only supports Java serialization");
+        }
+    }
+
+    // 클라이언트 쪽: 바이너리 코덱을 요청
+    public static MessageChannel client(InputStream in, OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(BinaryCodec.VERSION);
+        out.flush();
+
+        byte[] reply = in.readNBytes(MAGIC.length);
+        if (Arrays.equals(reply, MAGIC)) {
+            int version = in.read();
+            if (version < 1 || version > BinaryCodec.VERSION) {
+                throw new IOException("Unsupported codec version: " + version);
+            }
+            return new BinaryMessageChannel(in, out, version);
+        }
+        if (reply.length >= 2
+                && (reply[0] & 0xFF) == SERIAL_MAGIC_0
+                && (reply[1] & 0xFF) == SERIAL_MAGIC_1) {
+            throw new LegacyPeerException();
+        }
+        throw new IOException("Unknown handshake from server");
+    }
+
+    // 서버 쪽: 클라이언트가 보낸 첫 바이트로 전송 방식을 고름
+    // 스트림은 mark/reset을 지원해야 하므로 필요하면 BufferedInputStream으로 감쌈
+    public static MessageChannel server(InputStream in, OutputStream out) throws IOException {
+        if (!in.markSupported()) in = new BufferedInputStream(in);
+
+        in.mark(MAGIC.length);
+        byte[] head = in.readNBytes(MAGIC.length);
+        if (Arrays.equals(head, MAGIC)) {
+            int requested = in.read();
+            if (requested < 1) throw new IOException("Invalid codec version: " + requested);
+            int version = Math.min(requested, BinaryCodec.VERSION);
+            out.write(MAGIC);
+            out.write(version);
+            out.flush();
+            return new BinaryMessageChannel(in, out, version);
+        }
+
+        // 이전 클라이언트: 읽은 헤더를 되돌리고 Java 직렬화로 처리
+        in.reset();
+        return new ObjectMessageChannel(in, out);
+    }
+
+    // 논블로킹 서버용: 버퍼에 모인 첫 바이트로 전송 방식을 고름
+    // 반환값: 바이트가 더 필요하면 -1, 이전 클라이언트(직렬화 헤더)면 0, 그 외 사용할 코덱 버전
+    // 이전 클라이언트는 헤더 4바이트만 보내고 응답을 기다리므로 4바이트 안에서 판단해야 함
+    public static int selectVersion(ByteBuffer buf) throws IOException {
+        int start = buf.position();
+        if (buf.remaining() >= 2
+                && (buf.get(start) & 0xFF) == SERIAL_MAGIC_0
+                && (buf.get(start + 1) & 0xFF) == SERIAL_MAGIC_1) {
+            return 0;
+        }
+        for (int i = 0; i < MAGIC.length && i < buf.remaining(); i++) {
+            if (buf.get(start + i) != MAGIC[i]) throw new IOException("Unknown handshake");
+        }
+        if (buf.remaining() < MAGIC.length + 1) return -1;
+
+        buf.position(start + MAGIC.length);
+        int requested = buf.get() & 0xFF;
+        if (requested < 1) throw new IOException("Invalid codec version: " + requested);
+        return Math.min(requested, BinaryCodec.VERSION);
+    }
+
+    // 논블로킹 서버용: selectVersion으로 고른 버전을 알리는 응답
+    public static ByteBuffer serverReply(int version) {
+        ByteBuffer reply = ByteBuffer.allocate(MAGIC.length + 1);
+        reply.put(MAGIC).put((byte) version).flip();
+        return reply;
+    }
+}
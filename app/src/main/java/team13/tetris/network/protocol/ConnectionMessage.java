@@ -6,6 +6,7 @@ public class ConnectionMessage extends NetworkMessage {
 
     private final String message; // 메시지 내용
     private final String targetPlayerId; // 대상 플레이어 ID (필요한 경우)
+    private final long seed; // GAME_START: 양쪽이 공유하는 조각 생성 시드
 
     public ConnectionMessage(MessageType type, String senderId, String message) {
         this(type, senderId, message, null);
@@ -13,6 +14,11 @@ public class ConnectionMessage extends NetworkMessage {
 
     public ConnectionMessage(
             MessageType type, String senderId, String message, String targetPlayerId) {
+        this(type, senderId, message, targetPlayerId, 0L);
+    }
+
+    public ConnectionMessage(
+            MessageType type, String senderId, String message, String targetPlayerId, long seed) {
         super(type, senderId);
 
         // 연결 관련 타입만 허용
@@ -20,6 +26,7 @@ public class ConnectionMessage extends NetworkMessage {
 
         this.message = message != null ? message : "";
         this.targetPlayerId = targetPlayerId;
+        this.seed = seed;
     }
 
     private void validateConnectionType(MessageType type) {
@@ -48,6 +55,15 @@ public class ConnectionMessage extends NetworkMessage {
                 "Player '" + playerName + "' requests to connect");
     }
 
+    // 방 서버(RoomServer)에 참가 요청, 대상 필드에 방 ID를 담음 (없는 방이면 새로 만들어짐)
+    public static ConnectionMessage createRoomJoinRequest(String playerId, String roomId) {
+        return new ConnectionMessage(
+                MessageType.CONNECTION_REQUEST,
+                playerId,
+                "Player '" + playerId + "' joins room '" + roomId + "'",
+                roomId);
+    }
+
     public static ConnectionMessage createConnectionAccepted(
             String serverId, String acceptedPlayerId) {
         return new ConnectionMessage(
@@ -71,6 +87,12 @@ public class ConnectionMessage extends NetworkMessage {
         return new ConnectionMessage(MessageType.GAME_START, senderId, "Game starting!");
     }
 
+    // 시드를 함께 보내면 양쪽이 같은 조각 순서로 게임을 시작함
+    public static ConnectionMessage createGameStart(String senderId, long seed) {
+        return new ConnectionMessage(
+                MessageType.GAME_START, senderId, "Game starting!", null, seed);
+    }
+
     public static ConnectionMessage createCountdownStart(String senderId) {
         return new ConnectionMessage(MessageType.COUNTDOWN_START, senderId, "Countdown starting!");
     }
@@ -97,6 +119,10 @@ public class ConnectionMessage extends NetworkMessage {
         return targetPlayerId;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
     public boolean hasTarget() {
         return targetPlayerId != null && !targetPlayerId.trim().isEmpty();
     }
@@ -130,6 +156,9 @@ public class ConnectionMessage extends NetworkMessage {
             sb.append(", target='").append(targetPlayerId).append('\'');
         }
         sb.append(", message='").append(message).append('\'');
+        if (getType() == MessageType.GAME_START) {
+            sb.append(", seed=").append(seed);
+        }
         sb.append(", timestamp=").append(getTimestamp());
         sb.append(", elapsedTime=").append(getElapsedTime()).append("ms");
         sb.append('}');
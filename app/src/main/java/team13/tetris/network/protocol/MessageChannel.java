@@ -0,0 +1,17 @@
+package team13.tetris.network.protocol;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 소켓 위에서 NetworkMessage를 주고받는 전송 방식 (Java 직렬화 또는 바이너리 코덱)
+// send()는 여러 스레드에서 호출해도 안전하고, receive()는 한 스레드(수신 루프)에서만 호출합니다.
+public interface MessageChannel extends Closeable {
+
+    void send(NetworkMessage message) throws IOException;
+
+    // 다음 메시지를 받을 때까지 블로킹, 알 수 없는 객체면 null
+    NetworkMessage receive() throws IOException, ClassNotFoundException;
+
+    // 로그/진단용 전송 방식 이름
+    String getFormat();
+}
@@ -8,7 +8,7 @@ public abstract class NetworkMessage implements Serializable {
 
     private final MessageType type;
     private final String senderId;
-    private final long timestamp; // 입력 이벤트가 발생한 시간 기록
+    private long timestamp; // 입력 이벤트가 발생한 시간 기록
 
     protected NetworkMessage(MessageType type, String senderId) {
         if (type == null) {
@@ -31,6 +31,11 @@ public abstract class NetworkMessage implements Serializable {
         return senderId;
     }
 
+    // BinaryCodec 전용: 보낸 쪽에서 기록한 시간을 복원
+    void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
     public long getTimestamp() {
         return timestamp;
     }
@@ -0,0 +1,88 @@
+package team13.tetris.network.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 기존 Java 직렬화 전송 (바이너리 코덱을 모르는 이전 버전과 통신할 때 사용)
+// ObjectOutputStream은 한 번 보낸 객체를 역참조 테이블에 계속 붙잡아 두므로
+// 메시지마다 reset()으로 테이블을 비웁니다. reset 표시는 수신 측 테이블도 함께 비웁니다.
+public class ObjectMessageChannel implements MessageChannel {
+    // 매직 없이 들어온 상대는 누구든 이 스트림으로 넘어오므로 프로토콜 메시지 외의 클래스는 거부
+    // 기본형 배열(int[], int[][])은 패턴이 따로 막지 않으며, 크기와 깊이는 한도로 제한
+    private static final ObjectInputFilter ALLOWED =
+            ObjectInputFilter.Config.createFilter(
+                    "maxdepth=8;maxarray=4096;"
+                            + "team13.tetris.network.protocol.*;"
+                            + "java.lang.Enum;java.util.LinkedList;java.util.ArrayList;!*");
+    // 보드 업데이트 하나가 만드는 참조는 수십 개 수준
+    private static final long MAX_REFS_PER_MESSAGE = 4096;
+
+    private final ObjectOutputStream output;
+    // BinaryMessageChannel과 같은 이유로 synchronized 대신 락 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private final ObjectInputStream input;
+    private final MessageFilter filter = new MessageFilter();
+
+    // 출력 스트림 헤더를 먼저 보내야 양쪽이 서로의 헤더를 기다리며 멈추지 않음
+    public ObjectMessageChannel(InputStream in, OutputStream out) throws IOException {
+        this.output = new ObjectOutputStream(out);
+        this.output.flush();
+        this.input = new ObjectInputStream(in);
+        this.input.setObjectInputFilter(filter);
+    }
+
+    @Override
+    public void send(NetworkMessage message) throws IOException {
+        sendLock.lock();
+        try {
+            output.writeObject(message);
+            // writeUnshared는 최상위 객체만 공유하지 않으므로 내부 보드 배열까지 놓아주려면 reset이 필요
+            output.reset();
+            output.flush();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public NetworkMessage receive() throws IOException, ClassNotFoundException {
+        filter.nextMessage();
+        Object obj = input.readObject();
+        return obj instanceof NetworkMessage message ? message : null;
+    }
+
+    @Override
+    public String getFormat() {
+        return "java-serialization";
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            input.close();
+        } finally {
+            output.close();
+        }
+    }
+
+    // 스트림의 참조 수는 reset 후에도 누적되므로 maxrefs 대신 메시지마다 다시 세어 제한
+    private static final class MessageFilter implements ObjectInputFilter {
+        private long messageStart = -1;
+
+        void nextMessage() {
+            messageStart = -1;
+        }
+
+        @Override
+        public Status checkInput(FilterInfo info) {
+            if (messageStart < 0) messageStart = info.references();
+            if (info.references() - messageStart > MAX_REFS_PER_MESSAGE) return Status.REJECTED;
+            return ALLOWED.checkInput(info);
+        }
+    }
+}
@@ -8,8 +8,9 @@ import team13.tetris.network.protocol.*;
 public class ClientHandler implements Runnable {
     private final Socket clientSocket;
     private final TetrisServer server;
-    private ObjectInputStream input;
-    private ObjectOutputStream output;
+    private InputStream input;
+    private OutputStream output;
+    private MessageChannel channel; // 연결 시 협상한 전송 방식 (바이너리 또는 Java 직렬화)
     private String playerId;
     private volatile boolean running = true;
 
@@ -34,17 +35,18 @@ public class ClientHandler implements Runnable {
         }
     }
 
-    // 입출력 스트림 설정
+    // 입출력 스트림 설정 및 전송 방식 협상
     private void setupStreams() throws IOException {
-        output = new ObjectOutputStream(clientSocket.getOutputStream());
-        output.flush();
-        input = new ObjectInputStream(clientSocket.getInputStream());
+        output = new BufferedOutputStream(clientSocket.getOutputStream());
+        input = new BufferedInputStream(clientSocket.getInputStream());
+        channel = ChannelNegotiator.server(input, output);
+        System.out.println("[ClientHandler] Wire format: " + channel.getFormat());
     }
 
     // 클라이언트 연결 처리
     private boolean handleConnectionRequest() throws IOException {
         try {
-            Object obj = input.readObject();
+            NetworkMessage obj = channel.receive();
             if (!(obj instanceof ConnectionMessage req) || !req.isConnectionRequest()) {
                 System.err.println("[ClientHandler] Invalid connection request.");
                 return false;
@@ -77,9 +79,9 @@ public class ClientHandler implements Runnable {
     private void messageLoop() {
         while (running && !clientSocket.isClosed()) {
             try {
-                Object obj = input.readObject();
+                NetworkMessage message = channel.receive();
 
-                if (obj instanceof NetworkMessage message) {
+                if (message != null) {
                     handleMessage(message);
                 }
             } catch (IOException e) {
@@ -155,10 +157,7 @@ public class ClientHandler implements Runnable {
 
     // 서버 -> 클라이언트 메시지 전송
     public void sendMessage(NetworkMessage msg) throws IOException {
-        synchronized (output) {
-            output.writeObject(msg);
-            output.flush();
-        }
+        channel.send(msg);
     }
 
     // 연결 종료
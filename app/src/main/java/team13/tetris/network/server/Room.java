@@ -0,0 +1,168 @@
+package team13.tetris.network.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import team13.tetris.network.protocol.BinaryCodec;
+import team13.tetris.network.protocol.ConnectionMessage;
+import team13.tetris.network.protocol.GameModeMessage;
+import team13.tetris.network.protocol.NetworkMessage;
+
+// RoomServer의 1대1 대전 방 하나 (셀렉터 스레드에서만 사용)
+// TetrisServer가 서버 전체에 하나씩 두던 준비 상태/카운트다운/게임 진행 상태를 방마다 가짐
+final class Room {
+    static final int CAPACITY = 2;
+
+    private final String roomId;
+    private final boolean matchmade; // 방 ID 없이 접속해 자동으로 만들어진 방
+    private final RoomServer server;
+    private final List<RoomConnection> players = new ArrayList<>(CAPACITY);
+    private final Map<String, Boolean> playerReadyStates = new HashMap<>();
+    private GameModeMessage.GameMode selectedGameMode = GameModeMessage.GameMode.NORMAL;
+    private ScheduledFuture<?> countdownFuture = null;
+    private long currentCountdownId = 0;
+    private boolean gameInProgress = false;
+
+    Room(String roomId, boolean matchmade, RoomServer server) {
+        this.roomId = roomId;
+        this.matchmade = matchmade;
+        this.server = server;
+    }
+
+    String getRoomId() {
+        return roomId;
+    }
+
+    boolean isMatchmade() {
+        return matchmade;
+    }
+
+    boolean isFull() {
+        return players.size() >= CAPACITY;
+    }
+
+    boolean isEmpty() {
+        return players.isEmpty();
+    }
+
+    boolean isGameInProgress() {
+        return gameInProgress;
+    }
+
+    int getPlayerCount() {
+        return players.size();
+    }
+
+    // 새 플레이어에게 현재 방 상태(게임 모드, 이미 준비한 상대)를 알림
+    void add(RoomConnection conn) {
+        players.add(conn);
+        conn.room = this;
+
+        server.send(conn, new GameModeMessage(RoomServer.SERVER_ID, selectedGameMode));
+        for (RoomConnection other : players) {
+            if (other != conn && playerReadyStates.getOrDefault(other.playerId, false)) {
+                server.send(conn, ConnectionMessage.createPlayerReady(other.playerId));
+            }
+        }
+    }
+
+    // 플레이어가 나감: 게임 중이면 남은 플레이어에게 게임 종료, 대기 중이면 준비 취소로 알림
+    void remove(RoomConnection conn) {
+        if (!players.remove(conn)) return;
+        conn.room = null;
+        playerReadyStates.remove(conn.playerId);
+
+        if (gameInProgress) {
+            endGame("Player " + conn.playerId + " disconnected");
+        } else {
+            cancelCountdown();
+            broadcast(ConnectionMessage.createPlayerUnready(conn.playerId), null);
+        }
+    }
+
+    // 방을 처음 만든 플레이어만 게임 모드를 바꿀 수 있음
+    void selectGameMode(RoomConnection conn, GameModeMessage.GameMode gameMode) {
+        if (gameInProgress || gameMode == null || players.indexOf(conn) != 0) return;
+        selectedGameMode = gameMode;
+        cancelCountdown();
+        broadcast(new GameModeMessage(RoomServer.SERVER_ID, gameMode), null);
+    }
+
+    void setPlayerReady(RoomConnection conn, boolean ready) {
+        if (gameInProgress) return;
+        playerReadyStates.put(conn.playerId, ready);
+        if (ready) {
+            broadcast(ConnectionMessage.createPlayerReady(conn.playerId), conn);
+            checkAllReady();
+        } else {
+            cancelCountdown();
+            broadcast(ConnectionMessage.createPlayerUnready(conn.playerId), conn);
+        }
+    }
+
+    // 두 명이 모두 준비되면 카운트다운 후 게임 시작
+    private void checkAllReady() {
+        if (!isFull() || countdownFuture != null) return;
+        for (RoomConnection player : players) {
+            if (!playerReadyStates.getOrDefault(player.playerId, false)) return;
+        }
+
+        final long countdownId = ++currentCountdownId;
+        broadcast(ConnectionMessage.createCountdownStart(RoomServer.SERVER_ID), null);
+        countdownFuture = server.schedule(() -> startGame(countdownId));
+    }
+
+    private void cancelCountdown() {
+        if (countdownFuture != null) {
+            countdownFuture.cancel(false);
+            countdownFuture = null;
+        }
+        currentCountdownId++; // 이미 실행 대기 중인 카운트다운도 무시되도록
+    }
+
+    private void startGame(long countdownId) {
+        if (countdownId != currentCountdownId || !isFull()) return;
+        countdownFuture = null;
+        gameInProgress = true;
+
+        // 양쪽이 같은 조각 순서를 쓰도록 시드 포함
+        long seed = ThreadLocalRandom.current().nextLong();
+        broadcast(ConnectionMessage.createGameStart(RoomServer.SERVER_ID, seed), null);
+    }
+
+    // 플레이어가 게임 오버를 알리면 상대에게 전달하고 다음 판을 위해 준비 상태 초기화
+    void onPlayerGameOver(RoomConnection conn, NetworkMessage message) {
+        forward(conn, message);
+        if (gameInProgress) resetForNextGame();
+    }
+
+    private void endGame(String reason) {
+        broadcast(ConnectionMessage.createGameOver(RoomServer.SERVER_ID, reason), null);
+        resetForNextGame();
+    }
+
+    private void resetForNextGame() {
+        gameInProgress = false;
+        cancelCountdown();
+        playerReadyStates.clear();
+    }
+
+    // 게임 데이터(보드, 공격, 일시정지 등)는 같은 방의 상대에게만 전달
+    void forward(RoomConnection sender, NetworkMessage message) {
+        broadcast(message, sender);
+    }
+
+    // 방 안의 플레이어에게 전송 (except 제외), 프레임은 한 번만 인코딩
+    private void broadcast(NetworkMessage message, RoomConnection except) {
+        ByteBuffer frame = null;
+        for (RoomConnection player : new ArrayList<>(players)) {
+            if (player == except) continue;
+            if (frame == null) frame = BinaryCodec.encodeFrame(message);
+            server.send(player, frame);
+        }
+    }
+}
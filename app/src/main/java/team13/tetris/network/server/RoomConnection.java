@@ -0,0 +1,109 @@
+package team13.tetris.network.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import team13.tetris.network.protocol.BinaryCodec;
+
+// RoomServer의 논블로킹 연결 하나 (셀렉터 스레드에서만 사용)
+// 받은 바이트는 readBuffer에 모으고, 보낼 프레임은 큐에 쌓았다가 소켓이 받아주는 만큼 씀
+final class RoomConnection {
+    private static final int INITIAL_READ_BYTES = 4096;
+    private static final int MAX_READ_BYTES = BinaryCodec.MAX_FRAME_BYTES + 5;
+    // 상대가 읽지 않아 쌓인 바이트가 이만큼 넘으면 느린 클라이언트로 보고 연결을 끊음
+    private static final int MAX_PENDING_BYTES = 4 << 20;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private final long connectedAtNanos = System.nanoTime();
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BYTES);
+    private int pendingBytes = 0;
+    private boolean closeAfterFlush = false;
+
+    int version = -1; // 협상한 코덱 버전, 협상 전에는 -1
+    String playerId; // CONNECTION_REQUEST를 받기 전에는 null
+    Room room;
+
+    RoomConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    // 소켓에서 읽을 수 있는 만큼 읽음, 상대가 연결을 닫았으면 false
+    boolean read() throws IOException {
+        if (!readBuffer.hasRemaining()) {
+            if (readBuffer.capacity() >= MAX_READ_BYTES) throw new IOException("Frame too large");
+            ByteBuffer larger =
+                    ByteBuffer.allocate(Math.min(readBuffer.capacity() * 2, MAX_READ_BYTES));
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+        return channel.read(readBuffer) >= 0;
+    }
+
+    // 읽기 모드로 바꾼 수신 버퍼 (다 쓴 뒤 compactReadBuffer 호출)
+    ByteBuffer readBuffer() {
+        readBuffer.flip();
+        return readBuffer;
+    }
+
+    void compactReadBuffer() {
+        readBuffer.compact();
+    }
+
+    // 프레임을 보냄, 소켓이 다 받지 못하면 남은 부분은 OP_WRITE 때 이어서 씀
+    // 여러 연결에 같은 버퍼를 넘겨도 되도록 위치는 복사본으로 관리
+    void send(ByteBuffer frame) throws IOException {
+        if (!channel.isOpen()) return;
+        ByteBuffer copy = frame.duplicate();
+        pendingBytes += copy.remaining();
+        if (pendingBytes > MAX_PENDING_BYTES) throw new IOException("Client is not reading");
+        writeQueue.add(copy);
+        if (writeQueue.size() == 1) flush();
+    }
+
+    // 큐에 남은 프레임을 씀, 모두 썼으면 true
+    boolean flush() throws IOException {
+        while (!writeQueue.isEmpty()) {
+            ByteBuffer head = writeQueue.peek();
+            pendingBytes -= channel.write(head);
+            if (head.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return false;
+            }
+            writeQueue.poll();
+        }
+        if (closeAfterFlush) {
+            close();
+        } else if (key.isValid()) {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+        return true;
+    }
+
+    // 큐에 있는 응답(거절 메시지 등)을 마저 보낸 뒤 닫음
+    void closeAfterFlush() throws IOException {
+        closeAfterFlush = true;
+        flush();
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    boolean isOpen() {
+        return channel.isOpen() && !closeAfterFlush;
+    }
+
+    long getConnectedAtNanos() {
+        return connectedAtNanos;
+    }
+}
@@ -0,0 +1,419 @@
+package team13.tetris.network.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import team13.tetris.game.GameScheduler;
+import team13.tetris.network.protocol.BinaryCodec;
+import team13.tetris.network.protocol.ChannelNegotiator;
+import team13.tetris.network.protocol.ConnectionMessage;
+import team13.tetris.network.protocol.GameModeMessage;
+import team13.tetris.network.protocol.MessageType;
+import team13.tetris.network.protocol.NetworkMessage;
+
+// 여러 1대1 대전을 한 프로세스에서 동시에 여는 방 서버 (LAN 대회용)
+// - java.nio Selector 이벤트 루프 스레드 하나가 모든 소켓을 처리하므로 접속 수만큼 스레드가 늘지 않음
+// - 방 상태는 이벤트 루프 스레드에서만 바뀌고, 카운트다운처럼 다른 스레드에서 오는 작업은
+//   작업 큐에 넣은 뒤 셀렉터를 깨워 루프 스레드에서 실행함
+// - CONNECTION_REQUEST의 대상 필드에 방 ID가 있으면 그 방에 참가(없으면 생성)하고,
+//   없으면 상대를 기다리는 자동 매칭 방에 들어감
+// - 바이너리 코덱만 지원, Java 직렬화를 쓰는 이전 클라이언트에게는 거절 메시지를 보내고 끊음
+// 호스트가 직접 플레이하는 기존 TetrisServer(1대1 P2P)는 그대로 두고 별도 모드로 제공합니다.
+public class RoomServer {
+    static final String SERVER_ID = "server";
+    private static final int DEFAULT_PORT = 12345;
+    private static final int DEFAULT_MAX_ROOMS = 1000;
+    private static final long COUNTDOWN_MS = 5000;
+    private static final long HANDSHAKE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long SELECT_TIMEOUT_MS = 1000;
+
+    private final int port;
+    private final int maxRooms;
+    private final long countdownMs;
+    private final GameScheduler.Handle scheduledTasks = GameScheduler.shared().newHandle();
+    private final ConcurrentLinkedQueue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    // 이벤트 루프 스레드에서만 접근
+    private final Map<String, Room> rooms = new HashMap<>();
+    private final ArrayDeque<Room> waitingRooms = new ArrayDeque<>(); // 상대를 기다리는 자동 매칭 방
+    private final Map<String, RoomConnection> players = new HashMap<>();
+    private final Set<RoomConnection> handshaking = new LinkedHashSet<>(); // 참가 요청 전 연결
+    private int nextRoomNumber = 1;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread loopThread;
+    private volatile boolean isRunning = false;
+    private volatile int roomCount = 0;
+    private volatile int playerCount = 0;
+
+    public RoomServer(int port) {
+        this(port, DEFAULT_MAX_ROOMS, COUNTDOWN_MS);
+    }
+
+    public RoomServer(int port, int maxRooms, long countdownMs) {
+        this.port = port;
+        this.maxRooms = maxRooms;
+        this.countdownMs = countdownMs;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        RoomServer server = new RoomServer(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.out.println("Room server listening on port " + server.getPort());
+    }
+
+    // 서버 시작 (port가 0이면 임의의 빈 포트 사용)
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port), 256);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        isRunning = true;
+
+        loopThread = new Thread(this::eventLoop, "tetris-room-server");
+        loopThread.start();
+    }
+
+    public void stop() {
+        if (!isRunning) return;
+        isRunning = false;
+        scheduledTasks.cancelAll();
+        selector.wakeup();
+        try {
+            stopped.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    private void eventLoop() {
+        try {
+            while (isRunning) {
+                selector.select(SELECT_TIMEOUT_MS);
+                runPendingTasks();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    // 연결 하나의 오류(메시지 처리 중 예외 포함)는 그 연결만 끊고 다른 방은 계속 진행
+                    RoomConnection conn = (RoomConnection) key.attachment();
+                    try {
+                        if (key.isWritable()) flush(conn);
+                        if (key.isValid() && key.isReadable()) read(conn);
+                    } catch (RuntimeException e) {
+                        System.err.println("[RoomServer] Dropping " + conn.playerId + ": " + e);
+                        disconnect(conn);
+                    }
+                }
+                closeStaleHandshakes();
+            }
+        } catch (IOException e) {
+            // 셀렉터 자체가 망가진 경우만 루프를 끝냄
+            System.err.println("Room server loop failed: " + e.getMessage());
+        } finally {
+            shutdownConnections();
+            stopped.countDown();
+        }
+    }
+
+    // accept 실패(파일 디스크립터 부족 등)는 기록만 하고 다음 select에서 다시 시도
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                RoomConnection conn = new RoomConnection(channel, key);
+                key.attach(conn);
+                handshaking.add(conn);
+                channel = null;
+            }
+        } catch (IOException e) {
+            System.err.println("[RoomServer] Accept failed: " + e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private void read(RoomConnection conn) {
+        try {
+            if (!conn.read()) {
+                disconnect(conn);
+                return;
+            }
+            ByteBuffer buf = conn.readBuffer();
+            try {
+                if (conn.version < 0 && !negotiate(conn, buf)) return;
+
+                NetworkMessage message;
+                while (conn.isOpen() && (message = BinaryCodec.readFrame(buf)) != null) {
+                    handleMessage(conn, message);
+                }
+            } finally {
+                conn.compactReadBuffer();
+            }
+        } catch (IOException e) {
+            disconnect(conn);
+        }
+    }
+
+    // 전송 방식 협상, 바이너리 코덱으로 정해졌으면 true
+    private boolean negotiate(RoomConnection conn, ByteBuffer buf) throws IOException {
+        int version = ChannelNegotiator.selectVersion(buf);
+        if (version < 0) return false;
+        if (version == 0) {
+            conn.send(legacyRejection("Room server requires a newer client"));
+            handshaking.remove(conn);
+            conn.closeAfterFlush();
+            return false;
+        }
+        conn.version = version;
+        conn.send(ChannelNegotiator.serverReply(version));
+        return true;
+    }
+
+    private void flush(RoomConnection conn) {
+        try {
+            conn.flush();
+        } catch (IOException e) {
+            disconnect(conn);
+        }
+    }
+
+    void handleMessage(RoomConnection conn, NetworkMessage message) throws IOException {
+        if (conn.playerId == null) {
+            if (message instanceof ConnectionMessage req && req.isConnectionRequest()) {
+                join(conn, req);
+            } else {
+                disconnect(conn);
+            }
+            return;
+        }
+
+        Room room = conn.room;
+        if (room == null) return;
+        switch (message.getType()) {
+            case PLAYER_READY -> room.setPlayerReady(conn, true);
+            case PLAYER_UNREADY -> room.setPlayerReady(conn, false);
+            case GAME_MODE_SELECTED -> {
+                if (message instanceof GameModeMessage modeMsg) {
+                    room.selectGameMode(conn, modeMsg.getGameMode());
+                }
+            }
+            case BOARD_UPDATE, ATTACK_SENT, PAUSE, RESUME -> room.forward(conn, message);
+            case GAME_OVER -> room.onPlayerGameOver(conn, message);
+            case DISCONNECT -> disconnect(conn);
+            default -> System.err.println("[RoomServer] Unhandled message: " + message.getType());
+        }
+    }
+
+    // 참가 요청 처리: 방 ID가 있으면 그 방, 없으면 자동 매칭 방
+    private void join(RoomConnection conn, ConnectionMessage req) throws IOException {
+        handshaking.remove(conn);
+        String playerId = req.getSenderId() != null ? req.getSenderId().trim() : "";
+        if (playerId.isEmpty() || players.containsKey(playerId)) {
+            reject(conn, "Player ID is already in use");
+            return;
+        }
+
+        Room room;
+        if (req.hasTarget()) {
+            String roomId = req.getTargetPlayerId().trim();
+            room = rooms.get(roomId);
+            if (room == null) {
+                room = createRoom(roomId, false);
+            } else if (room.isFull()) {
+                reject(conn, "Room is full");
+                return;
+            }
+        } else {
+            // 이름으로 들어온 참가자가 채운 방은 건너뜀
+            room = waitingRooms.poll();
+            while (room != null && room.isFull()) room = waitingRooms.poll();
+            if (room == null) room = createRoom("room-" + nextRoomNumber++, true);
+        }
+        if (room == null) {
+            reject(conn, "Server is full");
+            return;
+        }
+
+        conn.playerId = playerId;
+        players.put(playerId, conn);
+        playerCount = players.size();
+        send(
+                conn,
+                new ConnectionMessage(
+                        MessageType.CONNECTION_ACCEPTED,
+                        SERVER_ID,
+                        "Joined room " + room.getRoomId(),
+                        playerId));
+        room.add(conn);
+        if (room.isFull()) {
+            waitingRooms.remove(room);
+        } else if (room.isMatchmade() && !waitingRooms.contains(room)) {
+            waitingRooms.add(room);
+        }
+    }
+
+    private Room createRoom(String roomId, boolean matchmade) {
+        if (rooms.size() >= maxRooms) return null;
+        Room room = new Room(roomId, matchmade, this);
+        rooms.put(roomId, room);
+        roomCount = rooms.size();
+        return room;
+    }
+
+    private void reject(RoomConnection conn, String reason) throws IOException {
+        conn.send(
+                BinaryCodec.encodeFrame(
+                        ConnectionMessage.createConnectionRejected(SERVER_ID, reason)));
+        conn.closeAfterFlush();
+    }
+
+    // 이전 버전 클라이언트가 읽을 수 있도록 직렬화 헤더와 거절 메시지를 그대로 만들어 보냄
+    private static ByteBuffer legacyRejection(String reason) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ConnectionMessage.createConnectionRejected(SERVER_ID, reason));
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    private void disconnect(RoomConnection conn) {
+        handshaking.remove(conn);
+        conn.close();
+        if (conn.playerId != null && players.get(conn.playerId) == conn) {
+            players.remove(conn.playerId);
+            playerCount = players.size();
+        }
+
+        Room room = conn.room;
+        if (room == null) return;
+        room.remove(conn);
+        if (room.isEmpty()) {
+            rooms.remove(room.getRoomId());
+            waitingRooms.remove(room);
+            roomCount = rooms.size();
+        } else if (room.isMatchmade() && !waitingRooms.contains(room)) {
+            waitingRooms.add(room); // 남은 플레이어는 다음 상대를 기다림
+        }
+    }
+
+    // 참가 요청 없이 오래 붙잡고 있는 연결 정리 (접속 순서대로 들어 있으므로 앞에서부터 확인)
+    private void closeStaleHandshakes() {
+        long now = System.nanoTime();
+        Iterator<RoomConnection> it = handshaking.iterator();
+        while (it.hasNext()) {
+            RoomConnection conn = it.next();
+            if (now - conn.getConnectedAtNanos() < HANDSHAKE_TIMEOUT_NANOS) break;
+            it.remove();
+            conn.close();
+        }
+    }
+
+    // 방에서 플레이어에게 전송, 실패하면 루프가 현재 작업을 마친 뒤 연결을 정리
+    void send(RoomConnection conn, NetworkMessage message) {
+        send(conn, BinaryCodec.encodeFrame(message));
+    }
+
+    void send(RoomConnection conn, ByteBuffer frame) {
+        try {
+            conn.send(frame);
+        } catch (IOException e) {
+            execute(() -> disconnect(conn));
+        }
+    }
+
+    // 카운트다운 후 루프 스레드에서 실행
+    ScheduledFuture<?> schedule(Runnable task) {
+        return scheduledTasks.schedule(() -> execute(task), countdownMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void execute(Runnable task) {
+        pendingTasks.add(task);
+        if (Thread.currentThread() != loopThread) selector.wakeup();
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("[RoomServer] Task failed: " + e);
+            }
+        }
+    }
+
+    private void shutdownConnections() {
+        ByteBuffer shutdown =
+                BinaryCodec.encodeFrame(
+                        ConnectionMessage.createGameOver(SERVER_ID, "Server shutdown"));
+        for (RoomConnection conn : players.values()) {
+            send(conn, shutdown);
+            conn.close();
+        }
+        for (RoomConnection conn : handshaking) conn.close();
+        players.clear();
+        handshaking.clear();
+        rooms.clear();
+        waitingRooms.clear();
+        playerCount = 0;
+        roomCount = 0;
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignored) {
+        }
+        System.out.println("Room server stopped");
+    }
+}
@@ -3,14 +3,16 @@ package team13.tetris.network.server;
 import java.io.*;
 import java.net.*;
 import java.util.*;
-import java.util.TimerTask;
 import java.util.concurrent.*;
+import team13.tetris.game.GameScheduler;
+import team13.tetris.network.NetworkThreads;
 import team13.tetris.network.listener.ServerMessageListener;
 import team13.tetris.network.protocol.*;
 
 public class TetrisServer {
     private static final int MAX_PLAYERS = 1; // 서버 자신(호스트) + 클라이언트 1명
     private static final int DEFAULT_PORT = 12345;
+    private static final int REJECT_HANDSHAKE_TIMEOUT_MS = 3000;
 
     private final String hostPlayerId;
     private final int port;
@@ -28,7 +30,10 @@ public class TetrisServer {
     // P2P 상태 관리
     private GameModeMessage.GameMode selectedGameMode = null;
     private final Map<String, Boolean> playerReadyStates = new ConcurrentHashMap<>();
-    private Timer countdownTimer = null; // 카운트다운 타이머 저장
+    private static final long COUNTDOWN_MS = 5000;
+    // 카운트다운은 공유 게임 스케줄러에서 실행 (카운트다운마다 Timer 스레드를 만들지 않음)
+    private final GameScheduler.Handle scheduledTasks = GameScheduler.shared().newHandle();
+    private ScheduledFuture<?> countdownFuture = null; // 카운트다운 작업 저장
     private volatile long currentCountdownId = 0; // 현재 카운트다운 ID
 
     private ServerMessageListener hostMessageListener;
@@ -62,7 +67,7 @@ public class TetrisServer {
         this.port = port;
         this.connectedClients = new ConcurrentHashMap<>();
         this.players = new ConcurrentHashMap<>();
-        this.threadPool = Executors.newCachedThreadPool();
+        this.threadPool = NetworkThreads.newPerTaskExecutor("tetris-server");
 
         // 서버 생성 시 Host를 플레이어 목록에 등록
         PlayerInfo hostInfo = new PlayerInfo(hostPlayerId);
@@ -102,7 +107,8 @@ public class TetrisServer {
                 Socket clientSocket = serverSocket.accept();
 
                 if (connectedClients.size() >= MAX_PLAYERS) {
-                    rejectConnection(clientSocket, "Server is full");
+                    // 거절 메시지도 전송 방식 협상이 필요하므로 accept 루프를 막지 않도록 별도 스레드에서 처리
+                    threadPool.submit(() -> rejectConnection(clientSocket, "Server is full"));
                     continue;
                 }
 
@@ -131,11 +137,14 @@ public class TetrisServer {
 
     // 연결을 거절
     private void rejectConnection(Socket clientSocket, String reason) {
-        try (ObjectOutputStream out = new ObjectOutputStream(clientSocket.getOutputStream())) {
-            ConnectionMessage rejection =
-                    ConnectionMessage.createConnectionRejected("server", reason);
-            out.writeObject(rejection);
-            out.flush();
+        try {
+            // 응답 없는 클라이언트 때문에 오래 묶이지 않도록 협상에 시간 제한
+            clientSocket.setSoTimeout(REJECT_HANDSHAKE_TIMEOUT_MS);
+            MessageChannel channel =
+                    ChannelNegotiator.server(
+                            new BufferedInputStream(clientSocket.getInputStream()),
+                            new BufferedOutputStream(clientSocket.getOutputStream()));
+            channel.send(ConnectionMessage.createConnectionRejected("server", reason));
         } catch (IOException e) {
             System.err.println("Failed to send rejection message: " + e.getMessage());
         } finally {
@@ -288,8 +297,8 @@ public class TetrisServer {
 
         // 모든 조건 만족 시 카운트다운 시작 메시지 전송 후 5초 뒤 게임 시작
         // 기존 카운트다운 타이머가 있다면 취소
-        if (countdownTimer != null) {
-            countdownTimer.cancel();
+        if (countdownFuture != null) {
+            countdownFuture.cancel(false);
         }
 
         // 새로운 카운트다운 ID 생성
@@ -301,15 +310,9 @@ public class TetrisServer {
             hostMessageListener.onCountdownStart();
         }
 
-        countdownTimer = new Timer();
-        countdownTimer.schedule(
-                new TimerTask() {
-                    @Override
-                    public void run() {
-                        startGame(countdownId);
-                    }
-                },
-                5000);
+        countdownFuture =
+                scheduledTasks.schedule(
+                        () -> startGame(countdownId), COUNTDOWN_MS, TimeUnit.MILLISECONDS);
     }
 
     // 현재 서버의 IP 주소 반환
@@ -348,9 +351,9 @@ public class TetrisServer {
     public void resetReadyStates() {
 
         // 진행 중인 카운트다운 타이머 취소 및 ID 무효화
-        if (countdownTimer != null) {
-            countdownTimer.cancel();
-            countdownTimer = null;
+        if (countdownFuture != null) {
+            countdownFuture.cancel(false);
+            countdownFuture = null;
         }
         // 카운트다운 ID 무효화 (이전 카운트다운이 실행되어도 무시됨)
         currentCountdownId++;
@@ -375,13 +378,14 @@ public class TetrisServer {
             gameInProgress = true;
         }
 
-        // 클라이언트에게 게임 시작 메시지 전송
-        ConnectionMessage gameStart = ConnectionMessage.createGameStart(hostPlayerId);
+        // 클라이언트에게 게임 시작 메시지 전송 (양쪽이 같은 조각 순서를 쓰도록 시드 포함)
+        long seed = ThreadLocalRandom.current().nextLong();
+        ConnectionMessage gameStart = ConnectionMessage.createGameStart(hostPlayerId, seed);
         broadcastMessage(gameStart);
 
         // 호스트에게 게임 시작 알림
         if (hostMessageListener != null) {
-            hostMessageListener.onGameStart();
+            hostMessageListener.onGameStart(seed);
         }
     }
 
@@ -592,6 +596,16 @@ public class TetrisServer {
         return true;
     }
 
+    // 인코더가 만든 호스트 보드 메시지(FULL/DELTA/PIECE)를 클라이언트에게 전송
+    public boolean sendHostBoardUpdate(BoardUpdateMessage boardMsg) {
+        if (!gameInProgress) {
+            return false;
+        }
+
+        broadcastMessage(boardMsg);
+        return true;
+    }
+
     // 호스트의 공격을 클라이언트에게 전송
     public boolean sendHostAttack(int clearedLines) {
         if (!gameInProgress) {
@@ -642,11 +656,9 @@ public class TetrisServer {
     public void stop() {
         isRunning = false;
 
-        // 0. 카운트다운 타이머 정리 (Timer는 non-daemon 스레드를 생성함)
-        if (countdownTimer != null) {
-            countdownTimer.cancel();
-            countdownTimer = null;
-        }
+        // 0. 카운트다운 작업 정리
+        scheduledTasks.cancelAll();
+        countdownFuture = null;
 
         // 1. acceptClients 작업 취소 (가장 먼저 수행)
         if (acceptClientsFuture != null && !acceptClientsFuture.isDone()) {
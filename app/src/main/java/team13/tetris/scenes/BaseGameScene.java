@@ -1,5 +1,8 @@
 package team13.tetris.scenes;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import javafx.scene.Node;
 import javafx.scene.layout.GridPane;
 import team13.tetris.config.Settings;
@@ -11,6 +14,8 @@ public abstract class BaseGameScene {
     protected static final double BOARD_CELL_SIZE = 28.0;
     protected static final double PREVIEW_CELL_SIZE = 22.0;
     protected static final String FILLED_SYMBOL = "";
+    // GridPane 속성에 저장하는 [행][열] 셀 인덱스 키
+    private static final String CELL_INDEX_KEY = "tetris.cellIndex";
 
     protected final Settings settings;
 
@@ -28,6 +33,7 @@ public abstract class BaseGameScene {
         grid.setVgap(0);
         grid.getStyleClass().add("board-grid");
 
+        CellView[][] cells = new CellView[h + 2][w + 2];
         for (int gy = 0; gy < h + 2; gy++) {
             for (int gx = 0; gx < w + 2; gx++) {
                 CellView cell = new CellView(BOARD_CELL_SIZE, settings);
@@ -39,9 +45,11 @@ public abstract class BaseGameScene {
                 }
 
                 grid.add(cell, gx, gy);
+                cells[gy][gx] = cell;
             }
         }
 
+        grid.getProperties().put(CELL_INDEX_KEY, cells);
         return grid;
     }
 
@@ -52,19 +60,164 @@ public abstract class BaseGameScene {
         grid.setVgap(0);
         grid.getStyleClass().add("preview-grid");
 
+        CellView[][] cells = new CellView[4][4];
         for (int r = 0; r < 4; r++) {
             for (int c = 0; c < 4; c++) {
                 CellView cell = new CellView(PREVIEW_CELL_SIZE, settings);
                 cell.setEmpty();
                 grid.add(cell, c, r);
+                cells[r][c] = cell;
             }
         }
 
+        grid.getProperties().put(CELL_INDEX_KEY, cells);
         return grid;
     }
 
-    // GridPane에서 특정 위치의 노드 가져오기
+    // 설정의 렌더러에 따라 보드 뷰 생성: NODE면 CellView 그리드, CANVAS면 캔버스 하나
+    protected Node createBoardView(Board board) {
+        if (!settings.isCanvasRenderer()) return createBoardGrid(board);
+
+        int w = board.getWidth();
+        int h = board.getHeight();
+        BoardCanvas canvas =
+                createCanvas(h + 2, w + 2, canvasCellSize(), TileAtlas.Style.BOARD);
+        canvas.getStyleClass().add("board-grid");
+        BoardCell[][] cells = canvas.cells();
+        for (int gy = 0; gy < h + 2; gy++) {
+            for (int gx = 0; gx < w + 2; gx++) {
+                if (gx == 0 || gx == w + 1 || gy == 0 || gy == h + 1) cells[gy][gx].setBorder();
+            }
+        }
+        return canvas;
+    }
+
+    protected Node createPreviewView() {
+        if (!settings.isCanvasRenderer()) return createPreviewGrid();
+
+        BoardCanvas canvas = createCanvas(4, 4, canvasCellSize(), TileAtlas.Style.BOARD);
+        canvas.getStyleClass().add("preview-grid");
+        return canvas;
+    }
+
+    protected BoardCanvas createCanvas(
+            int rows, int cols, double cellSize, TileAtlas.Style style) {
+        return new BoardCanvas(rows, cols, cellSize, settings, style);
+    }
+
+    // 캔버스 렌더러의 보드 셀 크기 (CSS의 .window-* .cell 크기와 같게)
+    protected double canvasCellSize() {
+        String windowSize = settings.getWindowSize();
+        if ("SMALL".equals(windowSize)) return 21;
+        if ("LARGE".equals(windowSize)) return 39;
+        return 30;
+    }
+
+    // 보드/프리뷰 뷰의 [행][열] 셀 (CellView 그리드 또는 캔버스 셀)
+    protected BoardCell[][] boardCells(Node view) {
+        if (view instanceof BoardCanvas canvas) return canvas.cells();
+        if (view instanceof GridPane grid) return cellIndex(grid);
+        return new BoardCell[0][0];
+    }
+
+    // 캔버스 incoming 패널 그리기: 큐의 공격 줄을 아래에서부터 쌓음 (먼저 들어온 것이 맨 아래)
+    protected static void drawIncoming(BoardCell[][] cells, Queue<int[][]> queue) {
+        beginFrame(cells);
+        for (BoardCell[] row : cells) {
+            for (BoardCell cell : row) cell.setEmpty();
+        }
+
+        if (queue != null && !queue.isEmpty()) {
+            int row = cells.length - 1;
+            List<int[][]> patterns = new ArrayList<>(queue);
+            for (int i = patterns.size() - 1; i >= 0 && row >= 0; i--) {
+                int[][] pattern = patterns.get(i);
+                for (int r = pattern.length - 1; r >= 0 && row >= 0; r--) {
+                    for (int c = 0; c < pattern[r].length && c < cells[row].length; c++) {
+                        if (pattern[r][c] != 0) cells[row][c].setBlock("■", null, null);
+                    }
+                    row--;
+                }
+            }
+        }
+        commitFrame(cells);
+    }
+
+    // 그리드의 [행][열] 셀 인덱스 (매 프레임 자식 노드를 훑지 않도록 그리드 생성 시 한 번 만듦)
+    // createBoardGrid/createPreviewGrid 밖에서 만든 그리드는 처음 요청할 때 자식을 한 번 훑어 만듦
+    protected CellView[][] cellIndex(GridPane gridPane) {
+        Object index = gridPane.getProperties().get(CELL_INDEX_KEY);
+        if (index instanceof CellView[][] cells) return cells;
+
+        int rows = 0;
+        int cols = 0;
+        for (Node node : gridPane.getChildren()) {
+            rows = Math.max(rows, indexOf(GridPane.getRowIndex(node)) + 1);
+            cols = Math.max(cols, indexOf(GridPane.getColumnIndex(node)) + 1);
+        }
+        CellView[][] cells = new CellView[rows][cols];
+        for (Node node : gridPane.getChildren()) {
+            if (node instanceof CellView cell) {
+                int r = indexOf(GridPane.getRowIndex(node));
+                int c = indexOf(GridPane.getColumnIndex(node));
+                cells[r][c] = cell;
+            }
+        }
+        gridPane.getProperties().put(CELL_INDEX_KEY, cells);
+        return cells;
+    }
+
+    // 범위를 벗어나면 null
+    protected static <T extends BoardCell> T cellAt(T[][] cells, int row, int column) {
+        if (row < 0 || row >= cells.length || column < 0 || column >= cells[row].length) {
+            return null;
+        }
+        return cells[row][column];
+    }
+
+    // 그리드 전체를 한 프레임으로 묶음: commitFrame 전까지의 변경은 셀마다 마지막 상태만 남음
+    protected static void beginFrame(Iterable<? extends BoardCell> cells) {
+        for (BoardCell cell : cells) {
+            if (cell != null) cell.beginFrame();
+        }
+    }
+
+    protected static void beginFrame(BoardCell[][] cells) {
+        for (BoardCell[] row : cells) {
+            for (BoardCell cell : row) {
+                if (cell != null) cell.beginFrame();
+            }
+        }
+    }
+
+    // 이전 프레임과 최종 상태가 달라진 셀만 다시 스타일링하고, 그 개수를 반환
+    protected static int commitFrame(Iterable<? extends BoardCell> cells) {
+        int changed = 0;
+        for (BoardCell cell : cells) {
+            if (cell != null && cell.commitFrame()) changed++;
+        }
+        return changed;
+    }
+
+    protected static int commitFrame(BoardCell[][] cells) {
+        int changed = 0;
+        for (BoardCell[] row : cells) {
+            for (BoardCell cell : row) {
+                if (cell != null && cell.commitFrame()) changed++;
+            }
+        }
+        return changed;
+    }
+
+    private static int indexOf(Integer index) {
+        return index == null ? 0 : index;
+    }
+
+    // GridPane에서 특정 위치의 노드 가져오기 (셀 인덱스가 있으면 O(1))
     protected Node getNodeByRowColumnIndex(final int row, final int column, GridPane gridPane) {
+        Object index = gridPane.getProperties().get(CELL_INDEX_KEY);
+        if (index instanceof CellView[][] cells) return cellAt(cells, row, column);
+
         for (Node node : gridPane.getChildren()) {
             Integer rowIndex = GridPane.getRowIndex(node);
             Integer colIndex = GridPane.getColumnIndex(node);
@@ -78,12 +231,12 @@ public abstract class BaseGameScene {
     }
 
     // 셀을 비움
-    protected void applyCellEmpty(CellView cell) {
+    protected void applyCellEmpty(BoardCell cell) {
         if (cell != null) cell.setEmpty();
     }
 
     // 셀에 블록 채우기
-    protected void fillCell(CellView cell, String symbol, String blockClass, String textClass) {
+    protected void fillCell(BoardCell cell, String symbol, String blockClass, String textClass) {
         if (cell != null) cell.setBlock(symbol, blockClass, textClass);
     }
 
@@ -104,18 +257,52 @@ public abstract class BaseGameScene {
         return cell;
     }
 
-    // 고스트 블록 렌더링 - 공통 메서드
+    // 고스트 블록 렌더링 - 공통 메서드 (미리 계산된 모양 뷰 사용)
+    protected void renderGhostBlock(
+            Tetromino.ShapeView shape,
+            int px,
+            int py,
+            int ghostY,
+            int w,
+            int h,
+            GridPane boardGrid) {
+        renderGhostBlock(shape, px, py, ghostY, w, h, cellIndex(boardGrid));
+    }
+
+    protected void renderGhostBlock(
+            Tetromino.ShapeView shape,
+            int px,
+            int py,
+            int ghostY,
+            int w,
+            int h,
+            BoardCell[][] cells) {
+        if (ghostY == -1 || ghostY == py) return;
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int bx = px + shape.getCellCol(i);
+            int by = ghostY + shape.getCellRow(i);
+            if (bx >= 0 && bx < w && by >= 0 && by < h) {
+                BoardCell cell = cellAt(cells, by + 1, bx + 1);
+                if (cell != null) {
+                    // 고스트 블록은 반투명하게 표시
+                    cell.setBlock("", "block-ghost", "tetris-ghost-text");
+                }
+            }
+        }
+    }
+
+    // 고스트 블록 렌더링 - int[][] 모양용
     protected void renderGhostBlock(
             int[][] shape, int px, int py, int ghostY, int w, int h, GridPane boardGrid) {
         if (ghostY != -1 && ghostY != py) {
+            CellView[][] cells = cellIndex(boardGrid);
             for (int r = 0; r < shape.length; r++) {
                 for (int c = 0; c < shape[r].length; c++) {
                     if (shape[r][c] != 0) {
                         int bx = px + c;
                         int by = ghostY + r;
                         if (bx >= 0 && bx < w && by >= 0 && by < h) {
-                            CellView cell =
-                                    (CellView) getNodeByRowColumnIndex(by + 1, bx + 1, boardGrid);
+                            CellView cell = cellAt(cells, by + 1, bx + 1);
                             if (cell != null) {
                                 // 고스트 블록은 반투명하게 표시
                                 cell.setBlock("", "block-ghost", "tetris-ghost-text");
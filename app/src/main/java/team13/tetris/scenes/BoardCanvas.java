@@ -0,0 +1,89 @@
+package team13.tetris.scenes;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import team13.tetris.config.Settings;
+
+// 캔버스 렌더러: 보드/프리뷰/incoming 패널 하나를 캔버스 하나에 그림 (설정의 렌더러가 CANVAS일 때)
+// 셀마다 노드 4개(StackPane, Rectangle, Canvas, Label)를 두고 CSS/레이아웃을 거치는 대신
+// 상태가 바뀐 셀 자리에만 TileAtlas의 타일 이미지를 찍음
+public class BoardCanvas extends Canvas {
+    private final Settings settings;
+    private final double cellSize;
+    private final TileAtlas.Style style;
+    private final Cell[][] cells;
+
+    BoardCanvas(int rows, int cols, double cellSize, Settings settings, TileAtlas.Style style) {
+        super(cols * cellSize, rows * cellSize);
+        this.settings = settings;
+        this.cellSize = cellSize;
+        this.style = style;
+
+        cells = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                cells[r][c] = new Cell(r, c);
+                cells[r][c].setEmpty();
+            }
+        }
+    }
+
+    // [행][열] 셀 (GridPane 렌더러의 셀 인덱스와 같은 배치)
+    public BoardCell[][] cells() {
+        return cells;
+    }
+
+    private final class Cell implements BoardCell {
+        private final int row;
+        private final int col;
+        private final CellState state = new CellState();
+
+        Cell(int row, int col) {
+            this.row = row;
+            this.col = col;
+        }
+
+        @Override
+        public void setEmpty() {
+            if (state.request(CellState.Kind.EMPTY, null, null, null, false)) draw();
+        }
+
+        @Override
+        public void setBorder() {
+            if (state.request(CellState.Kind.BORDER, null, null, null, false)) draw();
+        }
+
+        @Override
+        public void setBlock(String symbol, String blockClass, String textClass) {
+            boolean colorBlind = settings.isColorBlindMode();
+            if (state.request(CellState.Kind.BLOCK, symbol, blockClass, textClass, colorBlind)) {
+                draw();
+            }
+        }
+
+        @Override
+        public void beginFrame() {
+            state.beginFrame();
+        }
+
+        @Override
+        public boolean commitFrame() {
+            if (!state.commitFrame(settings.isColorBlindMode())) return false;
+            draw();
+            return true;
+        }
+
+        private void draw() {
+            TileAtlas atlas = TileAtlas.get(cellSize, settings.isColorBlindMode(), style);
+            double x = col * cellSize;
+            double y = row * cellSize;
+            GraphicsContext gc = getGraphicsContext2D();
+            gc.clearRect(x, y, cellSize, cellSize);
+            gc.drawImage(
+                    atlas.tile(
+                            state.kind(), state.symbol(), state.blockClass(), state.textClass()),
+                    x,
+                    y);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package team13.tetris.scenes;
+
+// 보드/프리뷰/incoming 패널의 셀 하나
+// 노드 렌더러는 CellView, 캔버스 렌더러는 BoardCanvas의 셀이 구현
+public interface BoardCell {
+    void setEmpty();
+
+    void setBorder();
+
+    void setBlock(String symbol, String blockClass, String textClass);
+
+    // 프레임 시작: 이후 변경은 기록만 하고 commitFrame에서 최종 상태만 반영
+    // (보드를 지운 뒤 떨어지는 블록을 덮어 그려도 셀은 한 번만, 바뀐 경우에만 다시 그려짐)
+    void beginFrame();
+
+    // 프레임 동안 기록된 상태를 반영, 실제로 다시 그렸으면 true
+    boolean commitFrame();
+}
@@ -0,0 +1,94 @@
+package team13.tetris.scenes;
+
+import java.util.Objects;
+
+// 셀 하나가 화면에 보여주는 상태 (CellView와 BoardCanvas 셀이 같이 씀)
+// 같은 상태로 다시 그리라는 요청은 걸러내고, 프레임 동안은 마지막 요청만 기록해 둠
+final class CellState {
+    enum Kind {
+        EMPTY,
+        BORDER,
+        BLOCK
+    }
+
+    // 화면에 반영된 상태 (아직 그린 적이 없으면 kind == null)
+    private Kind kind = null;
+    private String symbol;
+    private String blockClass;
+    private String textClass;
+    private boolean colorBlind;
+
+    // beginFrame ~ commitFrame 사이에 마지막으로 요청된 상태
+    private boolean framing = false;
+    private Kind frameKind;
+    private String frameSymbol;
+    private String frameBlockClass;
+    private String frameTextClass;
+
+    // 상태 변경 요청, 호출한 쪽이 지금 다시 그려야 하면 true (프레임 중에는 기록만 하고 false)
+    boolean request(
+            Kind kind, String symbol, String blockClass, String textClass, boolean colorBlind) {
+        if (framing) {
+            frameKind = kind;
+            frameSymbol = symbol;
+            frameBlockClass = blockClass;
+            frameTextClass = textClass;
+            return false;
+        }
+        return show(kind, symbol, blockClass, textClass, colorBlind);
+    }
+
+    void beginFrame() {
+        framing = true;
+        frameKind = kind;
+        frameSymbol = symbol;
+        frameBlockClass = blockClass;
+        frameTextClass = textClass;
+    }
+
+    // 프레임 동안 기록된 상태를 반영, 이전 프레임과 달라 다시 그려야 하면 true
+    boolean commitFrame(boolean colorBlind) {
+        if (!framing) return false;
+        framing = false;
+        return show(frameKind, frameSymbol, frameBlockClass, frameTextClass, colorBlind);
+    }
+
+    private boolean show(
+            Kind kind, String symbol, String blockClass, String textClass, boolean colorBlind) {
+        // 색맹 모드는 블록의 글자/패턴에만 영향을 주므로 블록일 때만 비교
+        boolean blockColorBlind = kind == Kind.BLOCK && colorBlind;
+        if (kind == this.kind
+                && blockColorBlind == this.colorBlind
+                && Objects.equals(symbol, this.symbol)
+                && Objects.equals(blockClass, this.blockClass)
+                && Objects.equals(textClass, this.textClass)) {
+            return false;
+        }
+        this.kind = kind;
+        this.symbol = symbol;
+        this.blockClass = blockClass;
+        this.textClass = textClass;
+        this.colorBlind = blockColorBlind;
+        return true;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    String symbol() {
+        return symbol;
+    }
+
+    String blockClass() {
+        return blockClass;
+    }
+
+    String textClass() {
+        return textClass;
+    }
+
+    boolean colorBlind() {
+        return colorBlind;
+    }
+}
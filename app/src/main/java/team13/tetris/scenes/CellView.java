@@ -12,13 +12,16 @@ import team13.tetris.config.Settings;
 
 // 테트리스 게임 셀을 표시하는 UI 컴포넌트
 // Rectangle, Canvas(패턴용), Label(텍스트용)로 구성됨
-public class CellView extends StackPane {
+public class CellView extends StackPane implements BoardCell {
     private final Rectangle rect;
     private final Canvas patternCanvas;
     private final Label label;
     private final Settings settings;
     private String currentPattern = null;
 
+    // 화면에 반영된 상태: 같은 상태로 다시 그리라는 요청은 스타일 클래스를 건드리지 않고 무시
+    private final CellState state = new CellState();
+
     public CellView(double size, Settings settings) {
         this.settings = settings;
         setMinSize(size, size);
@@ -59,10 +62,17 @@ public class CellView extends StackPane {
         double h = patternCanvas.getHeight();
         GraphicsContext gc = patternCanvas.getGraphicsContext2D();
         gc.clearRect(0, 0, w, h);
+        // 레이아웃 전(크기 0)에는 그릴 것이 없음, 크기가 정해지면 리스너가 다시 호출
+        if (w <= 0 || h <= 0) return;
+        gc.drawImage(PatternImages.get(currentPattern, w, h), 0, 0);
+    }
+
+    // 색맹 모드 패턴을 (0, 0)부터 w x h 영역에 그림 (캔버스 렌더러의 타일도 같은 모양을 씀)
+    static void strokePattern(GraphicsContext gc, String pattern, double w, double h) {
         gc.setStroke(Color.rgb(0, 0, 0, 0.7));
         gc.setLineWidth(1);
 
-        switch (currentPattern) {
+        switch (pattern) {
             case "horizontal": // S - 수평 줄무늬
                 for (double y = 0; y < h; y += 5) gc.strokeLine(0, y, w, y);
                 break;
@@ -111,7 +121,51 @@ public class CellView extends StackPane {
                                 || name.equals("cell-border"));
     }
 
+    @Override
     public void setEmpty() {
+        if (state.request(CellState.Kind.EMPTY, null, null, null, false)) render();
+    }
+
+    @Override
+    public void setBorder() {
+        if (state.request(CellState.Kind.BORDER, null, null, null, false)) render();
+    }
+
+    @Override
+    public void setBlock(String symbol, String blockClass, String textClass) {
+        boolean colorBlind = settings.isColorBlindMode();
+        if (state.request(CellState.Kind.BLOCK, symbol, blockClass, textClass, colorBlind)) {
+            render();
+        }
+    }
+
+    @Override
+    public void beginFrame() {
+        state.beginFrame();
+    }
+
+    @Override
+    public boolean commitFrame() {
+        if (!state.commitFrame(settings.isColorBlindMode())) return false;
+        render();
+        return true;
+    }
+
+    private void render() {
+        switch (state.kind()) {
+            case EMPTY:
+                renderEmpty();
+                break;
+            case BORDER:
+                renderBorder();
+                break;
+            default:
+                renderBlock(
+                        state.symbol(), state.blockClass(), state.textClass(), state.colorBlind());
+        }
+    }
+
+    private void renderEmpty() {
         clearDynamicStyles();
         currentPattern = null;
         clearCanvas();
@@ -120,7 +174,7 @@ public class CellView extends StackPane {
         label.setText(" ");
     }
 
-    public void setBorder() {
+    private void renderBorder() {
         clearDynamicStyles();
         currentPattern = null;
         clearCanvas();
@@ -130,7 +184,8 @@ public class CellView extends StackPane {
         label.setText("X");
     }
 
-    public void setBlock(String symbol, String blockClass, String textClass) {
+    private void renderBlock(
+            String symbol, String blockClass, String textClass, boolean colorBlind) {
         clearDynamicStyles();
         if (blockClass != null
                 && !blockClass.isBlank()
@@ -138,7 +193,20 @@ public class CellView extends StackPane {
         if (textClass != null && !textClass.isBlank() && !label.getStyleClass().contains(textClass))
             label.getStyleClass().add(textClass);
 
-        // 색맹 모드에서는 아이템 블록(C, L, W, G, S)만 글자 표시, 일반 블록은 패턴만
+        label.setText(visibleText(symbol, blockClass, colorBlind));
+
+        // 색맹 모드에서 패턴 적용
+        if (blockClass != null && colorBlind) {
+            applyPattern(blockClass);
+        } else {
+            currentPattern = null;
+            clearCanvas();
+        }
+    }
+
+    // 라벨에 보일 글자: 색맹 모드에서는 아이템 블록(C, L, W, G, S)만 글자 표시, 일반 블록은 패턴만
+    // 고스트 블록은 항상 글자 숨김
+    static String visibleText(String symbol, String blockClass, boolean colorBlind) {
         boolean isItemBlock =
                 symbol != null
                         && (symbol.equals("C")
@@ -148,47 +216,34 @@ public class CellView extends StackPane {
                                 || symbol.equals("S"));
         boolean isGhostBlock = "block-ghost".equals(blockClass);
 
-        if ((settings.isColorBlindMode() && !isItemBlock) || isGhostBlock) {
-            label.setText(" "); // 일반 블록은 색맹모드에서 글자 숨김, 고스트 블록은 항상 글자 숨김
-        } else {
-            label.setText(symbol == null ? "" : symbol); // 아이템 블록은 글자 표시
-        }
-
-        // 색맹 모드에서 패턴 적용
-        if (blockClass != null && settings.isColorBlindMode()) {
-            applyPattern(blockClass);
-        } else {
-            currentPattern = null;
-            clearCanvas();
-        }
+        if ((colorBlind && !isItemBlock) || isGhostBlock) return " ";
+        return symbol == null ? "" : symbol;
     }
 
     private void applyPattern(String blockClass) {
+        currentPattern = patternFor(blockClass);
+        redrawPattern();
+    }
+
+    // 블록 종류별 색맹 모드 패턴 (패턴이 없으면 null)
+    static String patternFor(String blockClass) {
         switch (blockClass) {
             case "block-I":
-                currentPattern = "diagonal-right";
-                break;
+                return "diagonal-right";
             case "block-O":
-                currentPattern = "none";
-                break;
+                return "none";
             case "block-T":
-                currentPattern = "diagonal-left";
-                break;
+                return "diagonal-left";
             case "block-S":
-                currentPattern = "horizontal";
-                break;
+                return "horizontal";
             case "block-Z":
-                currentPattern = "diagonal-right-wide";
-                break;
+                return "diagonal-right-wide";
             case "block-J":
-                currentPattern = "vertical";
-                break;
+                return "vertical";
             case "block-L":
-                currentPattern = "diagonal-left-wide";
-                break;
+                return "diagonal-left-wide";
             default:
-                currentPattern = null;
+                return null;
         }
-        redrawPattern();
     }
 }
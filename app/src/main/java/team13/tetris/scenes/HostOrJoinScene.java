@@ -74,6 +74,17 @@ public class HostOrJoinScene {
         ipTextField.setMaxWidth(300);
         ipTextField.setVisible(false);
 
+        // 방 서버(RoomServer)에서 친구와 같은 방에 들어갈 때만 입력, 비우면 자동 매칭
+        Label roomInputLabel = new Label("Room ID (room server only, optional):");
+        roomInputLabel.getStyleClass().add("label");
+        roomInputLabel.setVisible(false);
+
+        TextField roomTextField = new TextField();
+        roomTextField.setPromptText("Leave empty for automatic matching");
+        roomTextField.getStyleClass().add("text-field");
+        roomTextField.setMaxWidth(300);
+        roomTextField.setVisible(false);
+
         // Event Handlers
         hostButton.setOnAction(
                 e -> {
@@ -84,6 +95,8 @@ public class HostOrJoinScene {
                     recentIPLabel.setVisible(false);
                     ipInputLabel.setVisible(false);
                     ipTextField.setVisible(false);
+                    roomInputLabel.setVisible(false);
+                    roomTextField.setVisible(false);
                     ipDisplayLabel.setVisible(true);
                 });
 
@@ -97,6 +110,8 @@ public class HostOrJoinScene {
                     recentIPLabel.setVisible(true);
                     ipInputLabel.setVisible(true);
                     ipTextField.setVisible(true);
+                    roomInputLabel.setVisible(true);
+                    roomTextField.setVisible(true);
                     Platform.runLater(ipTextField::requestFocus);
                 });
 
@@ -111,6 +126,17 @@ public class HostOrJoinScene {
                     if (event.getCode() == KeyCode.UP) {
                         joinButton.requestFocus();
                         event.consume();
+                    } else if (event.getCode() == KeyCode.DOWN) {
+                        roomTextField.requestFocus();
+                        event.consume();
+                    }
+                });
+
+        roomTextField.setOnKeyPressed(
+                event -> {
+                    if (event.getCode() == KeyCode.UP) {
+                        ipTextField.requestFocus();
+                        event.consume();
                     } else if (event.getCode() == KeyCode.DOWN) {
                         continueButton.requestFocus();
                         event.consume();
@@ -132,7 +158,8 @@ public class HostOrJoinScene {
                             return;
                         }
 
-                        manager.showNetworkLobby(settings, false, serverIP);
+                        String roomId = roomTextField.getText().trim();
+                        manager.showNetworkLobby(settings, false, serverIP, roomId);
                     }
                 });
 
@@ -151,6 +178,8 @@ public class HostOrJoinScene {
                         recentIPLabel, // Recent IP for client
                         ipInputLabel, // Label for client
                         ipTextField, // Input for client
+                        roomInputLabel, // Room label for client
+                        roomTextField, // Room input for client (room server)
                         buttonBox);
 
         scene = new Scene(root);
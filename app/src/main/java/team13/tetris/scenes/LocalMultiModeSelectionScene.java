@@ -23,6 +23,7 @@ public class LocalMultiModeSelectionScene {
         Button normalBtn = new Button("Normal");
         Button itemBtn = new Button("Item Mode");
         Button timerBtn = new Button("Timer Mode");
+        Button cpuBtn = new Button("vs CPU");
         Button backBtn = new Button("Back");
 
         // 일반 모드 (대전 모드)
@@ -34,9 +35,12 @@ public class LocalMultiModeSelectionScene {
         // 타이머 모드 (2분 시간제한 대전)
         timerBtn.setOnAction(e -> manager.show2PGame(settings, true, false));
 
+        // CPU 대전 (Player 2를 봇이 조작)
+        cpuBtn.setOnAction(e -> manager.show2PGame(settings, false, false, true));
+
         backBtn.setOnAction(e -> manager.showMultiModeSelection(settings));
 
-        VBox layout = new VBox(15, title, normalBtn, itemBtn, timerBtn, backBtn);
+        VBox layout = new VBox(15, title, normalBtn, itemBtn, timerBtn, cpuBtn, backBtn);
         layout.setStyle("-fx-alignment: center;");
 
         Scene scene = new Scene(layout, 600, 700);
@@ -4,6 +4,7 @@ import java.util.*;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
@@ -41,23 +42,24 @@ public class NetworkGameScene extends BaseGameScene {
     // UI 루트
     private final HBox root;
 
-    // 캐싱용 맵
-    private final Map<String, CellView> boardCacheLocal = new HashMap<>();
-    private final Map<String, CellView> boardCacheRemote = new HashMap<>();
-    private final Map<String, CellView> previewCacheLocal = new HashMap<>();
-    private final Map<String, CellView> previewCacheRemote = new HashMap<>();
-    private final Map<String, Label> incomingCacheLocal = new HashMap<>();
-    private final Map<String, Label> incomingCacheRemote = new HashMap<>();
+    // 셀 인덱스 [행][열] (보드는 테두리 포함 (h + 2) x (w + 2))
+    // 프레임마다 모든 셀을 찾으므로 문자열 키 대신 배열로 바로 접근
+    private final BoardCell[][] boardCellsLocal;
+    private final BoardCell[][] boardCellsRemote;
+    private final BoardCell[][] previewCellsLocal = new BoardCell[4][4];
+    private final BoardCell[][] previewCellsRemote = new BoardCell[4][4];
+    private final Label[][] incomingCellsLocal = new Label[10][10];
+    private final Label[][] incomingCellsRemote = new Label[10][10];
 
     // UI 컴포넌트
-    private final GridPane boardGridLocal;
-    private final GridPane boardGridRemote;
+    private final Node boardGridLocal;
+    private final Node boardGridRemote;
 
-    private final GridPane previewLocal;
-    private final GridPane previewRemote;
+    private final Node previewLocal;
+    private final Node previewRemote;
 
-    private final GridPane incomingLocal;
-    private final GridPane incomingRemote;
+    private final Node incomingLocal;
+    private final Node incomingRemote;
 
     private final Label scoreLabelLocal;
     private final Label scoreLabelRemote;
@@ -71,9 +73,9 @@ public class NetworkGameScene extends BaseGameScene {
     private final String localName;
     private final String remoteName;
 
-    // Throttle
-    private volatile boolean updatePending = false;
     private final boolean timerMode;
+    // 다시 그리기 작업 (RenderScheduler가 같은 펄스의 요청을 합침)
+    private final Runnable renderTask = this::renderFrame;
 
     public NetworkGameScene(
             SceneManager manager,
@@ -95,9 +97,11 @@ public class NetworkGameScene extends BaseGameScene {
 
         // Local Panel
         Board boardL = localEngine.getBoard();
-        boardGridLocal = createBoardGrid(boardL, boardCacheLocal);
-        previewLocal = createPreviewGrid(previewCacheLocal);
-        incomingLocal = createIncomingGrid(incomingCacheLocal);
+        boardCellsLocal = new BoardCell[boardL.getHeight() + 2][boardL.getWidth() + 2];
+        boardCellsRemote = new BoardCell[boardL.getHeight() + 2][boardL.getWidth() + 2];
+        boardGridLocal = createBoardGrid(boardL, boardCellsLocal);
+        previewLocal = createPreviewGrid(previewCellsLocal);
+        incomingLocal = createIncomingGrid(incomingCellsLocal);
 
         scoreLabelLocal = new Label(localName + "\nScore: 0");
         scoreLabelLocal.getStyleClass().add("score-label");
@@ -119,9 +123,9 @@ public class NetworkGameScene extends BaseGameScene {
         localBox.getChildren().add(localGame);
 
         // Remote Panel
-        boardGridRemote = createBoardGrid(boardL, boardCacheRemote);
-        previewRemote = createPreviewGrid(previewCacheRemote);
-        incomingRemote = createIncomingGrid(incomingCacheRemote);
+        boardGridRemote = createBoardGrid(boardL, boardCellsRemote);
+        previewRemote = createPreviewGrid(previewCellsRemote);
+        incomingRemote = createIncomingGrid(incomingCellsRemote);
 
         scoreLabelRemote = new Label(remoteName + "\nScore: 0");
         scoreLabelRemote.getStyleClass().add("score-label");
@@ -145,7 +149,7 @@ public class NetworkGameScene extends BaseGameScene {
     }
 
     private VBox createRightPanel(
-            GridPane previewGrid, Label scoreLabel, GridPane incomingGrid, Label timerLabel) {
+            Node previewGrid, Label scoreLabel, Node incomingGrid, Label timerLabel) {
         Label incomingLabel = new Label("Incoming:");
         incomingLabel.getStyleClass().add("label");
 
@@ -311,21 +315,32 @@ public class NetworkGameScene extends BaseGameScene {
 
     // Main UI 업데이트 (Local + Remote)
     public void updateGrid() {
-        if (updatePending) return;
-        updatePending = true;
+        RenderScheduler.shared().requestRender(renderTask);
+    }
 
-        Platform.runLater(
-                () -> {
-                    updateLocalUI();
-                    updateRemoteUI();
-                    updatePending = false;
-                });
+    // 양쪽 화면을 한 프레임으로 다시 그림 (FX 스레드에서 호출)
+    void renderFrame() {
+        beginFrame(boardCellsLocal);
+        beginFrame(previewCellsLocal);
+        beginFrame(boardCellsRemote);
+        beginFrame(previewCellsRemote);
+
+        try {
+            updateLocalUI();
+            updateRemoteUI();
+        } finally {
+            // 상대 데이터가 잘못돼 중간에 예외가 나도 셀이 프레임 상태로 남지 않도록
+            commitFrame(boardCellsLocal);
+            commitFrame(previewCellsLocal);
+            commitFrame(boardCellsRemote);
+            commitFrame(previewCellsRemote);
+        }
     }
 
     // Local Player UI Update
     private void updateLocalUI() {
         Board board = localEngine.getBoard();
-        Map<String, CellView> cache = boardCacheLocal;
+        BoardCell[][] cells = boardCellsLocal;
 
         int w = board.getWidth();
         int h = board.getHeight();
@@ -334,7 +349,7 @@ public class NetworkGameScene extends BaseGameScene {
         for (int y = 0; y < h; y++) {
             for (int x = 0; x < w; x++) {
                 int v = board.getCell(x, y);
-                CellView cell = cache.get((y + 1) + "," + (x + 1));
+                BoardCell cell = cellAt(cells, y + 1, x + 1);
                 if (cell == null) continue;
 
                 applyCellValue(cell, v);
@@ -342,15 +357,15 @@ public class NetworkGameScene extends BaseGameScene {
         }
 
         // 2) 고스트 미노 표시 (먼저 그림)
-        drawGhostPiece(cache, localEngine, w, h);
+        drawGhostPiece(cells, localEngine, w, h);
 
         // 3) 현재 떨어지는 미노 표시 (고스트 위에 그림)
         Tetromino cur = localEngine.getCurrent();
         if (cur != null)
-            drawFallingPiece(cache, cur, localEngine.getPieceX(), localEngine.getPieceY(), w, h);
+            drawFallingPiece(cells, cur, localEngine.getPieceX(), localEngine.getPieceY(), w, h);
 
         // 4) Next 업데이트
-        drawNext(previewCacheLocal, localEngine.getNext());
+        drawNext(previewCellsLocal, localEngine.getNext());
 
         // 5) 점수
         scoreLabelLocal.setText(localName + "\nScore:\n" + localEngine.getScore());
@@ -362,7 +377,7 @@ public class NetworkGameScene extends BaseGameScene {
     public void updateLocalIncomingGrid(Queue<int[][]> incomingQueue) {
         Platform.runLater(
                 () -> {
-                    updateIncoming(incomingCacheLocal, incomingQueue);
+                    updateIncoming(incomingLocal, incomingCellsLocal, incomingQueue);
                 });
     }
 
@@ -371,7 +386,7 @@ public class NetworkGameScene extends BaseGameScene {
         if (remoteBoard == null) return;
 
         int[][] board = remoteBoard;
-        Map<String, CellView> cache = boardCacheRemote;
+        BoardCell[][] cells = boardCellsRemote;
 
         int h = board.length;
         int w = board[0].length;
@@ -380,7 +395,7 @@ public class NetworkGameScene extends BaseGameScene {
         for (int y = 0; y < h; y++) {
             for (int x = 0; x < w; x++) {
                 int v = board[y][x];
-                CellView cell = cache.get((y + 1) + "," + (x + 1));
+                BoardCell cell = cellAt(cells, y + 1, x + 1);
                 if (cell == null) continue;
 
                 applyCellValue(cell, v);
@@ -406,25 +421,19 @@ public class NetworkGameScene extends BaseGameScene {
             }
 
             // drawFallingPiece와 동일한 방식으로 렌더링
-            int[][] shape = t.getShape();
+            Tetromino.ShapeView shape = t.getShapeView();
             String blockClass = t.getBlockStyleClass();
             String textClass = t.getTextStyleClass();
-            int blockIndex = 0;
-
-            for (int r = 0; r < shape.length; r++) {
-                for (int c = 0; c < shape[r].length; c++) {
-                    if (shape[r][c] != 0) {
-                        int bx = remotePieceX + c;
-                        int by = remotePieceY + r;
-
-                        if (bx >= 0 && bx < w && by >= 0 && by < h) {
-                            CellView cell = cache.get((by + 1) + "," + (bx + 1));
-                            if (cell != null) {
-                                // 아이템 블록 표시 지원
-                                applyItemMinoDisplay(cell, t, blockIndex, blockClass, textClass);
-                            }
-                        }
-                        blockIndex++;
+
+            for (int blockIndex = 0; blockIndex < shape.getCellCount(); blockIndex++) {
+                int bx = remotePieceX + shape.getCellCol(blockIndex);
+                int by = remotePieceY + shape.getCellRow(blockIndex);
+
+                if (bx >= 0 && bx < w && by >= 0 && by < h) {
+                    BoardCell cell = cellAt(cells, by + 1, bx + 1);
+                    if (cell != null) {
+                        // 아이템 블록 표시 지원
+                        applyItemMinoDisplay(cell, t, blockIndex, blockClass, textClass);
                     }
                 }
             }
@@ -445,17 +454,17 @@ public class NetworkGameScene extends BaseGameScene {
             }
         }
 
-        drawNext(previewCacheRemote, next);
+        drawNext(previewCellsRemote, next);
 
         // 4) 점수
         scoreLabelRemote.setText(remoteName + "\nScore:\n" + remoteScore);
 
         // 5) Incoming
-        updateIncoming(incomingCacheRemote, remoteIncomingQueue);
+        updateIncoming(incomingRemote, incomingCellsRemote, remoteIncomingQueue);
     }
 
     // 공통 그리기 로직 (Local/Remote 공용)
-    private void applyCellValue(CellView cell, int v) {
+    private void applyCellValue(BoardCell cell, int v) {
         if (v == 0) {
             applyCellEmpty(cell);
         } else if (v == 1000) {
@@ -497,54 +506,41 @@ public class NetworkGameScene extends BaseGameScene {
     }
 
     private void drawFallingPiece(
-            Map<String, CellView> cache, Tetromino cur, int px, int py, int w, int h) {
-        int[][] shape = cur.getShape();
+            BoardCell[][] cells, Tetromino cur, int px, int py, int w, int h) {
+        Tetromino.ShapeView shape = cur.getShapeView();
         String blockClass = cur.getBlockStyleClass();
         String textClass = cur.getTextStyleClass();
 
-        int blockIndex = 0;
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    int bx = px + c;
-                    int by = py + r;
+        for (int blockIndex = 0; blockIndex < shape.getCellCount(); blockIndex++) {
+            int bx = px + shape.getCellCol(blockIndex);
+            int by = py + shape.getCellRow(blockIndex);
 
-                    if (bx >= 0 && bx < w && by >= 0 && by < h) {
-                        CellView cell = cache.get((by + 1) + "," + (bx + 1));
-                        if (cell != null) {
-                            // 아이템 블록 표시 지원
-                            applyItemMinoDisplay(cell, cur, blockIndex, blockClass, textClass);
-                            // // Local Player의 떨어지는 미노도 일반 미노와 같이 테트로미노 종류 글자 표시
-                            // String symbol = cur.getKind().name();
-                            // fillCell(cell, symbol, blockClass, textClass);
-                        }
-                    }
-                    blockIndex++;
+            if (bx >= 0 && bx < w && by >= 0 && by < h) {
+                BoardCell cell = cellAt(cells, by + 1, bx + 1);
+                if (cell != null) {
+                    // 아이템 블록 표시 지원
+                    applyItemMinoDisplay(cell, cur, blockIndex, blockClass, textClass);
                 }
             }
         }
     }
 
-    private void drawGhostPiece(Map<String, CellView> cache, GameEngine engine, int w, int h) {
+    private void drawGhostPiece(BoardCell[][] cells, GameEngine engine, int w, int h) {
         Tetromino cur = engine.getCurrent();
         if (cur == null) return;
 
         int ghostY = engine.getGhostY();
         if (ghostY < 0) return;
 
-        int[][] shape = cur.getShape();
+        Tetromino.ShapeView shape = cur.getShapeView();
         int px = engine.getPieceX();
 
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    int bx = px + c;
-                    int by = ghostY + r;
-                    if (bx >= 0 && bx < w && by >= 0 && by < h) {
-                        CellView cell = cache.get((by + 1) + "," + (bx + 1));
-                        if (cell != null) fillCell(cell, "O", "block-ghost", "tetris-ghost-text");
-                    }
-                }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int bx = px + shape.getCellCol(i);
+            int by = ghostY + shape.getCellRow(i);
+            if (bx >= 0 && bx < w && by >= 0 && by < h) {
+                BoardCell cell = cellAt(cells, by + 1, bx + 1);
+                if (cell != null) fillCell(cell, "O", "block-ghost", "tetris-ghost-text");
             }
         }
     }
@@ -552,11 +548,11 @@ public class NetworkGameScene extends BaseGameScene {
     // Remote Player용 Next 렌더링 (아이템 정보 없이 O로만 표시)
     @SuppressWarnings("unused")
     @Deprecated
-    private void drawRemoteNext(Map<String, CellView> cache, Tetromino next) {
+    private void drawRemoteNext(BoardCell[][] cells, Tetromino next) {
         // 4x4 클리어
         for (int r = 0; r < 4; r++) {
             for (int c = 0; c < 4; c++) {
-                CellView cell = cache.get(r + "," + c);
+                BoardCell cell = cellAt(cells, r, c);
                 if (cell != null) applyCellEmpty(cell);
             }
         }
@@ -569,7 +565,7 @@ public class NetworkGameScene extends BaseGameScene {
         for (int r = 0; r < shape.length && r < 4; r++) {
             for (int c = 0; c < shape[r].length && c < 4; c++) {
                 if (shape[r][c] != 0) {
-                    CellView cell = cache.get(r + "," + c);
+                    BoardCell cell = cellAt(cells, r, c);
                     if (cell != null) {
                         // Remote는 아이템 정보가 없으므로 O로 표시
                         cell.setBlock("O", blockClass, textClass);
@@ -579,60 +575,39 @@ public class NetworkGameScene extends BaseGameScene {
         }
     }
 
-    private void drawNext(Map<String, CellView> cache, Tetromino next) {
+    private void drawNext(BoardCell[][] cells, Tetromino next) {
         // 4x4 클리어
         for (int r = 0; r < 4; r++) {
             for (int c = 0; c < 4; c++) {
-                CellView cell = cache.get(r + "," + c);
+                BoardCell cell = cellAt(cells, r, c);
                 if (cell != null) applyCellEmpty(cell);
             }
         }
         if (next == null) return;
 
-        int[][] shape = next.getShape();
-        int minR = 4, maxR = -1, minC = 4, maxC = -1;
-
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    minR = Math.min(minR, r);
-                    maxR = Math.max(maxR, r);
-                    minC = Math.min(minC, c);
-                    maxC = Math.max(maxC, c);
-                }
-            }
-        }
-
-        int h = maxR - minR + 1;
-        int w = maxC - minC + 1;
-        int offR = (4 - h) / 2;
-        int offC = (4 - w) / 2;
-
-        int blockIndex = 0;
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) {
-                    int rr = r - minR + offR;
-                    int cc = c - minC + offC;
-                    CellView cell = cache.get(rr + "," + cc);
-                    if (cell != null) {
-                        // 아이템 블록 표시 지원
-                        applyItemMinoDisplay(
-                                cell,
-                                next,
-                                blockIndex,
-                                next.getBlockStyleClass(),
-                                next.getTextStyleClass());
-                    }
-                    blockIndex++;
-                }
+        Tetromino.ShapeView shape = next.getShapeView();
+        int offR = (4 - shape.getBoxHeight()) / 2;
+        int offC = (4 - shape.getBoxWidth()) / 2;
+
+        for (int blockIndex = 0; blockIndex < shape.getCellCount(); blockIndex++) {
+            int rr = shape.getCellRow(blockIndex) - shape.getMinRow() + offR;
+            int cc = shape.getCellCol(blockIndex) - shape.getMinCol() + offC;
+            BoardCell cell = cellAt(cells, rr, cc);
+            if (cell != null) {
+                // 아이템 블록 표시 지원
+                applyItemMinoDisplay(
+                        cell,
+                        next,
+                        blockIndex,
+                        next.getBlockStyleClass(),
+                        next.getTextStyleClass());
             }
         }
     }
 
     // 아이템 미노 표시 로직 (VersusGameScene과 동일)
     private void applyItemMinoDisplay(
-            CellView cell,
+            BoardCell cell,
             Tetromino tetromino,
             int blockIndex,
             String blockClass,
@@ -667,11 +642,16 @@ public class NetworkGameScene extends BaseGameScene {
         }
     }
 
-    private void updateIncoming(Map<String, Label> cache, Queue<int[][]> queue) {
+    private void updateIncoming(Node grid, Label[][] cells, Queue<int[][]> queue) {
+        if (grid instanceof BoardCanvas canvas) {
+            drawIncoming(canvas.cells(), queue);
+            return;
+        }
+
         // 초기화
         for (int r = 0; r < 10; r++) {
             for (int c = 0; c < 10; c++) {
-                Label cell = cache.get(r + "," + c);
+                Label cell = cells[r][c];
                 if (cell != null) {
                     cell.setText(" ");
                     cell.setStyle(
@@ -692,7 +672,7 @@ public class NetworkGameScene extends BaseGameScene {
             for (int r = pat.length - 1; r >= 0 && row >= 0; r--) {
                 for (int c = 0; c < 10; c++) {
                     if (pat[r][c] != 0) {
-                        Label cell = cache.get(row + "," + c);
+                        Label cell = cells[row][c];
                         if (cell != null) {
                             cell.setText("■");
                             cell.setStyle(
@@ -707,10 +687,19 @@ public class NetworkGameScene extends BaseGameScene {
     }
 
     // Board / Preview / Incoming Grid 생성
-    private GridPane createBoardGrid(Board board, Map<String, CellView> cache) {
+    private Node createBoardGrid(Board board, BoardCell[][] cells) {
         int w = board.getWidth();
         int h = board.getHeight();
 
+        if (settings.isCanvasRenderer()) {
+            Node view = createBoardView(board);
+            BoardCell[][] canvasCells = boardCells(view);
+            for (int gy = 0; gy < h + 2; gy++) {
+                for (int gx = 0; gx < w + 2; gx++) cells[gy][gx] = canvasCells[gy][gx];
+            }
+            return view;
+        }
+
         GridPane grid = new GridPane();
         grid.getStyleClass().add("board-grid");
 
@@ -734,13 +723,22 @@ public class NetworkGameScene extends BaseGameScene {
                 if (gx == 0 || gx == w + 1 || gy == 0 || gy == h + 1) cell.setBorder();
 
                 grid.add(cell, gx, gy);
-                cache.put(gy + "," + gx, cell);
+                cells[gy][gx] = cell;
             }
         }
         return grid;
     }
 
-    private GridPane createPreviewGrid(Map<String, CellView> cache) {
+    private Node createPreviewGrid(BoardCell[][] cells) {
+        if (settings.isCanvasRenderer()) {
+            Node view = createPreviewView();
+            BoardCell[][] canvasCells = boardCells(view);
+            for (int r = 0; r < 4; r++) {
+                for (int c = 0; c < 4; c++) cells[r][c] = canvasCells[r][c];
+            }
+            return view;
+        }
+
         GridPane grid = new GridPane();
         grid.getStyleClass().add("preview-grid");
 
@@ -761,13 +759,24 @@ public class NetworkGameScene extends BaseGameScene {
             for (int c = 0; c < 4; c++) {
                 CellView cell = new CellView(cellSize, settings);
                 grid.add(cell, c, r);
-                cache.put(r + "," + c, cell);
+                cells[r][c] = cell;
             }
         }
         return grid;
     }
 
-    private GridPane createIncomingGrid(Map<String, Label> cache) {
+    private Node createIncomingGrid(Label[][] cells) {
+        double cellSize =
+                ("LARGE".equals(settings.getWindowSize())
+                        ? 22
+                        : "MEDIUM".equals(settings.getWindowSize()) ? 17 : 13);
+
+        if (settings.isCanvasRenderer()) {
+            BoardCanvas canvas = createCanvas(10, 10, cellSize, TileAtlas.Style.INCOMING);
+            canvas.getStyleClass().add("incoming-grid");
+            return canvas;
+        }
+
         GridPane grid = new GridPane();
         grid.getStyleClass().add("incoming-grid");
         grid.setStyle(
@@ -775,11 +784,6 @@ public class NetworkGameScene extends BaseGameScene {
         grid.setHgap(0);
         grid.setVgap(0);
 
-        double cellSize =
-                ("LARGE".equals(settings.getWindowSize())
-                        ? 22
-                        : "MEDIUM".equals(settings.getWindowSize()) ? 17 : 13);
-
         for (int r = 0; r < 10; r++) {
             for (int c = 0; c < 10; c++) {
                 Label cell = new Label(" ");
@@ -789,7 +793,7 @@ public class NetworkGameScene extends BaseGameScene {
                 cell.setMaxSize(cellSize, cellSize);
                 cell.setStyle("-fx-border-color: #333; -fx-border-width: 0.3;");
                 grid.add(cell, c, r);
-                cache.put(r + "," + c, cell);
+                cells[r][c] = cell;
             }
         }
         return grid;
@@ -0,0 +1,42 @@
+package team13.tetris.scenes;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+// 색맹 모드 패턴 이미지 캐시
+// 패턴(줄무늬/빗살무늬)을 셀 크기마다 한 번만 선으로 그려 이미지로 보관하고,
+// CellView는 패턴이 바뀔 때 drawImage 한 번으로 그림
+// 셀 크기는 창 크기 단계에 따라 정해지므로 SceneManager가 창 크기 단계를 바꿀 때만 비움 (FX 스레드에서만 사용)
+public final class PatternImages {
+    private static final Map<String, Image> IMAGES = new HashMap<>();
+
+    private PatternImages() {}
+
+    // 패턴 이미지 (w x h, 배경은 투명)
+    static Image get(String pattern, double w, double h) {
+        String key = pattern + "@" + w + "x" + h;
+        Image image = IMAGES.get(key);
+        if (image == null) {
+            Canvas scratch = new Canvas(w, h);
+            CellView.strokePattern(scratch.getGraphicsContext2D(), pattern, w, h);
+            SnapshotParameters params = new SnapshotParameters();
+            params.setFill(Color.TRANSPARENT);
+            image = scratch.snapshot(params, null);
+            IMAGES.put(key, image);
+        }
+        return image;
+    }
+
+    // 창 크기 단계가 바뀌면 이전 셀 크기의 이미지는 더 쓰이지 않으므로 버림
+    public static void invalidate() {
+        IMAGES.clear();
+    }
+
+    static int size() {
+        return IMAGES.size();
+    }
+}
@@ -0,0 +1,172 @@
+package team13.tetris.scenes;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+// 화면 다시 그리기 스케줄러 (프로세스 전체에서 공유)
+// 키 입력, 자동 하강, 네트워크 메시지마다 Platform.runLater로 다시 그리면 한 펄스 안에 같은 화면을
+// 여러 번 그리게 되므로, 요청은 "다시 그려야 함" 표시만 하고 AnimationTimer가 펄스(vsync)마다
+// 표시된 화면을 한 번씩만 그림
+// 그릴 것이 없는 펄스가 오면 타이머를 멈춰 게임이 멈춘 동안에는 펄스를 붙잡지 않음
+public final class RenderScheduler {
+    private static final RenderScheduler SHARED = new RenderScheduler();
+
+    // 다시 그려야 하는 화면의 그리기 작업 (화면마다 같은 Runnable 인스턴스를 넘겨야 합쳐짐)
+    private final Set<Runnable> dirty = ConcurrentHashMap.newKeySet();
+    // 타이머가 돌고 있거나 시작이 예약됨
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Runnable wakeUp;
+    private AnimationTimer timer; // FX 스레드에서만 접근
+
+    // 통계 (요청 카운터는 아무 스레드에서나, 프레임 카운터는 FX 스레드에서만 씀)
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private volatile long frameCount = 0;
+    private volatile long repaintCount = 0;
+    private volatile long totalFrameNanos = 0;
+    private volatile long lastFrameNanos = 0;
+    private volatile long maxFrameNanos = 0;
+
+    private RenderScheduler() {
+        this.wakeUp = this::startTimer;
+    }
+
+    // 타이머 대신 wakeUp으로 깨우는 스케줄러 (테스트용, 펄스는 onPulse를 직접 호출)
+    RenderScheduler(Runnable wakeUp) {
+        this.wakeUp = wakeUp;
+    }
+
+    public static RenderScheduler shared() {
+        return SHARED;
+    }
+
+    // 다음 펄스에 repaint를 실행하도록 예약 (아무 스레드에서나 호출 가능)
+    // 이미 예약되어 있으면 합쳐지고 false 반환
+    public boolean requestRender(Runnable repaint) {
+        requestCount.incrementAndGet();
+        if (!dirty.add(repaint)) {
+            coalescedCount.incrementAndGet();
+            return false;
+        }
+        if (running.compareAndSet(false, true)) wakeUp.run();
+        return true;
+    }
+
+    // 예약된 그리기 취소 (화면을 떠날 때 등)
+    public void cancel(Runnable repaint) {
+        dirty.remove(repaint);
+    }
+
+    // 펄스 하나 처리, 타이머를 계속 돌려야 하면 true (FX 스레드)
+    boolean onPulse() {
+        if (runFrame() > 0) return true;
+
+        running.set(false);
+        // 멈추기로 한 사이에 들어온 요청은 여기서 다시 잡음 (요청한 쪽은 running이 true라 깨우지 않음)
+        return !dirty.isEmpty() && running.compareAndSet(false, true);
+    }
+
+    // 예약된 화면을 한 번씩 그리고 그린 화면 수를 반환
+    private int runFrame() {
+        if (dirty.isEmpty()) return 0;
+
+        long start = System.nanoTime();
+        int repaints = 0;
+        Iterator<Runnable> it = dirty.iterator();
+        while (it.hasNext()) {
+            Runnable repaint = it.next();
+            // 그리는 도중 들어온 요청은 다음 펄스에 다시 그리도록 먼저 제거
+            it.remove();
+            repaint.run();
+            repaints++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        frameCount++;
+        repaintCount += repaints;
+        totalFrameNanos += elapsed;
+        lastFrameNanos = elapsed;
+        if (elapsed > maxFrameNanos) maxFrameNanos = elapsed;
+        return repaints;
+    }
+
+    private void startTimer() {
+        try {
+            if (Platform.isFxApplicationThread()) {
+                ensureTimer().start();
+            } else {
+                Platform.runLater(() -> ensureTimer().start());
+            }
+        } catch (IllegalStateException e) {
+            // 툴킷이 초기화되지 않았으면(테스트, 헤드리스) 현재 스레드에서 바로 그림
+            while (onPulse()) {}
+        }
+    }
+
+    private AnimationTimer ensureTimer() {
+        if (timer == null) {
+            timer =
+                    new AnimationTimer() {
+                        @Override
+                        public void handle(long now) {
+                            if (!onPulse()) stop();
+                        }
+                    };
+        }
+        return timer;
+    }
+
+    // 다시 그리기 요청 수 (합쳐진 요청 포함)
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    // 이미 예약된 화면이라 합쳐진(그리지 않고 넘어간) 요청 수
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    // 실제로 그린 펄스 수
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    // 실제로 실행한 그리기 작업 수 (한 펄스에 여러 화면을 그릴 수 있음)
+    public long getRepaintCount() {
+        return repaintCount;
+    }
+
+    // 펄스 하나에서 그리기 작업에 걸린 시간 (CSS/레이아웃 패스는 포함하지 않음)
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    public long getMaxFrameNanos() {
+        return maxFrameNanos;
+    }
+
+    public double getAverageFrameNanos() {
+        long frames = frameCount;
+        return frames == 0 ? 0 : (double) totalFrameNanos / frames;
+    }
+
+    // 대기 중인 화면 수
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    public void resetStats() {
+        requestCount.set(0);
+        coalescedCount.set(0);
+        frameCount = 0;
+        repaintCount = 0;
+        totalFrameNanos = 0;
+        lastFrameNanos = 0;
+        maxFrameNanos = 0;
+    }
+}
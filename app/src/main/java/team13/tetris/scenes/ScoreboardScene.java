@@ -1,5 +1,9 @@
 package team13.tetris.scenes;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -9,7 +13,13 @@ import team13.tetris.SceneManager;
 import team13.tetris.config.Settings;
 import team13.tetris.data.ScoreBoard;
 
+// 모드별 상위 점수를 PAGE_SIZE개씩 보여 줌 (전체 점수를 읽지 않고 ScoreBoard.getTopScores로 한 쪽씩)
+// 모드 목록 끝의 "Show more" 항목에서 Enter를 누르거나 클릭하면 그 모드의 다음 쪽을 이어 붙임
 public class ScoreboardScene {
+    static final int PAGE_SIZE = 10;
+    // 하이라이트할 점수를 찾으려고 한 모드에서 미리 읽는 최대 점수 수
+    static final int MAX_HIGHLIGHT_ENTRIES = 1000;
+
     private final SceneManager manager;
     private final Settings settings;
     private final ScoreBoard scoreBoard;
@@ -17,6 +27,12 @@ public class ScoreboardScene {
     private final Integer highlightScore;
     private final ScoreBoard.ScoreEntry.Mode highlightMode;
 
+    // 화면에 올린 점수와 다음 쪽이 있는지 (getScene마다 새로 읽음)
+    private final Map<ScoreBoard.ScoreEntry.Mode, List<ScoreBoard.ScoreEntry>> shown =
+            new EnumMap<>(ScoreBoard.ScoreEntry.Mode.class);
+    private final Map<ScoreBoard.ScoreEntry.Mode, Boolean> hasMore =
+            new EnumMap<>(ScoreBoard.ScoreEntry.Mode.class);
+
     public ScoreboardScene(SceneManager manager, Settings settings) {
         this(manager, settings, null, null, null);
     }
@@ -28,9 +44,20 @@ public class ScoreboardScene {
             String highlightName,
             Integer highlightScore,
             ScoreBoard.ScoreEntry.Mode highlightMode) {
+        this(manager, settings, new ScoreBoard(), highlightName, highlightScore, highlightMode);
+    }
+
+    // 테스트용: 점수 파일을 지정한 ScoreBoard 사용
+    ScoreboardScene(
+            SceneManager manager,
+            Settings settings,
+            ScoreBoard scoreBoard,
+            String highlightName,
+            Integer highlightScore,
+            ScoreBoard.ScoreEntry.Mode highlightMode) {
         this.manager = manager;
         this.settings = settings;
-        this.scoreBoard = new ScoreBoard();
+        this.scoreBoard = scoreBoard;
         this.highlightName = highlightName;
         this.highlightScore = highlightScore;
         this.highlightMode = highlightMode;
@@ -41,18 +68,14 @@ public class ScoreboardScene {
         title.getStyleClass().add("label-title");
 
         ListView<String> scoreList = new ListView<>();
-        scoreBoard
-                .getGameScores()
-                .forEach(
-                        entry ->
-                                scoreList
-                                        .getItems()
-                                        .add(
-                                                String.format(
-                                                        "[%s] %s : %d",
-                                                        entry.getMode().name(),
-                                                        entry.getName(),
-                                                        entry.getScore())));
+        shown.clear();
+        hasMore.clear();
+        for (ScoreBoard.ScoreEntry.Mode mode : ScoreBoard.ScoreEntry.Mode.values()) {
+            loadNextPage(mode);
+        }
+        loadUntilHighlighted();
+        render(scoreList);
+        setupShowMore(scoreList);
 
         Button backBtn = new Button("Back to Main Menu");
         backBtn.setOnAction(e -> manager.showMainMenu(settings));
@@ -101,6 +124,77 @@ public class ScoreboardScene {
         return scene;
     }
 
+    private void loadNextPage(ScoreBoard.ScoreEntry.Mode mode) {
+        load(mode, PAGE_SIZE);
+    }
+
+    // 모드의 다음 count개를 읽음 (한 개 더 읽어서 그다음이 있는지 확인)
+    private void load(ScoreBoard.ScoreEntry.Mode mode, int count) {
+        List<ScoreBoard.ScoreEntry> entries = shown.computeIfAbsent(mode, m -> new ArrayList<>());
+        List<ScoreBoard.ScoreEntry> page = scoreBoard.getTopScores(mode, entries.size(), count + 1);
+        entries.addAll(page.subList(0, Math.min(count, page.size())));
+        hasMore.put(mode, page.size() > count);
+    }
+
+    // 하이라이트할 점수가 첫 쪽 밖이면 그 점수가 나올 때까지 읽는 양을 두 배씩 늘려 가며 더 읽음
+    // (MAX_HIGHLIGHT_ENTRIES보다 뒤에 있으면 하이라이트하지 않음)
+    private void loadUntilHighlighted() {
+        if (highlightName == null || highlightScore == null || highlightMode == null) return;
+        List<ScoreBoard.ScoreEntry> entries = shown.get(highlightMode);
+        int count = PAGE_SIZE;
+        while (hasMore.get(highlightMode)
+                && entries.size() < MAX_HIGHLIGHT_ENTRIES
+                && entries.get(entries.size() - 1).getScore() >= highlightScore) {
+            count = Math.min(count * 2, MAX_HIGHLIGHT_ENTRIES - entries.size());
+            load(highlightMode, count);
+        }
+    }
+
+    private void render(ListView<String> scoreList) {
+        List<String> items = new ArrayList<>();
+        for (ScoreBoard.ScoreEntry.Mode mode : ScoreBoard.ScoreEntry.Mode.values()) {
+            for (ScoreBoard.ScoreEntry entry : shown.get(mode)) {
+                items.add(format(mode, entry.getName(), entry.getScore()));
+            }
+            if (hasMore.get(mode)) items.add(showMoreLabel(mode));
+        }
+        scoreList.getItems().setAll(items);
+    }
+
+    private static String format(ScoreBoard.ScoreEntry.Mode mode, String name, int score) {
+        return String.format("[%s] %s : %d", mode.name(), name, score);
+    }
+
+    private static String showMoreLabel(ScoreBoard.ScoreEntry.Mode mode) {
+        return String.format("[%s] Show more", mode.name());
+    }
+
+    // "Show more" 항목에서 Enter/클릭 -> 그 모드의 다음 쪽을 붙이고 새로 붙은 첫 항목을 선택
+    private void setupShowMore(ListView<String> scoreList) {
+        scoreList.setOnKeyPressed(
+                e -> {
+                    if (e.getCode() == javafx.scene.input.KeyCode.ENTER && showMore(scoreList)) {
+                        e.consume();
+                    }
+                });
+        scoreList.setOnMouseClicked(e -> showMore(scoreList));
+    }
+
+    private boolean showMore(ListView<String> scoreList) {
+        String selected = scoreList.getSelectionModel().getSelectedItem();
+        if (selected == null) return false;
+        for (ScoreBoard.ScoreEntry.Mode mode : ScoreBoard.ScoreEntry.Mode.values()) {
+            if (!hasMore.get(mode) || !selected.equals(showMoreLabel(mode))) continue;
+            int index = scoreList.getSelectionModel().getSelectedIndex();
+            loadNextPage(mode);
+            render(scoreList);
+            scoreList.getSelectionModel().select(index);
+            scoreList.scrollTo(index);
+            return true;
+        }
+        return false;
+    }
+
     private void setupListNavigation(ListView<String> scoreList, Button backBtn, Button exitBtn) {
         scoreList.addEventFilter(
                 javafx.scene.input.KeyEvent.KEY_PRESSED,
@@ -178,9 +272,7 @@ public class ScoreboardScene {
 
     private void applyHighlight(ListView<String> scoreList) {
         if (highlightName != null && highlightScore != null && highlightMode != null) {
-            String formatted =
-                    String.format(
-                            "[%s] %s : %d", highlightMode.name(), highlightName, highlightScore);
+            String formatted = format(highlightMode, highlightName, highlightScore);
 
             for (int i = 0; i < scoreList.getItems().size(); i++) {
                 if (scoreList.getItems().get(i).equals(formatted)) {
@@ -64,6 +64,15 @@ public class SettingsScene {
                     settings.setColorBlindMode(newState);
                 });
 
+        // 보드 렌더러: 셀마다 노드(NODE) 또는 패널마다 캔버스 하나(CANVAS), 다음 게임부터 적용
+        Button rendererBtn = new Button();
+        rendererBtn.setText("Renderer: " + settings.getRenderMode());
+        rendererBtn.setOnAction(
+                e -> {
+                    settings.setRenderMode(settings.isCanvasRenderer() ? "NODE" : "CANVAS");
+                    rendererBtn.setText("Renderer: " + settings.getRenderMode());
+                });
+
         Button resetBtn = new Button("Reset Scoreboard");
         resetBtn.setOnAction(
                 e -> {
@@ -111,6 +120,8 @@ public class SettingsScene {
                                             settings.setColorBlindMode(false);
                                             settings.setWindowSize("MEDIUM");
                                             colorBlindBtn.setText("Color Blind Mode: OFF");
+                                            settings.setRenderMode("NODE");
+                                            rendererBtn.setText("Renderer: NODE");
                                             settings.restoreDefaultKeys();
 
                                             Alert successAlert =
@@ -137,6 +148,7 @@ public class SettingsScene {
                         largeBtn,
                         keyBtn,
                         colorBlindBtn,
+                        rendererBtn,
                         resetBtn,
                         defaultBtn,
                         backBtn);
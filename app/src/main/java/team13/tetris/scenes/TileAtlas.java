@@ -0,0 +1,174 @@
+package team13.tetris.scenes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import team13.tetris.game.model.Tetromino;
+
+// 캔버스 렌더러(BoardCanvas)가 찍는 셀 타일 모음
+// 셀 상태(블록 종류, 아이템 글자, 색맹 패턴, 고스트, 플래시)마다 CellView와 같은 모양을 한 번만 그려
+// 이미지로 보관하고, 이후에는 drawImage 한 번으로 셀을 그림
+// 색은 CSS를 읽을 수 없으므로 application.css / colorblind.css의 값을 그대로 옮겨 둠
+final class TileAtlas {
+    // 패널 종류: incoming 패널은 빈 칸/블록 모양이 보드와 다름
+    enum Style {
+        BOARD,
+        INCOMING
+    }
+
+    private static final Map<String, TileAtlas> ATLASES = new HashMap<>();
+
+    private static final Map<String, Color> NORMAL_COLORS = new HashMap<>();
+    private static final Map<String, Color> COLOR_BLIND_COLORS = new HashMap<>();
+
+    static {
+        String[] kinds = {"I", "O", "T", "S", "Z", "J", "L"};
+        String[] normal = {
+            "#80FF00", "#FFFF00", "#FF00FF", "#00FFFF", "#FF0000", "#005AFF", "#FFA500"
+        };
+        String[] colorBlind = {
+            "#56B4E9", "#F0E442", "#E377C2", "#009E73", "#E69F00", "#7B68EE", "#FF7F0E"
+        };
+        for (int i = 0; i < kinds.length; i++) {
+            String text = "tetris-" + kinds[i].toLowerCase() + "-text";
+            NORMAL_COLORS.put("block-" + kinds[i], Color.web(normal[i]));
+            NORMAL_COLORS.put(text, Color.web(normal[i]));
+            COLOR_BLIND_COLORS.put("block-" + kinds[i], Color.web(colorBlind[i]));
+            COLOR_BLIND_COLORS.put(text, Color.web(colorBlind[i]));
+        }
+        for (Map<String, Color> colors : List.of(NORMAL_COLORS, COLOR_BLIND_COLORS)) {
+            colors.put("block-flash", Color.WHITE);
+            colors.put("tetris-flash-text", Color.WHITE);
+            colors.put("block-gray", Color.web("#808080"));
+            colors.put("block-ghost", Color.rgb(200, 200, 200, 0.25));
+            colors.put("tetris-ghost-text", Color.rgb(200, 200, 200, 0.3));
+        }
+        NORMAL_COLORS.put("block", Color.web("#b0b0b0"));
+        NORMAL_COLORS.put("item-copy-block", Color.web("#693B87"));
+        COLOR_BLIND_COLORS.put("block", Color.web("#c4c4c4"));
+        COLOR_BLIND_COLORS.put("item-copy-block", Color.web("#0400FF"));
+    }
+
+    private final double cellSize;
+    private final boolean colorBlind;
+    private final Style style;
+    private final Map<String, Color> colors;
+    private final Map<String, Image> tiles = new HashMap<>();
+    private final Font font;
+
+    private TileAtlas(double cellSize, boolean colorBlind, Style style) {
+        this.cellSize = cellSize;
+        this.colorBlind = colorBlind;
+        this.style = style;
+        this.colors = colorBlind ? COLOR_BLIND_COLORS : NORMAL_COLORS;
+        double fontScale = style == Style.INCOMING ? 0.6 : 0.8;
+        this.font = Font.font("Monospaced", FontWeight.BOLD, cellSize * fontScale);
+        if (style == Style.BOARD) prerender();
+    }
+
+    // 셀 크기, 색맹 모드, 패널 종류별로 하나씩 만들어 두고 같이 씀 (FX 스레드에서만 호출)
+    static TileAtlas get(double cellSize, boolean colorBlind, Style style) {
+        String key = cellSize + "/" + colorBlind + "/" + style;
+        return ATLASES.computeIfAbsent(key, k -> new TileAtlas(cellSize, colorBlind, style));
+    }
+
+    // 게임 중 나오는 셀 상태를 미리 그려 둠, 목록에 없는 조합은 처음 나올 때 그림
+    private void prerender() {
+        tile(CellState.Kind.EMPTY, null, null, null);
+        tile(CellState.Kind.BORDER, null, null, null);
+        tile(CellState.Kind.BLOCK, "", "block-ghost", "tetris-ghost-text");
+        tile(CellState.Kind.BLOCK, "", "block-flash", "tetris-flash-text");
+        tile(CellState.Kind.BLOCK, " ", "block-gray", "tetris-gray-text");
+        for (Tetromino.Kind kind : Tetromino.Kind.values()) {
+            String blockClass = kind.getBlockStyleClass();
+            String textClass = kind.getTextStyleClass();
+            for (String symbol : new String[] {"", "O", kind.name(), "W", "G", "S"}) {
+                tile(CellState.Kind.BLOCK, symbol, blockClass, textClass);
+            }
+            tile(CellState.Kind.BLOCK, "C", blockClass, "item-copy-block");
+            tile(CellState.Kind.BLOCK, "L", blockClass, "item-copy-block");
+        }
+    }
+
+    Image tile(CellState.Kind kind, String symbol, String blockClass, String textClass) {
+        String key = kind + "|" + symbol + "|" + blockClass + "|" + textClass;
+        Image image = tiles.get(key);
+        if (image == null) {
+            image = rasterize(kind, symbol, blockClass, textClass);
+            tiles.put(key, image);
+        }
+        return image;
+    }
+
+    private Image rasterize(
+            CellState.Kind kind, String symbol, String blockClass, String textClass) {
+        Canvas scratch = new Canvas(cellSize, cellSize);
+        GraphicsContext gc = scratch.getGraphicsContext2D();
+        double s = cellSize;
+        int base = colorBlind ? 245 : 255;
+
+        if (style == Style.INCOMING) {
+            // incoming 패널: 빈 칸은 투명, 공격 줄은 회색 바탕에 흰 ■
+            if (kind == CellState.Kind.BLOCK) {
+                gc.setFill(Color.GRAY);
+                gc.fillRect(0, 0, s, s);
+                drawText(gc, "■", Color.WHITE);
+            }
+            gc.setStroke(Color.web("#333333"));
+            gc.setLineWidth(0.3);
+            gc.strokeRect(0, 0, s, s);
+        } else if (kind == CellState.Kind.EMPTY) {
+            gc.setFill(Color.rgb(base, base, base, colorBlind ? 0.12 : 0.10));
+            gc.fillRect(0, 0, s, s);
+            gc.setStroke(Color.rgb(255, 255, 255, 0.3));
+            gc.setLineWidth(0.2);
+            gc.strokeRect(0, 0, s, s);
+        } else if (kind == CellState.Kind.BORDER) {
+            gc.setFill(Color.rgb(base, base, base, 0.45));
+            gc.fillRect(0, 0, s, s);
+            drawText(gc, "X", Color.rgb(base, base, base, 0.75));
+        } else {
+            Color fill = blockClass == null ? null : colors.get(blockClass);
+            if (fill != null) {
+                gc.setFill(fill);
+                gc.fillRect(0, 0, s, s);
+                boolean ghost = "block-ghost".equals(blockClass);
+                gc.setStroke(ghost ? Color.rgb(200, 200, 200, 0.4) : Color.rgb(0, 0, 0, 0.6));
+                gc.setLineWidth(0.2);
+                gc.strokeRect(0, 0, s, s);
+            }
+            String pattern =
+                    blockClass == null || !colorBlind ? null : CellView.patternFor(blockClass);
+            if (pattern != null && !pattern.equals("none")) {
+                CellView.strokePattern(gc, pattern, s, s);
+            }
+            Color textColor = textClass == null ? null : colors.get(textClass);
+            if (textColor == null) {
+                textColor = Color.rgb(base, base, base, colorBlind ? 0.92 : 0.9);
+            }
+            drawText(gc, CellView.visibleText(symbol, blockClass, colorBlind), textColor);
+        }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(params, null);
+    }
+
+    private void drawText(GraphicsContext gc, String text, Color color) {
+        if (text == null || text.isBlank()) return;
+        gc.setFill(color);
+        gc.setFont(font);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(text, cellSize / 2, cellSize / 2);
+    }
+}
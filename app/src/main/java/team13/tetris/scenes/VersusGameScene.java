@@ -5,6 +5,7 @@ import java.util.Map;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
@@ -30,23 +31,23 @@ public class VersusGameScene extends BaseGameScene {
     private Label timerLabel1; // Player 1 타이머 표시용
     private Label timerLabel2; // Player 2 타이머 표시용
 
-    // UI 업데이트 throttle을 위한 변수
-    private volatile boolean updatePending = false;
+    // 다시 그리기 작업 (RenderScheduler가 펄스마다 한 번만 실행)
+    private final Runnable renderTask = this::render;
 
     // incoming grid용 캐시만 유지
     private final Map<String, Label> incomingCache1 = new HashMap<>();
     private final Map<String, Label> incomingCache2 = new HashMap<>();
 
     // Player 1 UI
-    private final GridPane boardGrid1;
-    private final GridPane previewGrid1;
-    private final GridPane incomingGrid1; // 넘어올 블록 표시
+    private final Node boardGrid1;
+    private final Node previewGrid1;
+    private final Node incomingGrid1; // 넘어올 블록 표시
     private final Label scoreLabel1;
 
     // Player 2 UI
-    private final GridPane boardGrid2;
-    private final GridPane previewGrid2;
-    private final GridPane incomingGrid2; // 넘어올 블록 표시
+    private final Node boardGrid2;
+    private final Node previewGrid2;
+    private final Node incomingGrid2; // 넘어올 블록 표시
     private final Label scoreLabel2;
 
     public VersusGameScene(
@@ -66,16 +67,16 @@ public class VersusGameScene extends BaseGameScene {
 
         // Player 1 보드 초기화
         Board board1 = engine1.getBoard();
-        boardGrid1 = createBoardGrid(board1);
-        previewGrid1 = createPreviewGrid();
-        incomingGrid1 = createIncomingGrid();
+        boardGrid1 = createBoardView(board1);
+        previewGrid1 = createPreviewView();
+        incomingGrid1 = createIncomingView();
         scoreLabel1 = new Label("Player 1\nScore: 0");
 
         // Player 2 보드 초기화
         Board board2 = engine2.getBoard();
-        boardGrid2 = createBoardGrid(board2);
-        previewGrid2 = createPreviewGrid();
-        incomingGrid2 = createIncomingGrid();
+        boardGrid2 = createBoardView(board2);
+        previewGrid2 = createPreviewView();
+        incomingGrid2 = createIncomingView();
         scoreLabel2 = new Label("Player 2\nScore: 0");
 
         // Player 1과 Player 2 UI 생성
@@ -97,7 +98,7 @@ public class VersusGameScene extends BaseGameScene {
     // 플레이어별 UI를 생성하는 공통 메서드
     private VBox createPlayerUI(int playerNumber, GameEngine engine, boolean timerMode) {
         // 플레이어별 변수 설정
-        GridPane boardGrid, previewGrid, incomingGrid;
+        Node boardGrid, previewGrid, incomingGrid;
         Label scoreLabel, timerLabel = null;
 
         if (playerNumber == 1) {
@@ -168,11 +169,11 @@ public class VersusGameScene extends BaseGameScene {
 
     // 오른쪽 패널 (preview, score, timer, incoming) 생성
     private VBox createRightPanel(
-            GridPane previewGrid,
+            Node previewGrid,
             Label scoreLabel,
             Label timerLabel,
             Label incomingLabel,
-            GridPane incomingGrid,
+            Node incomingGrid,
             boolean timerMode) {
         String windowSize = settings.getWindowSize();
         VBox rightPanel;
@@ -230,6 +231,21 @@ public class VersusGameScene extends BaseGameScene {
         return rightPanel;
     }
 
+    private Node createIncomingView() {
+        if (!settings.isCanvasRenderer()) return createIncomingGrid();
+
+        BoardCanvas canvas = createCanvas(10, 10, incomingCellSize(), TileAtlas.Style.INCOMING);
+        canvas.getStyleClass().add("incoming-grid");
+        return canvas;
+    }
+
+    // 화면 크기에 따른 incoming 셀 크기
+    private double incomingCellSize() {
+        if ("SMALL".equals(settings.getWindowSize())) return 13;
+        if ("MEDIUM".equals(settings.getWindowSize())) return 15;
+        return 25; // LARGE
+    }
+
     private GridPane createIncomingGrid() {
         GridPane grid = new GridPane();
         grid.getStyleClass().add("incoming-grid");
@@ -243,14 +259,12 @@ public class VersusGameScene extends BaseGameScene {
                 (grid == incomingGrid1 || incomingGrid1 == null) ? incomingCache1 : incomingCache2;
 
         // 화면 크기에 따라 셀 크기 조정
-        double cellSize = 25; // LARGE 크기
+        double cellSize = incomingCellSize();
         double fontSize = 30; // LARGE 폰트 크기
 
         if ("SMALL".equals(settings.getWindowSize())) {
-            cellSize = 13;
             fontSize = 8;
         } else if ("MEDIUM".equals(settings.getWindowSize())) {
-            cellSize = 15;
             fontSize = 9;
         }
 
@@ -303,16 +317,13 @@ public class VersusGameScene extends BaseGameScene {
     }
 
     public void updateGrid() {
-        // 이미 업데이트가 예약되어 있으면 스킵
-        if (updatePending) return;
-        updatePending = true;
+        // 이미 예약되어 있으면 스케줄러가 합침
+        RenderScheduler.shared().requestRender(renderTask);
+    }
 
-        Platform.runLater(
-                () -> {
-                    updatePlayerGrid(engine1, boardGrid1, previewGrid1, scoreLabel1, "Player 1");
-                    updatePlayerGrid(engine2, boardGrid2, previewGrid2, scoreLabel2, "Player 2");
-                    updatePending = false;
-                });
+    private void render() {
+        updatePlayerGrid(engine1, boardGrid1, previewGrid1, scoreLabel1, "Player 1");
+        updatePlayerGrid(engine2, boardGrid2, previewGrid2, scoreLabel2, "Player 2");
     }
 
     public void updateTimer(int remainingSeconds) {
@@ -333,9 +344,15 @@ public class VersusGameScene extends BaseGameScene {
 
     public void updateIncomingGrid(int playerNumber, java.util.Queue<int[][]> incomingBlocks) {
         Map<String, Label> incomingCache = (playerNumber == 1) ? incomingCache1 : incomingCache2;
+        Node incomingGrid = (playerNumber == 1) ? incomingGrid1 : incomingGrid2;
 
         Platform.runLater(
                 () -> {
+                    if (incomingGrid instanceof BoardCanvas canvas) {
+                        drawIncoming(canvas.cells(), incomingBlocks);
+                        return;
+                    }
+
                     // 모든 셀 초기화 (incoming grid 전용 작은 스타일)
                     for (int r = 0; r < 10; r++) {
                         for (int c = 0; c < 10; c++) {
@@ -385,8 +402,8 @@ public class VersusGameScene extends BaseGameScene {
 
     private void updatePlayerGrid(
             GameEngine engine,
-            GridPane boardGrid,
-            GridPane previewGrid,
+            Node boardGrid,
+            Node previewGrid,
             Label scoreLabel,
             String playerName) {
         if (engine == null) return;
@@ -394,13 +411,16 @@ public class VersusGameScene extends BaseGameScene {
         Board b = engine.getBoard();
         int w = b.getWidth();
         int h = b.getHeight();
+        BoardCell[][] boardCells = boardCells(boardGrid);
+        BoardCell[][] previewCells = boardCells(previewGrid);
+        beginFrame(boardCells);
+        beginFrame(previewCells);
 
         // 보드 업데이트
         for (int y = 0; y < h; y++) {
             for (int x = 0; x < w; x++) {
                 int val = b.getCell(x, y);
-                // getNodeByRowColumnIndex 사용
-                CellView cell = (CellView) getNodeByRowColumnIndex(y + 1, x + 1, boardGrid);
+                BoardCell cell = cellAt(boardCells, y + 1, x + 1);
                 if (cell == null) continue;
 
                 if (val == 0) {
@@ -457,7 +477,7 @@ public class VersusGameScene extends BaseGameScene {
         // 현재 떨어지는 블록 표시
         Tetromino current = engine.getCurrent();
         if (current != null) {
-            int[][] shape = current.getShape();
+            Tetromino.ShapeView shape = current.getShapeView();
             int px = engine.getPieceX();
             int py = engine.getPieceY();
             int ghostY = engine.getGhostY();
@@ -465,26 +485,17 @@ public class VersusGameScene extends BaseGameScene {
             String blockClass = current.getBlockStyleClass();
 
             // 고스트 블록 그리기 (현재 블록보다 먼저 그려서 뒤에 표시됨)
-            renderGhostBlock(shape, px, py, ghostY, w, h, boardGrid);
-
-            int blockIndex = 0;
-
-            for (int r = 0; r < shape.length; r++) {
-                for (int c = 0; c < shape[r].length; c++) {
-                    if (shape[r][c] != 0) {
-                        int bx = px + c;
-                        int by = py + r;
-                        if (bx >= 0 && bx < w && by >= 0 && by < h) {
-                            // getNodeByRowColumnIndex 사용
-                            CellView cell =
-                                    (CellView) getNodeByRowColumnIndex(by + 1, bx + 1, boardGrid);
-                            if (cell != null) {
-                                // 아이템 미노 표시 로직
-                                applyItemMinoDisplay(
-                                        cell, current, blockIndex, blockClass, textClass);
-                            }
-                        }
-                        blockIndex++;
+            renderGhostBlock(shape, px, py, ghostY, w, h, boardCells);
+
+            // 블록 셀은 행 우선 순서이므로 인덱스가 곧 아이템 blockIndex
+            for (int blockIndex = 0; blockIndex < shape.getCellCount(); blockIndex++) {
+                int bx = px + shape.getCellCol(blockIndex);
+                int by = py + shape.getCellRow(blockIndex);
+                if (bx >= 0 && bx < w && by >= 0 && by < h) {
+                    BoardCell cell = cellAt(boardCells, by + 1, bx + 1);
+                    if (cell != null) {
+                        // 아이템 미노 표시 로직
+                        applyItemMinoDisplay(cell, current, blockIndex, blockClass, textClass);
                     }
                 }
             }
@@ -493,35 +504,22 @@ public class VersusGameScene extends BaseGameScene {
         // Next 블록 표시
         Tetromino next = engine.getNext();
         if (next != null) {
-            int[][] nextShape = next.getShape();
+            Tetromino.ShapeView nextShape = next.getShapeView();
             String textClass = next.getTextStyleClass();
             String blockClass = next.getBlockStyleClass();
 
-            // 블록의 실제 크기 계산 (솔로 모드와 동일)
-            int minRow = 4, maxRow = -1, minCol = 4, maxCol = -1;
-            for (int r = 0; r < nextShape.length; r++) {
-                for (int c = 0; c < nextShape[r].length; c++) {
-                    if (nextShape[r][c] != 0) {
-                        if (r < minRow) minRow = r;
-                        if (r > maxRow) maxRow = r;
-                        if (c < minCol) minCol = c;
-                        if (c > maxCol) maxCol = c;
-                    }
-                }
-            }
-
             // 블록을 4x4 그리드 중앙에 배치하기 위한 오프셋 계산 (솔로 모드와 동일)
-            int blockHeight = maxRow - minRow + 1;
-            int blockWidth = maxCol - minCol + 1;
-            int offsetRow = (4 - blockHeight) / 2;
-            int offsetCol = (4 - blockWidth) / 2;
+            int minRow = nextShape.getMinRow();
+            int minCol = nextShape.getMinCol();
+            int offsetRow = (4 - nextShape.getBoxHeight()) / 2;
+            int offsetCol = (4 - nextShape.getBoxWidth()) / 2;
 
             int blockIndex = 0;
 
             // 먼저 모든 셀을 비움
             for (int r = 0; r < 4; r++) {
                 for (int c = 0; c < 4; c++) {
-                    CellView cell = (CellView) getNodeByRowColumnIndex(r, c, previewGrid);
+                    BoardCell cell = cellAt(previewCells, r, c);
                     if (cell != null) {
                         applyCellEmpty(cell);
                     }
@@ -529,35 +527,30 @@ public class VersusGameScene extends BaseGameScene {
             }
 
             // 블록 그리기
-            for (int r = 0; r < nextShape.length; r++) {
-                for (int c = 0; c < nextShape[r].length; c++) {
-                    if (nextShape[r][c] != 0) {
-                        // 중앙 정렬을 위해 오프셋 적용 (솔로 모드와 동일)
-                        int displayRow = r - minRow + offsetRow;
-                        int displayCol = c - minCol + offsetCol;
-
-                        // getNodeByRowColumnIndex 사용
-                        CellView cell =
-                                (CellView)
-                                        getNodeByRowColumnIndex(
-                                                displayRow, displayCol, previewGrid);
-                        if (cell != null) {
-                            // 아이템 미노 표시 로직
-                            applyItemMinoDisplay(cell, next, blockIndex, blockClass, textClass);
-                            blockIndex++;
-                        }
-                    }
+            for (int i = 0; i < nextShape.getCellCount(); i++) {
+                // 중앙 정렬을 위해 오프셋 적용 (솔로 모드와 동일)
+                int displayRow = nextShape.getCellRow(i) - minRow + offsetRow;
+                int displayCol = nextShape.getCellCol(i) - minCol + offsetCol;
+
+                BoardCell cell = cellAt(previewCells, displayRow, displayCol);
+                if (cell != null) {
+                    // 아이템 미노 표시 로직
+                    applyItemMinoDisplay(cell, next, blockIndex, blockClass, textClass);
+                    blockIndex++;
                 }
             }
         }
 
+        commitFrame(boardCells);
+        commitFrame(previewCells);
+
         // 점수 업데이트
         scoreLabel.setText(playerName + "\nScore:\n" + engine.getScore());
     }
 
     // 아이템 미노 표시 로직 - 공통 메서드
     private void applyItemMinoDisplay(
-            CellView cell,
+            BoardCell cell,
             Tetromino tetromino,
             int blockIndex,
             String blockClass,
@@ -594,7 +587,7 @@ public class VersusGameScene extends BaseGameScene {
         }
     }
 
-    private void applyCellBlockText(CellView cell, String blockClass) {
+    private void applyCellBlockText(BoardCell cell, String blockClass) {
         // blockClass에서 symbol과 스타일 추출
         String symbol = " ";
         String cssBlockClass = blockClass;
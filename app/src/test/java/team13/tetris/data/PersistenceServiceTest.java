@@ -0,0 +1,186 @@
+package team13.tetris.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// PersistenceService 테스트: 키별 합치기, 순서, 큐 한도, flush/shutdown, 통계
+@DisplayName("PersistenceService 테스트")
+public class PersistenceServiceTest {
+
+    @TempDir Path tempDir;
+    private PersistenceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PersistenceService(4, "test-writer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    // 저장 스레드가 돌려받은 latch가 풀릴 때까지 멈춰 있게 함
+    private CountDownLatch blockWriter() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service.submit(
+                "gate",
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    @Test
+    @DisplayName("같은 키의 대기 중인 쓰기는 마지막 것만 실행")
+    void testSameKeyIsCoalesced() throws Exception {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = blockWriter();
+
+        assertTrue(service.submit("settings", () -> written.add("v1")));
+        assertFalse(service.submit("settings", () -> written.add("v2")));
+        assertFalse(service.submit("settings", () -> written.add("v3")));
+        assertEquals(1, service.getQueueDepth());
+
+        release.countDown();
+        assertTrue(service.flush(5000));
+
+        assertEquals(List.of("v3"), written);
+        assertEquals(2, service.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("다른 키는 넣은 순서대로 실행")
+    void testKeysRunInSubmitOrder() throws Exception {
+        List<String> written = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch release = blockWriter();
+
+        service.submit("a", () -> written.add("a"));
+        service.submit("b", () -> written.add("b"));
+        service.submit("a", () -> written.add("a2")); // 합쳐져도 a의 자리는 그대로
+        service.submit("c", () -> written.add("c"));
+
+        release.countDown();
+        assertTrue(service.flush(5000));
+        assertEquals(List.of("a2", "b", "c"), written);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 자리가 날 때까지 기다림")
+    void testFullQueueBlocksSubmitter() throws Exception {
+        CountDownLatch release = blockWriter();
+        for (int i = 0; i < 4; i++) service.submit("k" + i, () -> {});
+        assertEquals(4, service.getQueueDepth());
+
+        CountDownLatch submitted = new CountDownLatch(1);
+        Thread producer =
+                new Thread(
+                        () -> {
+                            service.submit("overflow", () -> {});
+                            submitted.countDown();
+                        });
+        producer.start();
+        assertFalse(submitted.await(200, TimeUnit.MILLISECONDS), "큐가 가득 차면 기다려야 함");
+
+        release.countDown();
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        producer.join();
+        assertTrue(service.flush(5000));
+        assertEquals(4, service.getMaxQueueDepth());
+    }
+
+    @Test
+    @DisplayName("실패한 쓰기는 세고 다음 쓰기는 계속 실행")
+    void testFailureDoesNotStopWriter() {
+        AtomicInteger runs = new AtomicInteger();
+        service.submit(
+                "bad",
+                () -> {
+                    throw new IOException("disk full");
+                });
+        service.submit("good", runs::incrementAndGet);
+
+        assertTrue(service.flush(5000));
+        assertEquals(1, runs.get());
+        assertEquals(2, service.getWriteCount());
+        assertEquals(1, service.getFailedCount());
+        assertTrue(service.getMaxWriteNanos() >= service.getLastWriteNanos());
+        assertTrue(service.getAverageWriteNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("shutdown은 남은 쓰기를 마치고, 이후 쓰기는 호출한 스레드에서 실행")
+    void testShutdownFlushesAndRunsInline() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = blockWriter();
+        service.submit("pending", runs::incrementAndGet);
+
+        Thread releaser =
+                new Thread(
+                        () -> {
+                            try {
+                                Thread.sleep(50);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            release.countDown();
+                        });
+        releaser.start();
+        assertTrue(service.shutdown());
+        assertEquals(1, runs.get());
+
+        Thread caller = Thread.currentThread();
+        Thread[] ranOn = new Thread[1];
+        service.submit("late", () -> ranOn[0] = Thread.currentThread());
+        assertSame(caller, ranOn[0]);
+        releaser.join();
+    }
+
+    @Test
+    @DisplayName("원자적 쓰기는 임시 파일을 남기지 않고 내용을 교체")
+    void testWriteAtomically() throws IOException {
+        Path file = tempDir.resolve("settings.json");
+        Files.writeString(file, "old");
+
+        PersistenceService.writeAtomically(file, "new".getBytes());
+
+        assertEquals("new", Files.readString(file));
+        assertFalse(Files.exists(tempDir.resolve("settings.json.tmp")));
+    }
+
+    @Test
+    @DisplayName("통계 초기화")
+    void testResetStats() {
+        service.submit("a", () -> {});
+        assertTrue(service.flush(5000));
+        assertEquals(1, service.getSubmitCount());
+
+        service.resetStats();
+
+        assertEquals(0, service.getSubmitCount());
+        assertEquals(0, service.getWriteCount());
+        assertEquals(0, service.getMaxWriteNanos());
+        assertEquals(0.0, service.getAverageWriteNanos());
+    }
+}
@@ -0,0 +1,156 @@
+package team13.tetris.data;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// 점수 저장소 벤치마크: 이전 방식(ArrayList + 매번 전체 정렬 + 파일 전체 다시 쓰기)과
+// ScoreBoard(매핑한 이진 스냅샷 + 추가 전용 로그 + 주기적 압축)를 같은 점수 파일로 비교
+// 저장소의 첫 로드는 이전 형식 파일을 스냅샷으로 옮기는 시간, 두 번째 로드는 스냅샷을 매핑하는 시간
+// 실행: ./gradlew scoreBoardBenchmark [-Pentries=1000000]
+public class ScoreBoardBenchmark {
+
+    private static final int LEGACY_ADDS = 5; // 이전 방식은 추가마다 파일 전체를 다시 써서 몇 번만 잼
+    private static final int ADDS = 2_000;
+    private static final int QUERIES = 20;
+    private static final int PAGE = 10;
+
+    public static void main(String[] args) throws Exception {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = Files.createTempDirectory("scoreboard-bench");
+        Path legacyFile = dir.resolve("legacy.txt");
+        Path storeFile = dir.resolve("store.txt");
+        writeSample(legacyFile, entries, new Random(13));
+        Files.copy(legacyFile, storeFile);
+        System.out.printf("entries: %,d, file: %.1f MB%n", entries, Files.size(storeFile) / 1e6);
+
+        long start = System.nanoTime();
+        LegacyScoreBoard legacy = new LegacyScoreBoard(legacyFile.toString());
+        report("legacy load", System.nanoTime() - start, 1);
+        start = System.nanoTime();
+        new ScoreBoard(storeFile.toString());
+        report("store  migrate", System.nanoTime() - start, 1);
+        start = System.nanoTime();
+        ScoreBoard board = new ScoreBoard(storeFile.toString());
+        report("store  load", System.nanoTime() - start, 1);
+
+        Random random = new Random(42);
+        start = System.nanoTime();
+        for (int i = 0; i < LEGACY_ADDS; i++) legacy.addScore("P" + i, random.nextInt(100_000));
+        report("legacy addScore", System.nanoTime() - start, LEGACY_ADDS);
+        start = System.nanoTime();
+        for (int i = 0; i < ADDS; i++) {
+            board.addScore("P" + i, random.nextInt(100_000), ScoreBoard.ScoreEntry.Mode.NORMAL);
+        }
+        report("store  addScore", System.nanoTime() - start, ADDS);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) legacy.getScoresByMode(ScoreBoard.ScoreEntry.Mode.HARD);
+        report("legacy getScoresByMode", System.nanoTime() - start, QUERIES);
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) board.getScoresByMode(ScoreBoard.ScoreEntry.Mode.HARD);
+        report("store  getScoresByMode", System.nanoTime() - start, QUERIES);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            board.getTopScores(ScoreBoard.ScoreEntry.Mode.HARD, 0, PAGE);
+        }
+        report("store  top " + PAGE, System.nanoTime() - start, QUERIES);
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            board.getTopScores(ScoreBoard.ScoreEntry.Mode.HARD, 100_000, PAGE);
+        }
+        report("store  page @100000", System.nanoTime() - start, QUERIES);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) board.getScores();
+        report("store  getScores", System.nanoTime() - start, QUERIES);
+
+        // 압축은 저장 스레드에서 실행되므로 호출한 쪽이 막히는 시간과 실제 쓰기 시간을 따로 잼
+        start = System.nanoTime();
+        board.saveScores();
+        report("store  saveScores call", System.nanoTime() - start, 1);
+        PersistenceService.shared().flush(60_000);
+        report("store  compaction", PersistenceService.shared().getLastWriteNanos(), 1);
+
+        try (var files = Files.list(dir)) {
+            for (Path path : files.toList()) Files.deleteIfExists(path);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    // 이전 ScoreBoard가 남기는 파일처럼 점수 내림차순으로 정렬된 파일
+    private static void writeSample(Path file, int entries, Random random) throws IOException {
+        ScoreBoard.ScoreEntry.Mode[] modes = ScoreBoard.ScoreEntry.Mode.values();
+        List<ScoreBoard.ScoreEntry> scores = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            scores.add(
+                    new ScoreBoard.ScoreEntry(
+                            "Player" + i,
+                            random.nextInt(100_000),
+                            modes[random.nextInt(modes.length)]));
+        }
+        scores.sort(Comparator.comparingInt(ScoreBoard.ScoreEntry::getScore).reversed());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            for (ScoreBoard.ScoreEntry entry : scores) {
+                writer.println(
+                        entry.getName() + "," + entry.getScore() + "," + entry.getMode().name());
+            }
+        }
+    }
+
+    private static void report(String label, long nanos, int ops) {
+        System.out.printf("%-24s %12.3f ms/op%n", label, nanos / 1e6 / ops);
+    }
+
+    // 이전 ScoreBoard 구현 (비교용)
+    private static class LegacyScoreBoard {
+        private final List<ScoreBoard.ScoreEntry> scores = new ArrayList<>();
+        private final String scoreFile;
+
+        LegacyScoreBoard(String scoreFile) throws IOException {
+            this.scoreFile = scoreFile;
+            try (BufferedReader reader = new BufferedReader(new FileReader(scoreFile))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split(",");
+                    scores.add(
+                            new ScoreBoard.ScoreEntry(
+                                    parts[0],
+                                    Integer.parseInt(parts[1]),
+                                    ScoreBoard.ScoreEntry.Mode.valueOf(parts[2])));
+                }
+            }
+            scores.sort(Comparator.comparingInt(ScoreBoard.ScoreEntry::getScore).reversed());
+        }
+
+        void addScore(String name, int score) throws IOException {
+            scores.add(new ScoreBoard.ScoreEntry(name, score, ScoreBoard.ScoreEntry.Mode.NORMAL));
+            scores.sort(Comparator.comparingInt(ScoreBoard.ScoreEntry::getScore).reversed());
+            try (PrintWriter writer = new PrintWriter(new FileWriter(scoreFile))) {
+                for (ScoreBoard.ScoreEntry entry : scores) {
+                    writer.println(
+                            entry.getName() + "," + entry.getScore() + ","
+                                    + entry.getMode().name());
+                }
+            }
+        }
+
+        List<ScoreBoard.ScoreEntry> getScoresByMode(ScoreBoard.ScoreEntry.Mode mode) {
+            List<ScoreBoard.ScoreEntry> filtered = new ArrayList<>();
+            for (ScoreBoard.ScoreEntry entry : scores) {
+                if (entry.getMode() == mode) filtered.add(entry);
+            }
+            filtered.sort(Comparator.comparingInt(ScoreBoard.ScoreEntry::getScore).reversed());
+            return filtered;
+        }
+    }
+}
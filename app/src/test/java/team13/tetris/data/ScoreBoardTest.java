@@ -43,6 +43,9 @@ public class ScoreBoardTest {
         // Restore original working directory
         System.setProperty("user.dir", originalWorkingDir);
 
+        // 저장 스레드에 남은 압축이 파일을 지운 뒤 다시 만들지 않도록 먼저 끝냄
+        PersistenceService.shared().flush(5000);
+
         // Clean up test-specific score files only
         File tempScoreFile = tempDir.resolve("test_scores.txt").toFile();
         if (tempScoreFile.exists()) tempScoreFile.delete();
@@ -51,6 +54,13 @@ public class ScoreBoardTest {
         // (DO NOT delete scores.txt - that's the actual game data!)
         File currentTestScoreFile = new File("test_scores.txt");
         if (currentTestScoreFile.exists()) currentTestScoreFile.delete();
+
+        // 압축이 만든 이진 스냅샷 (test_scores.<세대>.dat)
+        File[] snapshots =
+                new File(".").listFiles((dir, name) -> name.matches("test_scores\\.\\d+\\.dat"));
+        if (snapshots != null) {
+            for (File snapshot : snapshots) snapshot.delete();
+        }
     }
 
     @Test
@@ -0,0 +1,442 @@
+package team13.tetris.data;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team13.tetris.data.ScoreBoard.ScoreEntry;
+import team13.tetris.data.ScoreBoard.ScoreEntry.Mode;
+
+// ScoreStore 테스트: 추가 전용 로그, 이진 스냅샷으로의 압축(임시 파일 + rename),
+// 이전 형식 변환, 손상된 파일 복구
+// 압축은 테스트마다 따로 만든 저장 서비스에서 실행하고 flush로 끝나기를 기다림
+@DisplayName("ScoreStore 테스트")
+public class ScoreStoreTest {
+
+    @TempDir Path tempDir;
+    private Path file;
+    private PersistenceService persistence;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("scores.txt");
+        persistence = new PersistenceService(PersistenceService.DEFAULT_CAPACITY, "test-writer");
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistence.shutdown();
+    }
+
+    private ScoreStore open() {
+        return new ScoreStore(file.toString(), persistence);
+    }
+
+    private void flush() {
+        assertTrue(persistence.flush(5000));
+    }
+
+    // 저장 스레드가 돌려받은 latch가 풀릴 때까지 멈춰 있게 함 (그 동안의 요청은 큐에 쌓임)
+    private CountDownLatch blockWriter() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        persistence.submit(
+                "gate",
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    @Test
+    @DisplayName("점수 추가는 파일 끝에 한 줄만 덧붙임")
+    void testAddAppendsOneLine() throws IOException {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("Low", 100, Mode.NORMAL));
+        store.add(new ScoreEntry("High", 900, Mode.NORMAL));
+
+        // 압축 전까지는 정렬하지 않고 들어온 순서대로 남음
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("Low,100,NORMAL", "High,900,NORMAL"), lines);
+
+        // 메모리에서는 점수 내림차순
+        assertEquals("High", store.all().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("일정 수 이상 덧붙이면 스냅샷으로 압축하고 로그는 세대 줄만 남김")
+    void testCompactionAfterManyAppends() throws IOException {
+        ScoreStore store = open();
+        for (int i = 0; i < ScoreStore.COMPACT_MIN_APPENDS; i++) {
+            store.add(new ScoreEntry("P" + i, i, Mode.EASY));
+        }
+        flush();
+
+        assertEquals(List.of("#gen=1"), Files.readAllLines(file));
+        ScoreFile snapshot = ScoreFile.open(tempDir.resolve("scores.1.dat"));
+        assertEquals(ScoreStore.COMPACT_MIN_APPENDS, snapshot.count(Mode.EASY));
+        assertEquals(ScoreStore.COMPACT_MIN_APPENDS - 1, snapshot.score(Mode.EASY, 0));
+        assertEquals("P0", snapshot.entry(Mode.EASY, snapshot.count(Mode.EASY) - 1).getName());
+        assertFalse(Files.exists(tempDir.resolve("scores.txt.tmp")));
+        assertFalse(Files.exists(tempDir.resolve("scores.1.dat.tmp")));
+
+        // 압축 후에도 같은 내용, 이후 추가는 로그에 덧붙음
+        store.add(new ScoreEntry("Late", 500, Mode.EASY));
+        ScoreStore reloaded = open();
+        assertEquals(ScoreStore.COMPACT_MIN_APPENDS + 1, reloaded.size());
+        assertEquals("P999", reloaded.all().get(0).getName());
+        assertEquals(List.of("#gen=1", "Late,500,EASY"), Files.readAllLines(file));
+    }
+
+    @Test
+    @DisplayName("세대 줄이 없는 이전 형식의 파일은 처음 읽을 때 저장 스레드에서 스냅샷으로 옮김")
+    void testLegacyFileIsMigrated() throws Exception {
+        String legacy = "Alice,500,HARD\nBob,900,EASY\nCarol,700,HARD\n";
+        Files.writeString(file, legacy);
+
+        // 옮기기 전까지는 파싱한 메모리 내용으로 조회 (여는 쪽은 기다리지 않음)
+        CountDownLatch release = blockWriter();
+        ScoreStore store = open();
+        assertEquals(3, store.size());
+        assertEquals("Bob", store.all().get(0).getName());
+        assertEquals(legacy, Files.readString(file));
+
+        release.countDown();
+        flush();
+        assertEquals(List.of("#gen=1"), Files.readAllLines(file));
+        assertTrue(Files.exists(tempDir.resolve("scores.1.dat")));
+        List<ScoreEntry> all = open().all();
+        assertEquals(3, all.size());
+        assertEquals("Bob", all.get(0).getName());
+        assertEquals("Carol", all.get(1).getName());
+        assertEquals("Alice", all.get(2).getName());
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    @DisplayName("로그가 가리키지 않는 스냅샷은 무시함")
+    void testStaleSnapshotIsIgnored() throws IOException {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("Old", 100, Mode.NORMAL));
+        store.compact();
+        flush();
+        assertTrue(Files.exists(tempDir.resolve("scores.1.dat")));
+
+        // 점수 파일만 새로 만들어진 경우 (이전 스냅샷은 남아 있음)
+        Files.delete(file);
+        Files.writeString(file, "New,200,NORMAL\n");
+
+        List<ScoreEntry> all = open().all();
+        assertEquals(1, all.size());
+        assertEquals("New", all.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("한 모드의 상위 점수를 스냅샷과 로그에 걸쳐 페이지 단위로 읽음")
+    void testPageAcrossSnapshotAndLog() {
+        ScoreStore store = open();
+        for (int i = 0; i < 10; i++) store.add(new ScoreEntry("S" + i, i * 10, Mode.HARD));
+        store.add(new ScoreEntry("Other", 1000, Mode.EASY));
+        store.compact();
+        flush();
+        // 로그에만 있는 점수가 스냅샷 점수 사이에 끼어듦
+        store.add(new ScoreEntry("L", 55, Mode.HARD));
+
+        List<ScoreEntry> first = store.page(Mode.HARD, 0, 3);
+        assertEquals(List.of("S9", "S8", "S7"), names(first));
+        List<ScoreEntry> second = store.page(Mode.HARD, 3, 3);
+        assertEquals(List.of("S6", "L", "S5"), names(second));
+        assertEquals(List.of("S0"), names(store.page(Mode.HARD, 10, 5)));
+        assertTrue(store.page(Mode.HARD, 11, 5).isEmpty());
+        assertEquals(11, store.byMode(Mode.HARD).size());
+    }
+
+    @Test
+    @DisplayName("압축 후에도 추가한 점수의 위치를 찾음")
+    void testIndexOfAfterCompaction() {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("A", 300, Mode.NORMAL));
+        ScoreStore.Rank rank = store.add(new ScoreEntry("B", 200, Mode.HARD));
+        store.add(new ScoreEntry("C", 100, Mode.NORMAL));
+        store.compact();
+        flush();
+
+        assertEquals(1, store.indexOf(rank, Mode.HARD));
+        ScoreStore.Rank late = store.add(new ScoreEntry("D", 200, Mode.NORMAL));
+        assertEquals(2, store.indexOf(late, Mode.NORMAL), "같은 점수의 스냅샷 점수 뒤");
+    }
+
+    @Test
+    @DisplayName("스냅샷의 이름은 최대 길이까지만 저장")
+    void testLongNameIsTruncatedInSnapshot() {
+        String name = "N".repeat(ScoreFile.NAME_CHARS + 8);
+        ScoreStore store = open();
+        store.add(new ScoreEntry(name, 100, Mode.ITEM));
+        store.compact();
+        flush();
+
+        assertEquals(name.substring(0, ScoreFile.NAME_CHARS), open().all().get(0).getName());
+    }
+
+    private static List<String> names(List<ScoreEntry> entries) {
+        return entries.stream().map(ScoreEntry::getName).toList();
+    }
+
+    // 스냅샷 세대 1 (A) + 로그 (B)
+    private void writeSnapshotAndLog() throws IOException {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("A", 100, Mode.NORMAL));
+        store.compact();
+        flush();
+        store.add(new ScoreEntry("B", 200, Mode.NORMAL));
+    }
+
+    // 스냅샷을 열지 못한 저장소는 압축하지 않고, 이후 스냅샷이 복구되면 모든 점수가 다시 읽힘
+    private void assertCompactionSkipped(byte[] original) throws IOException {
+        // 개행 없는 마지막 줄과 직접 요청한 압축 모두 새 세대를 만들지 않음
+        Files.writeString(file, "C,50,NORMAL", java.nio.file.StandardOpenOption.APPEND);
+        ScoreStore store = open();
+        assertEquals(2, store.size(), "로그의 점수는 읽음");
+        store.compact();
+        flush();
+        assertEquals(List.of("#gen=1", "B,200,NORMAL", "C,50,NORMAL"), Files.readAllLines(file));
+        assertFalse(Files.exists(tempDir.resolve("scores.2.dat")));
+
+        Files.write(tempDir.resolve("scores.1.dat"), original);
+        List<ScoreEntry> all = open().all();
+        assertEquals(3, all.size());
+        assertEquals("A", all.get(1).getName());
+    }
+
+    @Test
+    @DisplayName("로그가 가리키는 스냅샷이 없으면 압축하지 않아 점수를 잃지 않음")
+    void testMissingSnapshotDisablesCompaction() throws IOException {
+        writeSnapshotAndLog();
+        Path snapshot = tempDir.resolve("scores.1.dat");
+        byte[] original = Files.readAllBytes(snapshot);
+        Files.delete(snapshot);
+
+        assertCompactionSkipped(original);
+    }
+
+    @Test
+    @DisplayName("로그가 가리키는 스냅샷이 손상됐으면 압축하지 않고 스냅샷도 지우지 않음")
+    void testCorruptSnapshotDisablesCompaction() throws IOException {
+        writeSnapshotAndLog();
+        Path snapshot = tempDir.resolve("scores.1.dat");
+        byte[] original = Files.readAllBytes(snapshot);
+        byte[] corrupt = original.clone();
+        corrupt[0] ^= 0x7F; // 매직 넘버 손상
+        Files.write(snapshot, corrupt);
+
+        ScoreStore store = open();
+        store.compact();
+        flush();
+        assertArrayEquals(corrupt, Files.readAllBytes(snapshot), "손상된 스냅샷도 남겨 둠");
+
+        assertCompactionSkipped(original);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 열지 못해도 초기화는 파일에 반영됨")
+    void testClearWorksWithUnreadableSnapshot() throws IOException {
+        writeSnapshotAndLog();
+        Files.delete(tempDir.resolve("scores.1.dat"));
+
+        ScoreStore store = open();
+        store.clear();
+        flush();
+        assertEquals(List.of("#gen=2"), Files.readAllLines(file));
+        assertEquals(0, open().size());
+    }
+
+    @Test
+    @DisplayName("개행 없이 끝난 마지막 줄은 읽은 뒤 정리되어 다음 추가와 붙지 않음")
+    void testTornLastLineIsRepaired() throws IOException {
+        Files.writeString(file, "Alice,500,HARD\nBob,300,HARD");
+
+        ScoreStore store = open();
+        assertEquals(2, store.size());
+
+        store.add(new ScoreEntry("Carol", 400, Mode.HARD));
+        ScoreStore reloaded = open();
+        List<ScoreEntry> scores = reloaded.byMode(Mode.HARD);
+        assertEquals(3, scores.size());
+        assertEquals("Alice", scores.get(0).getName());
+        assertEquals("Carol", scores.get(1).getName());
+        assertEquals("Bob", scores.get(2).getName());
+    }
+
+    @Test
+    @DisplayName("개행 없는 마지막 줄을 정리하기 전에 추가해도 두 줄이 붙지 않음")
+    void testAppendBeforeTornLineIsCompacted() throws Exception {
+        Files.writeString(file, "Alice,500,HARD\nBob,300,HARD");
+
+        CountDownLatch release = blockWriter();
+        ScoreStore store = open();
+        store.add(new ScoreEntry("Carol", 400, Mode.HARD));
+        assertEquals(
+                List.of("Alice,500,HARD", "Bob,300,HARD", "Carol,400,HARD"),
+                Files.readAllLines(file));
+        store.add(new ScoreEntry("Dan", 100, Mode.HARD));
+        assertEquals(4, open().size());
+
+        release.countDown();
+        flush();
+        List<ScoreEntry> scores = open().byMode(Mode.HARD);
+        assertEquals(4, scores.size());
+        assertEquals("Dan", scores.get(3).getName());
+    }
+
+    @Test
+    @DisplayName("손상된 줄은 건너뛰고 나머지는 읽음")
+    void testCorruptedLinesAreSkipped() throws IOException {
+        Files.writeString(
+                file, "Alice,500,HARD\ngarbage\nBob,abc,HARD\nDan,200,NOPE\nEve,100,ITEM\n");
+
+        ScoreStore store = open();
+
+        assertEquals(2, store.size());
+        assertEquals("Alice", store.all().get(0).getName());
+        assertEquals("Eve", store.all().get(1).getName());
+    }
+
+    @Test
+    @DisplayName("쉼표가 들어간 이름도 그대로 다시 읽힘")
+    void testNameWithCommaRoundTrips() {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("Kim, Lee", 700, Mode.ITEM));
+
+        ScoreStore reloaded = open();
+        ScoreEntry entry = reloaded.byMode(Mode.ITEM).get(0);
+        assertEquals("Kim, Lee", entry.getName());
+        assertEquals(700, entry.getScore());
+    }
+
+    @Test
+    @DisplayName("같은 파일을 쓰는 다른 인스턴스의 추가를 refresh로 반영")
+    void testRefreshSeesOtherInstanceAppends() {
+        ScoreStore first = open();
+        ScoreStore second = open();
+
+        first.add(new ScoreEntry("A", 100, Mode.NORMAL));
+        second.refresh();
+        assertEquals(1, second.size());
+
+        // second의 추가가 first의 점수를 덮어쓰지 않음
+        second.add(new ScoreEntry("B", 200, Mode.NORMAL));
+        second.compact();
+        flush();
+        first.refresh();
+        assertEquals(2, first.size());
+        assertEquals(2, open().size());
+    }
+
+    @Test
+    @DisplayName("초기화하면 파일도 비워짐")
+    void testClearTruncatesFile() throws IOException {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("A", 100, Mode.NORMAL));
+        store.clear();
+        assertEquals(0, store.size());
+
+        flush();
+        assertEquals(1, Files.readAllLines(file).size(), "세대 줄만 남음");
+        assertEquals(0, open().size());
+    }
+
+    @Test
+    @DisplayName("같은 점수는 먼저 추가된 것이 앞에 오고 위치도 그에 맞게 계산됨")
+    void testTiesKeepInsertionOrder() {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("First", 500, Mode.NORMAL));
+        store.add(new ScoreEntry("Other", 500, Mode.HARD));
+        ScoreStore.Rank rank = store.add(new ScoreEntry("Second", 500, Mode.NORMAL));
+
+        List<ScoreEntry> all = store.all();
+        assertEquals("First", all.get(0).getName());
+        assertEquals("Other", all.get(1).getName());
+        assertEquals("Second", all.get(2).getName());
+        assertEquals(2, store.indexOf(rank, Mode.NORMAL));
+        assertEquals(-1, store.indexOf(new ScoreStore.Rank(500, 999), Mode.NORMAL));
+    }
+
+    @Test
+    @DisplayName("초기화 후 압축 전에 refresh해도 버린 점수가 다시 읽히지 않음")
+    void testClearIsNotUndoneByRefresh() throws Exception {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("Old", 100, Mode.NORMAL));
+
+        CountDownLatch release = blockWriter();
+        store.clear();
+        store.refresh();
+        store.add(new ScoreEntry("New", 200, Mode.NORMAL));
+        assertEquals(1, store.size());
+
+        release.countDown();
+        flush();
+        List<ScoreEntry> all = open().all();
+        assertEquals(1, all.size());
+        assertEquals("New", all.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("새 인스턴스는 대기 중인 압축을 기다리지 않고 읽고, 교체된 로그는 refresh로 반영")
+    void testOpenDoesNotWaitForPendingCompaction() throws Exception {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("A", 100, Mode.NORMAL));
+        store.compact();
+        flush();
+        store.add(new ScoreEntry("B", 200, Mode.NORMAL));
+
+        CountDownLatch release = blockWriter();
+        store.compact();
+        long start = System.nanoTime();
+        ScoreStore other = open();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 1000, "저장 스레드를 기다림: " + elapsedMillis + "ms");
+        assertEquals(2, other.size());
+        assertEquals(List.of("#gen=1", "B,200,NORMAL"), Files.readAllLines(file), "압축 대기 중");
+
+        release.countDown();
+        flush();
+        assertEquals(List.of("#gen=2"), Files.readAllLines(file));
+        other.refresh();
+        assertEquals(2, other.size());
+        assertEquals("B", other.all().get(0).getName());
+    }
+
+    @Test
+    @DisplayName("대기 중인 압축 요청은 하나로 합쳐짐")
+    void testCompactionRequestsAreCoalesced() throws Exception {
+        ScoreStore store = open();
+        store.add(new ScoreEntry("A", 100, Mode.NORMAL));
+
+        CountDownLatch release = blockWriter();
+        store.compact();
+        store.compact();
+        store.compact();
+        assertEquals(1, persistence.getQueueDepth());
+        assertEquals(2, persistence.getCoalescedCount());
+
+        release.countDown();
+        flush();
+        assertEquals(List.of("#gen=1"), Files.readAllLines(file));
+        assertEquals(1, persistence.getWriteCount() - 1, "gate 다음 압축은 한 번만");
+    }
+}
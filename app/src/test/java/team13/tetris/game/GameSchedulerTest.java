@@ -0,0 +1,160 @@
+package team13.tetris.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// GameScheduler 테스트: 공유 풀에서의 단발/주기 작업 실행, 핸들 단위 취소, 스레드 재사용
+@DisplayName("GameScheduler 테스트")
+public class GameSchedulerTest {
+
+    private GameScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new GameScheduler(2, "GameSchedulerTest");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("단발 작업이 지연 후 한 번 실행되는지 확인")
+    void testScheduleRunsOnce() throws Exception {
+        GameScheduler.Handle handle = scheduler.newHandle();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        handle.schedule(
+                () -> {
+                    runs.incrementAndGet();
+                    latch.countDown();
+                },
+                10,
+                TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS), "작업이 실행되어야 함");
+        Thread.sleep(50);
+        assertEquals(1, runs.get(), "단발 작업은 한 번만 실행되어야 함");
+        assertEquals(0, handle.getPendingCount(), "완료된 작업은 대기 목록에서 빠져야 함");
+    }
+
+    @Test
+    @DisplayName("주기 작업이 반복 실행되고 취소 후 멈추는지 확인")
+    void testFixedRateAndCancel() throws Exception {
+        GameScheduler.Handle handle = scheduler.newHandle();
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicInteger runs = new AtomicInteger();
+
+        ScheduledFuture<?> future =
+                handle.scheduleAtFixedRate(
+                        () -> {
+                            runs.incrementAndGet();
+                            latch.countDown();
+                        },
+                        0,
+                        5,
+                        TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS), "주기 작업이 3번 이상 실행되어야 함");
+        future.cancel(false);
+        Thread.sleep(20);
+        int afterCancel = runs.get();
+        Thread.sleep(50);
+        assertEquals(afterCancel, runs.get(), "취소 후에는 더 이상 실행되지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("cancelAll은 해당 핸들의 작업만 취소하는지 확인")
+    void testCancelAllIsPerHandle() throws Exception {
+        GameScheduler.Handle engine1 = scheduler.newHandle();
+        GameScheduler.Handle engine2 = scheduler.newHandle();
+        AtomicInteger runs1 = new AtomicInteger();
+        CountDownLatch latch2 = new CountDownLatch(1);
+
+        engine1.schedule(runs1::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        engine1.scheduleAtFixedRate(runs1::incrementAndGet, 100, 10, TimeUnit.MILLISECONDS);
+        engine2.schedule(latch2::countDown, 100, TimeUnit.MILLISECONDS);
+        assertEquals(2, engine1.getPendingCount());
+
+        engine1.cancelAll();
+
+        assertEquals(0, engine1.getPendingCount(), "취소된 핸들에는 대기 작업이 없어야 함");
+        assertTrue(latch2.await(2, TimeUnit.SECONDS), "다른 핸들의 작업은 그대로 실행되어야 함");
+        Thread.sleep(50);
+        assertEquals(0, runs1.get(), "취소된 작업은 실행되지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 큐에서 즉시 제거되는지 확인")
+    void testCancelRemovesFromQueue() {
+        GameScheduler.Handle handle = scheduler.newHandle();
+        for (int i = 0; i < 100; i++) handle.schedule(() -> {}, 1, TimeUnit.MINUTES);
+        assertEquals(100, scheduler.getQueuedTaskCount());
+
+        handle.cancelAll();
+
+        assertEquals(0, scheduler.getQueuedTaskCount(), "취소된 작업이 큐에 남지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("작업 예외가 주기 작업을 중단시키지 않는지 확인")
+    void testExceptionDoesNotStopPeriodicTask() throws Exception {
+        GameScheduler.Handle handle = scheduler.newHandle();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        handle.scheduleAtFixedRate(
+                () -> {
+                    latch.countDown();
+                    throw new IllegalStateException("test");
+                },
+                0,
+                5,
+                TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS), "예외 후에도 계속 실행되어야 함");
+        handle.cancelAll();
+    }
+
+    @Test
+    @DisplayName("많은 지연 작업이 고정된 수의 스레드에서 실행되는지 확인")
+    void testThreadsAreReused() throws Exception {
+        int tasks = 200;
+        CountDownLatch latch = new CountDownLatch(tasks);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < tasks; i++) {
+            GameScheduler.Handle handle = scheduler.newHandle();
+            handle.schedule(
+                    () -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        latch.countDown();
+                    },
+                    i % 10,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "모든 작업이 실행되어야 함");
+        assertTrue(threadNames.size() <= 2, "풀 크기 이상의 스레드를 만들지 않아야 함");
+        assertTrue(scheduler.getPoolSize() <= 2);
+        for (String name : threadNames) assertTrue(name.startsWith("GameSchedulerTest-"));
+    }
+
+    @Test
+    @DisplayName("공유 스케줄러는 종료할 수 없는지 확인")
+    void testSharedCannotBeShutDown() {
+        assertSame(GameScheduler.shared(), GameScheduler.shared());
+        assertThrows(IllegalStateException.class, () -> GameScheduler.shared().shutdown());
+    }
+}
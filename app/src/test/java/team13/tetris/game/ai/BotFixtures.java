@@ -0,0 +1,26 @@
+package team13.tetris.game.ai;
+
+import java.util.Random;
+
+// 봇 테스트용 보드
+final class BotFixtures {
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    private BotFixtures() {}
+
+    // 아래 4~10줄을 줄마다 구멍 1~2개만 남기고 채운 보드 (윗면은 들쭉날쭉)
+    static BitBoard midGameBoard(Random random) {
+        long full = (1L << WIDTH) - 1;
+        long[] rows = new long[HEIGHT];
+        int filled = 4 + random.nextInt(7);
+        for (int y = HEIGHT - filled; y < HEIGHT; y++) {
+            long row = full & ~(1L << random.nextInt(WIDTH));
+            if (random.nextBoolean()) row &= ~(1L << random.nextInt(WIDTH));
+            rows[y] = row;
+        }
+        // 맨 윗줄은 열마다 절반쯤만 남김
+        rows[HEIGHT - filled] &= random.nextLong();
+        return BitBoard.of(WIDTH, rows);
+    }
+}
@@ -0,0 +1,135 @@
+package team13.tetris.game.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.logic.GameEngine;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// Bot, BotPlayer 테스트: 배치 선택, 시간 예산, 엔진 조작
+@DisplayName("Bot 테스트")
+public class BotTest {
+
+    private static final long FULL = (1L << 10) - 1;
+
+    private static class NoopListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {}
+
+        @Override
+        public void onLinesCleared(int linesCleared) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+
+    private static Move choose(Bot bot, BitBoard board, Tetromino.Kind kind) {
+        Tetromino piece = Tetromino.of(kind);
+        return bot.choose(board, piece, MoveGenerator.spawnX(board, piece), 0, null);
+    }
+
+    @Test
+    @DisplayName("세로 I로 비어 있는 열을 채워 4줄을 지움")
+    void testCompletesTetris() {
+        long[] rows = new long[20];
+        for (int y = 16; y < 20; y++) rows[y] = FULL & ~(1L << 9);
+        BitBoard board = BitBoard.of(10, rows);
+
+        Move move = choose(new Bot(Heuristic.DEFAULT, 0), board, Tetromino.Kind.I);
+        BitBoard after = board.place(move.view(), move.x(), move.y());
+        assertEquals(4, after.getLinesCleared());
+        for (int y = 0; y < 20; y++) assertEquals(0L, after.getRow(y));
+    }
+
+    @Test
+    @DisplayName("구멍을 만드는 배치를 피함")
+    void testAvoidsHoles() {
+        long[] rows = new long[20];
+        rows[19] = FULL & ~0b11L; // x=0,1만 비어 있음
+        BitBoard board = BitBoard.of(10, rows);
+
+        Move move = choose(new Bot(Heuristic.DEFAULT, 0), board, Tetromino.Kind.O);
+        assertEquals(0, move.x() + move.view().getMinCol());
+        BitBoard after = board.place(move.view(), move.x(), move.y());
+        assertEquals(1, after.getLinesCleared());
+    }
+
+    @Test
+    @DisplayName("시간 제한이 없으면 같은 입력에 항상 같은 답")
+    void testDeterministicWithoutBudget() {
+        long[] rows = new long[20];
+        rows[19] = 0b1011001101L;
+        rows[18] = 0b0001000100L;
+        BitBoard board = BitBoard.of(10, rows);
+        Tetromino current = Tetromino.of(Tetromino.Kind.L);
+        Tetromino next = Tetromino.of(Tetromino.Kind.S);
+
+        Move a = new Bot(Heuristic.DEFAULT, 0).choose(board, current, 3, 0, next);
+        Move b = new Bot(Heuristic.DEFAULT, 0).choose(board, current, 3, 0, next);
+        assertEquals(a.rotations(), b.rotations());
+        assertEquals(a.x(), b.x());
+        assertEquals(a.y(), b.y());
+    }
+
+    @Test
+    @DisplayName("두 수까지 보면 평가 수가 늘고, 놓을 곳이 없으면 null")
+    void testTwoPlyAndNoMoves() {
+        BitBoard empty = BitBoard.of(new Board(10, 20));
+        Bot bot = new Bot(Heuristic.DEFAULT, 0);
+        Tetromino t = Tetromino.of(Tetromino.Kind.T);
+        bot.choose(empty, t, 3, 0, Tetromino.of(Tetromino.Kind.O));
+        assertEquals(34 + 34 * 9, bot.getEvaluatedCount());
+
+        long[] rows = new long[20];
+        rows[0] = FULL;
+        assertNull(bot.choose(BitBoard.of(10, rows), t, 3, 0, null));
+    }
+
+    @Test
+    @DisplayName("BotPlayer가 키 입력 없이 엔진을 조작해 쌓이지 않게 줄을 지움")
+    void testBotPlayerDrivesEngine() {
+        Board board = new Board(10, 20);
+        GameEngine engine =
+                new GameEngine(board, new NoopListener(), ScoreBoard.ScoreEntry.Mode.NORMAL, 13L);
+        engine.startNewGame();
+        engine.stopAutoDrop();
+        try {
+            BotPlayer player = new BotPlayer(engine, new Bot(Heuristic.DEFAULT, 0), 4);
+            for (int i = 0; i < 2000 && !engine.getCore().isGameOver(); i++) {
+                player.step();
+                // 줄 삭제 지연은 코어 시간을 직접 흘려서 끝냄
+                if (engine.getCurrent() == null) engine.getCore().tick(300_000_000L);
+            }
+            assertFalse(engine.getCore().isGameOver());
+            // 2000번 입력이면 조각 수백 개를 놓으므로, 줄을 지우지 않았다면 위쪽이 비어 있을 수 없음
+            assertTrue(engine.getScore() > 0);
+            for (int y = 0; y < 10; y++) {
+                for (int x = 0; x < 10; x++) {
+                    assertFalse(board.isOccupied(x, y), "보드 위쪽은 비어 있어야 함");
+                }
+            }
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("actionsPerStep은 1 이상이어야 함")
+    void testInvalidActionsPerStep() {
+        GameEngine engine = new GameEngine(new Board(10, 20), new NoopListener());
+        assertThrows(IllegalArgumentException.class, () -> new BotPlayer(engine, new Bot(), 0));
+    }
+}
@@ -0,0 +1,109 @@
+package team13.tetris.game.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// BitBoard, MoveGenerator, Heuristic 테스트: 배치 나열, 놓기/줄 삭제, 평가 특징값
+@DisplayName("MoveGenerator 테스트")
+public class MoveGeneratorTest {
+
+    private static final long FULL = (1L << 10) - 1;
+
+    private static List<Move> spawnMoves(BitBoard board, Tetromino.Kind kind) {
+        Tetromino piece = Tetromino.of(kind);
+        return MoveGenerator.generate(board, piece, MoveGenerator.spawnX(board, piece), 0);
+    }
+
+    @Test
+    @DisplayName("빈 보드에서는 모양이 다른 회전마다 가능한 모든 x가 나옴")
+    void testEmptyBoardPlacementCounts() {
+        BitBoard empty = BitBoard.of(new Board(10, 20));
+        assertEquals(17, spawnMoves(empty, Tetromino.Kind.I).size()); // 가로 7 + 세로 10
+        assertEquals(9, spawnMoves(empty, Tetromino.Kind.O).size());
+        assertEquals(34, spawnMoves(empty, Tetromino.Kind.T).size()); // 8 + 9 + 8 + 9
+        assertEquals(17, spawnMoves(empty, Tetromino.Kind.S).size());
+    }
+
+    @Test
+    @DisplayName("배치는 중복 없이 바닥까지 떨어진 위치")
+    void testPlacementsAreDistinctAndResting() {
+        BitBoard empty = BitBoard.of(new Board(10, 20));
+        Set<String> cells = new HashSet<>();
+        for (Move move : spawnMoves(empty, Tetromino.Kind.T)) {
+            assertTrue(empty.fits(move.view(), move.x(), move.y()));
+            assertFalse(empty.fits(move.view(), move.x(), move.y() + 1));
+            BitBoard after = empty.place(move.view(), move.x(), move.y());
+            StringBuilder key = new StringBuilder();
+            for (int y = 0; y < 20; y++) key.append(after.getRow(y)).append(',');
+            assertTrue(cells.add(key.toString()), "같은 최종 배치가 두 번 나오면 안 됨");
+        }
+    }
+
+    @Test
+    @DisplayName("벽에 막힌 칸 너머로는 이동하지 않음")
+    void testBlockedSweep() {
+        long[] rows = new long[20];
+        for (int y = 0; y < 20; y++) rows[y] = 1L << 2; // x=2 기둥 (맨 위까지)
+        BitBoard board = BitBoard.of(10, rows);
+        Tetromino o = Tetromino.of(Tetromino.Kind.O);
+        List<Move> moves = MoveGenerator.generate(board, o, 4, 0);
+        for (Move move : moves) {
+            assertTrue(move.x() + move.view().getMinCol() >= 3, "기둥 왼쪽으로 넘어가면 안 됨");
+        }
+        assertEquals(6, moves.size()); // x=3..8 (O는 2칸)
+    }
+
+    @Test
+    @DisplayName("스폰 위치에 놓을 수 없으면 배치가 없음")
+    void testNoMovesWhenSpawnBlocked() {
+        long[] rows = new long[20];
+        rows[0] = FULL;
+        rows[1] = FULL;
+        assertTrue(spawnMoves(BitBoard.of(10, rows), Tetromino.Kind.T).isEmpty());
+    }
+
+    @Test
+    @DisplayName("BitBoard는 Board 점유와 같고, 놓으면 가득 찬 줄을 지운 새 보드를 반환")
+    void testBitBoardPlaceClearsLines() {
+        Board board = new Board(10, 20);
+        for (int x = 0; x < 10; x++) {
+            if (x < 6) board.setCell(x, 19, 1);
+        }
+        board.setCell(0, 18, 1);
+        BitBoard bits = BitBoard.of(board);
+        assertEquals(0b111111L, bits.getRow(19));
+        assertEquals(1L, bits.getRow(18));
+
+        // 가로 I를 x=6..9에 놓으면 19번 줄이 지워지고 18번 줄이 내려옴
+        Tetromino i = Tetromino.of(Tetromino.Kind.I);
+        Tetromino.ShapeView view = i.getShapeView();
+        int y = bits.dropY(view, 6, 0);
+        BitBoard after = bits.place(view, 6, y);
+        assertEquals(1, after.getLinesCleared());
+        assertEquals(1L, after.getRow(19));
+        assertEquals(0L, after.getRow(18));
+        // 원본은 그대로
+        assertEquals(0b111111L, bits.getRow(19));
+    }
+
+    @Test
+    @DisplayName("휴리스틱 특징값: 높이 합, 구멍, 울퉁불퉁함, 줄")
+    void testHeuristicFeatures() {
+        long[] rows = new long[20];
+        rows[18] = 0b1L; // x=0 높이 2
+        rows[19] = 0b10L; // x=0 아래는 구멍, x=1 높이 1
+        BitBoard board = BitBoard.of(10, rows);
+
+        assertEquals(-3.0, new Heuristic(-1, 0, 0, 0).evaluate(board, 0), 1e-9);
+        assertEquals(-1.0, new Heuristic(0, -1, 0, 0).evaluate(board, 0), 1e-9);
+        assertEquals(-2.0, new Heuristic(0, 0, -1, 0).evaluate(board, 0), 1e-9); // |2-1| + |1-0|
+        assertEquals(3.0, new Heuristic(0, 0, 0, 1).evaluate(board, 3), 1e-9);
+    }
+}
@@ -0,0 +1,147 @@
+package team13.tetris.game.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.logic.GameEngine;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// ParallelBot 테스트: 스레드 수와 무관한 결정성, Bot과의 일치, 마감 처리, BotPlayer 비동기 조작
+@DisplayName("ParallelBot 테스트")
+public class ParallelBotTest {
+
+    private final ForkJoinPool single = new ForkJoinPool(1);
+    private final ForkJoinPool quad = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        single.shutdown();
+        quad.shutdown();
+    }
+
+    private static void assertSameMove(Move expected, Move actual) {
+        assertEquals(expected.rotations(), actual.rotations());
+        assertEquals(expected.x(), actual.x());
+        assertEquals(expected.y(), actual.y());
+    }
+
+    private static Tetromino randomPiece(Random random) {
+        return Tetromino.of(Tetromino.Kind.values()[random.nextInt(7)]);
+    }
+
+    @Test
+    @DisplayName("마감이 없으면 스레드 수와 관계없이 같은 배치를 고름")
+    void testDeterministicAcrossPools() {
+        Random random = new Random(7);
+        ParallelBot one = new ParallelBot(Heuristic.DEFAULT, single, 3);
+        ParallelBot four = new ParallelBot(Heuristic.DEFAULT, quad, 3);
+        for (int i = 0; i < 8; i++) {
+            BitBoard board = BotFixtures.midGameBoard(random);
+            Tetromino current = randomPiece(random);
+            Tetromino next = randomPiece(random);
+            int px = MoveGenerator.spawnX(board, current);
+            assertSameMove(
+                    one.choose(board, current, px, 0, next, Long.MAX_VALUE),
+                    four.choose(board, current, px, 0, next, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    @DisplayName("2수 탐색은 시간 제한 없는 Bot과 같은 답")
+    void testDepthTwoMatchesBot() {
+        Random random = new Random(11);
+        ParallelBot parallel = new ParallelBot(Heuristic.DEFAULT, quad, 2);
+        Bot bot = new Bot(Heuristic.DEFAULT, 0);
+        for (int i = 0; i < 16; i++) {
+            BitBoard board = BotFixtures.midGameBoard(random);
+            Tetromino current = randomPiece(random);
+            Tetromino next = randomPiece(random);
+            int px = MoveGenerator.spawnX(board, current);
+            assertSameMove(
+                    bot.choose(board, current, px, 0, next),
+                    parallel.choose(board, current, px, 0, next, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    @DisplayName("마감이 이미 지났으면 한 수 최선을 반환")
+    void testExpiredDeadlineFallsBackToOnePly() {
+        Random random = new Random(3);
+        BitBoard board = BotFixtures.midGameBoard(random);
+        Tetromino current = Tetromino.of(Tetromino.Kind.T);
+        Tetromino next = Tetromino.of(Tetromino.Kind.I);
+        int px = MoveGenerator.spawnX(board, current);
+
+        Move expected = new Bot(Heuristic.DEFAULT, 0).choose(board, current, px, 0, null);
+        Move actual =
+                new ParallelBot(Heuristic.DEFAULT, quad, 3)
+                        .choose(board, current, px, 0, next, System.nanoTime() - 1);
+        assertSameMove(expected, actual);
+    }
+
+    @Test
+    @DisplayName("놓을 곳이 없으면 null, 잘못된 깊이는 예외")
+    void testNoMovesAndInvalidDepth() {
+        long[] rows = new long[20];
+        rows[0] = (1L << 10) - 1;
+        ParallelBot bot = new ParallelBot(Heuristic.DEFAULT, single, 3);
+        Tetromino t = Tetromino.of(Tetromino.Kind.T);
+        assertNull(bot.choose(BitBoard.of(10, rows), t, 3, 0, t, Long.MAX_VALUE));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ParallelBot(Heuristic.DEFAULT, single, 4));
+    }
+
+    @Test
+    @DisplayName("BotPlayer가 병렬 탐색 결과를 기다렸다가 엔진을 조작함")
+    void testBotPlayerWithParallelSearch() throws InterruptedException {
+        Board board = new Board(10, 20);
+        GameEngine engine =
+                new GameEngine(board, new NoopListener(), ScoreBoard.ScoreEntry.Mode.NORMAL, 5L);
+        engine.startNewGame();
+        engine.stopAutoDrop();
+        try {
+            BotPlayer player =
+                    new BotPlayer(engine, new ParallelBot(Heuristic.DEFAULT, quad, 2), 4);
+            Tetromino first = engine.getCurrent();
+            player.step(); // 탐색만 시작하고 입력은 없음
+            assertSame(first, engine.getCurrent());
+
+            for (int i = 0; i < 2000 && engine.getCurrent() == first; i++) {
+                player.step();
+                Thread.sleep(1);
+            }
+            assertNotSame(first, engine.getCurrent(), "탐색이 끝나면 조각을 놓아야 함");
+            assertTrue(player.getParallelBot().getEvaluatedCount() > 0);
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private static class NoopListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {}
+
+        @Override
+        public void onLinesCleared(int linesCleared) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+}
@@ -0,0 +1,134 @@
+package team13.tetris.game.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.game.model.Tetromino;
+
+// TranspositionTable, BitBoard Zobrist 키 테스트: 키 갱신, CLOCK 교체, 카운터, 봇 결과 불변
+@DisplayName("TranspositionTable 테스트")
+public class TranspositionTableTest {
+
+    private static BitBoard drop(BitBoard board, Tetromino.Kind kind, int rotations, int x) {
+        Tetromino piece = Tetromino.of(kind);
+        for (int r = 0; r < rotations; r++) piece = piece.rotateClockwise();
+        Tetromino.ShapeView view = piece.getShapeView();
+        return board.place(view, x, board.dropY(view, x, 0));
+    }
+
+    @Test
+    @DisplayName("놓으면서 갱신한 키는 처음부터 다시 계산한 키와 같음")
+    void testIncrementalHashMatchesRecomputation() {
+        Random random = new Random(1);
+        BitBoard board = BitBoard.of(10, new long[20]);
+        for (int i = 0; i < 300; i++) {
+            Tetromino piece = Tetromino.of(Tetromino.Kind.values()[random.nextInt(7)]);
+            List<Move> moves =
+                    MoveGenerator.generate(board, piece, MoveGenerator.spawnX(board, piece), 0);
+            if (moves.isEmpty()) {
+                board = BitBoard.of(10, new long[20]);
+            } else {
+                Move move = moves.get(random.nextInt(moves.size()));
+                board = board.place(move.view(), move.x(), move.y());
+            }
+            long[] rows = new long[20];
+            for (int y = 0; y < 20; y++) rows[y] = board.getRow(y);
+            assertEquals(BitBoard.of(10, rows).getHash(), board.getHash());
+        }
+    }
+
+    @Test
+    @DisplayName("놓는 순서가 달라도 점유가 같으면 키가 같음")
+    void testTranspositionsShareHash() {
+        BitBoard empty = BitBoard.of(10, new long[20]);
+        BitBoard a = drop(drop(empty, Tetromino.Kind.O, 0, 0), Tetromino.Kind.T, 0, 5);
+        BitBoard b = drop(drop(empty, Tetromino.Kind.T, 0, 5), Tetromino.Kind.O, 0, 0);
+        assertEquals(a.getHash(), b.getHash());
+        assertNotEquals(empty.getHash(), a.getHash());
+        assertNotEquals(a.getHash(), drop(empty, Tetromino.Kind.O, 0, 0).getHash());
+    }
+
+    @Test
+    @DisplayName("조회 성공/실패를 세고, 없는 키는 NaN")
+    void testHitMissCounters() {
+        TranspositionTable table = new TranspositionTable(64);
+        assertTrue(Double.isNaN(table.get(42L)));
+        table.put(42L, 1.5);
+        assertEquals(1.5, table.get(42L));
+        table.put(42L, 2.5); // 같은 키는 덮어씀
+        assertEquals(2.5, table.get(42L));
+
+        assertEquals(2, table.getHitCount());
+        assertEquals(1, table.getMissCount());
+        assertEquals(1, table.size());
+        assertEquals(64, table.getCapacity());
+
+        table.clear();
+        assertEquals(0, table.size());
+        assertEquals(0, table.getHitCount());
+        assertTrue(Double.isNaN(table.get(42L)));
+    }
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올리고, 가득 차면 CLOCK으로 참조되지 않은 항목을 교체")
+    void testClockEviction() {
+        assertEquals(128, new TranspositionTable(100).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+
+        TranspositionTable table = new TranspositionTable(4); // 4칸짜리 세트 하나
+        for (long k = 1; k <= 4; k++) table.put(k, k);
+        table.get(1L); // 1은 참조됨
+        table.put(5L, 5);
+
+        assertEquals(1, table.getEvictionCount());
+        assertEquals(4, table.size());
+        assertEquals(1.0, table.get(1L));
+        assertTrue(Double.isNaN(table.get(2L)), "참조되지 않은 가장 앞 항목이 교체되어야 함");
+        assertEquals(5.0, table.get(5L));
+    }
+
+    @Test
+    @DisplayName("캐시를 써도 Bot과 ParallelBot의 선택은 같고, 다음 수에서 캐시를 다시 씀")
+    void testCachedSearchMatchesUncached() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Random random = new Random(21);
+            Bot plain = new Bot(Heuristic.DEFAULT, 0);
+            Bot cachedBot = new Bot(Heuristic.DEFAULT, 0, new TranspositionTable());
+            ParallelBot parallel = new ParallelBot(Heuristic.DEFAULT, pool, 3);
+            TranspositionTable table = new TranspositionTable();
+            ParallelBot cachedParallel = new ParallelBot(Heuristic.DEFAULT, pool, 3, table);
+
+            // 한 판을 이어서 두면서 매 수 같은 답인지 확인
+            BitBoard board = BotFixtures.midGameBoard(random);
+            Tetromino current = Tetromino.of(Tetromino.Kind.T);
+            Tetromino next = Tetromino.of(Tetromino.Kind.I);
+            for (int i = 0; i < 6; i++) {
+                int px = MoveGenerator.spawnX(board, current);
+                Move expected = plain.choose(board, current, px, 0, next);
+                Move move = cachedBot.choose(board, current, px, 0, next);
+                assertEquals(expected.x(), move.x());
+                assertEquals(expected.rotations(), move.rotations());
+
+                Move deep = parallel.choose(board, current, px, 0, next, Long.MAX_VALUE);
+                Move cachedDeep =
+                        cachedParallel.choose(board, current, px, 0, next, Long.MAX_VALUE);
+                assertEquals(deep.x(), cachedDeep.x());
+                assertEquals(deep.rotations(), cachedDeep.rotations());
+                assertEquals(deep.y(), cachedDeep.y());
+
+                board = board.place(deep.view(), deep.x(), deep.y());
+                current = next;
+                next = Tetromino.of(Tetromino.Kind.values()[random.nextInt(7)]);
+            }
+            assertTrue(table.getHitCount() > 0, "이전 수에서 본 보드를 다시 써야 함");
+            assertTrue(cachedParallel.getEvaluatedCount() < parallel.getEvaluatedCount());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
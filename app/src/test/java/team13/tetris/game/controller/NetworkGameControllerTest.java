@@ -12,7 +12,9 @@ import team13.tetris.SceneManager;
 import team13.tetris.config.Settings;
 import team13.tetris.game.logic.GameEngine;
 import team13.tetris.game.model.Board;
+import team13.tetris.network.client.TetrisClient;
 import team13.tetris.network.protocol.*;
+import team13.tetris.network.server.RoomServer;
 
 class NetworkGameControllerTest {
 
@@ -46,6 +48,35 @@ class NetworkGameControllerTest {
         assertNotNull(clientController, "클라이언트 모드로 컨트롤러 생성 가능");
     }
 
+    @Test
+    @DisplayName("두 클라이언트 컨트롤러가 같은 RoomServer 방에 함께 참가할 수 있음")
+    void testTwoClientsJoinSameRoomServerRoom() throws Exception {
+        RoomServer roomServer = new RoomServer(0, 10, 50);
+        roomServer.start();
+        TetrisClient first = null;
+        TetrisClient second = null;
+        try {
+            NetworkGameController a =
+                    new NetworkGameController(
+                            null, settings, false, "127.0.0.1", "finals", roomServer.getPort());
+            NetworkGameController b =
+                    new NetworkGameController(
+                            null, settings, false, "127.0.0.1", " finals ", roomServer.getPort());
+            first = a.createClient();
+            second = b.createClient();
+            assertNotEquals(first.getPlayerId(), second.getPlayerId(), "클라이언트마다 다른 ID");
+
+            assertTrue(first.connect(), "첫 번째 클라이언트 접속");
+            assertTrue(second.connect(), "두 번째 클라이언트도 같은 서버에 접속");
+            assertEquals(2, roomServer.getPlayerCount());
+            assertEquals(1, roomServer.getRoomCount(), "같은 방 ID로 한 방에 들어감");
+        } finally {
+            if (first != null) first.disconnect();
+            if (second != null) second.disconnect();
+            roomServer.stop();
+        }
+    }
+
     @Test
     @DisplayName("createAttackPattern 메서드 테스트 - 일반 블록")
     void testCreateAttackPatternNormal() throws Exception {
@@ -1007,12 +1038,12 @@ class NetworkGameControllerTest {
     }
 
     @Test
-    @DisplayName("timerExecutor 필드 초기값 테스트")
-    void testTimerExecutorInitialValue() throws Exception {
-        Field timerField = NetworkGameController.class.getDeclaredField("timerExecutor");
+    @DisplayName("timerFuture 필드 초기값 테스트")
+    void testTimerFutureInitialValue() throws Exception {
+        Field timerField = NetworkGameController.class.getDeclaredField("timerFuture");
         timerField.setAccessible(true);
 
-        assertNull(timerField.get(controller), "초기 timerExecutor는 null");
+        assertNull(timerField.get(controller), "초기 timerFuture는 null");
     }
 
     @Test
@@ -1025,12 +1056,12 @@ class NetworkGameControllerTest {
     }
 
     @Test
-    @DisplayName("networkCheckExecutor 필드 초기값 테스트")
-    void testNetworkCheckExecutorInitialValue() throws Exception {
-        Field executorField = NetworkGameController.class.getDeclaredField("networkCheckExecutor");
-        executorField.setAccessible(true);
+    @DisplayName("networkCheckFuture 필드 초기값 테스트")
+    void testNetworkCheckFutureInitialValue() throws Exception {
+        Field futureField = NetworkGameController.class.getDeclaredField("networkCheckFuture");
+        futureField.setAccessible(true);
 
-        assertNull(executorField.get(controller), "초기 networkCheckExecutor는 null");
+        assertNull(futureField.get(controller), "초기 networkCheckFuture는 null");
     }
 
     @Test
@@ -0,0 +1,219 @@
+package team13.tetris.game.logic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// GameCore 테스트: FX/실제 시간 없이 tick(nanos)과 apply(command)만으로 게임이 진행되는지 검증
+@DisplayName("GameCore 테스트")
+public class GameCoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private Board board;
+    private TestListener listener;
+    private GameCore core;
+
+    private static class TestListener implements GameStateListener {
+        int gameOverCount = 0;
+        int linesCleared = 0;
+        int spawnCount = 0;
+
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {
+            spawnCount++;
+        }
+
+        @Override
+        public void onLinesCleared(int lines) {
+            linesCleared += lines;
+        }
+
+        @Override
+        public void onGameOver() {
+            gameOverCount++;
+        }
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(10, 20);
+        listener = new TestListener();
+        core = new GameCore(board, listener, ScoreBoard.ScoreEntry.Mode.NORMAL, 42L);
+        core.startNewGame();
+    }
+
+    @Test
+    @DisplayName("tick: 하강 간격이 다 찰 때만 한 칸 내려감")
+    void testTickGravity() {
+        int y = core.getPieceY();
+
+        core.tick(SECOND - 1);
+        assertEquals(y, core.getPieceY(), "간격 전에는 내려가지 않아야 함");
+        assertEquals(1, core.getNanosUntilNextEvent());
+
+        core.tick(1);
+        assertEquals(y + 1, core.getPieceY(), "간격이 차면 한 칸 내려가야 함");
+
+        core.tick(3 * SECOND);
+        assertEquals(y + 4, core.getPieceY(), "긴 tick은 여러 번의 하강으로 나뉘어야 함");
+    }
+
+    @Test
+    @DisplayName("tick: 하강 간격 변경이 즉시 반영됨")
+    void testTickUsesDropInterval() {
+        int y = core.getPieceY();
+        core.setDropIntervalSeconds(0.5);
+
+        core.tick(SECOND / 2);
+        assertEquals(y + 1, core.getPieceY());
+        assertEquals(SECOND / 2, core.getNanosUntilNextEvent());
+    }
+
+    @Test
+    @DisplayName("apply: 명령이 엔진 동작과 동일하게 적용됨")
+    void testApplyCommands() {
+        int x = core.getPieceX();
+
+        assertTrue(core.apply(GameCore.Command.MOVE_LEFT));
+        assertEquals(x - 1, core.getPieceX());
+        assertTrue(core.apply(GameCore.Command.MOVE_RIGHT));
+        assertEquals(x, core.getPieceX());
+
+        int y = core.getPieceY();
+        assertTrue(core.apply(GameCore.Command.SOFT_DROP));
+        assertEquals(y + 1, core.getPieceY());
+
+        assertTrue(core.apply(GameCore.Command.HARD_DROP));
+        assertEquals(2, listener.spawnCount, "하드 드롭 후 다음 블록이 생성되어야 함");
+    }
+
+    @Test
+    @DisplayName("라인 삭제는 플래시 시간만큼 tick이 진행된 뒤에 완료됨")
+    void testLineClearWaitsForTick() {
+        // 현재 블록이 하드 드롭으로 닿을 맨 아래 줄의 나머지 칸을 채움
+        Tetromino.ShapeView view = core.getCurrent().getShapeView();
+        int px = core.getPieceX();
+        for (int c = 0; c < board.getWidth(); c++) {
+            if (!view.isFilled(view.getMaxRow(), c - px)) board.setCell(c, 19, 1);
+        }
+
+        core.apply(GameCore.Command.HARD_DROP);
+
+        assertTrue(core.isLineClearPending(), "플래시 동안은 삭제 대기 상태여야 함");
+        assertNull(core.getCurrent(), "플래시 동안은 조작할 블록이 없어야 함");
+        assertEquals(1, listener.linesCleared);
+        assertEquals(GameCore.LINE_CLEAR_DELAY_NANOS, core.getNanosUntilNextEvent());
+
+        core.tick(GameCore.LINE_CLEAR_DELAY_NANOS - 1);
+        assertTrue(core.isLineClearPending());
+
+        core.tick(1);
+        assertFalse(core.isLineClearPending());
+        assertNotNull(core.getCurrent(), "플래시 후 다음 블록이 생성되어야 함");
+        assertEquals(SECOND, core.getNanosUntilNextEvent(), "새 블록은 하강 간격을 처음부터 셈");
+    }
+
+    @Test
+    @DisplayName("게임오버는 FX 없이 리스너로 바로 전달됨")
+    void testGameOverWithoutFx() {
+        // 현재 블록 자리와 마지막 열만 비우고 보드를 채움 (가득 찬 줄은 생기지 않음)
+        Tetromino.ShapeView view = core.getCurrent().getShapeView();
+        int px = core.getPieceX();
+        int py = core.getPieceY();
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth() - 1; x++) {
+                if (!view.isFilled(y - py, x - px)) board.setCell(x, y, 1);
+            }
+        }
+
+        core.apply(GameCore.Command.HARD_DROP);
+
+        assertTrue(core.isGameOver(), "다음 블록을 놓을 수 없으면 게임오버");
+        assertNull(core.getCurrent());
+        assertEquals(1, listener.gameOverCount);
+        assertEquals(Long.MAX_VALUE, core.getNanosUntilNextEvent());
+        assertFalse(core.apply(GameCore.Command.HARD_DROP), "게임오버 후 명령은 무시되어야 함");
+    }
+
+    @Test
+    @DisplayName("같은 시드와 같은 입력이면 같은 게임이 재현됨")
+    void testDeterministicReplay() {
+        assertEquals(playRandomGame(7L, 123L), playRandomGame(7L, 123L));
+        assertNotEquals(playRandomGame(7L, 123L), playRandomGame(8L, 123L));
+    }
+
+    @Test
+    @DisplayName("아이템 모드도 시드로 재현 가능함")
+    void testDeterministicItemMode() {
+        Board b1 = new Board(10, 20);
+        Board b2 = new Board(10, 20);
+        GameCore c1 = new GameCore(b1, new TestListener(), ScoreBoard.ScoreEntry.Mode.ITEM, 5L);
+        GameCore c2 = new GameCore(b2, new TestListener(), ScoreBoard.ScoreEntry.Mode.ITEM, 5L);
+        c1.startNewGame();
+        c2.startNewGame();
+        for (int i = 0; i < 30; i++) {
+            c1.addScoreForClearedLines(1); // 10줄마다 아이템 생성
+            c2.addScoreForClearedLines(1);
+            c1.apply(GameCore.Command.HARD_DROP);
+            c2.apply(GameCore.Command.HARD_DROP);
+            c1.tick(GameCore.LINE_CLEAR_DELAY_NANOS);
+            c2.tick(GameCore.LINE_CLEAR_DELAY_NANOS);
+        }
+        assertTrue(Arrays.deepEquals(b1.snapshot(), b2.snapshot()));
+        assertEquals(c1.getScore(), c2.getScore());
+    }
+
+    @Test
+    @DisplayName("헤드리스로 많은 게임을 빠르게 실행할 수 있음")
+    void testManyHeadlessGames() {
+        int games = 1000;
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) playRandomGame(g, g * 31L);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 10_000, games + "게임에 " + elapsedMillis + "ms 걸림");
+    }
+
+    // 무작위 입력으로 게임오버까지 진행하고 최종 상태를 문자열로 반환
+    private static String playRandomGame(long seed, long inputSeed) {
+        Board b = new Board(10, 20);
+        TestListener l = new TestListener();
+        GameCore c = new GameCore(b, l, ScoreBoard.ScoreEntry.Mode.NORMAL, seed);
+        Random input = new Random(inputSeed);
+        GameCore.Command[] moves = {
+            GameCore.Command.MOVE_LEFT, GameCore.Command.MOVE_RIGHT, GameCore.Command.ROTATE_CW
+        };
+
+        c.startNewGame();
+        for (int piece = 0; piece < 500 && !c.isGameOver(); piece++) {
+            int steps = input.nextInt(6);
+            for (int i = 0; i < steps; i++) c.apply(moves[input.nextInt(moves.length)]);
+            c.tick(input.nextInt(3) * SECOND / 2);
+            c.apply(GameCore.Command.HARD_DROP);
+            c.tick(GameCore.LINE_CLEAR_DELAY_NANOS);
+        }
+        return c.getScore()
+                + ":"
+                + c.getTotalLinesCleared()
+                + ":"
+                + Arrays.deepToString(b.snapshot());
+    }
+}
@@ -0,0 +1,99 @@
+package team13.tetris.game.logic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// GameEngine 할당 테스트: 게임 틱과 회전이 모양 배열을 복사하지 않고 미리 계산된 뷰를 쓰는지 확인
+// 바이트 단위 할당량은 JVM마다 달라서 JMH gc 프로파일러(GameEngineTickBenchmark,
+// GameEngineBenchmark)로 측정함
+@DisplayName("GameEngine 할당 테스트")
+public class GameEngineAllocationTest {
+
+    private static final long SEED = 13L;
+
+    private Board board;
+    private GameEngine engine;
+
+    private static class NoOpListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino piece, int x, int y) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onScoreChanged(int newScore) {}
+
+        @Override
+        public void onLinesCleared(int lines) {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        board = new Board(10, 20);
+        engine =
+                new GameEngine(
+                        board, new NoOpListener(), ScoreBoard.ScoreEntry.Mode.NORMAL, SEED);
+        engine.startNewGame();
+        engine.stopAutoDrop(); // 테스트 스레드에서만 엔진을 조작
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    // 착지하지 않는 범위에서 틱 한 번: 좌우 이동, 고스트 계산, 소프트 드롭
+    private void tick() {
+        engine.moveLeft();
+        engine.moveRight();
+        engine.getGhostY();
+        engine.softDrop();
+    }
+
+    @Test
+    @DisplayName("틱 동안 현재 블록은 회전별로 미리 계산된 뷰를 그대로 씀")
+    void testTickKeepsPrecomputedView() {
+        Tetromino current = engine.getCurrent();
+        Tetromino.ShapeView view = current.getShapeView();
+        assertSame(current.getKind().getView(current.getRotationIndex()), view);
+
+        for (int i = 0; i < 3; i++) tick();
+        assertSame(current, engine.getCurrent(), "틱 세 번 만에 블록이 고정되면 안 됨");
+        assertSame(view, engine.getCurrent().getShapeView());
+    }
+
+    @Test
+    @DisplayName("회전한 블록도 같은 회전의 미리 계산된 뷰를 공유함")
+    void testRotationReusesPrecomputedViews() {
+        for (Tetromino.Kind kind : Tetromino.Kind.values()) {
+            Tetromino piece = Tetromino.of(kind);
+            for (int r = 0; r < 4; r++) {
+                assertSame(kind.getView(piece.getRotationIndex()), piece.getShapeView());
+                piece = piece.rotateClockwise();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("getShapeView는 호출마다 복사본을 만들지 않아야 함")
+    void testShapeViewIsNotCopied() {
+        Tetromino current = engine.getCurrent();
+        assertSame(current.getShapeView(), current.getShapeView());
+        assertNotSame(current.getShape(), current.getShape()); // 기존 getShape는 방어적 복사 유지
+    }
+}
@@ -76,9 +76,9 @@ public class GameEngineGhostTest {
     void testGhostYWithNoCurrentPiece() {
         // given - 현재 블록을 null로 설정 (리플렉션 사용)
         try {
-            java.lang.reflect.Field currentField = GameEngine.class.getDeclaredField("current");
+            java.lang.reflect.Field currentField = GameCore.class.getDeclaredField("current");
             currentField.setAccessible(true);
-            currentField.set(engine, null);
+            currentField.set(engine.getCore(), null);
         } catch (Exception e) {
             fail("리플렉션으로 current 필드 설정 실패: " + e.getMessage());
         }
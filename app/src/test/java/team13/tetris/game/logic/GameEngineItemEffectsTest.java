@@ -63,9 +63,9 @@ class GameEngineItemEffectsTest {
         board.setCell(6, 15, 2);
 
         // When: private 메서드 호출
-        Method method = GameEngine.class.getDeclaredMethod("processGravityEffect");
+        Method method = GameCore.class.getDeclaredMethod("processGravityEffect");
         method.setAccessible(true);
-        method.invoke(engine);
+        method.invoke(engine.getCore());
 
         // Then: 중력 효과가 적용되었는지 기본 확인
         // 실제 중력 효과는 Board.applyGravity()를 호출하므로 결과가 다를 수 있음
@@ -84,17 +84,17 @@ class GameEngineItemEffectsTest {
         Tetromino splitPiece = Tetromino.item(Kind.SPLIT, 0, ItemType.SPLIT, 0);
 
         // 현재 조각을 SPLIT으로 설정 (reflection 사용)
-        java.lang.reflect.Field currentField = GameEngine.class.getDeclaredField("current");
+        java.lang.reflect.Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(engine, splitPiece);
+        currentField.set(engine.getCore(), splitPiece);
 
         // 위치 설정
-        java.lang.reflect.Field pxField = GameEngine.class.getDeclaredField("px");
-        java.lang.reflect.Field pyField = GameEngine.class.getDeclaredField("py");
+        java.lang.reflect.Field pxField = GameCore.class.getDeclaredField("px");
+        java.lang.reflect.Field pyField = GameCore.class.getDeclaredField("py");
         pxField.setAccessible(true);
         pyField.setAccessible(true);
-        pxField.set(engine, 3); // x 위치
-        pyField.set(engine, 5); // y 위치
+        pxField.set(engine.getCore(), 3); // x 위치
+        pyField.set(engine.getCore(), 5); // y 위치
 
         // 보드에 떠있는 블록들 배치
         Board board = engine.getBoard();
@@ -103,9 +103,9 @@ class GameEngineItemEffectsTest {
         board.setCell(5, 8, 3);
 
         // When: processSplitEffect 호출
-        Method method = GameEngine.class.getDeclaredMethod("processSplitEffect");
+        Method method = GameCore.class.getDeclaredMethod("processSplitEffect");
         method.setAccessible(true);
-        method.invoke(engine);
+        method.invoke(engine.getCore());
 
         // Then: 각 열에서 중력이 적용되었는지 확인
         // 실제 효과는 applySingleColumnGravity에 의해 결정됨
@@ -122,10 +122,10 @@ class GameEngineItemEffectsTest {
 
         // When: processItemEffect 호출 (GRAVITY 효과)
         Method method =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         method.setAccessible(true);
-        method.invoke(engine, ItemType.GRAVITY, Kind.T);
+        method.invoke(engine.getCore(), ItemType.GRAVITY, Kind.T);
 
         // Then: 메서드가 정상적으로 실행되었는지 확인
         assertNotNull(board);
@@ -137,9 +137,9 @@ class GameEngineItemEffectsTest {
         // Given: LINE_CLEAR 아이템 설정
         Tetromino lineClearPiece = Tetromino.item(Kind.T, 0, ItemType.LINE_CLEAR, 1);
 
-        java.lang.reflect.Field currentField = GameEngine.class.getDeclaredField("current");
+        java.lang.reflect.Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(engine, lineClearPiece);
+        currentField.set(engine.getCore(), lineClearPiece);
 
         // 클리어할 라인에 블록들 배치
         Board board = engine.getBoard();
@@ -148,9 +148,9 @@ class GameEngineItemEffectsTest {
         }
 
         // When: processLineClearEffect 호출
-        Method method = GameEngine.class.getDeclaredMethod("processLineClearEffect");
+        Method method = GameCore.class.getDeclaredMethod("processLineClearEffect");
         method.setAccessible(true);
-        method.invoke(engine);
+        method.invoke(engine.getCore());
 
         // Then: 라인 클리어 효과가 적용되었는지 기본 확인
         // 실제 라인 클리어 로직에 따라 결과가 달라질 수 있음
@@ -165,21 +165,21 @@ class GameEngineItemEffectsTest {
         // Given: 일반 테트로미노 설정
         Tetromino normalPiece = Tetromino.of(Tetromino.Kind.T);
 
-        java.lang.reflect.Field currentField = GameEngine.class.getDeclaredField("current");
+        java.lang.reflect.Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(engine, normalPiece);
+        currentField.set(engine.getCore(), normalPiece);
 
         // When & Then: 존재하는 아이템 효과 메서드들이 일반 조각에서도 안전하게 동작하는지 확인
         Method[] methods = {
-            GameEngine.class.getDeclaredMethod("processGravityEffect"),
-            GameEngine.class.getDeclaredMethod("processSplitEffect"),
-            GameEngine.class.getDeclaredMethod("processLineClearEffect")
+            GameCore.class.getDeclaredMethod("processGravityEffect"),
+            GameCore.class.getDeclaredMethod("processSplitEffect"),
+            GameCore.class.getDeclaredMethod("processLineClearEffect")
         };
 
         for (Method method : methods) {
             method.setAccessible(true);
             assertDoesNotThrow(
-                    () -> method.invoke(engine),
+                    () -> method.invoke(engine.getCore()),
                     "메서드 " + method.getName() + "가 일반 조각에서 예외를 발생시켰습니다");
         }
     }
@@ -188,21 +188,21 @@ class GameEngineItemEffectsTest {
     @DisplayName("current가 null일 때 아이템 효과 메서드들의 안전성 테스트")
     void testItemEffectsWithNullCurrent() throws Exception {
         // Given: current를 null로 설정
-        java.lang.reflect.Field currentField = GameEngine.class.getDeclaredField("current");
+        java.lang.reflect.Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(engine, null);
+        currentField.set(engine.getCore(), null);
 
         // When & Then: null 상태에서도 안전하게 동작하는지 확인
         Method[] methods = {
-            GameEngine.class.getDeclaredMethod("processGravityEffect"),
-            GameEngine.class.getDeclaredMethod("processSplitEffect"),
-            GameEngine.class.getDeclaredMethod("processLineClearEffect")
+            GameCore.class.getDeclaredMethod("processGravityEffect"),
+            GameCore.class.getDeclaredMethod("processSplitEffect"),
+            GameCore.class.getDeclaredMethod("processLineClearEffect")
         };
 
         for (Method method : methods) {
             method.setAccessible(true);
             assertDoesNotThrow(
-                    () -> method.invoke(engine),
+                    () -> method.invoke(engine.getCore()),
                     "메서드 " + method.getName() + "가 null current에서 예외를 발생시켰습니다");
         }
     }
@@ -219,9 +219,9 @@ class GameEngineItemEffectsTest {
         board.setCell(testColumn, 18, 2); // 바닥 근처 블록
 
         // When: applySingleColumnGravity 호출
-        Method method = GameEngine.class.getDeclaredMethod("applySingleColumnGravity", int.class);
+        Method method = GameCore.class.getDeclaredMethod("applySingleColumnGravity", int.class);
         method.setAccessible(true);
-        method.invoke(engine, testColumn);
+        method.invoke(engine.getCore(), testColumn);
 
         // Then: 해당 열에서 중력이 적용되었는지 기본 확인
         // 중력 효과의 정확한 결과는 구현에 따라 다를 수 있음
@@ -241,10 +241,10 @@ class GameEngineItemEffectsTest {
     @DisplayName("잘못된 열 인덱스로 applySingleColumnGravity 호출 시 안전성 테스트")
     void testApplySingleColumnGravityWithInvalidColumn() throws Exception {
         // When & Then: 잘못된 열 인덱스로 호출해도 예외가 발생하지 않아야 함
-        Method method = GameEngine.class.getDeclaredMethod("applySingleColumnGravity", int.class);
+        Method method = GameCore.class.getDeclaredMethod("applySingleColumnGravity", int.class);
         method.setAccessible(true);
 
-        assertDoesNotThrow(() -> method.invoke(engine, -1));
-        assertDoesNotThrow(() -> method.invoke(engine, 100));
+        assertDoesNotThrow(() -> method.invoke(engine.getCore(), -1));
+        assertDoesNotThrow(() -> method.invoke(engine.getCore(), 100));
     }
 }
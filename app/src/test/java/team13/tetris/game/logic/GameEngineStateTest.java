@@ -278,6 +278,22 @@ public class GameEngineStateTest {
         assertDoesNotThrow(() -> engine.startNewGame(), "shutdown 후 게임을 다시 시작할 수 있어야 함");
     }
 
+    @Test
+    @DisplayName("자동 하강 작업은 공유 스케줄러에 등록되고 shutdown 시 취소됨")
+    void testAutoDropUsesSharedScheduler() {
+        engine.startNewGame();
+        engine.startAutoDrop();
+        engine.startAutoDrop(); // 중복 호출 시 작업이 늘어나지 않아야 함
+        assertEquals(1, engine.getPendingTaskCount(), "자동 하강 작업 1개만 예약되어야 함");
+
+        engine.stopAutoDrop();
+        assertEquals(0, engine.getPendingTaskCount(), "일시정지 시 자동 하강 작업이 취소되어야 함");
+
+        engine.startAutoDrop();
+        engine.shutdown();
+        assertEquals(0, engine.getPendingTaskCount(), "shutdown 시 모든 작업이 취소되어야 함");
+    }
+
     // 리스너 콜백 검증
     @Test
     @DisplayName("리스너: onBoardUpdated 호출 확인")
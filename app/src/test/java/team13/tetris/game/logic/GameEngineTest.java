@@ -39,9 +39,9 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // When
-        Method handleLockedPiece = GameEngine.class.getDeclaredMethod("handleLockedPiece");
+        Method handleLockedPiece = GameCore.class.getDeclaredMethod("handleLockedPiece");
         handleLockedPiece.setAccessible(true);
-        handleLockedPiece.invoke(gameEngine);
+        handleLockedPiece.invoke(gameEngine.getCore());
 
         // Then
         verify(mockListener, atLeastOnce()).onBoardUpdated(any(Board.class));
@@ -60,25 +60,25 @@ public class GameEngineTest {
         }
 
         // O블록을 위에 배치 (라인클리어와 무관하게)
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, Tetromino.of(Tetromino.Kind.O));
+        currentField.set(gameEngine.getCore(), Tetromino.of(Tetromino.Kind.O));
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 17);
+        pyField.set(gameEngine.getCore(), 17);
 
         // mock 초기화
         reset(mockListener);
 
         // When
-        Method handleLockedPiece = GameEngine.class.getDeclaredMethod("handleLockedPiece");
+        Method handleLockedPiece = GameCore.class.getDeclaredMethod("handleLockedPiece");
         handleLockedPiece.setAccessible(true);
-        handleLockedPiece.invoke(gameEngine);
+        handleLockedPiece.invoke(gameEngine.getCore());
 
         // Then - 보드에 이미 완전한 라인이 있으므로 라인클리어가 발생해야 함
         verify(mockListener, atLeastOnce()).onLinesCleared(anyInt());
@@ -93,17 +93,17 @@ public class GameEngineTest {
         // 무게추 블록 설정
         Tetromino weightBlock =
                 Tetromino.item(Tetromino.Kind.WEIGHT, 0, Tetromino.ItemType.WEIGHT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, weightBlock);
+        currentField.set(gameEngine.getCore(), weightBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 15);
+        pyField.set(gameEngine.getCore(), 15);
 
         // 아래쪽에 블록들 배치
         testBoard.setCell(4, 17, 1);
@@ -112,9 +112,9 @@ public class GameEngineTest {
 
         // When
         Method destroyBlocksBelow =
-                GameEngine.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
+                GameCore.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
         destroyBlocksBelow.setAccessible(true);
-        destroyBlocksBelow.invoke(gameEngine, false); // 한 줄만 파괴
+        destroyBlocksBelow.invoke(gameEngine.getCore(), false); // 한 줄만 파괴
 
         // Then
         assertEquals(0, testBoard.getCell(4, 17)); // 바로 아래 줄만 파괴됨
@@ -131,17 +131,17 @@ public class GameEngineTest {
         // 무게추 블록 설정
         Tetromino weightBlock =
                 Tetromino.item(Tetromino.Kind.WEIGHT, 0, Tetromino.ItemType.WEIGHT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, weightBlock);
+        currentField.set(gameEngine.getCore(), weightBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 15);
+        pyField.set(gameEngine.getCore(), 15);
 
         // 아래쪽에 블록들 배치
         testBoard.setCell(4, 17, 1);
@@ -150,9 +150,9 @@ public class GameEngineTest {
 
         // When
         Method destroyBlocksBelow =
-                GameEngine.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
+                GameCore.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
         destroyBlocksBelow.setAccessible(true);
-        destroyBlocksBelow.invoke(gameEngine, true); // 모든 줄 파괴
+        destroyBlocksBelow.invoke(gameEngine.getCore(), true); // 모든 줄 파괴
 
         // Then
         assertEquals(0, testBoard.getCell(4, 17)); // 모든 줄이 파괴됨
@@ -164,20 +164,20 @@ public class GameEngineTest {
     @DisplayName("generateItemPiece - 아이템 피스 생성")
     void testGenerateItemPiece() throws Exception {
         // Given
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
-        Field nextItemPieceField = GameEngine.class.getDeclaredField("nextItemPiece");
+        Field nextItemPieceField = GameCore.class.getDeclaredField("nextItemPiece");
         nextItemPieceField.setAccessible(true);
 
         // When
-        Method generateItemPiece = GameEngine.class.getDeclaredMethod("generateItemPiece");
+        Method generateItemPiece = GameCore.class.getDeclaredMethod("generateItemPiece");
         generateItemPiece.setAccessible(true);
-        generateItemPiece.invoke(gameEngine);
+        generateItemPiece.invoke(gameEngine.getCore());
 
         // Then
-        Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine);
+        Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine.getCore());
         assertNotNull(nextItemPiece);
         assertTrue(nextItemPiece.isItemPiece());
     }
@@ -187,16 +187,16 @@ public class GameEngineTest {
     void testProcessItemEffect_CopyItem() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.COPY, Tetromino.Kind.I);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.COPY, Tetromino.Kind.I);
 
         // Then
         verify(mockListener, atLeastOnce())
@@ -209,9 +209,9 @@ public class GameEngineTest {
     void testProcessItemEffect_GravityItem() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // 보드에 떠있는 블록 설정
         testBoard.setCell(2, 10, 1);
@@ -219,10 +219,10 @@ public class GameEngineTest {
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.GRAVITY, null);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.GRAVITY, null);
 
         // Then
         // 중력이 적용되어 블록들이 아래로 떨어짐
@@ -235,12 +235,13 @@ public class GameEngineTest {
     void testCreateItemPiece_CopyItem() throws Exception {
         // When
         Method createItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createItemPiece", Tetromino.Kind.class, Tetromino.Kind.class);
         createItemPiece.setAccessible(true);
         Tetromino copyItem =
                 (Tetromino)
-                        createItemPiece.invoke(gameEngine, Tetromino.Kind.COPY, Tetromino.Kind.I);
+                        createItemPiece.invoke(
+                                gameEngine.getCore(), Tetromino.Kind.COPY, Tetromino.Kind.I);
 
         // Then
         assertNotNull(copyItem);
@@ -254,11 +255,12 @@ public class GameEngineTest {
     void testCreateItemPiece_WeightItem() throws Exception {
         // When
         Method createItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createItemPiece", Tetromino.Kind.class, Tetromino.Kind.class);
         createItemPiece.setAccessible(true);
         Tetromino weightItem =
-                (Tetromino) createItemPiece.invoke(gameEngine, Tetromino.Kind.WEIGHT, null);
+                (Tetromino)
+                        createItemPiece.invoke(gameEngine.getCore(), Tetromino.Kind.WEIGHT, null);
 
         // Then
         assertNotNull(weightItem);
@@ -274,23 +276,23 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // I블록 배치
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, Tetromino.of(Tetromino.Kind.I));
+        currentField.set(gameEngine.getCore(), Tetromino.of(Tetromino.Kind.I));
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 16);
+        pyField.set(gameEngine.getCore(), 16);
 
         // When
         Method recordLastLockedColumns =
-                GameEngine.class.getDeclaredMethod("recordLastLockedColumns");
+                GameCore.class.getDeclaredMethod("recordLastLockedColumns");
         recordLastLockedColumns.setAccessible(true);
-        recordLastLockedColumns.invoke(gameEngine);
+        recordLastLockedColumns.invoke(gameEngine.getCore());
 
         Set<Integer> lockedColumns = gameEngine.getLastLockedColumns();
 
@@ -306,23 +308,23 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // O블록 배치 (2x2 정사각형)
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, Tetromino.of(Tetromino.Kind.O));
+        currentField.set(gameEngine.getCore(), Tetromino.of(Tetromino.Kind.O));
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 18);
+        pyField.set(gameEngine.getCore(), 18);
 
         // When
         Method recordLastLockedColumns =
-                GameEngine.class.getDeclaredMethod("recordLastLockedColumns");
+                GameCore.class.getDeclaredMethod("recordLastLockedColumns");
         recordLastLockedColumns.setAccessible(true);
-        recordLastLockedColumns.invoke(gameEngine);
+        recordLastLockedColumns.invoke(gameEngine.getCore());
 
         List<int[]> lockedCells = gameEngine.getLastLockedCells();
 
@@ -346,11 +348,11 @@ public class GameEngineTest {
     void testCreateLineClearItemPiece() throws Exception {
         // When
         Method createLineClearItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createLineClearItemPiece", Tetromino.Kind.class);
         createLineClearItemPiece.setAccessible(true);
         Tetromino lineClearItem =
-                (Tetromino) createLineClearItemPiece.invoke(gameEngine, Tetromino.Kind.T);
+                (Tetromino) createLineClearItemPiece.invoke(gameEngine.getCore(), Tetromino.Kind.T);
 
         // Then
         assertNotNull(lineClearItem);
@@ -370,17 +372,17 @@ public class GameEngineTest {
         // 무게추 블록 설정
         Tetromino weightBlock =
                 Tetromino.item(Tetromino.Kind.WEIGHT, 0, Tetromino.ItemType.WEIGHT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, weightBlock);
+        currentField.set(gameEngine.getCore(), weightBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 16);
+        pyField.set(gameEngine.getCore(), 16);
 
         // 아래쪽에 블록들 배치
         testBoard.setCell(4, 17, 1);
@@ -388,9 +390,9 @@ public class GameEngineTest {
 
         // When
         Method destroyLineDirectlyBelow =
-                GameEngine.class.getDeclaredMethod("destroyLineDirectlyBelow");
+                GameCore.class.getDeclaredMethod("destroyLineDirectlyBelow");
         destroyLineDirectlyBelow.setAccessible(true);
-        destroyLineDirectlyBelow.invoke(gameEngine);
+        destroyLineDirectlyBelow.invoke(gameEngine.getCore());
 
         // Then: 바로 아래 줄만 파괴, 그 아래는 유지
         assertEquals(1, testBoard.getCell(4, 17));
@@ -406,17 +408,17 @@ public class GameEngineTest {
         // 무게추 블록 설정
         Tetromino weightBlock =
                 Tetromino.item(Tetromino.Kind.WEIGHT, 0, Tetromino.ItemType.WEIGHT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, weightBlock);
+        currentField.set(gameEngine.getCore(), weightBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 16);
+        pyField.set(gameEngine.getCore(), 16);
 
         // 아래쪽에 블록들 배치
         testBoard.setCell(4, 17, 1);
@@ -424,9 +426,9 @@ public class GameEngineTest {
         testBoard.setCell(4, 19, 1);
 
         // When
-        Method destroyAllBlocksBelow = GameEngine.class.getDeclaredMethod("destroyAllBlocksBelow");
+        Method destroyAllBlocksBelow = GameCore.class.getDeclaredMethod("destroyAllBlocksBelow");
         destroyAllBlocksBelow.setAccessible(true);
-        destroyAllBlocksBelow.invoke(gameEngine);
+        destroyAllBlocksBelow.invoke(gameEngine.getCore());
 
         // Then
         assertEquals(1, testBoard.getCell(4, 17)); // 모든 줄이 파괴됨 (본인 제외)
@@ -481,30 +483,30 @@ public class GameEngineTest {
     void testProcessItemEffect_SplitItem() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // SPLIT 블록 설정
         Tetromino splitBlock = Tetromino.item(Tetromino.Kind.SPLIT, 0, Tetromino.ItemType.SPLIT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, splitBlock);
+        currentField.set(gameEngine.getCore(), splitBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 16);
+        pyField.set(gameEngine.getCore(), 16);
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.SPLIT, null);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.SPLIT, null);
 
         // Then - SPLIT 효과가 적용됨 (구체적인 검증은 보드 상태에 따라 다름)
         verify(mockListener, never()).onGameOver(); // 게임오버가 발생하지 않음
@@ -515,33 +517,33 @@ public class GameEngineTest {
     void testProcessItemEffect_LineClearItem() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // LINE_CLEAR 블록 설정
         Tetromino lineClearBlock = Tetromino.lineClearItem(Tetromino.Kind.T, 0, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, lineClearBlock);
+        currentField.set(gameEngine.getCore(), lineClearBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 18);
+        pyField.set(gameEngine.getCore(), 18);
 
         // 보드에 LINE_CLEAR 마커 배치
         testBoard.setCell(4, 19, 201); // LINE_CLEAR 마커 (200번대)
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.LINE_CLEAR, null);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.LINE_CLEAR, null);
 
         // Then
         verify(mockListener, atLeastOnce()).onBoardUpdated(any(Board.class));
@@ -552,11 +554,12 @@ public class GameEngineTest {
     void testCreateItemPiece_GravityItem() throws Exception {
         // When
         Method createItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createItemPiece", Tetromino.Kind.class, Tetromino.Kind.class);
         createItemPiece.setAccessible(true);
         Tetromino gravityItem =
-                (Tetromino) createItemPiece.invoke(gameEngine, Tetromino.Kind.GRAVITY, null);
+                (Tetromino)
+                        createItemPiece.invoke(gameEngine.getCore(), Tetromino.Kind.GRAVITY, null);
 
         // Then
         assertNotNull(gravityItem);
@@ -570,11 +573,12 @@ public class GameEngineTest {
     void testCreateItemPiece_SplitItem() throws Exception {
         // When
         Method createItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createItemPiece", Tetromino.Kind.class, Tetromino.Kind.class);
         createItemPiece.setAccessible(true);
         Tetromino splitItem =
-                (Tetromino) createItemPiece.invoke(gameEngine, Tetromino.Kind.SPLIT, null);
+                (Tetromino)
+                        createItemPiece.invoke(gameEngine.getCore(), Tetromino.Kind.SPLIT, null);
 
         // Then
         assertNotNull(splitItem);
@@ -588,29 +592,29 @@ public class GameEngineTest {
     void testHandleLockedPiece_ItemBlock() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // GRAVITY 아이템 블록 설정
         Tetromino gravityBlock =
                 Tetromino.item(Tetromino.Kind.GRAVITY, 0, Tetromino.ItemType.GRAVITY, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, gravityBlock);
+        currentField.set(gameEngine.getCore(), gravityBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 18);
+        pyField.set(gameEngine.getCore(), 18);
 
         // When
-        Method handleLockedPiece = GameEngine.class.getDeclaredMethod("handleLockedPiece");
+        Method handleLockedPiece = GameCore.class.getDeclaredMethod("handleLockedPiece");
         handleLockedPiece.setAccessible(true);
-        handleLockedPiece.invoke(gameEngine);
+        handleLockedPiece.invoke(gameEngine.getCore());
 
         // Then
         verify(mockListener, atLeastOnce()).onBoardUpdated(any(Board.class));
@@ -624,18 +628,18 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // 일반 I블록 설정 (무게추가 아님)
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, Tetromino.of(Tetromino.Kind.I));
+        currentField.set(gameEngine.getCore(), Tetromino.of(Tetromino.Kind.I));
 
         // 아래쪽에 블록 배치
         testBoard.setCell(4, 17, 1);
 
         // When
         Method destroyBlocksBelow =
-                GameEngine.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
+                GameCore.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
         destroyBlocksBelow.setAccessible(true);
-        destroyBlocksBelow.invoke(gameEngine, false);
+        destroyBlocksBelow.invoke(gameEngine.getCore(), false);
 
         // Then
         assertEquals(1, testBoard.getCell(4, 17)); // 블록이 그대로 유지됨
@@ -645,21 +649,21 @@ public class GameEngineTest {
     @DisplayName("generateItemPiece - 아이템 모드가 비활성화된 경우")
     void testGenerateItemPiece_ItemModeDisabled() throws Exception {
         // Given
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, false); // 아이템 모드 비활성화
+        itemModeField.set(gameEngine.getCore(), false); // 아이템 모드 비활성화
 
-        Field nextItemPieceField = GameEngine.class.getDeclaredField("nextItemPiece");
+        Field nextItemPieceField = GameCore.class.getDeclaredField("nextItemPiece");
         nextItemPieceField.setAccessible(true);
-        nextItemPieceField.set(gameEngine, null);
+        nextItemPieceField.set(gameEngine.getCore(), null);
 
         // When
-        Method generateItemPiece = GameEngine.class.getDeclaredMethod("generateItemPiece");
+        Method generateItemPiece = GameCore.class.getDeclaredMethod("generateItemPiece");
         generateItemPiece.setAccessible(true);
-        generateItemPiece.invoke(gameEngine);
+        generateItemPiece.invoke(gameEngine.getCore());
 
         // Then
-        Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine);
+        Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine.getCore());
         assertNotNull(nextItemPiece); // 아이템 모드와 관계없이 생성됨
         assertTrue(nextItemPiece.isItemPiece());
     }
@@ -671,12 +675,12 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // tempLockedColumnsForEvent 설정
-        Field tempField = GameEngine.class.getDeclaredField("tempLockedColumnsForEvent");
+        Field tempField = GameCore.class.getDeclaredField("tempLockedColumnsForEvent");
         tempField.setAccessible(true);
         java.util.Set<Integer> tempColumns = new java.util.HashSet<>();
         tempColumns.add(5);
         tempColumns.add(6);
-        tempField.set(gameEngine, tempColumns);
+        tempField.set(gameEngine.getCore(), tempColumns);
 
         // When
         Set<Integer> lockedColumns = gameEngine.getLastLockedColumns();
@@ -694,12 +698,12 @@ public class GameEngineTest {
         gameEngine.startNewGame();
 
         // tempLockedCellsForEvent 설정
-        Field tempField = GameEngine.class.getDeclaredField("tempLockedCellsForEvent");
+        Field tempField = GameCore.class.getDeclaredField("tempLockedCellsForEvent");
         tempField.setAccessible(true);
         java.util.List<int[]> tempCells = new java.util.ArrayList<>();
         tempCells.add(new int[] {3, 18});
         tempCells.add(new int[] {4, 18});
-        tempField.set(gameEngine, tempCells);
+        tempField.set(gameEngine.getCore(), tempCells);
 
         // When
         List<int[]> lockedCells = gameEngine.getLastLockedCells();
@@ -718,28 +722,28 @@ public class GameEngineTest {
     void testHandleLockedPiece_SplitItemClear() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // SPLIT 아이템 블록 설정
         Tetromino splitBlock = Tetromino.item(Tetromino.Kind.SPLIT, 0, Tetromino.ItemType.SPLIT, 0);
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, splitBlock);
+        currentField.set(gameEngine.getCore(), splitBlock);
 
-        Field pxField = GameEngine.class.getDeclaredField("px");
+        Field pxField = GameCore.class.getDeclaredField("px");
         pxField.setAccessible(true);
-        pxField.set(gameEngine, 4);
+        pxField.set(gameEngine.getCore(), 4);
 
-        Field pyField = GameEngine.class.getDeclaredField("py");
+        Field pyField = GameCore.class.getDeclaredField("py");
         pyField.setAccessible(true);
-        pyField.set(gameEngine, 18);
+        pyField.set(gameEngine.getCore(), 18);
 
         // When
-        Method handleLockedPiece = GameEngine.class.getDeclaredMethod("handleLockedPiece");
+        Method handleLockedPiece = GameCore.class.getDeclaredMethod("handleLockedPiece");
         handleLockedPiece.setAccessible(true);
-        handleLockedPiece.invoke(gameEngine);
+        handleLockedPiece.invoke(gameEngine.getCore());
 
         // Then
         assertTrue(gameEngine.isLastClearByGravityOrSplit()); // SPLIT 아이템으로 클리어
@@ -749,19 +753,19 @@ public class GameEngineTest {
     @DisplayName("processItemEffect - 아이템 모드 비활성화 시 아무것도 하지 않음")
     void testProcessItemEffect_ItemModeDisabled() throws Exception {
         // Given
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, false); // 아이템 모드 비활성화
+        itemModeField.set(gameEngine.getCore(), false); // 아이템 모드 비활성화
 
         // mock 초기화 (startNewGame 호출 없이)
         reset(mockListener);
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.COPY, Tetromino.Kind.I);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.COPY, Tetromino.Kind.I);
 
         // Then
         // 아이템 모드가 비활성화되어 있으면 processItemEffect 메서드에서 아무것도 하지 않음
@@ -773,7 +777,7 @@ public class GameEngineTest {
     void testCreateItemPiece_FallbackCopy() throws Exception {
         // When - 정의되지 않은 아이템 타입으로 테스트
         Method createItemPiece =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "createItemPiece", Tetromino.Kind.class, Tetromino.Kind.class);
         createItemPiece.setAccessible(true);
 
@@ -782,7 +786,7 @@ public class GameEngineTest {
         Tetromino fallbackItem =
                 (Tetromino)
                         createItemPiece.invoke(
-                                gameEngine,
+                                gameEngine.getCore(),
                                 Tetromino.Kind.I,
                                 Tetromino.Kind.T); // I를 아이템 타입으로 사용 (비정상적 케이스)
 
@@ -797,16 +801,16 @@ public class GameEngineTest {
     void testProcessItemEffect_CopyNormal() throws Exception {
         // Given
         gameEngine.startNewGame();
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
         // When
         Method processItemEffect =
-                GameEngine.class.getDeclaredMethod(
+                GameCore.class.getDeclaredMethod(
                         "processItemEffect", Tetromino.ItemType.class, Tetromino.Kind.class);
         processItemEffect.setAccessible(true);
-        processItemEffect.invoke(gameEngine, Tetromino.ItemType.COPY, Tetromino.Kind.I);
+        processItemEffect.invoke(gameEngine.getCore(), Tetromino.ItemType.COPY, Tetromino.Kind.I);
 
         // Then
         // COPY 효과가 정상적으로 처리되었는지 확인
@@ -819,18 +823,18 @@ public class GameEngineTest {
     @DisplayName("destroyBlocksBelow - 현재 블록이 null일 때")
     void testDestroyBlocksBelow_CurrentNull() throws Exception {
         // Given
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, null);
+        currentField.set(gameEngine.getCore(), null);
 
         // 보드에 블록 배치
         testBoard.setCell(4, 17, 1);
 
         // When
         Method destroyBlocksBelow =
-                GameEngine.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
+                GameCore.class.getDeclaredMethod("destroyBlocksBelow", boolean.class);
         destroyBlocksBelow.setAccessible(true);
-        destroyBlocksBelow.invoke(gameEngine, false);
+        destroyBlocksBelow.invoke(gameEngine.getCore(), false);
 
         // Then
         assertEquals(1, testBoard.getCell(4, 17)); // 블록이 그대로 유지됨
@@ -840,14 +844,14 @@ public class GameEngineTest {
     @DisplayName("handleLockedPiece - current가 null일 때 조기 반환")
     void testHandleLockedPiece_CurrentNull() throws Exception {
         // Given
-        Field currentField = GameEngine.class.getDeclaredField("current");
+        Field currentField = GameCore.class.getDeclaredField("current");
         currentField.setAccessible(true);
-        currentField.set(gameEngine, null);
+        currentField.set(gameEngine.getCore(), null);
 
         // When
-        Method handleLockedPiece = GameEngine.class.getDeclaredMethod("handleLockedPiece");
+        Method handleLockedPiece = GameCore.class.getDeclaredMethod("handleLockedPiece");
         handleLockedPiece.setAccessible(true);
-        handleLockedPiece.invoke(gameEngine);
+        handleLockedPiece.invoke(gameEngine.getCore());
 
         // Then
         verify(mockListener, never()).onLinesCleared(anyInt()); // 라인클리어 이벤트가 발생하지 않음
@@ -857,24 +861,24 @@ public class GameEngineTest {
     @DisplayName("generateItemPiece - 각 아이템 타입별 생성 테스트")
     void testGenerateItemPiece_AllTypes() throws Exception {
         // Given
-        Field itemModeField = GameEngine.class.getDeclaredField("itemModeEnabled");
+        Field itemModeField = GameCore.class.getDeclaredField("itemModeEnabled");
         itemModeField.setAccessible(true);
-        itemModeField.set(gameEngine, true);
+        itemModeField.set(gameEngine.getCore(), true);
 
-        Field nextItemPieceField = GameEngine.class.getDeclaredField("nextItemPiece");
+        Field nextItemPieceField = GameCore.class.getDeclaredField("nextItemPiece");
         nextItemPieceField.setAccessible(true);
 
-        Method generateItemPiece = GameEngine.class.getDeclaredMethod("generateItemPiece");
+        Method generateItemPiece = GameCore.class.getDeclaredMethod("generateItemPiece");
         generateItemPiece.setAccessible(true);
 
         // When & Then - 여러 번 호출해서 다양한 아이템 타입이 생성되는지 확인
         java.util.Set<Tetromino.ItemType> generatedTypes = new java.util.HashSet<>();
 
         for (int i = 0; i < 50; i++) { // 50번 시도하여 모든 타입 생성 확률 높임
-            nextItemPieceField.set(gameEngine, null);
-            generateItemPiece.invoke(gameEngine);
+            nextItemPieceField.set(gameEngine.getCore(), null);
+            generateItemPiece.invoke(gameEngine.getCore());
 
-            Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine);
+            Tetromino nextItemPiece = (Tetromino) nextItemPieceField.get(gameEngine.getCore());
             if (nextItemPiece != null && nextItemPiece.isItemPiece()) {
                 generatedTypes.add(nextItemPiece.getItemType());
             }
@@ -0,0 +1,165 @@
+package team13.tetris.game.logic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// PieceGenerator 테스트: 시드 재현성, 가중치 분포, 7-bag 규칙 검증
+@DisplayName("PieceGenerator 테스트")
+public class PieceGeneratorTest {
+
+    private static final int[] EQUAL = {10, 10, 10, 10, 10, 10, 10};
+
+    @Test
+    @DisplayName("같은 시드의 가중치 생성기는 같은 순서를 만듦")
+    void testWeightedSameSeedSameSequence() {
+        PieceGenerator a = new WeightedPieceGenerator(EQUAL, 99L);
+        PieceGenerator b = new WeightedPieceGenerator(EQUAL, 99L);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(a.nextKind(), b.nextKind(), i + "번째 조각이 달라짐");
+        }
+        assertEquals(99L, a.getSeed());
+    }
+
+    @Test
+    @DisplayName("부가 난수를 뽑아도 조각 순서는 바뀌지 않음")
+    void testExtrasDoNotShiftPieces() {
+        PieceGenerator plain = new WeightedPieceGenerator(EQUAL, 7L);
+        PieceGenerator withExtras = new WeightedPieceGenerator(EQUAL, 7L);
+
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 == 0) withExtras.nextInt(10);
+            assertEquals(plain.nextKind(), withExtras.nextKind());
+        }
+    }
+
+    @Test
+    @DisplayName("가중치 0인 종류는 나오지 않고 가중치 비율을 따름")
+    void testWeightedDistribution() {
+        // I만 30, O만 10, 나머지 0
+        PieceGenerator gen = new WeightedPieceGenerator(new int[] {30, 10, 0, 0, 0, 0, 0}, 1L);
+        Map<Tetromino.Kind, Integer> counts = new EnumMap<>(Tetromino.Kind.class);
+        int samples = 40000;
+        for (int i = 0; i < samples; i++) counts.merge(gen.nextKind(), 1, Integer::sum);
+
+        assertEquals(2, counts.size(), "I와 O만 나와야 함");
+        double ratio = counts.get(Tetromino.Kind.I) / (double) counts.get(Tetromino.Kind.O);
+        assertEquals(3.0, ratio, 0.2, "I:O 비율은 약 3:1이어야 함");
+    }
+
+    @Test
+    @DisplayName("잘못된 가중치는 거부됨")
+    void testInvalidWeights() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new WeightedPieceGenerator(new int[3], 0L));
+        assertThrows(
+                IllegalArgumentException.class, () -> new WeightedPieceGenerator(new int[7], 0L));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new WeightedPieceGenerator(new int[] {-1, 10, 10, 10, 10, 10, 10}, 0L));
+    }
+
+    @Test
+    @DisplayName("7-bag: 7개씩 끊으면 매번 일곱 종류가 한 번씩 나옴")
+    void testBagContainsEachKindOnce() {
+        PieceGenerator gen = new BagPieceGenerator(2024L);
+        for (int bag = 0; bag < 100; bag++) {
+            Set<Tetromino.Kind> seen = EnumSet.noneOf(Tetromino.Kind.class);
+            for (int i = 0; i < 7; i++) {
+                assertTrue(seen.add(gen.nextKind()), bag + "번째 봉지에 중복 조각");
+            }
+            assertEquals(7, seen.size());
+        }
+    }
+
+    @Test
+    @DisplayName("7-bag: 같은 시드면 같은 순서, 다른 시드면 다른 순서")
+    void testBagSeeded() {
+        PieceGenerator a = new BagPieceGenerator(5L);
+        PieceGenerator b = new BagPieceGenerator(5L);
+        PieceGenerator c = new BagPieceGenerator(6L);
+        StringBuilder sa = new StringBuilder();
+        StringBuilder sb = new StringBuilder();
+        StringBuilder sc = new StringBuilder();
+        for (int i = 0; i < 70; i++) {
+            sa.append(a.nextKind());
+            sb.append(b.nextKind());
+            sc.append(c.nextKind());
+        }
+        assertEquals(sa.toString(), sb.toString());
+        assertNotEquals(sa.toString(), sc.toString());
+    }
+
+    @Test
+    @DisplayName("같은 시드의 두 엔진은 같은 조각 순서로 게임을 시작함")
+    void testEnginesShareSequenceFromSeed() {
+        GameCore host = newCore(42L);
+        GameCore client = newCore(42L);
+        host.startNewGame();
+        client.startNewGame();
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(host.getCurrent().getKind(), client.getCurrent().getKind());
+            assertEquals(host.getNext().getKind(), client.getNext().getKind());
+            host.apply(GameCore.Command.HARD_DROP);
+            client.apply(GameCore.Command.HARD_DROP);
+            host.tick(GameCore.LINE_CLEAR_DELAY_NANOS);
+            client.tick(GameCore.LINE_CLEAR_DELAY_NANOS);
+            if (host.isGameOver()) break;
+        }
+        assertEquals(42L, host.getSeed());
+    }
+
+    @Test
+    @DisplayName("GameCore에 7-bag 생성기를 지정할 수 있음")
+    void testCoreWithBagGenerator() {
+        GameCore core =
+                new GameCore(
+                        new Board(10, 20),
+                        new GameCoreTestListener(),
+                        ScoreBoard.ScoreEntry.Mode.NORMAL,
+                        new BagPieceGenerator(3L));
+        Set<Tetromino.Kind> seen = EnumSet.noneOf(Tetromino.Kind.class);
+        for (int i = 0; i < 7; i++) seen.add(core.generateTestPiece().getKind());
+
+        assertEquals(7, seen.size(), "첫 7개 조각은 모두 다른 종류여야 함");
+    }
+
+    private static GameCore newCore(long seed) {
+        return new GameCore(
+                new Board(10, 20),
+                new GameCoreTestListener(),
+                ScoreBoard.ScoreEntry.Mode.NORMAL,
+                seed);
+    }
+
+    private static class GameCoreTestListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino tetromino, int px, int py) {}
+
+        @Override
+        public void onLinesCleared(int lines) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+
+        @Override
+        public void onScoreChanged(int score) {}
+    }
+}
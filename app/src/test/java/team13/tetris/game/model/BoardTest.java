@@ -3,6 +3,7 @@ package team13.tetris.game.model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
@@ -714,4 +715,155 @@ public class BoardTest {
         assertEquals(col2_18_first, board.getCell(2, 18), "연속 중력 적용 후 결과가 다름");
         assertEquals(col7_19_first, board.getCell(7, 19), "연속 중력 적용 후 결과가 다름");
     }
+
+    @Test
+    @DisplayName("행 비트마스크가 셀 점유 상태와 일치해야 함")
+    void testRowMaskTracksCells() {
+        board.setCell(0, 19, 1);
+        board.setCell(3, 19, 2);
+        board.setCell(9, 19, -1); // 플래시 마커도 점유로 간주
+        assertEquals(0b1000001001L, board.getRowMask(19));
+
+        board.setCell(3, 19, 0);
+        assertEquals(0b1000000001L, board.getRowMask(19));
+        assertEquals(0L, board.getRowMask(0));
+
+        // 범위를 벗어난 행은 꽉 찬 행으로 간주
+        assertEquals(board.getFullRowMask(), board.getRowMask(-1));
+        assertEquals(board.getFullRowMask(), board.getRowMask(20));
+    }
+
+    @Test
+    @DisplayName("라인 제거와 중력 적용 후에도 행 비트마스크가 유지되어야 함")
+    void testRowMaskAfterClearAndGravity() {
+        board.fillLineWith(19, 1);
+        board.setCell(4, 18, 3);
+        board.clearFullLines();
+        assertEquals(1L << 4, board.getRowMask(19));
+        assertEquals(0L, board.getRowMask(18));
+
+        board.setCell(7, 2, 5);
+        board.applyGravity();
+        assertEquals((1L << 4) | (1L << 7), board.getRowMask(19));
+        assertEquals(0L, board.getRowMask(2));
+    }
+
+    @Test
+    @DisplayName("비트마스크 fits는 2차원 배열 fits와 같은 결과를 반환해야 함")
+    void testFitsWithRowMasks() {
+        int[][] shape = {{0, 1, 0, 0}, {1, 1, 1, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}};
+        long[] masks = {0b0010L, 0b0111L, 0L, 0L};
+        board.setCell(5, 10, 1);
+
+        for (int py = -2; py < 22; py++) {
+            for (int px = -3; px < 12; px++) {
+                assertEquals(
+                        board.fits(shape, px, py),
+                        board.fits(masks, px, py),
+                        "px=" + px + ", py=" + py);
+            }
+        }
+        assertFalse(board.fits(masks, 4, 9)); // (5,10)과 충돌
+        assertTrue(board.fits(masks, 0, 0));
+        assertFalse(board.fits(masks, -1, 0)); // 왼쪽 벽
+        assertFalse(board.fits(masks, 8, 0)); // 오른쪽 벽
+    }
+
+    @Test
+    @DisplayName("64열 보드까지 지원하고 그보다 넓으면 예외가 발생해야 함")
+    void testMaxBoardWidth() {
+        Board wide = new Board(Board.MAX_WIDTH, 4);
+        for (int x = 0; x < Board.MAX_WIDTH; x++) wide.setCell(x, 3, 1);
+        assertEquals(1, wide.clearFullLines());
+        assertTrue(wide.fits(new long[] {1L}, Board.MAX_WIDTH - 1, 3));
+        assertFalse(wide.fits(new long[] {0b11L}, Board.MAX_WIDTH - 1, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> new Board(Board.MAX_WIDTH + 1, 4));
+    }
+
+    // 무작위 연산 하나를 적용 (해시 속성 테스트용)
+    private static void applyRandomOperation(Board b, Random random) {
+        String[] itemTypes = {"COPY", "LINE_CLEAR", "WEIGHT", "GRAVITY", "SPLIT"};
+        int[] values = {0, -1, 1, 2, 3, 4, 5, 6, 7, 105, 230, 1000};
+        int x = random.nextInt(b.getWidth() + 2) - 1;
+        int y = random.nextInt(b.getHeight() + 2) - 1;
+        switch (random.nextInt(9)) {
+            case 0, 1 -> b.setCell(x, y, values[random.nextInt(values.length)]);
+            case 2, 3 -> {
+                Tetromino piece = new Tetromino(Tetromino.Kind.values()[random.nextInt(7)]);
+                b.placePiece(piece.getShapeView(), x - 1, y - 1, piece.getId());
+            }
+            case 4 -> {
+                Tetromino piece = new Tetromino(Tetromino.Kind.values()[random.nextInt(7)]);
+                b.placeItemPiece(
+                        piece.getShapeView(),
+                        x - 1,
+                        y - 1,
+                        piece.getId(),
+                        random.nextInt(4),
+                        itemTypes[random.nextInt(itemTypes.length)]);
+            }
+            case 5 -> b.fillLineWith(y, random.nextBoolean() ? 0 : values[random.nextInt(12)]);
+            case 6 -> b.clearFullLines(() -> {});
+            case 7 -> b.applyGravity();
+            default -> {
+                // 아래 몇 줄을 거의 채워서 줄 삭제가 자주 일어나게 함
+                for (int c = 0; c < b.getWidth(); c++) {
+                    if (c != x) b.setCell(c, b.getHeight() - 1 - random.nextInt(3), 8);
+                }
+                if (random.nextInt(10) == 0) b.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("해시: 어떤 연산 순서 뒤에도 처음부터 다시 계산한 값과 같음")
+    void testHashMatchesRecomputationAfterRandomOperations() {
+        for (long seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            Board b = new Board(6 + random.nextInt(5), 8 + random.nextInt(13));
+            for (int step = 0; step < 400; step++) {
+                applyRandomOperation(b, random);
+                assertEquals(
+                        Board.computeHash(b.snapshot()),
+                        b.getHash(),
+                        "seed " + seed + ", step " + step);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("해시: 빈 보드는 0, 셀 값이 같으면 만든 순서와 관계없이 같음")
+    void testHashDependsOnlyOnCells() {
+        assertEquals(0L, board.getHash());
+
+        Board other = new Board(10, 20);
+        board.setCell(1, 19, 3);
+        board.setCell(2, 19, 4);
+        other.setCell(2, 19, 4);
+        other.setCell(5, 5, 7);
+        other.setCell(1, 19, 3);
+        other.setCell(5, 5, 0);
+        assertEquals(board.getHash(), other.getHash());
+
+        other.setCell(1, 19, 5); // 같은 칸, 다른 값
+        assertNotEquals(board.getHash(), other.getHash());
+
+        board.clear();
+        assertEquals(0L, board.getHash());
+    }
+
+    @Test
+    @DisplayName("해시: 줄 삭제로 내려온 보드는 같은 모양으로 직접 만든 보드와 같음")
+    void testHashAfterLineClear() {
+        for (int x = 0; x < 10; x++) board.setCell(x, 19, 1);
+        board.setCell(3, 18, 2);
+        board.setCell(4, 17, 105);
+        assertEquals(1, board.clearFullLines());
+
+        Board expected = new Board(10, 20);
+        expected.setCell(3, 19, 2);
+        expected.setCell(4, 18, 105);
+        assertEquals(expected.getHash(), board.getHash());
+    }
 }
@@ -681,4 +681,78 @@ public class TetrominoTest {
         Tetromino weightItem = Tetromino.item(Kind.WEIGHT, 3, ItemType.WEIGHT, 0);
         assertEquals(3, weightItem.getRotationIndex());
     }
+
+    @Test
+    @DisplayName("ShapeView는 모든 Kind x 회전에 대해 getShape()와 같은 모양을 나타내야 함")
+    void testShapeViewMatchesShape() {
+        for (Kind kind : Kind.values()) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                Tetromino t = new Tetromino(kind, rotation);
+                int[][] shape = t.getShape();
+                Tetromino.ShapeView view = t.getShapeView();
+
+                assertEquals(shape.length, view.getRows());
+                assertEquals(shape[0].length, view.getCols());
+
+                int index = 0;
+                for (int r = 0; r < shape.length; r++) {
+                    long mask = 0L;
+                    for (int c = 0; c < shape[r].length; c++) {
+                        assertEquals(shape[r][c] != 0, view.isFilled(r, c));
+                        if (shape[r][c] != 0) {
+                            mask |= 1L << c;
+                            // 셀 목록은 행 우선 순서 (아이템 blockIndex와 같은 순서)
+                            assertEquals(r, view.getCellRow(index));
+                            assertEquals(c, view.getCellCol(index));
+                            index++;
+                        }
+                    }
+                    assertEquals(mask, view.getRowMask(r), kind + " r" + rotation + " row " + r);
+                }
+                assertEquals(index, view.getCellCount());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ShapeView는 Kind별로 미리 계산되어 같은 인스턴스를 재사용해야 함")
+    void testShapeViewIsShared() {
+        Tetromino a = new Tetromino(Kind.T, 1);
+        Tetromino b = new Tetromino(Kind.T, 0).rotateClockwise();
+        assertSame(a.getShapeView(), b.getShapeView());
+        assertSame(Kind.T.getView(1), a.getShapeView());
+        assertSame(Kind.T.getView(5), Kind.T.getView(1));
+    }
+
+    @Test
+    @DisplayName("ShapeView의 바운딩 박스가 실제 블록 영역과 일치해야 함")
+    void testShapeViewBoundingBox() {
+        Tetromino.ShapeView i0 = Kind.I.getView(0);
+        assertEquals(1, i0.getMinRow());
+        assertEquals(1, i0.getMaxRow());
+        assertEquals(0, i0.getMinCol());
+        assertEquals(3, i0.getMaxCol());
+        assertEquals(1, i0.getBoxHeight());
+        assertEquals(4, i0.getBoxWidth());
+
+        Tetromino.ShapeView o = Kind.O.getView(0);
+        assertEquals(2, o.getBoxHeight());
+        assertEquals(2, o.getBoxWidth());
+        assertEquals(1, o.getMinCol());
+    }
+
+    @Test
+    @DisplayName("raw shape Tetromino도 ShapeView를 제공해야 함")
+    void testShapeViewForRawShape() {
+        Tetromino raw = new Tetromino(9, new int[][] {{1, 0}, {1, 1}, {0, 1}});
+        Tetromino.ShapeView view = raw.getShapeView();
+        assertEquals(3, view.getRows());
+        assertEquals(2, view.getCols());
+        assertEquals(4, view.getCellCount());
+        assertEquals(0b01L, view.getRowMask(0));
+        assertEquals(0b11L, view.getRowMask(1));
+        assertEquals(0b10L, view.getRowMask(2));
+        assertEquals(3, raw.getHeight());
+        assertEquals(2, raw.getWidth());
+    }
 }
@@ -0,0 +1,204 @@
+package team13.tetris.game.sim;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team13.tetris.data.ScoreBoard.ScoreEntry.Mode;
+
+// SelfPlaySimulator 테스트: 재현성, 종료 조건, 정책 차이, 아이템 모드, 대전 모드, 분포 집계, 결과 파일
+@DisplayName("SelfPlaySimulator 테스트")
+public class SelfPlaySimulatorTest {
+
+    @TempDir Path tempDir;
+
+    private static void assertSameStats(ModeStats a, ModeStats b) {
+        assertEquals(a.getGames(), b.getGames());
+        assertEquals(a.getSurvivalMillis().getSum(), b.getSurvivalMillis().getSum());
+        assertEquals(a.getScore().getSum(), b.getScore().getSum());
+        assertEquals(a.getLines().getSum(), b.getLines().getSum());
+        assertEquals(a.getPieces().getSum(), b.getPieces().getSum());
+        assertEquals(a.getGarbageLines().getSum(), b.getGarbageLines().getSum());
+        for (int n = 1; n <= 4; n++) assertEquals(a.getClears(n), b.getClears(n));
+    }
+
+    @Test
+    @DisplayName("같은 시드면 스레드 수와 관계없이 같은 결과")
+    void testDeterministicAcrossThreadCounts() {
+        SelfPlaySimulator simulator = new SelfPlaySimulator(PlacementPolicies.byName("random"));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            ModeStats a = simulator.run(Mode.NORMAL, 100, 42L, single);
+            ModeStats b = simulator.run(Mode.NORMAL, 100, 42L, quad);
+            assertEquals(100, a.getGames());
+            assertSameStats(a, b);
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("게임은 게임오버 또는 조각 수 한도에서 끝남")
+    void testGameEndsAtGameOverOrPieceCap() {
+        SelfPlaySimulator random = new SelfPlaySimulator(PlacementPolicies.byName("random"));
+        GameResult over = random.playGame(Mode.NORMAL, 7L);
+        assertFalse(over.capped());
+        assertTrue(over.pieces() > 0);
+        assertTrue(over.survivalNanos() > 0);
+
+        SelfPlaySimulator capped =
+                new SelfPlaySimulator(
+                        PlacementPolicies.byName("greedy"),
+                        30,
+                        SelfPlaySimulator.DEFAULT_THINK_NANOS,
+                        null);
+        GameResult result = capped.playGame(Mode.EASY, 7L);
+        assertTrue(result.capped());
+        assertEquals(30, result.pieces());
+    }
+
+    @Test
+    @DisplayName("greedy 정책은 random 정책보다 줄을 많이 지움")
+    void testGreedyClearsMoreLinesThanRandom() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ModeStats greedy =
+                    new SelfPlaySimulator(PlacementPolicies.byName("greedy"))
+                            .run(Mode.NORMAL, 20, 1L, pool);
+            ModeStats random =
+                    new SelfPlaySimulator(PlacementPolicies.byName("random"))
+                            .run(Mode.NORMAL, 20, 1L, pool);
+            assertTrue(greedy.getLines().mean() > random.getLines().mean() * 5);
+            assertTrue(greedy.getSurvivalMillis().mean() > random.getSurvivalMillis().mean());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("아이템 모드에서만 아이템 조각이 나옴")
+    void testItemPiecesOnlyInItemMode() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SelfPlaySimulator simulator = new SelfPlaySimulator(PlacementPolicies.byName("greedy"));
+            assertTrue(simulator.run(Mode.ITEM, 10, 3L, pool).getItemPieces() > 0);
+            assertEquals(0, simulator.run(Mode.NORMAL, 10, 3L, pool).getItemPieces());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대전은 스레드 수와 관계없이 같은 결과")
+    void testVersusDeterministicAcrossThreadCounts() {
+        SelfPlaySimulator simulator = new SelfPlaySimulator(PlacementPolicies.byName("greedy"));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            ModeStats a = simulator.run(Mode.VERSUS, 40, 5L, single);
+            ModeStats b = simulator.run(Mode.VERSUS, 40, 5L, quad);
+            assertTrue(a.getGarbageLines().getSum() > 0);
+            assertSameStats(a, b);
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대전 모드는 상대 공격 줄을 받아 혼자 할 때보다 빨리 끝남")
+    void testVersusReceivesGarbage() {
+        SelfPlaySimulator simulator =
+                new SelfPlaySimulator(
+                        PlacementPolicies.byName("bot"),
+                        1000,
+                        SelfPlaySimulator.DEFAULT_THINK_NANOS,
+                        null);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ModeStats solo = simulator.run(Mode.NORMAL, 4, 2L, pool);
+            ModeStats versus = simulator.run(Mode.VERSUS, 4, 2L, pool);
+            assertEquals(0, solo.getGarbageLines().getSum());
+            assertTrue(versus.getGarbageLines().getSum() > 0);
+            assertTrue(versus.getPieces().mean() < solo.getPieces().mean());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("타이머 모드 대전은 가상 시간 2분에서 끝남")
+    void testTimerMatchEndsAtTimeLimit() {
+        // 생각 시간을 늘려 봇끼리 2분 넘게 버티는 대전
+        SelfPlaySimulator simulator =
+                new SelfPlaySimulator(PlacementPolicies.byName("bot"), 5000, 600_000_000L, null);
+        GameResult versus = simulator.playGame(Mode.VERSUS, 1L);
+        assertTrue(versus.survivalNanos() > SelfPlaySimulator.TIMER_LIMIT_NANOS);
+
+        GameResult timer = simulator.playGame(Mode.TIMER, 1L);
+        assertEquals(SelfPlaySimulator.TIMER_LIMIT_NANOS, timer.survivalNanos());
+        assertTrue(timer.capped());
+        assertTrue(timer.pieces() < versus.pieces());
+    }
+
+    @Test
+    @DisplayName("분포: 분위수, 평균, 합치기")
+    void testDistribution() {
+        Distribution a = new Distribution(10);
+        Distribution b = new Distribution(10);
+        for (int v = 0; v < 50; v++) a.add(v);
+        for (int v = 50; v < 100; v++) b.add(v);
+        a.merge(b);
+
+        assertEquals(100, a.getCount());
+        assertEquals(49.5, a.mean(), 1e-9);
+        assertEquals(0, a.getMin());
+        assertEquals(99, a.getMax());
+        assertEquals(40, a.percentile(0.5)); // 50번째 값(49)이 든 구간 [40, 50)
+        assertEquals(90, a.percentile(0.99));
+        assertEquals(10, a.getBucket(3));
+        assertEquals(10, a.getBucketCount());
+        assertThrows(IllegalArgumentException.class, () -> a.merge(new Distribution(5)));
+    }
+
+    @Test
+    @DisplayName("결과를 JSON과 CSV로 저장")
+    void testWriteReports() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<ModeStats> results;
+        try {
+            results =
+                    new SelfPlaySimulator(PlacementPolicies.byName("random")).runAll(5, 9L, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(Mode.values().length, results.size());
+        SimulationReport.Header header = new SimulationReport.Header("random", 9L, 5, 2, 1, null);
+
+        Path json = tempDir.resolve("out/results.json");
+        SimulationReport.write(json, header, results);
+        JsonObject root = JsonParser.parseString(Files.readString(json)).getAsJsonObject();
+        assertEquals("random", root.get("policy").getAsString());
+        assertEquals(Mode.values().length, root.getAsJsonArray("modes").size());
+        JsonObject first = root.getAsJsonArray("modes").get(0).getAsJsonObject();
+        assertEquals(5, first.get("games").getAsInt());
+        assertTrue(first.getAsJsonObject("score").has("p50"));
+
+        Path csv = tempDir.resolve("results.csv");
+        SimulationReport.write(csv, header, results);
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(Mode.values().length + 1, lines.size());
+        assertTrue(lines.get(0).startsWith("mode,games,"));
+        assertTrue(lines.get(1).startsWith(Mode.values()[0].name() + ",5,"));
+    }
+}
@@ -0,0 +1,57 @@
+package team13.tetris.network;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// NetworkThreads 테스트: 모드 선택과 실행 중인 JDK에 따른 대체 동작 검증
+@DisplayName("NetworkThreads 테스트")
+class NetworkThreadsTest {
+
+    @AfterEach
+    void tearDown() {
+        NetworkThreads.setMode(NetworkThreads.Mode.PLATFORM);
+    }
+
+    @Test
+    @DisplayName("기본 모드는 플랫폼 스레드")
+    void testDefaultMode() {
+        assertEquals(NetworkThreads.Mode.PLATFORM, NetworkThreads.getMode());
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 지원하지 않는 JDK에서는 플랫폼 모드로 대체")
+    void testVirtualModeFallback() {
+        NetworkThreads.setMode(NetworkThreads.Mode.VIRTUAL);
+
+        NetworkThreads.Mode expected =
+                NetworkThreads.isVirtualAvailable()
+                        ? NetworkThreads.Mode.VIRTUAL
+                        : NetworkThreads.Mode.PLATFORM;
+        assertEquals(expected, NetworkThreads.getMode());
+    }
+
+    @Test
+    @DisplayName("두 모드 모두 executor와 일회성 작업이 실행됨")
+    void testExecutorsRunTasks() throws Exception {
+        for (NetworkThreads.Mode mode : NetworkThreads.Mode.values()) {
+            NetworkThreads.setMode(mode);
+            CountDownLatch done = new CountDownLatch(3);
+
+            ExecutorService perTask = NetworkThreads.newPerTaskExecutor("test");
+            ExecutorService single = NetworkThreads.newSingleTaskExecutor("test");
+            perTask.execute(done::countDown);
+            single.execute(done::countDown);
+            NetworkThreads.start("test", done::countDown);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS), mode + " 모드에서 작업이 실행되어야 함");
+            perTask.shutdown();
+            single.shutdown();
+        }
+    }
+}
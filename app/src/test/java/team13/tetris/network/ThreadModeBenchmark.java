@@ -0,0 +1,165 @@
+package team13.tetris.network;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import team13.tetris.network.protocol.ChannelNegotiator;
+import team13.tetris.network.protocol.ConnectionMessage;
+import team13.tetris.network.protocol.MessageChannel;
+import team13.tetris.network.protocol.NetworkMessage;
+
+// 플랫폼/가상 스레드 모드 비교: 블로킹 서버에 소켓 N개를 붙인 뒤 연결당 메모리와 왕복 지연을 측정
+// 서버 쪽은 TetrisServer와 같은 구조(accept 루프 + 연결마다 수신 루프 작업)로 NetworkThreads executor를 씀
+// 실행: ./gradlew threadModeBenchmark -Pmode=virtual -Pconnections=1000 (가상 모드는 JDK 21 이상)
+public class ThreadModeBenchmark {
+
+    private static final int ROUNDS = 20;
+    private static final int DRIVERS = 4;
+
+    public static void main(String[] args) throws Exception {
+        NetworkThreads.Mode mode =
+                args.length > 0
+                        ? NetworkThreads.Mode.valueOf(args[0].toUpperCase())
+                        : NetworkThreads.Mode.PLATFORM;
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        NetworkThreads.setMode(mode);
+        System.out.println(
+                "mode="
+                        + NetworkThreads.getMode()
+                        + " connections="
+                        + connections
+                        + " java="
+                        + System.getProperty("java.version"));
+
+        ExecutorService serverThreads = NetworkThreads.newPerTaskExecutor("bench-server");
+        CountDownLatch ready = new CountDownLatch(connections);
+        List<MessageChannel> clients = new ArrayList<>(connections);
+        try (ServerSocket serverSocket = new ServerSocket(0, connections)) {
+            serverThreads.submit(() -> acceptLoop(serverSocket, serverThreads, ready));
+
+            long rssBefore = residentBytes();
+            long heapBefore = usedHeap();
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            for (int i = 0; i < connections; i++) {
+                Socket socket = new Socket("localhost", serverSocket.getLocalPort());
+                clients.add(
+                        ChannelNegotiator.client(
+                                new BufferedInputStream(socket.getInputStream()),
+                                new BufferedOutputStream(socket.getOutputStream())));
+            }
+            ready.await(30, TimeUnit.SECONDS);
+            Thread.sleep(500); // 모든 수신 루프가 첫 receive에서 블록될 때까지 대기
+
+            long rssPerConn = (residentBytes() - rssBefore) / connections;
+            long heapPerConn = (usedHeap() - heapBefore) / connections;
+            int threadsAdded = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+            System.out.printf(
+                    "memory per connection: rss %.1f KB, heap %.1f KB, platform threads +%d%n",
+                    rssPerConn / 1024.0, heapPerConn / 1024.0, threadsAdded);
+
+            long[] latencies = measureLatency(clients);
+            Arrays.sort(latencies);
+            System.out.printf(
+                    "round trip: p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                    latencies[latencies.length / 2] / 1000.0,
+                    latencies[latencies.length * 99 / 100] / 1000.0,
+                    latencies[latencies.length - 1] / 1000.0);
+        } finally {
+            for (MessageChannel client : clients) client.close();
+            serverThreads.shutdownNow();
+        }
+    }
+
+    // TetrisServer.acceptClients와 같은 방식: 연결마다 executor에 수신 루프 작업을 넘김
+    private static void acceptLoop(
+            ServerSocket serverSocket, ExecutorService serverThreads, CountDownLatch ready) {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                serverThreads.submit(() -> echoLoop(socket, ready));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private static void echoLoop(Socket socket, CountDownLatch ready) {
+        try (socket) {
+            MessageChannel channel =
+                    ChannelNegotiator.server(
+                            new BufferedInputStream(socket.getInputStream()),
+                            new BufferedOutputStream(socket.getOutputStream()));
+            ready.countDown();
+            while (true) {
+                NetworkMessage message = channel.receive();
+                channel.send(message);
+            }
+        } catch (Exception e) {
+            // 클라이언트 종료
+        }
+    }
+
+    // 드라이버 스레드 몇 개가 연결들을 나눠 맡아 핑을 보내고 응답까지의 시간을 잼
+    private static long[] measureLatency(List<MessageChannel> clients) throws Exception {
+        ExecutorService drivers = Executors.newFixedThreadPool(DRIVERS);
+        List<Future<long[]>> parts = new ArrayList<>();
+        for (int d = 0; d < DRIVERS; d++) {
+            int first = d;
+            parts.add(
+                    drivers.submit(
+                            () -> {
+                                List<Long> samples = new ArrayList<>();
+                                for (int round = 0; round < ROUNDS; round++) {
+                                    for (int i = first; i < clients.size(); i += DRIVERS) {
+                                        MessageChannel client = clients.get(i);
+                                        long start = System.nanoTime();
+                                        client.send(ConnectionMessage.createPlayerReady("p" + i));
+                                        client.receive();
+                                        samples.add(System.nanoTime() - start);
+                                    }
+                                }
+                                return samples.stream().mapToLong(Long::longValue).toArray();
+                            }));
+        }
+        List<Long> all = new ArrayList<>();
+        for (Future<long[]> part : parts) {
+            for (long sample : part.get()) all.add(sample);
+        }
+        drivers.shutdown();
+        return all.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 프로세스 상주 메모리 (Linux /proc 기준, 없으면 0)
+    private static long residentBytes() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 지원하지 않는 OS
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,252 @@
+package team13.tetris.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// BinaryCodec 테스트: 모든 메시지 종류의 왕복 변환과 손상된 프레임 처리 검증
+@DisplayName("BinaryCodec 테스트")
+class BinaryCodecTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T extends NetworkMessage> T roundTrip(T message) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryCodec.writeFrame(out, message);
+        NetworkMessage decoded = BinaryCodec.readFrame(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(message.getClass(), decoded.getClass());
+        assertEquals(message.getType(), decoded.getType());
+        assertEquals(message.getSenderId(), decoded.getSenderId());
+        assertEquals(message.getTimestamp(), decoded.getTimestamp(), "타임스탬프도 복원되어야 함");
+        assertEquals(message, decoded);
+        return (T) decoded;
+    }
+
+    @Test
+    @DisplayName("ConnectionMessage 왕복 (대상, 시드 포함)")
+    void testConnectionMessage() throws IOException {
+        ConnectionMessage accepted = ConnectionMessage.createConnectionAccepted("server", "p1");
+        ConnectionMessage decoded = roundTrip(accepted);
+        assertEquals("Connection accepted", decoded.getMessage());
+        assertEquals("p1", decoded.getTargetPlayerId());
+
+        ConnectionMessage start = roundTrip(ConnectionMessage.createGameStart("host", -42L));
+        assertEquals(-42L, start.getSeed());
+        assertNull(start.getTargetPlayerId());
+
+        ConnectionMessage korean = roundTrip(ConnectionMessage.createGameOver("호스트", "연결 끊김"));
+        assertEquals("연결 끊김", korean.getMessage());
+    }
+
+    @Test
+    @DisplayName("AttackMessage 왕복 (패턴 null 포함)")
+    void testAttackMessage() throws IOException {
+        int[][] pattern = {{1000, 1000, 0, 1000}, {0, 1000, 1000, 1000}};
+        AttackMessage decoded = roundTrip(new AttackMessage("p1", 2, 2, pattern));
+        assertArrayEquals(pattern, decoded.getAttackPattern());
+        assertEquals(2, decoded.getAttackLines());
+
+        AttackMessage standard = roundTrip(AttackMessage.createStandardAttack("p1", 3));
+        assertNull(standard.getAttackPattern());
+        assertEquals(3, standard.getSourceLines());
+    }
+
+    @Test
+    @DisplayName("GameModeMessage, SystemMessage 왕복")
+    void testModeAndSystemMessages() throws IOException {
+        assertEquals(
+                GameModeMessage.GameMode.TIMER,
+                roundTrip(new GameModeMessage("server", GameModeMessage.GameMode.TIMER))
+                        .getGameMode());
+
+        SystemMessage warning = roundTrip(SystemMessage.createWarning("server", "lag"));
+        assertEquals("lag", warning.getMessage());
+        assertEquals(SystemMessage.SystemLevel.WARNING, warning.getLevel());
+    }
+
+    @Test
+    @DisplayName("BoardUpdateMessage 키프레임/델타/블록 이동 왕복")
+    void testBoardUpdateEncodings() throws IOException {
+        int[][] board = new int[20][10];
+        board[19] = new int[] {1, 2, 3, 4, 5, 6, 7, 1000, 0, -3};
+        Queue<int[][]> incoming = new LinkedList<>();
+        incoming.add(new int[][] {{1000, 0, 1000}});
+
+        BoardUpdateMessage full =
+                roundTrip(
+                        new BoardUpdateMessage(
+                                "p1",
+                                board,
+                                4,
+                                -1,
+                                2,
+                                3,
+                                true,
+                                "COPY",
+                                2,
+                                5,
+                                false,
+                                null,
+                                -1,
+                                incoming,
+                                12345,
+                                17,
+                                0));
+        assertArrayEquals(board, full.getBoardState());
+        assertEquals(-1, full.getCurrentPieceY());
+        assertEquals("COPY", full.getCurrentPieceItemType());
+        assertNull(full.getNextPieceItemType());
+        assertEquals(1, full.getIncomingBlocks().size());
+        assertArrayEquals(incoming.peek(), full.getIncomingBlocks().peek());
+
+        BoardUpdateEncoder encoder = new BoardUpdateEncoder("p1");
+        encoder.encode(snapshot(board, 4, 0, 0, 0), incoming);
+
+        BoardUpdateMessage moved = roundTrip(encoder.encode(snapshot(board, 5, 1, 1, 0), incoming));
+        assertEquals(BoardUpdateMessage.Encoding.PIECE, moved.getEncoding());
+        assertEquals(5, moved.getCurrentPieceX());
+        assertEquals(1, moved.getCurrentPieceRotation());
+        assertEquals(1, moved.getBaseSequence());
+
+        board[18][0] = 9;
+        BoardUpdateMessage delta =
+                roundTrip(encoder.encode(snapshot(board, 5, 1, 1, 40), incoming));
+        assertEquals(BoardUpdateMessage.Encoding.DELTA, delta.getEncoding());
+        assertArrayEquals(new int[] {18}, delta.getChangedRows());
+        assertEquals(9, delta.getChangedRowData()[0][0]);
+        assertFalse(delta.hasIncomingBlocks());
+        assertEquals(40, delta.getScore());
+    }
+
+    private static BoardUpdateMessage.Snapshot snapshot(
+            int[][] board, int x, int y, int rotation, int score) {
+        return new BoardUpdateMessage.Snapshot(
+                board, x, y, 2, rotation, false, null, -1, 3, false, null, -1, score, 0, 0);
+    }
+
+    @Test
+    @DisplayName("여러 프레임을 한 스트림에서 순서대로 읽음")
+    void testMultipleFrames() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryCodec.writeFrame(out, ConnectionMessage.createPlayerReady("a"));
+        BinaryCodec.writeFrame(out, ConnectionMessage.createPlayerReady("b"));
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        assertEquals("a", BinaryCodec.readFrame(in).getSenderId());
+        assertEquals("b", BinaryCodec.readFrame(in).getSenderId());
+        assertThrows(EOFException.class, () -> BinaryCodec.readFrame(in));
+    }
+
+    @Test
+    @DisplayName("ByteBuffer 프레임은 다 모일 때까지 읽지 않음")
+    void testPartialByteBufferFrames() throws IOException {
+        ByteBuffer first = BinaryCodec.encodeFrame(ConnectionMessage.createPlayerReady("p1"));
+        ByteBuffer second = BinaryCodec.encodeFrame(AttackMessage.createStandardAttack("p2", 3));
+        ByteBuffer buf = ByteBuffer.allocate(first.remaining() + second.remaining());
+        buf.put(first.duplicate()).put(second.duplicate()).flip();
+
+        // 한 바이트씩 도착하는 상황: 프레임이 끝나기 전에는 null이고 위치가 그대로여야 함
+        ByteBuffer partial = buf.duplicate();
+        partial.limit(first.remaining() - 1);
+        assertNull(BinaryCodec.readFrame(partial));
+        assertEquals(0, partial.position());
+
+        assertEquals(MessageType.PLAYER_READY, BinaryCodec.readFrame(buf).getType());
+        assertEquals(MessageType.ATTACK_SENT, BinaryCodec.readFrame(buf).getType());
+        assertNull(BinaryCodec.readFrame(buf));
+    }
+
+    @Test
+    @DisplayName("손상된 프레임은 IOException으로 거부됨")
+    void testMalformedFrames() throws IOException {
+        byte[] body = BinaryCodec.encode(new AttackMessage("p1", 2, 2, new int[][] {{1, 2}}));
+
+        // 잘린 본문
+        byte[] truncated = Arrays.copyOf(body, body.length - 1);
+        assertThrows(IOException.class, () -> BinaryCodec.decode(truncated));
+
+        // 알 수 없는 태그
+        byte[] badTag = body.clone();
+        badTag[0] = (byte) 0x7F;
+        assertThrows(IOException.class, () -> BinaryCodec.decode(badTag));
+
+        // 생성자 검증을 통과하지 못하는 값 (sourceLines = 0)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(MessageType.ATTACK_SENT.ordinal());
+        out.write(new byte[] {3, 'p', '1', 0, 0, 0, 0});
+        assertThrows(IOException.class, () -> BinaryCodec.decode(out.toByteArray()));
+
+        // 최대 크기를 넘는 길이
+        byte[] hugeLength = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F};
+        assertThrows(
+                IOException.class,
+                () -> BinaryCodec.readFrame(new ByteArrayInputStream(hugeLength)));
+
+        // 남은 바이트보다 큰 배열 크기를 주장하는 경우
+        ByteArrayOutputStream grid = new ByteArrayOutputStream();
+        grid.write(MessageType.ATTACK_SENT.ordinal());
+        grid.write(new byte[] {3, 'p', '1', 0, 2, 2, (byte) 0xFF, (byte) 0xFF, 0x7F});
+        assertThrows(IOException.class, () -> BinaryCodec.decode(grid.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 varint는 잘라 읽지 않고 거부됨")
+    void testVarintOverflowRejected() throws IOException {
+        AttackMessage attack = new AttackMessage("p1", 2, 2, new int[][] {{1, 2}});
+        attack.setTimestamp(0);
+        byte[] body = BinaryCodec.encode(attack);
+        // [태그][3, 'p', '1'][타임스탬프 0][sourceLines 2]...
+        assertEquals(2, body[5]);
+        assertEquals(2, ((AttackMessage) BinaryCodec.decode(body)).getSourceLines());
+
+        // sourceLines를 0x8000000000000002 (10바이트, 음수 long)로 바꾸면 int로는 2가 됨
+        byte[] negative = {(byte) 0x82, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+            (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+        assertThrows(IOException.class, () -> BinaryCodec.decode(splice(body, 5, negative)));
+
+        // 33비트 값 0x100000002도 거부
+        byte[] wide = {(byte) 0x82, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10};
+        assertThrows(IOException.class, () -> BinaryCodec.decode(splice(body, 5, wide)));
+    }
+
+    // body[index]의 한 바이트를 replacement로 바꾼 새 배열
+    private static byte[] splice(byte[] body, int index, byte[] replacement) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(body, 0, index);
+        out.write(replacement, 0, replacement.length);
+        out.write(body, index + 1, body.length - index - 1);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("보드 메시지가 Java 직렬화보다 훨씬 작음")
+    void testSmallerThanSerialization() throws IOException {
+        int[][] board = new int[20][10];
+        for (int r = 10; r < 20; r++) {
+            for (int c = 0; c < 9; c++) board[r][c] = 1 + (r + c) % 7;
+        }
+        BoardUpdateMessage msg =
+                BoardUpdateMessage.keyframe(
+                        "Player1", 1, snapshot(board, 4, 0, 0, 1200), new LinkedList<>());
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(msg);
+        }
+        int binarySize = BinaryCodec.encode(msg).length;
+
+        assertTrue(
+                binarySize * 5 < serialized.size(),
+                "binary " + binarySize + "B, serialized " + serialized.size() + "B");
+    }
+}
@@ -0,0 +1,142 @@
+package team13.tetris.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.LinkedList;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// BoardUpdateEncoder/Decoder 테스트: 델타 인코딩 후 받는 쪽에서 같은 상태로 복원되는지 검증
+@DisplayName("BoardUpdateEncoder/Decoder 테스트")
+class BoardUpdateEncoderTest {
+
+    private BoardUpdateEncoder encoder;
+    private BoardUpdateDecoder decoder;
+    private int[][] board;
+    private Queue<int[][]> incoming;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new BoardUpdateEncoder("Player1");
+        decoder = new BoardUpdateDecoder();
+        board = new int[20][10];
+        incoming = new LinkedList<>();
+    }
+
+    private BoardUpdateMessage.Snapshot state(int x, int y, int rotation, int score) {
+        return new BoardUpdateMessage.Snapshot(
+                board, x, y, 2, rotation, false, null, -1, 3, false, null, -1, score, 0, 0);
+    }
+
+    @Test
+    @DisplayName("첫 프레임은 전체 보드를 담은 키프레임")
+    void testFirstFrameIsKeyframe() {
+        board[19][0] = 5;
+        BoardUpdateMessage msg = encoder.encode(state(4, 0, 0, 0), incoming);
+
+        assertEquals(BoardUpdateMessage.Encoding.FULL, msg.getEncoding());
+        assertEquals(1, msg.getSequence());
+        assertEquals(5, msg.getBoardState()[19][0]);
+    }
+
+    @Test
+    @DisplayName("블록 이동만 있으면 PIECE, 변화가 없으면 null")
+    void testPieceOnlyMove() {
+        encoder.encode(state(4, 0, 0, 0), incoming);
+
+        BoardUpdateMessage moved = encoder.encode(state(3, 0, 0, 0), incoming);
+        assertEquals(BoardUpdateMessage.Encoding.PIECE, moved.getEncoding());
+        assertEquals(1, moved.getBaseSequence());
+        assertNull(moved.getBoardState(), "PIECE는 보드를 담지 않아야 함");
+        assertFalse(moved.hasIncomingBlocks());
+
+        assertNull(encoder.encode(state(3, 0, 0, 0), incoming), "같은 상태는 보내지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("보드가 바뀌면 바뀐 줄만 DELTA로 전송")
+    void testDeltaContainsOnlyChangedRows() {
+        encoder.encode(state(4, 0, 0, 0), incoming);
+
+        board[18][2] = 7;
+        board[19][3] = 7;
+        BoardUpdateMessage delta = encoder.encode(state(4, 0, 0, 10), incoming);
+
+        assertEquals(BoardUpdateMessage.Encoding.DELTA, delta.getEncoding());
+        assertArrayEquals(new int[] {18, 19}, delta.getChangedRows());
+        assertEquals(7, delta.getChangedRowData()[0][2]);
+        assertFalse(delta.hasIncomingBlocks(), "큐가 그대로면 담지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("인코딩한 프레임을 순서대로 디코딩하면 원래 상태가 복원됨")
+    void testRoundTrip() {
+        assertNotNull(decoder.decode(encoder.encode(state(4, 0, 0, 0), incoming)));
+
+        board[19][0] = 1;
+        incoming.add(new int[][] {{1000, 0, 1000}});
+        BoardUpdateMessage restored = decoder.decode(encoder.encode(state(4, 1, 0, 5), incoming));
+        restored = decoder.decode(encoder.encode(state(5, 1, 1, 5), incoming));
+
+        assertEquals(1, restored.getBoardState()[19][0]);
+        assertEquals(5, restored.getCurrentPieceX());
+        assertEquals(1, restored.getCurrentPieceY());
+        assertEquals(1, restored.getCurrentPieceRotation());
+        assertEquals(2, restored.getCurrentPieceType(), "PIECE는 이전 블록 종류를 유지해야 함");
+        assertEquals(5, restored.getScore());
+        assertEquals(1, restored.getIncomingBlocks().size());
+    }
+
+    @Test
+    @DisplayName("기준 프레임이 맞지 않는 델타는 키프레임까지 무시됨")
+    void testGapWaitsForKeyframe() {
+        decoder.decode(encoder.encode(state(4, 0, 0, 0), incoming));
+        encoder.encode(state(3, 0, 0, 0), incoming); // 유실된 프레임
+
+        assertNull(decoder.decode(encoder.encode(state(2, 0, 0, 0), incoming)));
+
+        encoder.forceKeyframe();
+        BoardUpdateMessage key = decoder.decode(encoder.encode(state(2, 0, 0, 0), incoming));
+        assertNotNull(key);
+        assertEquals(2, key.getCurrentPieceX());
+    }
+
+    @Test
+    @DisplayName("KEYFRAME_INTERVAL 프레임마다 키프레임을 다시 보냄")
+    void testPeriodicKeyframe() {
+        encoder.encode(state(0, 0, 0, 0), incoming);
+        int keyframes = 0;
+        for (int i = 1; i <= BoardUpdateEncoder.KEYFRAME_INTERVAL * 2; i++) {
+            BoardUpdateMessage msg = encoder.encode(state(i % 2, i, 0, 0), incoming);
+            if (msg.isKeyframe()) keyframes++;
+        }
+        assertEquals(2, keyframes);
+    }
+
+    @Test
+    @DisplayName("블록 이동 메시지는 키프레임보다 훨씬 작게 직렬화됨")
+    void testPieceMessageIsSmall() throws IOException {
+        for (int r = 10; r < 20; r++) {
+            for (int c = 0; c < 9; c++) board[r][c] = 1;
+        }
+        BoardUpdateMessage key = encoder.encode(state(4, 0, 0, 0), incoming);
+        BoardUpdateMessage moved = encoder.encode(state(5, 0, 0, 0), incoming);
+
+        int keySize = serializedSize(key);
+        int pieceSize = serializedSize(moved);
+        assertTrue(pieceSize * 2 < keySize, "PIECE " + pieceSize + "B, FULL " + keySize + "B");
+    }
+
+    private static int serializedSize(Object obj) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(obj);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,137 @@
+package team13.tetris.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// ChannelNegotiator 테스트: 새/이전 버전 조합에서 전송 방식이 올바르게 정해지는지 검증
+@DisplayName("ChannelNegotiator 테스트")
+class ChannelNegotiatorTest {
+
+    private ServerSocket serverSocket;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket("localhost", serverSocket.getLocalPort());
+    }
+
+    @Test
+    @DisplayName("새 클라이언트와 새 서버는 바이너리 코덱으로 통신")
+    void testBinaryBothSides() throws Exception {
+        CompletableFuture<NetworkMessage> received =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try (Socket s = serverSocket.accept()) {
+                                MessageChannel server =
+                                        ChannelNegotiator.server(
+                                                new BufferedInputStream(s.getInputStream()),
+                                                new BufferedOutputStream(s.getOutputStream()));
+                                assertEquals("binary-v" + BinaryCodec.VERSION, server.getFormat());
+                                NetworkMessage request = server.receive();
+                                server.send(
+                                        ConnectionMessage.createConnectionAccepted("server", "p1"));
+                                return request;
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        try (Socket s = connect()) {
+            MessageChannel client =
+                    ChannelNegotiator.client(
+                            new BufferedInputStream(s.getInputStream()),
+                            new BufferedOutputStream(s.getOutputStream()));
+            assertTrue(client instanceof BinaryMessageChannel);
+            client.send(ConnectionMessage.createConnectionRequest("p1", "p1"));
+
+            NetworkMessage reply = client.receive();
+            assertEquals(MessageType.CONNECTION_ACCEPTED, reply.getType());
+        }
+        NetworkMessage request = received.get(5, TimeUnit.SECONDS);
+        assertEquals(MessageType.CONNECTION_REQUEST, request.getType());
+        assertEquals("p1", request.getSenderId());
+    }
+
+    @Test
+    @DisplayName("이전 버전 클라이언트(Java 직렬화)도 새 서버에 접속 가능")
+    void testLegacyClient() throws Exception {
+        CompletableFuture<String> format =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try (Socket s = serverSocket.accept()) {
+                                MessageChannel server =
+                                        ChannelNegotiator.server(
+                                                new BufferedInputStream(s.getInputStream()),
+                                                new BufferedOutputStream(s.getOutputStream()));
+                                NetworkMessage request = server.receive();
+                                server.send(
+                                        ConnectionMessage.createConnectionAccepted(
+                                                "server", request.getSenderId()));
+                                return server.getFormat();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+
+        // 이전 버전 클라이언트의 접속 순서를 그대로 재현
+        try (Socket s = connect()) {
+            ObjectOutputStream out = new ObjectOutputStream(s.getOutputStream());
+            out.flush();
+            ObjectInputStream in = new ObjectInputStream(s.getInputStream());
+            out.writeObject(ConnectionMessage.createConnectionRequest("old", "old"));
+            out.flush();
+
+            ConnectionMessage reply = (ConnectionMessage) in.readObject();
+            assertEquals(MessageType.CONNECTION_ACCEPTED, reply.getType());
+            assertEquals("old", reply.getTargetPlayerId());
+        }
+        assertEquals("java-serialization", format.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("이전 버전 서버를 만나면 LegacyPeerException")
+    void testLegacyServer() throws Exception {
+        CompletableFuture<Void> legacyServer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try (Socket s = serverSocket.accept()) {
+                                ObjectOutputStream out =
+                                        new ObjectOutputStream(s.getOutputStream());
+                                out.flush();
+                                s.getInputStream().read(); // 클라이언트가 닫을 때까지 대기
+                            } catch (IOException ignored) {
+                            }
+                        });
+
+        try (Socket s = connect()) {
+            assertThrows(
+                    ChannelNegotiator.LegacyPeerException.class,
+                    () ->
+                            ChannelNegotiator.client(
+                                    new BufferedInputStream(s.getInputStream()),
+                                    new BufferedOutputStream(s.getOutputStream())));
+        }
+        legacyServer.get(5, TimeUnit.SECONDS);
+    }
+}
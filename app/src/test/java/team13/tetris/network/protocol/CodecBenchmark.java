@@ -0,0 +1,100 @@
+package team13.tetris.network.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 바이너리 코덱과 Java 직렬화의 인코딩/디코딩 처리량과 메시지 크기를 비교하는 간단한 벤치마크
+// 실행: ./gradlew codecBenchmark
+public class CodecBenchmark {
+
+    private static final int MESSAGES = 2_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        List<NetworkMessage> messages = sampleMessages(new Random(13));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.println("round " + round);
+            report("binary", runBinary(messages));
+            report("java-serialization", runSerialization(messages));
+        }
+    }
+
+    // 실제 대전과 비슷하게 키프레임 1개 뒤에 델타와 블록 이동이 이어지는 메시지 목록
+    private static List<NetworkMessage> sampleMessages(Random random) {
+        BoardUpdateEncoder encoder = new BoardUpdateEncoder("bench");
+        int[][] board = new int[20][10];
+        List<NetworkMessage> messages = new ArrayList<>(MESSAGES);
+        int x = 4;
+        int y = 0;
+        int score = 0;
+        while (messages.size() < MESSAGES) {
+            if (y >= 18) {
+                int row = 19 - random.nextInt(6);
+                board[row][random.nextInt(10)] = 1 + random.nextInt(7);
+                score += 10;
+                x = random.nextInt(8);
+                y = 0;
+            } else {
+                y++;
+            }
+            BoardUpdateMessage message = encoder.encode(snapshot(board, x, y, score), null);
+            if (message != null) messages.add(message);
+        }
+        return messages;
+    }
+
+    private static BoardUpdateMessage.Snapshot snapshot(int[][] board, int x, int y, int score) {
+        int[][] copy = new int[board.length][];
+        for (int r = 0; r < board.length; r++) copy[r] = board[r].clone();
+        return new BoardUpdateMessage.Snapshot(
+                copy, x, y, 1, 0, false, null, -1, 2, false, null, -1, score, score / 100, 1);
+    }
+
+    // { 바이트 수, 인코딩 나노초, 디코딩 나노초 }
+    private static long[] runBinary(List<NetworkMessage> messages) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        for (NetworkMessage message : messages) BinaryCodec.writeFrame(bytes, message);
+        long encoded = System.nanoTime() - start;
+
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes.toByteArray());
+        start = System.nanoTime();
+        for (int i = 0; i < messages.size(); i++) BinaryCodec.readFrame(in);
+        long decoded = System.nanoTime() - start;
+        return new long[] {bytes.size(), encoded, decoded};
+    }
+
+    private static long[] runSerialization(List<NetworkMessage> messages) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        for (NetworkMessage message : messages) {
+            out.writeObject(message);
+            out.reset(); // 기존 전송과 같이 매 메시지를 새 객체로 보냄
+        }
+        out.flush();
+        long encoded = System.nanoTime() - start;
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        start = System.nanoTime();
+        for (int i = 0; i < messages.size(); i++) in.readObject();
+        long decoded = System.nanoTime() - start;
+        return new long[] {bytes.size(), encoded, decoded};
+    }
+
+    private static void report(String name, long[] result) {
+        System.out.printf(
+                "  %-20s %8.1f B/msg  encode %10.0f msg/s  decode %10.0f msg/s%n",
+                name,
+                (double) result[0] / MESSAGES,
+                MESSAGES * 1e9 / result[1],
+                MESSAGES * 1e9 / result[2]);
+    }
+}
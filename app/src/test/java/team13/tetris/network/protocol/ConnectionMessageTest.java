@@ -71,6 +71,16 @@ class ConnectionMessageTest {
         assertEquals("Host", message.getSenderId(), "발신자 ID가 올바르게 설정되어야 함");
     }
 
+    @Test
+    @DisplayName("게임 시작 메시지에 조각 생성 시드 포함 테스트")
+    void testCreateGameStartWithSeed() {
+        ConnectionMessage message = ConnectionMessage.createGameStart("Host", 123456789L);
+
+        assertEquals(MessageType.GAME_START, message.getType(), "메시지 타입이 GAME_START여야 함");
+        assertEquals(123456789L, message.getSeed(), "시드가 그대로 전달되어야 함");
+        assertEquals(0L, ConnectionMessage.createGameStart("Host").getSeed(), "시드 미지정 시 0");
+    }
+
     @Test
     @DisplayName("게임 종료 메시지 생성 테스트")
     void testCreateGameOver() {
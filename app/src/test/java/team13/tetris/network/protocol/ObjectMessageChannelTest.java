@@ -0,0 +1,161 @@
+package team13.tetris.network.protocol;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// ObjectMessageChannel 테스트: 긴 세션에서도 직렬화 스트림이 메시지를 붙잡아 두지 않는지 검증
+@DisplayName("ObjectMessageChannel 테스트")
+class ObjectMessageChannelTest {
+
+    private static final int UPDATES = 100_000;
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    @Test
+    @DisplayName("보드 업데이트 10만 개를 보내도 힙 사용량이 늘지 않음")
+    void testHeapStaysFlatOverLongSession() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<Integer> receiver =
+                    CompletableFuture.supplyAsync(
+                            () -> {
+                                try (Socket s = serverSocket.accept();
+                                        MessageChannel channel = open(s)) {
+                                    int received = 0;
+                                    while (received < UPDATES) {
+                                        if (channel.receive() instanceof BoardUpdateMessage) {
+                                            received++;
+                                        }
+                                    }
+                                    return received;
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            });
+
+            try (Socket s = new Socket("localhost", serverSocket.getLocalPort());
+                    MessageChannel channel = open(s)) {
+                long baseline = 0;
+                for (int i = 0; i < UPDATES; i++) {
+                    channel.send(BoardUpdateMessage.keyframe("p1", i, snapshot(i), null));
+                    if (i == UPDATES / 10) baseline = usedHeapAfterGc();
+                }
+                long growth = usedHeapAfterGc() - baseline;
+
+                assertEquals(UPDATES, (int) receiver.get(60, TimeUnit.SECONDS));
+                assertTrue(
+                        growth < MAX_HEAP_GROWTH,
+                        "힙이 " + growth / 1024 + "KB 증가함 (직렬화 역참조 테이블 누수)");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("모든 프로토콜 메시지는 역직렬화 필터를 통과")
+    void testFilterAllowsProtocolMessages() throws Exception {
+        Queue<int[][]> incoming = new LinkedList<>();
+        incoming.add(new int[][] {{1, 0, 1}});
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (MessageChannel sender =
+                new ObjectMessageChannel(new ByteArrayInputStream(rawStream(null)), bytes)) {
+            sender.send(ConnectionMessage.createGameStart("server", 42L));
+            sender.send(new GameModeMessage("server", GameModeMessage.GameMode.ITEM));
+            sender.send(SystemMessage.createWarning("server", "warn"));
+            sender.send(AttackMessage.createStandardAttack("p1", 2));
+            sender.send(BoardUpdateMessage.keyframe("p1", 3, snapshot(3), incoming));
+        }
+
+        try (MessageChannel receiver = reader(bytes.toByteArray())) {
+            assertEquals(MessageType.GAME_START, receiver.receive().getType());
+            assertEquals(
+                    GameModeMessage.GameMode.ITEM,
+                    ((GameModeMessage) receiver.receive()).getGameMode());
+            assertEquals(
+                    SystemMessage.SystemLevel.WARNING,
+                    ((SystemMessage) receiver.receive()).getLevel());
+            assertEquals(MessageType.ATTACK_SENT, receiver.receive().getType());
+            BoardUpdateMessage update = (BoardUpdateMessage) receiver.receive();
+            assertEquals(4, update.getBoardState()[16][3]);
+            assertArrayEquals(new int[] {1, 0, 1}, update.getIncomingBlocks().peek()[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("프로토콜 밖의 클래스는 역직렬화 전에 거부")
+    void testFilterRejectsForeignClass() throws Exception {
+        HashMap<String, String> payload = new HashMap<>();
+        payload.put("k", "v");
+
+        try (MessageChannel receiver = reader(rawStream(payload))) {
+            assertThrows(InvalidClassException.class, receiver::receive);
+        }
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 배열은 할당 전에 거부")
+    void testFilterRejectsOversizedArray() throws Exception {
+        try (MessageChannel receiver = reader(rawStream(new int[1 << 20]))) {
+            assertThrows(InvalidClassException.class, receiver::receive);
+        }
+    }
+
+    @Test
+    @DisplayName("참조 수가 한도를 넘는 메시지는 거부")
+    void testFilterRejectsTooManyRefs() throws Exception {
+        LinkedList<int[][]> payload = new LinkedList<>();
+        for (int i = 0; i < 5000; i++) payload.add(new int[1][1]);
+
+        try (MessageChannel receiver = reader(rawStream(payload))) {
+            assertThrows(InvalidClassException.class, receiver::receive);
+        }
+    }
+
+    // 이전 버전 클라이언트처럼 ObjectOutputStream으로 임의 객체를 그대로 씀
+    private static byte[] rawStream(Object payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(payload);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static MessageChannel reader(byte[] bytes) throws IOException {
+        return new ObjectMessageChannel(
+                new ByteArrayInputStream(bytes), OutputStream.nullOutputStream());
+    }
+
+    private static MessageChannel open(Socket socket) throws IOException {
+        return new ObjectMessageChannel(
+                new BufferedInputStream(socket.getInputStream()),
+                new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    private static BoardUpdateMessage.Snapshot snapshot(int i) {
+        int[][] board = new int[20][10];
+        board[19 - i % 20][i % 10] = 1 + i % 7;
+        return new BoardUpdateMessage.Snapshot(
+                board, i % 10, i % 20, 1, 0, false, null, -1, 2, false, null, -1, i, 0, 1);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
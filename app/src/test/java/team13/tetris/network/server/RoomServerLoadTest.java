@@ -0,0 +1,79 @@
+package team13.tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.network.protocol.*;
+
+// RoomServer 부하 테스트: 클라이언트 500명(방 250개)이 동시에 대전
+@DisplayName("RoomServer 부하 테스트")
+class RoomServerLoadTest {
+
+    private static final int CLIENTS = 500;
+    private static final int UPDATES_PER_CLIENT = 50;
+
+    @Test
+    @DisplayName("500명이 250개 방에서 동시에 게임하고 메시지는 방 안에서만 오감")
+    void testFiveHundredClients() throws Exception {
+        RoomServer server = new RoomServer(0, CLIENTS / 2, 100);
+        server.start();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<RoomTestClient> connected = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                int index = i;
+                results.add(clients.submit(() -> play(server.getPort(), index, connected)));
+            }
+
+            int received = 0;
+            for (Future<Integer> result : results) received += result.get(60, TimeUnit.SECONDS);
+
+            assertEquals(CLIENTS * (UPDATES_PER_CLIENT + 1), received);
+            assertEquals(CLIENTS / 2, server.getRoomCount());
+            assertEquals(CLIENTS, server.getPlayerCount());
+        } finally {
+            for (RoomTestClient client : connected) client.close();
+            clients.shutdownNow();
+            server.stop();
+        }
+    }
+
+    // 방에 참가해 게임을 시작하고, 보드 업데이트/공격을 보내면서 상대 것만 받는지 확인
+    // 모든 클라이언트가 끝날 때까지 연결을 유지해야 방/플레이어 수를 확인할 수 있으므로 닫지 않음
+    private static int play(int port, int index, List<RoomTestClient> connected)
+            throws Exception {
+        String me = "p" + index;
+        String opponent = "p" + (index ^ 1);
+        RoomTestClient client = new RoomTestClient(port, me);
+        connected.add(client);
+        assertEquals(MessageType.CONNECTION_ACCEPTED, client.join("room" + index / 2).getType());
+
+        client.send(ConnectionMessage.createPlayerReady(me));
+        client.await(MessageType.GAME_START);
+
+        for (int seq = 1; seq <= UPDATES_PER_CLIENT; seq++) {
+            client.send(BoardUpdateMessage.pieceMoved(me, seq, seq - 1, seq % 10, seq % 20, 0));
+        }
+        client.send(AttackMessage.createStandardAttack(me, 2));
+
+        int received = 0;
+        while (received < UPDATES_PER_CLIENT + 1) {
+            NetworkMessage message = client.receive();
+            MessageType type = message.getType();
+            if (type == MessageType.BOARD_UPDATE || type == MessageType.ATTACK_SENT) {
+                assertEquals(opponent, message.getSenderId(), "다른 방의 메시지가 섞임");
+                received++;
+            }
+        }
+        return received;
+    }
+}
@@ -0,0 +1,230 @@
+package team13.tetris.network.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.network.protocol.*;
+
+// RoomServer 테스트: 방 참가/매칭, 방별 준비·카운트다운, 방 안에서만 메시지 전달
+@DisplayName("RoomServer 테스트")
+class RoomServerTest {
+
+    private RoomServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new RoomServer(0, 10, 50);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private RoomTestClient client(String playerId) throws Exception {
+        return new RoomTestClient(server.getPort(), playerId);
+    }
+
+    // 두 클라이언트를 준비시키고 GAME_START를 받을 때까지 진행
+    private static long[] startGame(RoomTestClient a, RoomTestClient b) throws Exception {
+        a.send(ConnectionMessage.createPlayerReady(a.playerId));
+        b.send(ConnectionMessage.createPlayerReady(b.playerId));
+        ConnectionMessage startA = (ConnectionMessage) a.await(MessageType.GAME_START);
+        ConnectionMessage startB = (ConnectionMessage) b.await(MessageType.GAME_START);
+        return new long[] {startA.getSeed(), startB.getSeed()};
+    }
+
+    @Test
+    @DisplayName("방 ID 없이 접속하면 자동으로 두 명씩 매칭됨")
+    void testMatchmaking() throws Exception {
+        try (RoomTestClient a = client("a");
+                RoomTestClient b = client("b");
+                RoomTestClient c = client("c")) {
+            assertEquals(MessageType.CONNECTION_ACCEPTED, a.join(null).getType());
+            assertEquals(MessageType.CONNECTION_ACCEPTED, b.join(null).getType());
+            assertEquals(MessageType.CONNECTION_ACCEPTED, c.join(null).getType());
+
+            assertEquals(2, server.getRoomCount(), "세 번째 플레이어는 새 방에서 대기");
+            long[] seeds = startGame(a, b);
+            assertEquals(seeds[0], seeds[1], "같은 방의 두 플레이어는 같은 시드를 받아야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("같은 방 ID로 참가하고, 가득 찬 방은 거절됨")
+    void testNamedRoomCapacity() throws Exception {
+        try (RoomTestClient a = client("a");
+                RoomTestClient b = client("b");
+                RoomTestClient c = client("c")) {
+            ConnectionMessage accepted = a.join("finals");
+            assertEquals(MessageType.CONNECTION_ACCEPTED, accepted.getType());
+            assertTrue(accepted.getMessage().contains("finals"));
+            assertEquals(MessageType.CONNECTION_ACCEPTED, b.join("finals").getType());
+
+            ConnectionMessage rejected = c.join("finals");
+            assertEquals(MessageType.CONNECTION_REJECTED, rejected.getType());
+            assertEquals("Room is full", rejected.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("이름으로 채운 자동 매칭 방에는 다음 자동 매칭 플레이어가 들어가지 않음")
+    void testNamedJoinFillsMatchmadeRoom() throws Exception {
+        try (RoomTestClient a = client("a");
+                RoomTestClient b = client("b");
+                RoomTestClient c = client("c")) {
+            ConnectionMessage first = a.join(null);
+            assertEquals(MessageType.CONNECTION_ACCEPTED, first.getType());
+            assertTrue(first.getMessage().endsWith("room-1"));
+            assertEquals(MessageType.CONNECTION_ACCEPTED, b.join("room-1").getType());
+
+            ConnectionMessage third = c.join(null);
+            assertEquals(MessageType.CONNECTION_ACCEPTED, third.getType());
+            assertFalse(third.getMessage().endsWith("room-1"), "가득 찬 방에 배정되면 안 됨");
+            assertEquals(2, server.getRoomCount());
+            long[] seeds = startGame(a, b);
+            assertEquals(seeds[0], seeds[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 접속한 플레이어 ID는 거절됨")
+    void testDuplicatePlayerId() throws Exception {
+        try (RoomTestClient a = client("same");
+                RoomTestClient b = client("same")) {
+            assertEquals(MessageType.CONNECTION_ACCEPTED, a.join("r1").getType());
+            assertEquals(MessageType.CONNECTION_REJECTED, b.join("r2").getType());
+        }
+    }
+
+    @Test
+    @DisplayName("보드 업데이트와 공격은 같은 방의 상대에게만 전달됨")
+    void testRoutingWithinRoom() throws Exception {
+        try (RoomTestClient a1 = client("a1");
+                RoomTestClient a2 = client("a2");
+                RoomTestClient b1 = client("b1");
+                RoomTestClient b2 = client("b2")) {
+            a1.join("A");
+            a2.join("A");
+            b1.join("B");
+            b2.join("B");
+            startGame(a1, a2);
+            startGame(b1, b2);
+
+            a1.send(BoardUpdateMessage.pieceMoved("a1", 1, 0, 3, 4, 1));
+            a1.send(AttackMessage.createStandardAttack("a1", 2));
+            b1.send(BoardUpdateMessage.pieceMoved("b1", 1, 0, 5, 6, 0));
+
+            NetworkMessage board = a2.await(MessageType.BOARD_UPDATE);
+            assertEquals("a1", board.getSenderId());
+            assertEquals("a1", a2.await(MessageType.ATTACK_SENT).getSenderId());
+            assertEquals("b1", b2.await(MessageType.BOARD_UPDATE).getSenderId());
+        }
+    }
+
+    @Test
+    @DisplayName("준비를 취소하면 카운트다운이 취소됨")
+    void testUnreadyCancelsCountdown() throws Exception {
+        RoomServer slow = new RoomServer(0, 10, 500);
+        slow.start();
+        try (RoomTestClient a = new RoomTestClient(slow.getPort(), "a");
+                RoomTestClient b = new RoomTestClient(slow.getPort(), "b")) {
+            a.join("r");
+            b.join("r");
+            a.send(ConnectionMessage.createPlayerReady("a"));
+            b.send(ConnectionMessage.createPlayerReady("b"));
+            a.await(MessageType.COUNTDOWN_START);
+            a.send(ConnectionMessage.createPlayerUnready("a"));
+
+            assertEquals(MessageType.PLAYER_UNREADY, b.await(MessageType.PLAYER_UNREADY).getType());
+            a.send(ConnectionMessage.createPlayerReady("a"));
+            ConnectionMessage start = (ConnectionMessage) b.await(MessageType.GAME_START);
+            assertNotNull(start);
+            // 취소된 첫 카운트다운의 GAME_START는 오지 않아야 하므로 다음 메시지는 새 게임 이후의 것
+            a.send(BoardUpdateMessage.pieceMoved("a", 1, 0, 1, 1, 0));
+            assertEquals(MessageType.BOARD_UPDATE, b.receive().getType());
+        } finally {
+            slow.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("게임 중 상대가 나가면 남은 플레이어에게 게임 종료가 전달됨")
+    void testDisconnectEndsGame() throws Exception {
+        try (RoomTestClient a = client("a");
+                RoomTestClient b = client("b")) {
+            a.join("r");
+            b.join("r");
+            startGame(a, b);
+
+            b.close();
+            ConnectionMessage over = (ConnectionMessage) a.await(MessageType.GAME_OVER);
+            assertTrue(over.getMessage().contains("b"));
+        }
+    }
+
+    @Test
+    @DisplayName("메시지 처리 중 예외가 나면 그 연결만 끊기고 다른 방은 계속 진행됨")
+    void testFailingConnectionDoesNotStopServer() throws Exception {
+        server.stop();
+        server =
+                new RoomServer(0, 10, 50) {
+                    @Override
+                    void handleMessage(RoomConnection conn, NetworkMessage message)
+                            throws IOException {
+                        if ("bad".equals(conn.playerId)
+                                && message.getType() == MessageType.PLAYER_READY) {
+                            throw new IllegalStateException("test failure");
+                        }
+                        super.handleMessage(conn, message);
+                    }
+                };
+        server.start();
+
+        try (RoomTestClient a = client("a");
+                RoomTestClient b = client("b");
+                RoomTestClient bad = client("bad")) {
+            assertEquals(MessageType.CONNECTION_ACCEPTED, a.join("one").getType());
+            assertEquals(MessageType.CONNECTION_ACCEPTED, b.join("one").getType());
+            assertEquals(MessageType.CONNECTION_ACCEPTED, bad.join("two").getType());
+
+            bad.send(ConnectionMessage.createPlayerReady(bad.playerId));
+            // 참가 직후 받은 메시지를 건너뛰고 서버가 연결을 끊을 때까지 읽음
+            IOException closed =
+                    assertThrows(
+                            IOException.class,
+                            () -> {
+                                while (true) bad.receive();
+                            });
+            assertFalse(closed instanceof SocketTimeoutException, "실패한 연결은 서버가 끊어야 함");
+
+            long[] seeds = startGame(a, b);
+            assertEquals(seeds[0], seeds[1]);
+            assertTrue(server.isRunning());
+            assertEquals(2, server.getPlayerCount());
+            assertEquals(1, server.getRoomCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Java 직렬화만 아는 이전 클라이언트는 거절 메시지를 받음")
+    void testLegacyClientRejected() throws Exception {
+        try (Socket s = new Socket("localhost", server.getPort())) {
+            ObjectOutputStream out = new ObjectOutputStream(s.getOutputStream());
+            out.flush();
+            ObjectInputStream in = new ObjectInputStream(s.getInputStream());
+
+            ConnectionMessage reply = (ConnectionMessage) in.readObject();
+            assertEquals(MessageType.CONNECTION_REJECTED, reply.getType());
+        }
+    }
+}
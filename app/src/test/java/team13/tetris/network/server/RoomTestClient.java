@@ -0,0 +1,59 @@
+package team13.tetris.network.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import team13.tetris.network.protocol.ChannelNegotiator;
+import team13.tetris.network.protocol.ConnectionMessage;
+import team13.tetris.network.protocol.MessageChannel;
+import team13.tetris.network.protocol.MessageType;
+import team13.tetris.network.protocol.NetworkMessage;
+
+// RoomServer 테스트용 최소 클라이언트 (블로킹 소켓 + 바이너리 코덱)
+class RoomTestClient implements Closeable {
+    final String playerId;
+    private final Socket socket;
+    private final MessageChannel channel;
+
+    RoomTestClient(int port, String playerId) throws IOException {
+        this.playerId = playerId;
+        this.socket = new Socket("localhost", port);
+        socket.setSoTimeout(30_000);
+        this.channel =
+                ChannelNegotiator.client(
+                        new BufferedInputStream(socket.getInputStream()),
+                        new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    // 참가 요청을 보내고 응답(ACCEPTED/REJECTED)을 반환, roomId가 null이면 자동 매칭
+    ConnectionMessage join(String roomId) throws Exception {
+        send(
+                roomId != null
+                        ? ConnectionMessage.createRoomJoinRequest(playerId, roomId)
+                        : ConnectionMessage.createConnectionRequest(playerId, playerId));
+        return (ConnectionMessage) receive();
+    }
+
+    void send(NetworkMessage message) throws IOException {
+        channel.send(message);
+    }
+
+    NetworkMessage receive() throws Exception {
+        return channel.receive();
+    }
+
+    // 원하는 타입이 올 때까지 다른 메시지는 건너뜀
+    NetworkMessage await(MessageType type) throws Exception {
+        while (true) {
+            NetworkMessage message = receive();
+            if (message.getType() == type) return message;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
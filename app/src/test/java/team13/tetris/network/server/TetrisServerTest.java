@@ -834,14 +834,15 @@ class TetrisServerTest {
     }
 
     @Test
-    @DisplayName("서버 필드 접근 테스트 - countdownTimer")
-    void testCountdownTimerField() throws Exception {
-        java.lang.reflect.Field countdownTimerField =
-                TetrisServer.class.getDeclaredField("countdownTimer");
-        countdownTimerField.setAccessible(true);
-
-        java.util.Timer countdownTimer = (java.util.Timer) countdownTimerField.get(server);
-        assertNull(countdownTimer, "초기 상태에서는 카운트다운 타이머가 null");
+    @DisplayName("서버 필드 접근 테스트 - countdownFuture")
+    void testCountdownFutureField() throws Exception {
+        java.lang.reflect.Field countdownFutureField =
+                TetrisServer.class.getDeclaredField("countdownFuture");
+        countdownFutureField.setAccessible(true);
+
+        java.util.concurrent.ScheduledFuture<?> countdownFuture =
+                (java.util.concurrent.ScheduledFuture<?>) countdownFutureField.get(server);
+        assertNull(countdownFuture, "초기 상태에서는 카운트다운 작업이 null");
     }
 
     @Test
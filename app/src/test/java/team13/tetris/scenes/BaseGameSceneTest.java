@@ -56,6 +56,37 @@ public class BaseGameSceneTest {
         assertEquals(16, grid.getChildren().size()); // 4x4 = 16
     }
 
+    @Test
+    void testCellIndexMatchesGridPositions() {
+        Board mockBoard = mock(Board.class);
+        when(mockBoard.getWidth()).thenReturn(10);
+        when(mockBoard.getHeight()).thenReturn(20);
+
+        GridPane grid = baseGameScene.createBoardGrid(mockBoard);
+        CellView[][] cells = baseGameScene.cellIndex(grid);
+
+        assertEquals(22, cells.length);
+        assertEquals(12, cells[0].length);
+        for (javafx.scene.Node node : grid.getChildren()) {
+            assertSame(node, cells[GridPane.getRowIndex(node)][GridPane.getColumnIndex(node)]);
+        }
+        assertSame(cells[3][4], baseGameScene.getNodeByRowColumnIndex(3, 4, grid));
+        assertNull(baseGameScene.getNodeByRowColumnIndex(22, 0, grid));
+        assertNull(BaseGameScene.cellAt(cells, -1, 0));
+    }
+
+    @Test
+    void testCellIndexBuiltForExternalGrid() {
+        GridPane grid = new GridPane();
+        CellView cell = new CellView(10, mockSettings);
+        grid.add(cell, 2, 1);
+
+        CellView[][] cells = baseGameScene.cellIndex(grid);
+
+        assertSame(cell, cells[1][2]);
+        assertSame(cells, baseGameScene.cellIndex(grid)); // 두 번째부터는 저장된 인덱스 사용
+    }
+
     @Test
     void testGetNodeByRowColumnIndex() {
         Board mockBoard = mock(Board.class);
@@ -0,0 +1,64 @@
+package team13.tetris.scenes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CellStateTest {
+
+    @Test
+    @DisplayName("같은 상태로 다시 요청하면 다시 그리지 않음")
+    void sameStateIsSkipped() {
+        CellState state = new CellState();
+        assertTrue(state.request(CellState.Kind.BLOCK, "", "block-I", "tetris-i-text", false));
+        assertFalse(state.request(CellState.Kind.BLOCK, "", "block-I", "tetris-i-text", false));
+        assertTrue(state.request(CellState.Kind.BLOCK, "", "block-T", "tetris-t-text", false));
+        assertTrue(state.request(CellState.Kind.EMPTY, null, null, null, false));
+        assertFalse(state.request(CellState.Kind.EMPTY, null, null, null, false));
+    }
+
+    @Test
+    @DisplayName("색맹 모드가 바뀌면 같은 블록도 다시 그리지만 빈 칸은 그대로 둠")
+    void colorBlindOnlyMattersForBlocks() {
+        CellState state = new CellState();
+        state.request(CellState.Kind.BLOCK, "", "block-I", "tetris-i-text", false);
+        assertTrue(state.request(CellState.Kind.BLOCK, "", "block-I", "tetris-i-text", true));
+        assertTrue(state.colorBlind());
+
+        state.request(CellState.Kind.EMPTY, null, null, null, false);
+        assertFalse(state.request(CellState.Kind.EMPTY, null, null, null, true));
+    }
+
+    @Test
+    @DisplayName("프레임 중에는 기록만 하고 커밋 때 최종 상태가 달라졌을 때만 다시 그림")
+    void frameCommitsOnlyFinalState() {
+        CellState state = new CellState();
+        state.request(CellState.Kind.BLOCK, "", "block-T", "tetris-t-text", false);
+
+        // 보드 패스에서 비웠다가 블록 패스에서 같은 블록으로 덮어 그림
+        state.beginFrame();
+        assertFalse(state.request(CellState.Kind.EMPTY, null, null, null, false));
+        assertFalse(state.request(CellState.Kind.BLOCK, "", "block-T", "tetris-t-text", false));
+        assertFalse(state.commitFrame(false));
+        assertEquals("block-T", state.blockClass());
+
+        state.beginFrame();
+        state.request(CellState.Kind.EMPTY, null, null, null, false);
+        assertTrue(state.commitFrame(false));
+        assertEquals(CellState.Kind.EMPTY, state.kind());
+        assertNull(state.blockClass());
+    }
+
+    @Test
+    @DisplayName("프레임 중 아무 요청이 없으면 이전 상태를 유지")
+    void emptyFrameKeepsState() {
+        CellState state = new CellState();
+        state.request(CellState.Kind.BORDER, null, null, null, false);
+
+        state.beginFrame();
+        assertFalse(state.commitFrame(false));
+        assertEquals(CellState.Kind.BORDER, state.kind());
+        assertFalse(state.commitFrame(false)); // 프레임 밖에서의 커밋은 무시
+    }
+}
@@ -5,6 +5,9 @@ import static org.mockito.Mockito.*;
 
 import java.util.concurrent.CountDownLatch;
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -223,4 +226,100 @@ public class CellViewTest {
                 });
         latch.await();
     }
+
+    @Test
+    void testRepaintingSameStateKeepsStyleClasses() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    cellView.setBlock("O", "block-I", "tetris-i-text");
+                    int[] changes = {0};
+                    Node rect = cellView.getChildren().get(0);
+                    Node label = cellView.getChildren().get(2);
+                    ListChangeListener<String> counter = c -> changes[0]++;
+                    rect.getStyleClass().addListener(counter);
+                    label.getStyleClass().addListener(counter);
+
+                    cellView.setBlock("O", "block-I", "tetris-i-text");
+
+                    assertEquals(0, changes[0]);
+                    assertTrue(rect.getStyleClass().contains("block-I"));
+                    latch.countDown();
+                });
+        latch.await();
+    }
+
+    @Test
+    void testFrameOnlyRestylesWhenFinalStateChanges() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    cellView.setBlock("O", "block-T", "tetris-t-text");
+                    int[] changes = {0};
+                    Node rect = cellView.getChildren().get(0);
+                    ListChangeListener<String> counter = c -> changes[0]++;
+                    rect.getStyleClass().addListener(counter);
+
+                    // 보드 패스에서 비웠다가 블록 패스에서 같은 블록으로 덮어 그림
+                    cellView.beginFrame();
+                    cellView.setEmpty();
+                    cellView.setBlock("O", "block-T", "tetris-t-text");
+                    assertFalse(cellView.commitFrame());
+                    assertEquals(0, changes[0]);
+
+                    cellView.beginFrame();
+                    cellView.setEmpty();
+                    assertTrue(cellView.commitFrame());
+                    assertTrue(rect.getStyleClass().contains("cell-empty"));
+                    assertFalse(rect.getStyleClass().contains("block-T"));
+                    latch.countDown();
+                });
+        latch.await();
+    }
+
+    @Test
+    void testColorBlindToggleRepaintsSameBlock() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    cellView.setBlock("O", "block-I", "tetris-i-text");
+                    Label label = (Label) cellView.getChildren().get(2);
+                    assertEquals("O", label.getText());
+
+                    when(mockSettings.isColorBlindMode()).thenReturn(true);
+                    cellView.setBlock("O", "block-I", "tetris-i-text");
+
+                    assertEquals(" ", label.getText());
+                    latch.countDown();
+                });
+        latch.await();
+    }
+
+    @Test
+    void testPatternImageSharedPerPatternAndSize() throws Exception {
+        when(mockSettings.isColorBlindMode()).thenReturn(true);
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    PatternImages.invalidate();
+                    CellView first = new CellView(28.0, mockSettings);
+                    CellView second = new CellView(28.0, mockSettings);
+                    // 씬에 붙이지 않았으므로 레이아웃 대신 직접 크기를 정함
+                    first.resize(28.0, 28.0);
+                    second.resize(28.0, 28.0);
+
+                    first.setBlock("O", "block-I", "tetris-i-text");
+                    second.setBlock("O", "block-I", "tetris-i-text");
+                    assertEquals(1, PatternImages.size());
+
+                    second.setBlock("O", "block-T", "tetris-t-text");
+                    first.setBlock("O", "block-O", "tetris-o-text"); // O는 패턴 없음
+                    assertEquals(2, PatternImages.size());
+
+                    PatternImages.invalidate();
+                    assertEquals(0, PatternImages.size());
+                    latch.countDown();
+                });
+        latch.await();
+    }
 }
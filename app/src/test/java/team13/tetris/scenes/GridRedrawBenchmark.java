@@ -0,0 +1,121 @@
+package team13.tetris.scenes;
+
+import java.util.concurrent.CountDownLatch;
+import javafx.application.Platform;
+import javafx.scene.layout.GridPane;
+import team13.tetris.config.Settings;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 보드 전체 다시 그리기 시간 비교: 자식 노드 순회 조회(기존) vs CellView[][] 인덱스 조회
+// GameScene.updateGrid와 같은 조회 횟수(보드 200 + 블록 4 + 고스트 4 + 미리보기 16 + 다음 블록 4)를 흉내냄
+// 실행: ./gradlew gridRedrawBenchmark (JavaFX 툴킷 필요)
+public class GridRedrawBenchmark {
+
+    private static final int WARMUP_FRAMES = 500;
+    private static final int FRAMES = 2000;
+
+    public static void main(String[] args) throws Exception {
+        Platform.startup(() -> {});
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    try {
+                        run();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run() {
+        Settings settings = new Settings();
+        BaseGameScene scene = new BaseGameScene(settings) {};
+        Board board = new Board(10, 20);
+        for (int x = 0; x < 9; x++) board.setCell(x, 19, 1 + x % 7);
+
+        // 기존 방식: 인덱스를 지운 그리드에서 getNodeByRowColumnIndex가 자식 노드를 순회
+        GridPane scanBoard = scene.createBoardGrid(board);
+        GridPane scanPreview = scene.createPreviewGrid();
+        scanBoard.getProperties().clear();
+        scanPreview.getProperties().clear();
+
+        GridPane indexedBoard = scene.createBoardGrid(board);
+        GridPane indexedPreview = scene.createPreviewGrid();
+
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            redrawScan(scene, board, scanBoard, scanPreview, i);
+            redrawIndexed(scene, board, indexedBoard, indexedPreview, i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) redrawScan(scene, board, scanBoard, scanPreview, i);
+        long scanNanos = (System.nanoTime() - start) / FRAMES;
+
+        start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            redrawIndexed(scene, board, indexedBoard, indexedPreview, i);
+        }
+        long indexedNanos = (System.nanoTime() - start) / FRAMES;
+
+        System.out.printf("full redraw, child scan : %8.1f us/frame%n", scanNanos / 1000.0);
+        System.out.printf("full redraw, cell index : %8.1f us/frame%n", indexedNanos / 1000.0);
+    }
+
+    private static void redrawScan(
+            BaseGameScene scene, Board board, GridPane grid, GridPane preview, int frame) {
+        int px = frame % 7;
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                draw((CellView) scene.getNodeByRowColumnIndex(y + 1, x + 1, grid), board, x, y);
+            }
+        }
+        for (int i = 0; i < 4; i++) {
+            fill((CellView) scene.getNodeByRowColumnIndex(2, px + i + 1, grid)); // 현재 블록
+            fill((CellView) scene.getNodeByRowColumnIndex(19, px + i + 1, grid)); // 고스트
+        }
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) {
+                scene.applyCellEmpty((CellView) scene.getNodeByRowColumnIndex(r, c, preview));
+            }
+        }
+        for (int c = 0; c < 4; c++) {
+            fill((CellView) scene.getNodeByRowColumnIndex(1, c, preview));
+        }
+    }
+
+    private static void redrawIndexed(
+            BaseGameScene scene, Board board, GridPane grid, GridPane preview, int frame) {
+        CellView[][] cells = scene.cellIndex(grid);
+        CellView[][] previewCells = scene.cellIndex(preview);
+        int px = frame % 7;
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) draw(cells[y + 1][x + 1], board, x, y);
+        }
+        for (int i = 0; i < 4; i++) {
+            fill(cells[2][px + i + 1]);
+            fill(cells[19][px + i + 1]);
+        }
+        for (int r = 0; r < 4; r++) {
+            for (int c = 0; c < 4; c++) scene.applyCellEmpty(previewCells[r][c]);
+        }
+        for (int c = 0; c < 4; c++) fill(previewCells[1][c]);
+    }
+
+    private static void draw(CellView cell, Board board, int x, int y) {
+        int val = board.getCell(x, y);
+        if (val == 0) {
+            cell.setEmpty();
+        } else {
+            Tetromino.Kind kind = Tetromino.kindForId(val);
+            cell.setBlock("", kind.getBlockStyleClass(), kind.getTextStyleClass());
+        }
+    }
+
+    private static void fill(CellView cell) {
+        Tetromino.Kind kind = Tetromino.Kind.I;
+        cell.setBlock("", kind.getBlockStyleClass(), kind.getTextStyleClass());
+    }
+}
@@ -0,0 +1,193 @@
+package team13.tetris.scenes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team13.tetris.SceneManager;
+import team13.tetris.config.Settings;
+import team13.tetris.data.ScoreBoard;
+import team13.tetris.game.controller.GameStateListener;
+import team13.tetris.game.logic.GameEngine;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// NetworkGameScene 할당 테스트: 프레임마다 보드 셀을 찾는 데 셀마다 키 문자열을 만들지 않는지 확인
+// 셀 하나당 문자열 키("12,5")는 약 48바이트이고 한 프레임에 양쪽 보드/프리뷰 셀 약 430개를 찾으므로
+// 예전 방식이면 프레임당 20KB 정도가 할당됨
+@DisplayName("NetworkGameScene 할당 테스트")
+public class NetworkGameSceneAllocationTest {
+
+    // 프레임 하나에서 허용하는 최대 할당량(바이트) - 상대 미노/점수 문자열 등 프레임당 몇 개의 객체만 허용
+    private static final long ALLOWED_BYTES_PER_FRAME = 4096;
+    private static final int FRAMES = 200;
+
+    private GameEngine engine;
+    private NetworkGameScene scene;
+    private int[][] remoteBoard;
+
+    private static class NoOpListener implements GameStateListener {
+        @Override
+        public void onBoardUpdated(Board board) {}
+
+        @Override
+        public void onPieceSpawned(Tetromino piece, int x, int y) {}
+
+        @Override
+        public void onGameOver() {}
+
+        @Override
+        public void onScoreChanged(int newScore) {}
+
+        @Override
+        public void onLinesCleared(int lines) {}
+
+        @Override
+        public void onNextPiece(Tetromino next) {}
+    }
+
+    @BeforeAll
+    static void initToolkit() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Already initialized
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Mockito 목은 호출마다 할당하므로 보드/엔진/설정은 실제 객체를 씀
+        engine =
+                new GameEngine(
+                        new Board(10, 20), new NoOpListener(), ScoreBoard.ScoreEntry.Mode.NORMAL);
+        engine.startNewGame();
+        engine.stopAutoDrop();
+
+        remoteBoard = new int[20][10];
+        for (int x = 0; x < 9; x++) remoteBoard[19][x] = 1 + x % 7;
+        remoteBoard[18][4] = 1000;
+
+        runOnFxThread(
+                () -> {
+                    scene =
+                            new NetworkGameScene(
+                                    mock(SceneManager.class),
+                                    new Settings(),
+                                    engine,
+                                    "LocalPlayer",
+                                    "RemotePlayer",
+                                    false);
+                    scene.updateRemoteBoardState(
+                            remoteBoard,
+                            3,
+                            5,
+                            2,
+                            1,
+                            false,
+                            null,
+                            -1,
+                            4,
+                            false,
+                            null,
+                            -1,
+                            new LinkedList<>(),
+                            1200,
+                            3);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private static void runOnFxThread(Runnable action) throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(
+                () -> {
+                    try {
+                        action.run();
+                    } catch (Throwable t) {
+                        error.set(t);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+        latch.await();
+        if (error.get() instanceof Error e) throw e;
+        if (error.get() != null) throw new Exception(error.get());
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemorySupported()) return null;
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+    }
+
+    @Test
+    @DisplayName("같은 상태를 다시 그리는 프레임은 셀마다 가비지를 만들지 않아야 함")
+    void testRedrawDoesNotAllocatePerCell() throws Exception {
+        com.sun.management.ThreadMXBean bean = threadBean();
+        assumeTrue(bean != null, "스레드별 할당량 측정을 지원하지 않는 JVM");
+
+        AtomicReference<Long> allocated = new AtomicReference<>();
+        runOnFxThread(
+                () -> {
+                    long threadId = Thread.currentThread().getId();
+
+                    // 워밍업: 첫 렌더링의 스타일 변경, 클래스 로딩/JIT로 인한 할당을 측정에서 제외
+                    for (int i = 0; i < 50; i++) scene.renderFrame();
+
+                    long before = bean.getThreadAllocatedBytes(threadId);
+                    for (int i = 0; i < FRAMES; i++) scene.renderFrame();
+                    allocated.set(bean.getThreadAllocatedBytes(threadId) - before);
+                });
+
+        assertTrue(
+                allocated.get() <= ALLOWED_BYTES_PER_FRAME * FRAMES,
+                "프레임 " + FRAMES + "회 동안 " + allocated.get() + "바이트가 할당됨");
+    }
+
+    @Test
+    @DisplayName("상대 보드 크기가 달라도 범위 밖 셀은 무시하고 그려야 함")
+    void testRemoteBoardOutOfRangeIsIgnored() throws Exception {
+        int[][] tallBoard = new int[25][12];
+        tallBoard[24][11] = 3;
+
+        runOnFxThread(
+                () -> {
+                    scene.updateRemoteBoardState(
+                            tallBoard,
+                            10,
+                            23,
+                            1,
+                            0,
+                            false,
+                            null,
+                            -1,
+                            0,
+                            false,
+                            null,
+                            -1,
+                            null,
+                            0,
+                            0);
+                    assertDoesNotThrow(() -> scene.renderFrame());
+                });
+    }
+}
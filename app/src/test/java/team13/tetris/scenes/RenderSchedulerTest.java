@@ -0,0 +1,171 @@
+package team13.tetris.scenes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// RenderScheduler 테스트: AnimationTimer 대신 wakeUp 카운터와 onPulse 직접 호출로 펄스를 흉내냄
+@DisplayName("RenderScheduler 테스트")
+public class RenderSchedulerTest {
+
+    private AtomicInteger wakeUps;
+    private RenderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        wakeUps = new AtomicInteger();
+        scheduler = new RenderScheduler(wakeUps::incrementAndGet);
+    }
+
+    @Test
+    @DisplayName("한 펄스 안의 같은 화면 요청은 한 번만 그림")
+    void testRequestsAreCoalesced() {
+        AtomicInteger repaints = new AtomicInteger();
+        Runnable repaint = repaints::incrementAndGet;
+
+        assertTrue(scheduler.requestRender(repaint));
+        for (int i = 0; i < 9; i++) assertFalse(scheduler.requestRender(repaint));
+
+        assertTrue(scheduler.onPulse());
+        assertEquals(1, repaints.get());
+        assertEquals(10, scheduler.getRequestCount());
+        assertEquals(9, scheduler.getCoalescedCount());
+        assertEquals(1, scheduler.getFrameCount());
+        assertEquals(1, scheduler.getRepaintCount());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("다른 화면은 같은 펄스에 각각 한 번씩 그림")
+    void testDifferentScenesShareOnePulse() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Runnable repaintFirst = first::incrementAndGet;
+        Runnable repaintSecond = second::incrementAndGet;
+
+        scheduler.requestRender(repaintFirst);
+        scheduler.requestRender(repaintSecond);
+        scheduler.requestRender(repaintFirst);
+        scheduler.onPulse();
+
+        assertEquals(1, first.get());
+        assertEquals(1, second.get());
+        assertEquals(1, scheduler.getFrameCount());
+        assertEquals(2, scheduler.getRepaintCount());
+        assertEquals(1, wakeUps.get(), "타이머는 한 번만 깨워야 함");
+    }
+
+    @Test
+    @DisplayName("그릴 것이 없는 펄스에서 멈추고 다음 요청에서 다시 깨움")
+    void testTimerStopsWhenIdle() {
+        Runnable repaint = () -> {};
+
+        scheduler.requestRender(repaint);
+        assertEquals(1, wakeUps.get());
+        assertTrue(scheduler.onPulse());
+
+        // 그리는 중(타이머가 도는 중)의 요청은 깨우지 않음
+        scheduler.requestRender(repaint);
+        assertEquals(1, wakeUps.get());
+        assertTrue(scheduler.onPulse());
+
+        assertFalse(scheduler.onPulse(), "그릴 것이 없으면 타이머를 멈춰야 함");
+        assertEquals(2, scheduler.getFrameCount(), "빈 펄스는 프레임으로 세지 않음");
+
+        scheduler.requestRender(repaint);
+        assertEquals(2, wakeUps.get());
+    }
+
+    @Test
+    @DisplayName("그리는 도중 들어온 요청은 다음 펄스에 그림")
+    void testRequestDuringRepaintRunsNextPulse() {
+        AtomicInteger repaints = new AtomicInteger();
+        Runnable[] holder = new Runnable[1];
+        holder[0] =
+                () -> {
+                    if (repaints.incrementAndGet() == 1) scheduler.requestRender(holder[0]);
+                };
+
+        scheduler.requestRender(holder[0]);
+        scheduler.onPulse();
+        assertEquals(1, repaints.get());
+        assertEquals(1, scheduler.getPendingCount());
+
+        scheduler.onPulse();
+        assertEquals(2, repaints.get());
+        assertFalse(scheduler.onPulse());
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("예약을 취소하면 그리지 않음")
+    void testCancel() {
+        AtomicInteger repaints = new AtomicInteger();
+        Runnable repaint = repaints::incrementAndGet;
+
+        scheduler.requestRender(repaint);
+        scheduler.cancel(repaint);
+
+        assertFalse(scheduler.onPulse());
+        assertEquals(0, repaints.get());
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 요청도 펄스당 한 번으로 합쳐짐")
+    void testConcurrentRequests() throws Exception {
+        AtomicInteger repaints = new AtomicInteger();
+        Runnable repaint = repaints::incrementAndGet;
+        int threads = 4;
+        int requestsPerThread = 1000;
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] =
+                    new Thread(
+                            () -> {
+                                try {
+                                    start.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                for (int i = 0; i < requestsPerThread; i++) {
+                                    scheduler.requestRender(repaint);
+                                }
+                            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+
+        while (scheduler.onPulse()) {}
+
+        assertEquals(threads * requestsPerThread, scheduler.getRequestCount());
+        assertEquals(1, repaints.get());
+        assertEquals(threads * requestsPerThread - 1, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("통계 초기화")
+    void testResetStats() {
+        Runnable repaint = () -> {};
+        scheduler.requestRender(repaint);
+        scheduler.requestRender(repaint);
+        scheduler.onPulse();
+        assertTrue(scheduler.getMaxFrameNanos() >= scheduler.getLastFrameNanos());
+        assertTrue(scheduler.getAverageFrameNanos() >= 0);
+
+        scheduler.resetStats();
+
+        assertEquals(0, scheduler.getRequestCount());
+        assertEquals(0, scheduler.getCoalescedCount());
+        assertEquals(0, scheduler.getFrameCount());
+        assertEquals(0, scheduler.getRepaintCount());
+        assertEquals(0, scheduler.getMaxFrameNanos());
+        assertEquals(0.0, scheduler.getAverageFrameNanos());
+    }
+}
@@ -0,0 +1,163 @@
+package team13.tetris.scenes;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import team13.tetris.config.Settings;
+import team13.tetris.game.model.Board;
+import team13.tetris.game.model.Tetromino;
+
+// 노드 렌더러(CellView 그리드) vs 캔버스 렌더러(BoardCanvas) 비교
+// 대전 화면 구성(보드 2 + 프리뷰 2 + incoming 2)을 만들고, 프레임마다 블록 한 칸 낙하 + 가끔 줄 고정을
+// 흉내낸 뒤 CSS/레이아웃 패스까지 걸리는 시간과 화면 구성이 차지하는 힙, 노드 수를 잼
+// 실행: ./gradlew rendererBenchmark (JavaFX 툴킷 필요)
+public class RendererBenchmark {
+
+    private static final int WARMUP_FRAMES = 300;
+    private static final int FRAMES = 2000;
+
+    public static void main(String[] args) throws Exception {
+        Platform.startup(() -> {});
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(
+                () -> {
+                    try {
+                        run("NODE");
+                        run("CANVAS");
+                    } finally {
+                        done.countDown();
+                    }
+                });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run(String renderMode) {
+        Settings settings = new Settings();
+        settings.setRenderMode(renderMode);
+        BaseGameScene scene = new BaseGameScene(settings) {};
+        Board board = new Board(10, 20);
+
+        long heapBefore = usedHeap();
+        HBox root = new HBox();
+        BoardCell[][][] boards = new BoardCell[2][][];
+        BoardCell[][][] previews = new BoardCell[2][][];
+        BoardCell[][][] incomings = new BoardCell[2][][];
+        for (int p = 0; p < 2; p++) {
+            Node boardView = scene.createBoardView(board);
+            Node previewView = scene.createPreviewView();
+            Node incomingView = incomingView(scene, settings);
+            root.getChildren().addAll(boardView, previewView, incomingView);
+            boards[p] = scene.boardCells(boardView);
+            previews[p] = scene.boardCells(previewView);
+            incomings[p] = scene.boardCells(incomingView);
+        }
+        new Scene(root);
+        root.applyCss();
+        root.layout();
+        long heap = usedHeap() - heapBefore;
+
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            frame(root, board, boards, previews, incomings, i, random);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) frame(root, board, boards, previews, incomings, i, random);
+        long frameNanos = (System.nanoTime() - start) / FRAMES;
+
+        System.out.printf(
+                "%-6s renderer: %7.1f us/frame, scene heap %7.1f KB, nodes %d%n",
+                renderMode, frameNanos / 1000.0, heap / 1024.0, countNodes(root));
+    }
+
+    // 노드 모드의 incoming 패널은 씬마다 Label 10x10 그리드로 만듦 (여기서는 같은 크기의 CellView 그리드로 대신함)
+    private static Node incomingView(BaseGameScene scene, Settings settings) {
+        if (settings.isCanvasRenderer()) {
+            return scene.createCanvas(10, 10, 15, TileAtlas.Style.INCOMING);
+        }
+        GridPane grid = new GridPane();
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 10; c++) grid.add(new CellView(15, settings), c, r);
+        }
+        return grid;
+    }
+
+    private static void frame(
+            Parent root,
+            Board board,
+            BoardCell[][][] boards,
+            BoardCell[][][] previews,
+            BoardCell[][][] incomings,
+            int frame,
+            Random random) {
+        int pieceY = frame % 18;
+        if (pieceY == 0) {
+            // 블록이 바닥에 닿을 때마다 아래 줄 몇 칸이 바뀜
+            for (int i = 0; i < 4; i++) {
+                board.setCell(random.nextInt(10), 19 - random.nextInt(4), 1 + random.nextInt(7));
+            }
+        }
+        Tetromino.Kind pieceKind = Tetromino.Kind.values()[(frame / 18) % 7];
+        Queue<int[][]> incoming = new ArrayDeque<>();
+        if ((frame / 18) % 3 == 0) incoming.add(new int[][] {{1, 1, 1, 1, 1, 1, 1, 1, 1, 0}});
+
+        for (int p = 0; p < 2; p++) {
+            BoardCell[][] cells = boards[p];
+            BaseGameScene.beginFrame(cells);
+            for (int y = 0; y < board.getHeight(); y++) {
+                for (int x = 0; x < board.getWidth(); x++) {
+                    int val = board.getCell(x, y);
+                    if (val == 0) {
+                        cells[y + 1][x + 1].setEmpty();
+                    } else {
+                        Tetromino.Kind kind = Tetromino.kindForId(val);
+                        cells[y + 1][x + 1].setBlock(
+                                "", kind.getBlockStyleClass(), kind.getTextStyleClass());
+                    }
+                }
+            }
+            for (int i = 0; i < 4; i++) {
+                cells[pieceY + 1][3 + i + 1].setBlock(
+                        "", pieceKind.getBlockStyleClass(), pieceKind.getTextStyleClass());
+            }
+            BaseGameScene.commitFrame(cells);
+
+            BaseGameScene.beginFrame(previews[p]);
+            for (BoardCell[] row : previews[p]) {
+                for (BoardCell cell : row) cell.setEmpty();
+            }
+            Tetromino.Kind next = Tetromino.Kind.values()[(frame / 18 + 1) % 7];
+            for (int c = 0; c < 4; c++) {
+                previews[p][1][c].setBlock(
+                        "", next.getBlockStyleClass(), next.getTextStyleClass());
+            }
+            BaseGameScene.commitFrame(previews[p]);
+
+            BaseGameScene.drawIncoming(incomings[p], incoming);
+        }
+
+        root.applyCss();
+        root.layout();
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
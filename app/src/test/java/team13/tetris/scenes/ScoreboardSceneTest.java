@@ -3,10 +3,17 @@ package team13.tetris.scenes;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.BeforeAll;
@@ -462,6 +469,100 @@ public class ScoreboardSceneTest {
         waitForFX();
     }
 
+    // 모드별 점수 파일: NORMAL 25개(2500, 2400, ..., 100), EASY 3개
+    private ScoreBoard pagedBoard() {
+        ScoreBoard board = new ScoreBoard(tempDir.resolve("paged_scores.txt").toString());
+        for (int i = 1; i <= 25; i++) {
+            board.addScore("N" + i, i * 100, ScoreBoard.ScoreEntry.Mode.NORMAL);
+        }
+        for (int i = 1; i <= 3; i++) board.addScore("E" + i, i, ScoreBoard.ScoreEntry.Mode.EASY);
+        return board;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ListView<String> scoreListOf(Scene scene) {
+        return (ListView<String>) ((VBox) scene.getRoot()).getChildren().get(1);
+    }
+
+    @Test
+    @DisplayName("모드마다 첫 쪽만 보이고 Show more에서 Enter를 누르면 다음 쪽을 붙임")
+    void testPagesPerMode() throws Exception {
+        ScoreBoard board = pagedBoard();
+        AtomicReference<List<String>> first = new AtomicReference<>();
+        AtomicReference<List<String>> second = new AtomicReference<>();
+        AtomicReference<String> selected = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        javafx.application.Platform.runLater(
+                () -> {
+                    try {
+                        ScoreboardScene scene =
+                                new ScoreboardScene(
+                                        sceneManager, settings, board, null, null, null);
+                        ListView<String> scoreList = scoreListOf(scene.getScene());
+                        first.set(new ArrayList<>(scoreList.getItems()));
+
+                        int more = scoreList.getItems().indexOf("[NORMAL] Show more");
+                        scoreList.getSelectionModel().select(more);
+                        scoreList
+                                .getOnKeyPressed()
+                                .handle(
+                                        new KeyEvent(
+                                                KeyEvent.KEY_PRESSED,
+                                                "",
+                                                "",
+                                                KeyCode.ENTER,
+                                                false,
+                                                false,
+                                                false,
+                                                false));
+                        second.set(new ArrayList<>(scoreList.getItems()));
+                        selected.set(scoreList.getSelectionModel().getSelectedItem());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        List<String> items = first.get();
+        assertEquals(3 + ScoreboardScene.PAGE_SIZE + 1, items.size());
+        assertEquals("[EASY] E3 : 3", items.get(0));
+        assertEquals("[NORMAL] N25 : 2500", items.get(3));
+        assertEquals("[NORMAL] N16 : 1600", items.get(3 + ScoreboardScene.PAGE_SIZE - 1));
+        assertEquals("[NORMAL] Show more", items.get(items.size() - 1));
+
+        items = second.get();
+        assertEquals(3 + 2 * ScoreboardScene.PAGE_SIZE + 1, items.size());
+        assertEquals("[NORMAL] N15 : 1500", selected.get());
+        assertEquals("[NORMAL] Show more", items.get(items.size() - 1));
+    }
+
+    @Test
+    @DisplayName("하이라이트할 점수가 첫 쪽 밖이면 그 점수까지 읽어서 선택함")
+    void testHighlightBeyondFirstPage() throws Exception {
+        ScoreBoard board = pagedBoard();
+        AtomicReference<String> selected = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        javafx.application.Platform.runLater(
+                () -> {
+                    try {
+                        ScoreboardScene scene =
+                                new ScoreboardScene(
+                                        sceneManager,
+                                        settings,
+                                        board,
+                                        "N2",
+                                        200,
+                                        ScoreBoard.ScoreEntry.Mode.NORMAL);
+                        ListView<String> scoreList = scoreListOf(scene.getScene());
+                        selected.set(scoreList.getSelectionModel().getSelectedItem());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("[NORMAL] N2 : 200", selected.get());
+    }
+
     // JavaFX 스레드 작업 완료 대기 헬퍼 메서드
     private void waitForFX() {
         try {
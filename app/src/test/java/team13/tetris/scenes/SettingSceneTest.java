@@ -73,9 +73,9 @@ public class SettingSceneTest {
                     VBox layout = (VBox) scene.getRoot();
 
                     assertEquals(
-                            9,
+                            10,
                             layout.getChildren().size(),
-                            "Layout should have 9 children (title + 3 size buttons + key button + colorblind toggle + reset button + default button + back button)");
+                            "Layout should have 10 children (title + 3 size buttons + key button + colorblind toggle + renderer button + reset button + default button + back button)");
                     assertEquals(
                             "-fx-alignment: center;",
                             layout.getStyle(),
@@ -264,9 +264,9 @@ public class SettingSceneTest {
                     VBox layout = (VBox) scene.getRoot();
 
                     assertTrue(
-                            layout.getChildren().get(6) instanceof Button,
-                            "Seventh child should be Button");
-                    Button resetBtn = (Button) layout.getChildren().get(6);
+                            layout.getChildren().get(7) instanceof Button,
+                            "Eighth child should be Button");
+                    Button resetBtn = (Button) layout.getChildren().get(7);
 
                     assertEquals(
                             "Reset Scoreboard",
@@ -289,9 +289,9 @@ public class SettingSceneTest {
                     VBox layout = (VBox) scene.getRoot();
 
                     assertTrue(
-                            layout.getChildren().get(7) instanceof Button,
-                            "Eighth child should be Button");
-                    Button defaultBtn = (Button) layout.getChildren().get(7);
+                            layout.getChildren().get(8) instanceof Button,
+                            "Ninth child should be Button");
+                    Button defaultBtn = (Button) layout.getChildren().get(8);
 
                     assertEquals(
                             "Restore Defaults",
@@ -314,9 +314,9 @@ public class SettingSceneTest {
                     VBox layout = (VBox) scene.getRoot();
 
                     assertTrue(
-                            layout.getChildren().get(8) instanceof Button,
-                            "Ninth child should be Button");
-                    Button backBtn = (Button) layout.getChildren().get(8);
+                            layout.getChildren().get(9) instanceof Button,
+                            "Tenth child should be Button");
+                    Button backBtn = (Button) layout.getChildren().get(9);
 
                     assertEquals("Back", backBtn.getText(), "Button text should be 'Back'");
                     assertNotNull(backBtn.getOnAction(), "Back button should have action handler");
@@ -437,13 +437,16 @@ public class SettingSceneTest {
                             "Sixth child should be ToggleButton (Color Blind Mode)");
                     assertTrue(
                             layout.getChildren().get(6) instanceof Button,
-                            "Seventh child should be Button (Reset Scoreboard)");
+                            "Seventh child should be Button (Renderer)");
                     assertTrue(
                             layout.getChildren().get(7) instanceof Button,
-                            "Eighth child should be Button (Restore Defaults)");
+                            "Eighth child should be Button (Reset Scoreboard)");
                     assertTrue(
                             layout.getChildren().get(8) instanceof Button,
-                            "Ninth child should be Button (Back)");
+                            "Ninth child should be Button (Restore Defaults)");
+                    assertTrue(
+                            layout.getChildren().get(9) instanceof Button,
+                            "Tenth child should be Button (Back)");
                 });
 
         waitForFX();